@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityAccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.classic.ClassicAccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.impl.ElementPreAggregationFilter;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.accumulostore.utils.IteratorSettingBuilder;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.store.ElementValidator;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filtering road traffic elements stored in Accumulo on their count
+ * property. The pre aggregation filter iterator wraps each key and value in a
+ * lazy element and only decodes the properties the filter reads, which is
+ * compared to decoding each full element and then filtering it. Times are per
+ * key-value pair.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccumuloElementFilterBenchmark {
+    public static final int NUM_ELEMENTS = 1000;
+
+    @Param({"byteEntity", "classic"})
+    public String keyPackage;
+
+    private AccumuloElementConverter converter;
+    private ElementPreAggregationFilter filter;
+    private ElementValidator validator;
+    private Key[] keys;
+    private Value[] values;
+
+    @Setup
+    public void setup() throws IOException {
+        final Schema schema = RoadTrafficFixtures.createSchema();
+        switch (keyPackage) {
+            case "byteEntity":
+                converter = new ByteEntityAccumuloElementConverter(schema);
+                break;
+            case "classic":
+                converter = new ClassicAccumuloElementConverter(schema);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown key package: " + keyPackage);
+        }
+
+        final ViewElementDefinition countFilter = new ViewElementDefinition.Builder()
+                .preAggregationFilter(new ElementFilter.Builder()
+                        .select(RoadTrafficFixtures.COUNT)
+                        .execute(new IsMoreThan(5000L))
+                        .build())
+                .build();
+        final View view = new View.Builder()
+                .edge(ElementGroup.ROAD_USE, countFilter)
+                .entity(ElementGroup.JUNCTION_USE, countFilter)
+                .entity(RoadTrafficFixtures.CARDINALITY, countFilter)
+                .build();
+
+        filter = new ElementPreAggregationFilter();
+        filter.init(null, new IteratorSettingBuilder(AccumuloStoreConstants.ELEMENT_PRE_AGGREGATION_FILTER_ITERATOR_PRIORITY,
+                AccumuloStoreConstants.ELEMENT_PRE_AGGREGATION_FILTER_ITERATOR_NAME, ElementPreAggregationFilter.class)
+                .schema(schema)
+                .view(view)
+                .keyConverter(converter)
+                .build()
+                .getOptions(), null);
+        validator = new ElementValidator(view);
+
+        final List<Element> elements = RoadTrafficFixtures.createElements(NUM_ELEMENTS, 1L);
+        keys = new Key[NUM_ELEMENTS];
+        values = new Value[NUM_ELEMENTS];
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            keys[i] = converter.getKeysFromElement(elements.get(i)).getFirst();
+            values[i] = converter.getValueFromElement(elements.get(i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ELEMENTS)
+    public void lazyDecode(final Blackhole blackhole) {
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            blackhole.consume(filter.accept(keys[i], values[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ELEMENTS)
+    public void fullDecode(final Blackhole blackhole) {
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            blackhole.consume(validator.validateInput(converter.getFullElement(keys[i], values[i], false)));
+        }
+    }
+}
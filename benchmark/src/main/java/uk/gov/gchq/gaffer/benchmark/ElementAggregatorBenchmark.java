@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.serialiser.ElementSerialiser;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures aggregating a group of road traffic elements that share the same
+ * group-by properties with the schema's ingest {@link ElementAggregator},
+ * either applying it to each pair of elements in turn or folding the whole
+ * group with {@link ElementAggregator#aggregate(Iterable)}.
+ * <p>
+ * The aggregators modify the elements they are given, so a fresh copy of the
+ * group is deserialised before each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementAggregatorBenchmark {
+    @Param({ElementGroup.ROAD_USE, RoadTrafficFixtures.CARDINALITY})
+    public String group;
+
+    @Param({"10", "100"})
+    public int groupSize;
+
+    private ElementSerialiser serialiser;
+    private ElementAggregator aggregator;
+    private byte[][] serialisedElements;
+    private List<Element> elements;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws SerialisationException {
+        final Schema schema = RoadTrafficFixtures.createSchema();
+        serialiser = new ElementSerialiser(schema);
+        aggregator = schema.getElement(group).getIngestAggregator();
+        final List<Element> group = ElementGroup.ROAD_USE.equals(this.group)
+                ? RoadTrafficFixtures.createRoadUseGroup(groupSize, 1L)
+                : RoadTrafficFixtures.createCardinalityGroup(groupSize, 1L);
+        serialisedElements = new byte[groupSize][];
+        for (int i = 0; i < groupSize; i++) {
+            serialisedElements[i] = serialiser.serialise(group.get(i));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() throws SerialisationException {
+        elements = new ArrayList<>(groupSize);
+        for (final byte[] bytes : serialisedElements) {
+            elements.add(serialiser.deserialise(bytes));
+        }
+    }
+
+    @Benchmark
+    public Element pairwise() {
+        Element state = null;
+        for (final Element element : elements) {
+            state = aggregator.apply(state, element);
+        }
+        return state;
+    }
+
+    @Benchmark
+    public Element aggregate() {
+        return aggregator.aggregate(elements);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.accumulostore.AccumuloProperties;
+import uk.gov.gchq.gaffer.accumulostore.MockAccumuloStore;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.generator.OneToOneElementGenerator;
+import uk.gov.gchq.gaffer.flink.operation.handler.util.FlinkConstants;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStore;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElementsFromFile;
+import uk.gov.gchq.gaffer.store.StoreProperties;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.gaffer.types.FreqMap;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures adding road traffic edges from a local file with the Flink
+ * {@link AddElementsFromFile} handler, into a {@link MapStore} and a
+ * {@link MockAccumuloStore}, with and without partitioning the elements by
+ * vertex. Times are per line of the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileIngestBenchmark {
+    public static final int NUM_LINES = 10000;
+    public static final int PARALLELISM = 2;
+
+    @Param({"mapStore", "mockAccumulo"})
+    public String store;
+
+    @Param({"false", "true"})
+    public String partitionByVertex;
+
+    private File file;
+    private Graph graph;
+
+    @Setup
+    public void setup() throws IOException {
+        file = File.createTempFile("fileIngestBenchmark", ".csv");
+        final Random random = new Random(1L);
+        final List<String> lines = new ArrayList<>(NUM_LINES);
+        for (int i = 0; i < NUM_LINES; i++) {
+            final Edge edge = (Edge) RoadTrafficFixtures.createRoadUse(random);
+            lines.add(edge.getSource() + "," + edge.getDestination() + ","
+                    + ((Date) edge.getProperty(RoadTrafficFixtures.START_DATE)).getTime() + ","
+                    + edge.getProperty(RoadTrafficFixtures.COUNT));
+        }
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+
+        graph = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("fileIngestBenchmark")
+                        .build())
+                .addSchema(RoadTrafficFixtures.createSchema())
+                .storeProperties(createStoreProperties())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        FileUtils.deleteQuietly(file);
+        MapStore.resetStaticMap();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_LINES)
+    public void addElementsFromFile() throws OperationException {
+        graph.execute(new AddElementsFromFile.Builder()
+                .filename(file.getAbsolutePath())
+                .generator(RoadUseCsvGenerator.class)
+                .parallelism(PARALLELISM)
+                .option(FlinkConstants.PARTITION_BY_VERTEX, partitionByVertex)
+                .build(), new User());
+    }
+
+    private StoreProperties createStoreProperties() {
+        final StoreProperties properties;
+        switch (store) {
+            case "mapStore":
+                final MapStoreProperties mapStoreProperties = new MapStoreProperties();
+                // The Flink sinks create their own store so the map must be shared
+                mapStoreProperties.setStaticMap(true);
+                properties = mapStoreProperties;
+                break;
+            case "mockAccumulo":
+                final AccumuloProperties accumuloProperties = new AccumuloProperties();
+                accumuloProperties.setStoreClass(MockAccumuloStore.class);
+                accumuloProperties.setInstance("fileIngestBenchmark");
+                accumuloProperties.setZookeepers("aZookeeper");
+                accumuloProperties.setUser("user");
+                accumuloProperties.setPassword("password");
+                properties = accumuloProperties;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown store: " + store);
+        }
+        properties.setOperationDeclarationPaths("FlinkOperationDeclarations.json");
+        return properties;
+    }
+
+    /**
+     * Generates a RoadUse edge from a line of the benchmark file in the format:
+     * source,destination,startTime,count.
+     */
+    public static class RoadUseCsvGenerator implements OneToOneElementGenerator<String> {
+        private static final long HOUR_IN_MILLIS = 60L * 60L * 1000L;
+
+        @Override
+        public Element _apply(final String line) {
+            final String[] fields = line.split(",");
+            final long startTime = Long.parseLong(fields[2]);
+            final long count = Long.parseLong(fields[3]);
+            final FreqMap countByVehicleType = new FreqMap();
+            countByVehicleType.upsert("CAR", count);
+            return new Edge.Builder()
+                    .group(ElementGroup.ROAD_USE)
+                    .source(fields[0])
+                    .dest(fields[1])
+                    .directed(true)
+                    .property(RoadTrafficFixtures.START_DATE, new Date(startTime))
+                    .property(RoadTrafficFixtures.END_DATE, new Date(startTime + HOUR_IN_MILLIS - 1))
+                    .property(RoadTrafficFixtures.COUNT, count)
+                    .property(RoadTrafficFixtures.COUNT_BY_VEHICLE_TYPE, countByVehicleType)
+                    .build();
+        }
+    }
+}
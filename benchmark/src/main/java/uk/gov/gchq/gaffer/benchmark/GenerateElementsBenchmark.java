@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.generate.GenerateElements;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.operation.handler.generate.GenerateElementsHandler;
+import uk.gov.gchq.gaffer.traffic.generator.RoadTrafficCsvElementGenerator;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating road traffic elements from CSV records with the
+ * {@link RoadTrafficCsvElementGenerator} in a {@link GenerateElementsHandler},
+ * on a single thread and in parallel, with and without preserving the input
+ * order. Times are per CSV record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerateElementsBenchmark {
+    public static final int NUM_RECORDS = 10000;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    @Param({"true", "false"})
+    public boolean ordered;
+
+    private List<CSVRecord> records;
+    private GenerateElementsHandler<CSVRecord> handler;
+    private GenerateElements<CSVRecord> operation;
+    private Context context;
+
+    @Setup
+    public void setup() {
+        records = RoadTrafficFixtures.createCsvRecords(NUM_RECORDS, 1L);
+
+        handler = new GenerateElementsHandler<>();
+        handler.setParallelism(parallelism);
+        handler.setOrdered(ordered);
+
+        operation = new GenerateElements.Builder<CSVRecord>()
+                .input(records)
+                .generator(new RoadTrafficCsvElementGenerator())
+                .build();
+        context = new Context(new User());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_RECORDS)
+    public void generateElements(final Blackhole blackhole) throws OperationException {
+        final Iterable<? extends Element> elements = handler.doOperation(operation, context, null);
+        try {
+            for (final Element element : elements) {
+                blackhole.consume(element);
+            }
+        } finally {
+            CloseableUtil.close(elements);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.hbasestore.serialisation.ElementSerialisation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converting road traffic elements to and from HBase row keys,
+ * column qualifiers and values with the {@link ElementSerialisation}. Times
+ * are per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HBaseElementSerialisationBenchmark {
+    public static final int NUM_ELEMENTS = 1000;
+
+    private ElementSerialisation serialisation;
+    private List<Element> elements;
+    private byte[][] rowKeys;
+    private byte[][] columnQualifiers;
+    private byte[][] values;
+
+    @Setup
+    public void setup() throws SerialisationException {
+        serialisation = new ElementSerialisation(RoadTrafficFixtures.createSchema());
+        elements = RoadTrafficFixtures.createElements(NUM_ELEMENTS, 1L);
+        rowKeys = new byte[NUM_ELEMENTS][];
+        columnQualifiers = new byte[NUM_ELEMENTS][];
+        values = new byte[NUM_ELEMENTS][];
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            final Element element = elements.get(i);
+            rowKeys[i] = serialisation.getRowKeys(element).getFirst();
+            columnQualifiers[i] = serialisation.getColumnQualifier(element);
+            values[i] = serialisation.getValue(element);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ELEMENTS)
+    public void encode(final Blackhole blackhole) throws SerialisationException {
+        for (final Element element : elements) {
+            blackhole.consume(serialisation.getRowKeys(element));
+            blackhole.consume(serialisation.getColumnQualifier(element));
+            blackhole.consume(serialisation.getValue(element));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ELEMENTS)
+    public void decode(final Blackhole blackhole) throws SerialisationException {
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            final String group = elements.get(i).getGroup();
+            final Element element = serialisation.getPartialElement(group, rowKeys[i], false);
+            final Properties properties = element.getProperties();
+            properties.putAll(serialisation.getPropertiesFromColumnQualifier(group, columnQualifiers[i]));
+            properties.putAll(serialisation.getPropertiesFromValue(group, values[i]));
+            blackhole.consume(element);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityAccumuloElementConverter;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewUtil;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.hbasestore.serialisation.ElementSerialisation;
+import uk.gov.gchq.gaffer.serialisation.FreqMapSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.gaffer.types.FreqMap;
+import uk.gov.gchq.gaffer.types.function.FreqMapAggregator;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding entities with a wide schema when the view requires all of
+ * the properties compared with when it only requires a single property, for
+ * the Accumulo element converter and the HBase element serialisation. Times
+ * are per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectedPropertiesBenchmark {
+    public static final int NUM_ELEMENTS = 1000;
+    public static final int NUM_PROPERTIES = 20;
+    public static final String GROUP = "Wide";
+
+    @Param({"all", "single"})
+    public String projection;
+
+    private AccumuloElementConverter converter;
+    private ElementSerialisation serialisation;
+    private Set<String> propertiesToLoad;
+    private Key[] keys;
+    private Value[] values;
+    private byte[][] hbaseValues;
+
+    @Setup
+    public void setup() throws SerialisationException {
+        final Schema schema = createSchema();
+        converter = new ByteEntityAccumuloElementConverter(schema);
+        serialisation = new ElementSerialisation(schema);
+
+        final Set<String> allProperties = schema.getElement(GROUP).getProperties();
+        switch (projection) {
+            case "all":
+                propertiesToLoad = null;
+                break;
+            case "single":
+                propertiesToLoad = ViewUtil.getRequiredProperties(new ViewElementDefinition.Builder()
+                        .properties(propertyName(NUM_PROPERTIES / 2))
+                        .build(), allProperties);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown projection: " + projection);
+        }
+
+        final Random random = new Random(1L);
+        keys = new Key[NUM_ELEMENTS];
+        values = new Value[NUM_ELEMENTS];
+        hbaseValues = new byte[NUM_ELEMENTS][];
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            final Element element = createElement(random, i);
+            keys[i] = converter.getKeysFromElement(element).getFirst();
+            values[i] = converter.getValueFromElement(element);
+            hbaseValues[i] = serialisation.getValue(element);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ELEMENTS)
+    public void accumuloDecode(final Blackhole blackhole) {
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            blackhole.consume(converter.getFullElement(keys[i], values[i], false, propertiesToLoad));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_ELEMENTS)
+    public void hbaseDecode(final Blackhole blackhole) throws SerialisationException {
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            blackhole.consume(serialisation.getPropertiesFromValue(GROUP, hbaseValues[i], propertiesToLoad));
+        }
+    }
+
+    private static Schema createSchema() {
+        final SchemaEntityDefinition.Builder entityBuilder = new SchemaEntityDefinition.Builder()
+                .vertex("string");
+        for (int i = 0; i < NUM_PROPERTIES; i++) {
+            entityBuilder.property(propertyName(i), "freqMap");
+        }
+        return new Schema.Builder()
+                .entity(GROUP, entityBuilder.build())
+                .vertexSerialiser(new StringSerialiser())
+                .type("string", new TypeDefinition.Builder()
+                        .clazz(String.class)
+                        .serialiser(new StringSerialiser())
+                        .build())
+                .type("freqMap", new TypeDefinition.Builder()
+                        .clazz(FreqMap.class)
+                        .serialiser(new FreqMapSerialiser())
+                        .aggregateFunction(new FreqMapAggregator())
+                        .build())
+                .build();
+    }
+
+    private static Element createElement(final Random random, final int index) {
+        final Entity entity = new Entity(GROUP, "vertex" + index);
+        for (int i = 0; i < NUM_PROPERTIES; i++) {
+            entity.putProperty(propertyName(i), RoadTrafficFixtures.createCountByVehicleType(random));
+        }
+        return entity;
+    }
+
+    private static String propertyName(final int index) {
+        return "property" + index;
+    }
+}
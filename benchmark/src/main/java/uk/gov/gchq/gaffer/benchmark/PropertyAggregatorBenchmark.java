@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.benchmark;
+
+import com.yahoo.sketches.hll.HllSketch;
+import com.yahoo.sketches.theta.UpdateSketch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil.TimeBucket;
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.binaryoperator.HllSketchAggregator;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation.HllSketchSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.theta.binaryoperator.SketchAggregator;
+import uk.gov.gchq.gaffer.sketches.datasketches.theta.serialisation.SketchSerialiser;
+import uk.gov.gchq.gaffer.time.BoundedTimestampSet;
+import uk.gov.gchq.gaffer.time.binaryoperator.BoundedTimestampSetAggregator;
+import uk.gov.gchq.gaffer.time.serialisation.BoundedTimestampSetSerialiser;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures aggregating many values of a single property, either applying the
+ * aggregator to each pair of values in turn or folding all of the values into
+ * a single accumulator with the {@link AccumulatingBinaryOperator} methods.
+ * <p>
+ * Some aggregators modify the values they are given, so a fresh copy of the
+ * values is deserialised before each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyAggregatorBenchmark {
+    private static final int VALUES_PER_PROPERTY = 1000;
+    private static final long START_TIME = 1420070400000L;
+
+    @Param({"HllSketch", "Sketch", "BoundedTimestampSet"})
+    public String property;
+
+    @Param({"10", "100"})
+    public int numProperties;
+
+    private ToBytesSerialiser<Object> serialiser;
+    private AccumulatingBinaryOperator<Object, Object> aggregator;
+    private byte[][] serialisedProperties;
+    private List<Object> properties;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setupTrial() throws SerialisationException {
+        final Random random = new Random(1L);
+        final ToBytesSerialiser<?> selectedSerialiser;
+        final AccumulatingBinaryOperator<?, ?> selectedAggregator;
+        final List<Object> values = new ArrayList<>(numProperties);
+        switch (property) {
+            case "HllSketch":
+                selectedSerialiser = new HllSketchSerialiser();
+                selectedAggregator = new HllSketchAggregator();
+                for (int i = 0; i < numProperties; i++) {
+                    final HllSketch sketch = new HllSketch(10);
+                    for (int j = 0; j < VALUES_PER_PROPERTY; j++) {
+                        sketch.update(random.nextLong());
+                    }
+                    values.add(sketch);
+                }
+                break;
+            case "Sketch":
+                selectedSerialiser = new SketchSerialiser();
+                selectedAggregator = new SketchAggregator();
+                for (int i = 0; i < numProperties; i++) {
+                    final UpdateSketch sketch = UpdateSketch.builder().build();
+                    for (int j = 0; j < VALUES_PER_PROPERTY; j++) {
+                        sketch.update(random.nextLong());
+                    }
+                    values.add(sketch.compact());
+                }
+                break;
+            case "BoundedTimestampSet":
+                selectedSerialiser = new BoundedTimestampSetSerialiser();
+                selectedAggregator = new BoundedTimestampSetAggregator();
+                for (int i = 0; i < numProperties; i++) {
+                    final BoundedTimestampSet timestampSet = new BoundedTimestampSet(TimeBucket.MINUTE, 100);
+                    for (int j = 0; j < VALUES_PER_PROPERTY; j++) {
+                        timestampSet.add(Instant.ofEpochMilli(START_TIME + (long) random.nextInt(365 * 24 * 60) * 60000L));
+                    }
+                    values.add(timestampSet);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown property: " + property);
+        }
+        serialiser = (ToBytesSerialiser<Object>) selectedSerialiser;
+        aggregator = (AccumulatingBinaryOperator<Object, Object>) selectedAggregator;
+        serialisedProperties = new byte[numProperties][];
+        for (int i = 0; i < numProperties; i++) {
+            serialisedProperties[i] = serialiser.serialise(values.get(i));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() throws SerialisationException {
+        properties = new ArrayList<>(numProperties);
+        for (final byte[] bytes : serialisedProperties) {
+            properties.add(serialiser.deserialise(bytes));
+        }
+    }
+
+    @Benchmark
+    public Object pairwise() {
+        Object state = null;
+        for (final Object value : properties) {
+            state = null == state ? value : aggregator.apply(state, value);
+        }
+        return state;
+    }
+
+    @Benchmark
+    public Object accumulate() {
+        Object accumulator = aggregator.createAccumulator(properties.get(0));
+        for (int i = 1; i < properties.size(); i++) {
+            accumulator = aggregator.accumulate(accumulator, properties.get(i));
+        }
+        return aggregator.getResult(accumulator);
+    }
+}
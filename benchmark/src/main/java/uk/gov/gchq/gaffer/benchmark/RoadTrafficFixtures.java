@@ -0,0 +1,248 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.benchmark;
+
+import com.clearspring.analytics.stream.cardinality.HyperLogLogPlus;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.gaffer.traffic.generator.RoadTrafficCsvElementGenerator;
+import uk.gov.gchq.gaffer.types.FreqMap;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Builds the road traffic schema and deterministic road traffic data for the
+ * benchmarks. CSV records are generated from a seeded {@link Random} so every
+ * run of a benchmark works on the same data, and {@link #createElements(int, long)}
+ * converts them with the example's {@link RoadTrafficCsvElementGenerator}, so
+ * the benchmarks see the same mix of groups and properties as the road traffic
+ * example. The other element methods build single elements directly, for
+ * benchmarks that need elements with particular vertices or group by values.
+ */
+public final class RoadTrafficFixtures {
+    public static final String CARDINALITY = "Cardinality";
+
+    public static final String START_DATE = "startDate";
+    public static final String END_DATE = "endDate";
+    public static final String COUNT = "count";
+    public static final String COUNT_BY_VEHICLE_TYPE = "countByVehicleType";
+    public static final String EDGE_GROUP = "edgeGroup";
+    public static final String HLLP = "hllp";
+
+    private static final String CSV_HEADER = "\"Region Name (GO)\",\"ONS LACode\",\"ONS LA Name\",\"CP\",\"S Ref E\",\"S Ref N\","
+            + "\"Road\",\"A-Junction\",\"A Ref E\",\"A Ref N\",\"B-Junction\",\"B Ref E\",\"B Ref N\",\"RCat\",\"iDir\","
+            + "\"Year\",\"dCount\",\"Hour\",\"PC\",\"2WMV\",\"CAR\",\"BUS\",\"LGV\",\"HGVR2\",\"HGVR3\",\"HGVR4\",\"HGVA3\","
+            + "\"HGVA5\",\"HGVA6\",\"HGV\",\"AMV\"";
+    private static final String[] REGIONS = {"South West", "North East", "London", "Wales"};
+    private static final int NUM_CSV_VEHICLE_COUNTS = 13;
+    private static final String[] VEHICLE_TYPES = {"BUS", "CAR", "HGVR2", "HGVR3", "HGVR4", "HGVA3", "HGVA5", "HGVA6", "LGV", "PC", "WMV2"};
+    private static final String[] ROADS = {"M1", "M4", "M5", "M6", "M25", "A30", "A303", "A38"};
+    private static final int JUNCTIONS_PER_ROAD = 30;
+    private static final long HOUR_IN_MILLIS = 60L * 60L * 1000L;
+    private static final long START_TIME = 1420070400000L;
+
+    private RoadTrafficFixtures() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * @return the road traffic schema, optimised for an ordered store so that
+     * it has a vertex serialiser.
+     */
+    public static Schema createSchema() {
+        return new SchemaOptimiser().optimise(Schema.fromJson(StreamUtil.schemas(ElementGroup.class)), true);
+    }
+
+    /**
+     * Creates road traffic elements by applying the {@link RoadTrafficCsvElementGenerator}
+     * to generated CSV records. Each record produces edges, JunctionUse
+     * entities and Cardinality entities, as in the road traffic example.
+     *
+     * @param numElements the number of elements to create
+     * @param seed        the seed for the generated CSV records
+     * @return the first numElements elements generated from the records
+     */
+    public static List<Element> createElements(final int numElements, final long seed) {
+        final RoadTrafficCsvElementGenerator generator = new RoadTrafficCsvElementGenerator();
+        final List<Element> elements = new ArrayList<>(numElements);
+        // Each record generates at least one element
+        for (final CSVRecord record : createCsvRecords(numElements, seed)) {
+            for (final Element element : generator._apply(record)) {
+                if (elements.size() == numElements) {
+                    return elements;
+                }
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Creates road traffic CSV records, in the format of the road traffic
+     * example data, with random roads, junctions, dates and vehicle counts.
+     *
+     * @param numRecords the number of records to create
+     * @param seed       the seed for the random values
+     * @return the CSV records
+     */
+    public static List<CSVRecord> createCsvRecords(final int numRecords, final long seed) {
+        try {
+            return new CSVParser(new StringReader(createCsv(numRecords, seed)), CSVFormat.DEFAULT.withFirstRecordAsHeader()).getRecords();
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to parse the generated CSV", e);
+        }
+    }
+
+    /**
+     * Creates RoadUse edges that all have the same source, destination and
+     * hour, so they can be aggregated together.
+     *
+     * @param numElements the number of edges to create
+     * @param seed        the seed for the random property values
+     * @return the edges
+     */
+    public static List<Element> createRoadUseGroup(final int numElements, final long seed) {
+        final Random random = new Random(seed);
+        final long hour = START_TIME + random.nextInt(24 * 365) * HOUR_IN_MILLIS;
+        final List<Element> elements = new ArrayList<>(numElements);
+        for (int i = 0; i < numElements; i++) {
+            elements.add(createRoadUse(random, "M5:10", "M5:11", hour));
+        }
+        return elements;
+    }
+
+    /**
+     * Creates Cardinality entities that all have the same vertex and edge
+     * groups, so they can be aggregated together.
+     *
+     * @param numElements the number of entities to create
+     * @param seed        the seed for the random property values
+     * @return the entities
+     */
+    public static List<Element> createCardinalityGroup(final int numElements, final long seed) {
+        final Random random = new Random(seed);
+        final List<Element> elements = new ArrayList<>(numElements);
+        for (int i = 0; i < numElements; i++) {
+            elements.add(createCardinality(random, "M5:10"));
+        }
+        return elements;
+    }
+
+    public static Element createRoadUse(final Random random) {
+        final String road = randomRoad(random);
+        final int junction = random.nextInt(JUNCTIONS_PER_ROAD - 1) + 1;
+        final long hour = START_TIME + random.nextInt(24 * 365) * HOUR_IN_MILLIS;
+        return createRoadUse(random, road + ":" + junction, road + ":" + (junction + 1), hour);
+    }
+
+    public static HyperLogLogPlus createHyperLogLogPlus(final Random random, final int numValues) {
+        final HyperLogLogPlus hllp = new HyperLogLogPlus(5, 5);
+        for (int i = 0; i < numValues; i++) {
+            hllp.offer(randomJunction(random));
+        }
+        return hllp;
+    }
+
+    public static FreqMap createCountByVehicleType(final Random random) {
+        final FreqMap freqMap = new FreqMap();
+        for (final String vehicleType : VEHICLE_TYPES) {
+            freqMap.upsert(vehicleType, (long) random.nextInt(1000));
+        }
+        return freqMap;
+    }
+
+    private static Element createRoadUse(final Random random, final String source, final String destination, final long hour) {
+        final FreqMap countByVehicleType = createCountByVehicleType(random);
+        return new Edge.Builder()
+                .group(ElementGroup.ROAD_USE)
+                .source(source)
+                .dest(destination)
+                .directed(true)
+                .property(START_DATE, new Date(hour))
+                .property(END_DATE, new Date(hour + HOUR_IN_MILLIS - 1))
+                .property(COUNT, total(countByVehicleType))
+                .property(COUNT_BY_VEHICLE_TYPE, countByVehicleType)
+                .build();
+    }
+
+    private static Element createCardinality(final Random random, final String vertex) {
+        final TreeSet<String> edgeGroup = new TreeSet<>();
+        edgeGroup.add(ElementGroup.ROAD_USE);
+        edgeGroup.add(ElementGroup.ROAD_HAS_JUNCTION);
+        final int numValues = random.nextInt(20) + 1;
+        return new Entity.Builder()
+                .group(CARDINALITY)
+                .vertex(vertex)
+                .property(EDGE_GROUP, edgeGroup)
+                .property(HLLP, createHyperLogLogPlus(random, numValues))
+                .property(COUNT, (long) numValues)
+                .build();
+    }
+
+    private static String createCsv(final int numRecords, final long seed) {
+        final Random random = new Random(seed);
+        final StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i < numRecords; i++) {
+            final String road = randomRoad(random);
+            final int junction = random.nextInt(JUNCTIONS_PER_ROAD) + 1;
+            csv.append('\n')
+                    .append(REGIONS[random.nextInt(REGIONS.length)]).append(",E0600005").append(random.nextInt(10))
+                    .append(",Local Authority,").append(random.nextInt(10000))
+                    .append(',').append(random.nextInt(1000000)).append(',').append(random.nextInt(1000000))
+                    .append(',').append(road).append(',').append(junction)
+                    .append(',').append(random.nextInt(1000000)).append(',').append(random.nextInt(1000000))
+                    .append(',').append(junction + 1)
+                    .append(',').append(random.nextInt(1000000)).append(',').append(random.nextInt(1000000))
+                    .append(",TM,E,2000,2000-05-").append(String.format("%02d", random.nextInt(28) + 1)).append(" 00:00:00")
+                    .append(',').append(random.nextInt(24));
+            for (int j = 0; j < NUM_CSV_VEHICLE_COUNTS; j++) {
+                csv.append(',').append(random.nextInt(1000));
+            }
+        }
+        return csv.toString();
+    }
+
+    private static long total(final FreqMap freqMap) {
+        long total = 0L;
+        for (final Long value : freqMap.values()) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static String randomRoad(final Random random) {
+        return ROADS[random.nextInt(ROADS.length)];
+    }
+
+    private static String randomJunction(final Random random) {
+        return randomRoad(random) + ":" + (random.nextInt(JUNCTIONS_PER_ROAD) + 1);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.benchmark;
+
+import com.yahoo.sketches.hll.HllSketch;
+import com.yahoo.sketches.quantiles.DoublesSketch;
+import com.yahoo.sketches.quantiles.UpdateDoublesSketch;
+import com.yahoo.sketches.theta.UpdateSketch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil.TimeBucket;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.FreqMapSerialiser;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.TreeSetStringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedDateSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedLongSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawIntegerSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawLongSerialiser;
+import uk.gov.gchq.gaffer.sketches.clearspring.cardinality.serialisation.HyperLogLogPlusSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation.HllSketchSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.quantiles.serialisation.DoublesSketchSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.theta.serialisation.SketchSerialiser;
+import uk.gov.gchq.gaffer.time.BoundedTimestampSet;
+import uk.gov.gchq.gaffer.time.LongTimeSeries;
+import uk.gov.gchq.gaffer.time.RBMBackedTimestampSet;
+import uk.gov.gchq.gaffer.time.serialisation.BoundedTimestampSetSerialiser;
+import uk.gov.gchq.gaffer.time.serialisation.DeltaLongTimeSeriesSerialiser;
+import uk.gov.gchq.gaffer.time.serialisation.RBMBackedTimestampSetSerialiser;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serialising and deserialising a typical value with each of the
+ * property serialisers used by the stores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerialiserBenchmark {
+    private static final long SEED = 1L;
+    private static final long START_TIME = 1420070400000L;
+
+    @Param({"CompactRawLong", "CompactRawInteger", "String", "OrderedDate", "OrderedLong", "TreeSetString",
+            "FreqMap", "HyperLogLogPlus", "HllSketch", "Sketch", "DoublesSketch",
+            "RBMBackedTimestampSet", "BoundedTimestampSet", "DeltaLongTimeSeries"})
+    public String serialiser;
+
+    private ToBytesSerialiser<Object> toBytesSerialiser;
+    private Object value;
+    private byte[] bytes;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws SerialisationException {
+        final Random random = new Random(SEED);
+        final ToBytesSerialiser<?> selected;
+        switch (serialiser) {
+            case "CompactRawLong":
+                selected = new CompactRawLongSerialiser();
+                value = random.nextLong();
+                break;
+            case "CompactRawInteger":
+                selected = new CompactRawIntegerSerialiser();
+                value = random.nextInt();
+                break;
+            case "String":
+                selected = new StringSerialiser();
+                value = "M5:" + random.nextInt(30);
+                break;
+            case "OrderedDate":
+                selected = new OrderedDateSerialiser();
+                value = new Date(START_TIME + random.nextInt());
+                break;
+            case "OrderedLong":
+                selected = new OrderedLongSerialiser();
+                value = random.nextLong();
+                break;
+            case "TreeSetString":
+                selected = new TreeSetStringSerialiser();
+                final TreeSet<String> treeSet = new TreeSet<>();
+                for (int i = 0; i < 5; i++) {
+                    treeSet.add("group" + random.nextInt(100));
+                }
+                value = treeSet;
+                break;
+            case "FreqMap":
+                selected = new FreqMapSerialiser();
+                value = RoadTrafficFixtures.createCountByVehicleType(random);
+                break;
+            case "HyperLogLogPlus":
+                selected = new HyperLogLogPlusSerialiser();
+                value = RoadTrafficFixtures.createHyperLogLogPlus(random, 1000);
+                break;
+            case "HllSketch":
+                selected = new HllSketchSerialiser();
+                final HllSketch hllSketch = new HllSketch(10);
+                for (int i = 0; i < 1000; i++) {
+                    hllSketch.update(random.nextLong());
+                }
+                value = hllSketch;
+                break;
+            case "Sketch":
+                selected = new SketchSerialiser();
+                final UpdateSketch sketch = UpdateSketch.builder().build();
+                for (int i = 0; i < 1000; i++) {
+                    sketch.update(random.nextLong());
+                }
+                value = sketch.compact();
+                break;
+            case "DoublesSketch":
+                selected = new DoublesSketchSerialiser();
+                final UpdateDoublesSketch doublesSketch = DoublesSketch.builder().build();
+                for (int i = 0; i < 1000; i++) {
+                    doublesSketch.update(random.nextDouble());
+                }
+                value = doublesSketch;
+                break;
+            case "RBMBackedTimestampSet":
+                selected = new RBMBackedTimestampSetSerialiser();
+                final RBMBackedTimestampSet timestampSet = new RBMBackedTimestampSet(TimeBucket.MINUTE);
+                for (int i = 0; i < 1000; i++) {
+                    timestampSet.add(randomInstant(random));
+                }
+                value = timestampSet;
+                break;
+            case "BoundedTimestampSet":
+                selected = new BoundedTimestampSetSerialiser();
+                final BoundedTimestampSet boundedTimestampSet = new BoundedTimestampSet(TimeBucket.MINUTE, 100);
+                for (int i = 0; i < 1000; i++) {
+                    boundedTimestampSet.add(randomInstant(random));
+                }
+                value = boundedTimestampSet;
+                break;
+            case "DeltaLongTimeSeries":
+                selected = new DeltaLongTimeSeriesSerialiser();
+                final LongTimeSeries timeSeries = new LongTimeSeries(TimeBucket.HOUR);
+                for (int i = 0; i < 1000; i++) {
+                    timeSeries.upsert(randomInstant(random), random.nextInt(1000));
+                }
+                value = timeSeries;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown serialiser: " + serialiser);
+        }
+        toBytesSerialiser = (ToBytesSerialiser<Object>) selected;
+        bytes = toBytesSerialiser.serialise(value);
+    }
+
+    @Benchmark
+    public byte[] serialise() throws SerialisationException {
+        return toBytesSerialiser.serialise(value);
+    }
+
+    @Benchmark
+    public Object deserialise() throws SerialisationException {
+        return toBytesSerialiser.deserialise(bytes);
+    }
+
+    private static Instant randomInstant(final Random random) {
+        return Instant.ofEpochMilli(START_TIME + (long) random.nextInt(365 * 24 * 60) * 60000L);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.commonutil.stream;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * An {@code AccumulatingBinaryOperator} is a {@link BinaryOperator} that can also
+ * fold any number of values into a single mutable accumulator, only producing
+ * the result once all the values have been added. This allows values such as
+ * sketches, where merging a pair of values requires building a union, to be
+ * aggregated with a single union rather than one per pair.
+ * <p>
+ * Folding the values {@code v1, ..., vn} using
+ * {@code getResult(accumulate(...accumulate(createAccumulator(v1), v2)..., vn))}
+ * must be equivalent to applying the binary operator to each pair in turn.
+ * The accumulator may reuse and modify the values passed to it.
+ *
+ * @param <T> the type of the values
+ * @param <A> the type of the accumulator
+ */
+public interface AccumulatingBinaryOperator<T, A> extends BinaryOperator<T> {
+    /**
+     * @param first the first value, which will not be null
+     * @return a new accumulator containing the first value
+     */
+    A createAccumulator(final T first);
+
+    /**
+     * @param accumulator the accumulator
+     * @param value       the value to add, which will not be null
+     * @return the accumulator, which is normally the same instance that was provided
+     */
+    A accumulate(final A accumulator, final T value);
+
+    /**
+     * @param accumulator the accumulator
+     * @return the result of aggregating all of the values added to the accumulator
+     */
+    T getResult(final A accumulator);
+}
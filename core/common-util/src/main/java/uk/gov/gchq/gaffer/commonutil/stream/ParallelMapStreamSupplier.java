@@ -0,0 +1,246 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.commonutil.stream;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@link uk.gov.gchq.gaffer.commonutil.stream.StreamSupplier} which uses a {@link java.util.function.Function}
+ * to convert batches of the input objects into output objects on a pool of threads.
+ * <p>
+ * The input is read on the consuming thread and split into batches, which are
+ * converted by up to {@code parallelism} threads. At most {@code maxBatchesInFlight}
+ * batches are being converted or waiting to be consumed at any time, which
+ * bounds the memory used when the consumer is slower than the conversion.
+ * If {@code ordered} is true the output is in the same order as the sequential
+ * conversion of the input, otherwise batches are output as soon as they are
+ * converted. The function must be thread safe and must not depend on objects
+ * from other batches. Exceptions thrown by the function are rethrown by the
+ * consuming thread.
+ * </p>
+ * <p>
+ * The streams from a supplier share one pool of {@code parallelism} threads.
+ * The threads stop once they have been idle for a few seconds, so a stream that
+ * is abandoned without being exhausted or closed does not leak them, and the
+ * pool is shut down when the supplier is closed. Closing or exhausting a
+ * stream cancels any of its batches that are still being converted.
+ * </p>
+ *
+ * @param <T> the type of input objects
+ * @param <U> the type of output objects
+ */
+public class ParallelMapStreamSupplier<T, U> implements StreamSupplier<U> {
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 5L;
+
+    private final Iterable<T> input;
+    private final Function<Iterable<T>, ? extends Iterable<? extends U>> function;
+    private final int parallelism;
+    private final int batchSize;
+    private final int maxBatchesInFlight;
+    private final boolean ordered;
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Default constructor.
+     *
+     * @param input              the input iterable
+     * @param function           the function to apply to each batch of input objects
+     * @param parallelism        the number of threads to convert the batches with
+     * @param batchSize          the number of input objects in each batch
+     * @param maxBatchesInFlight the maximum number of batches being converted or waiting to be consumed
+     * @param ordered            true if the output should be in the same order as the input
+     */
+    public ParallelMapStreamSupplier(final Iterable<T> input,
+                                     final Function<Iterable<T>, ? extends Iterable<? extends U>> function,
+                                     final int parallelism, final int batchSize,
+                                     final int maxBatchesInFlight, final boolean ordered) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1 but was " + batchSize);
+        }
+        if (maxBatchesInFlight < 1) {
+            throw new IllegalArgumentException("Max batches in flight must be at least 1 but was " + maxBatchesInFlight);
+        }
+        this.input = input;
+        this.function = function;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (null != executor) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+        CloseableUtil.close(input);
+    }
+
+    @Override
+    public Stream<U> get() {
+        final ParallelMapIterator iterator = new ParallelMapIterator();
+        return Streams.toStream(iterator)
+                .onClose(iterator::close);
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (null == executor) {
+            final String namePrefix = "parallel-map-" + POOL_COUNT.incrementAndGet() + "-";
+            final AtomicInteger threadCount = new AtomicInteger();
+            executor = new ThreadPoolExecutor(parallelism, parallelism,
+                    IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                final Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    private final class ParallelMapIterator implements Iterator<U> {
+        private final Iterator<T> inputIterator = input.iterator();
+        private final Deque<Future<List<U>>> orderedBatches = new ArrayDeque<>();
+        private final Set<Future<List<U>>> batchesInFlight = new HashSet<>();
+        private CompletionService<List<U>> completionService;
+        private int numBatchesInFlight;
+        private Iterator<U> batchIterator = Collections.emptyIterator();
+        private boolean closed;
+
+        @Override
+        public boolean hasNext() {
+            while (!batchIterator.hasNext()) {
+                if (closed) {
+                    return false;
+                }
+                submitBatches();
+                if (0 == numBatchesInFlight) {
+                    close();
+                    return false;
+                }
+                batchIterator = takeBatch().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public U next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Reached the end of the iterator");
+            }
+            return batchIterator.next();
+        }
+
+        private void submitBatches() {
+            while (numBatchesInFlight < maxBatchesInFlight && inputIterator.hasNext()) {
+                final List<T> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && inputIterator.hasNext()) {
+                    batch.add(inputIterator.next());
+                }
+
+                if (null == completionService) {
+                    completionService = new ExecutorCompletionService<>(getExecutor());
+                }
+                final Future<List<U>> future = completionService.submit(() -> apply(batch));
+                if (ordered) {
+                    orderedBatches.add(future);
+                }
+                batchesInFlight.add(future);
+                numBatchesInFlight++;
+            }
+        }
+
+        private List<U> apply(final List<T> batch) {
+            final Iterable<? extends U> result = function.apply(batch);
+            final List<U> output = new ArrayList<>(batch.size());
+            if (null != result) {
+                try {
+                    for (final U item : result) {
+                        output.add(item);
+                    }
+                } finally {
+                    CloseableUtil.close(result);
+                }
+            }
+            return output;
+        }
+
+        private List<U> takeBatch() {
+            try {
+                final Future<List<U>> future = ordered ? orderedBatches.remove() : completionService.take();
+                batchesInFlight.remove(future);
+                numBatchesInFlight--;
+                return future.get();
+            } catch (final InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted whilst waiting for a batch to be converted", e);
+            } catch (final ExecutionException e) {
+                close();
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException(cause);
+            }
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                batchIterator = Collections.emptyIterator();
+                orderedBatches.clear();
+                for (final Future<List<U>> future : batchesInFlight) {
+                    future.cancel(true);
+                }
+                batchesInFlight.clear();
+                CloseableUtil.close(inputIterator);
+            }
+        }
+    }
+}
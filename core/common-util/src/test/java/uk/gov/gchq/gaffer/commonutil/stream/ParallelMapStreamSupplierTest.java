@@ -0,0 +1,225 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.commonutil.stream;
+
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ParallelMapStreamSupplierTest {
+    private static final Function<Iterable<Integer>, Iterable<String>> TO_STRINGS = batch -> {
+        final List<String> strings = new ArrayList<>();
+        for (final Integer item : batch) {
+            strings.add(item.toString());
+            strings.add(item + "b");
+        }
+        return strings;
+    };
+
+    @Test
+    public void shouldPreserveInputOrder() {
+        // Given
+        final List<Integer> input = createInput(10000);
+        final ParallelMapStreamSupplier<Integer, String> supplier =
+                new ParallelMapStreamSupplier<>(input, TO_STRINGS, 4, 7, 3, true);
+
+        // When
+        final List<String> results;
+        try (final Stream<String> stream = supplier.get()) {
+            results = stream.collect(Collectors.toList());
+        }
+
+        // Then
+        assertEquals(Streams.toStream(TO_STRINGS.apply(input)).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void shouldReturnAllItemsWhenNotOrdered() {
+        // Given
+        final List<Integer> input = createInput(10000);
+        final ParallelMapStreamSupplier<Integer, String> supplier =
+                new ParallelMapStreamSupplier<>(input, TO_STRINGS, 4, 7, 3, false);
+
+        // When
+        final List<String> results;
+        try (final Stream<String> stream = supplier.get()) {
+            results = stream.sorted().collect(Collectors.toList());
+        }
+
+        // Then
+        assertEquals(Streams.toStream(TO_STRINGS.apply(input)).sorted().collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void shouldReturnEmptyStreamForEmptyInput() {
+        // Given
+        final ParallelMapStreamSupplier<Integer, String> supplier =
+                new ParallelMapStreamSupplier<>(Collections.emptyList(), TO_STRINGS, 4, 7, 3, true);
+
+        // When
+        final long count = supplier.get().count();
+
+        // Then
+        assertEquals(0, count);
+    }
+
+    @Test
+    public void shouldOnlyReadInputForBatchesInFlight() {
+        // Given
+        final AtomicInteger numRead = new AtomicInteger();
+        final Iterable<Integer> input = () -> new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return numRead.incrementAndGet();
+            }
+        };
+        final ParallelMapStreamSupplier<Integer, String> supplier =
+                new ParallelMapStreamSupplier<>(input, TO_STRINGS, 2, 10, 3, true);
+
+        // When
+        final List<String> results;
+        try (final Stream<String> stream = supplier.get()) {
+            results = stream.limit(5).collect(Collectors.toList());
+        }
+
+        // Then
+        assertEquals(5, results.size());
+        assertEquals("1", results.get(0));
+        assertEquals(30, numRead.get());
+    }
+
+    @Test
+    public void shouldRethrowExceptionFromFunction() {
+        // Given
+        final IllegalArgumentException exception = new IllegalArgumentException("Invalid item");
+        final ParallelMapStreamSupplier<Integer, String> supplier =
+                new ParallelMapStreamSupplier<>(createInput(100), batch -> {
+                    for (final Integer item : batch) {
+                        if (50 == item) {
+                            throw exception;
+                        }
+                    }
+                    return TO_STRINGS.apply(batch);
+                }, 4, 7, 3, true);
+
+        // When / Then
+        try (final Stream<String> stream = supplier.get()) {
+            stream.count();
+            fail("Exception expected");
+        } catch (final IllegalArgumentException e) {
+            assertEquals(exception, e);
+        }
+    }
+
+    @Test
+    public void shouldCloseInputIteratorWhenStreamIsClosed() {
+        // Given
+        final CloseableIterable<Integer> input = mock(CloseableIterable.class);
+        final CloseableIterator<Integer> iterator = mock(CloseableIterator.class);
+        given(input.iterator()).willReturn(iterator);
+        given(iterator.hasNext()).willReturn(true);
+        given(iterator.next()).willReturn(1);
+        final ParallelMapStreamSupplier<Integer, String> supplier =
+                new ParallelMapStreamSupplier<>(input, TO_STRINGS, 2, 10, 3, true);
+
+        // When
+        try (final Stream<String> stream = supplier.get()) {
+            assertTrue(stream.findFirst().isPresent());
+        }
+
+        // Then
+        verify(iterator).close();
+    }
+
+    @Test
+    public void shouldStopThreadsWhenSupplierIsClosed() throws IOException, InterruptedException {
+        // Given
+        final AtomicReference<Thread> conversionThread = new AtomicReference<>();
+        final ParallelMapStreamSupplier<Integer, String> supplier =
+                new ParallelMapStreamSupplier<>(createInput(1000), batch -> {
+                    conversionThread.set(Thread.currentThread());
+                    return TO_STRINGS.apply(batch);
+                }, 1, 10, 3, true);
+        final Iterator<String> abandonedIterator = supplier.get().iterator();
+        assertTrue(abandonedIterator.hasNext());
+
+        // When
+        supplier.close();
+
+        // Then
+        conversionThread.get().join(1000);
+        assertFalse(conversionThread.get().isAlive());
+    }
+
+    @Test
+    public void shouldStopIdleThreadsOfAbandonedStream() throws InterruptedException {
+        // Given
+        final AtomicReference<Thread> conversionThread = new AtomicReference<>();
+        final ParallelMapStreamSupplier<Integer, String> supplier =
+                new ParallelMapStreamSupplier<>(createInput(1000), batch -> {
+                    conversionThread.set(Thread.currentThread());
+                    return TO_STRINGS.apply(batch);
+                }, 1, 10, 3, true);
+
+        // When
+        final Iterator<String> abandonedIterator = supplier.get().iterator();
+        assertTrue(abandonedIterator.hasNext());
+
+        // Then
+        conversionThread.get().join(30000);
+        assertFalse(conversionThread.get().isAlive());
+    }
+
+    @Test
+    public void shouldNotAllowParallelismLessThanOne() {
+        try {
+            new ParallelMapStreamSupplier<>(createInput(1), TO_STRINGS, 0, 7, 3, true);
+            fail("Exception expected");
+        } catch (final IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("Parallelism"));
+        }
+    }
+
+    private static List<Integer> createInput(final int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+}
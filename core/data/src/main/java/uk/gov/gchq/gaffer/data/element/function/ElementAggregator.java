@@ -20,12 +20,16 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Properties;
 import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
 import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperatorComposite;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.BinaryOperator;
 
@@ -66,6 +70,127 @@ public class ElementAggregator extends TupleAdaptedBinaryOperatorComposite<Strin
         return state;
     }
 
+    /**
+     * Aggregates all of the elements into the first element. Note - only the
+     * element properties are aggregated. Aggregation requires elements to have
+     * the same identifiers and group.
+     *
+     * @param elements the elements to aggregate
+     * @return Element - the aggregated element, or null if there were no elements
+     * @see #aggregateProperties(Iterable)
+     */
+    public Element aggregate(final Iterable<? extends Element> elements) {
+        Element state = null;
+        final List<Properties> propertiesList = new ArrayList<>();
+        for (final Element element : elements) {
+            if (null != element) {
+                if (null == state) {
+                    state = element;
+                }
+                propertiesList.add(element.getProperties());
+            }
+        }
+
+        aggregateProperties(propertiesList);
+        return state;
+    }
+
+    /**
+     * Aggregates all of the properties into the first properties. This gives the
+     * same result as applying the aggregator to each pair of properties in turn,
+     * however a property that is selected on its own and aggregated with an
+     * {@link AccumulatingBinaryOperator} is folded into a single accumulator, so
+     * the aggregated value is only created once.
+     *
+     * @param propertiesIterable the properties to aggregate
+     * @return Properties - the aggregated properties, or null if there were no properties
+     */
+    public Properties aggregateProperties(final Iterable<? extends Properties> propertiesIterable) {
+        final Iterator<? extends Properties> itr = propertiesIterable.iterator();
+        Properties state = null;
+        while (null == state && itr.hasNext()) {
+            state = itr.next();
+        }
+        if (null == state || !itr.hasNext()) {
+            return state;
+        }
+
+        final List<TupleAdaptedBinaryOperator<String, ?>> components = getComponents();
+        final int numComponents = components.size();
+        final String[] accumulatedProperties = new String[numComponents];
+        final Object[] accumulators = new Object[numComponents];
+        for (int i = 0; i < numComponents; i++) {
+            final TupleAdaptedBinaryOperator<String, ?> component = components.get(i);
+            if (component.getBinaryOperator() instanceof AccumulatingBinaryOperator
+                    && null != component.getSelection() && 1 == component.getSelection().length) {
+                accumulatedProperties[i] = component.getSelection()[0];
+            }
+        }
+        // A property is only accumulated if no other component uses its value
+        for (int i = 0; i < numComponents; i++) {
+            if (null != accumulatedProperties[i]) {
+                for (int j = 0; j < numComponents; j++) {
+                    if (i != j && null != components.get(j).getSelection()
+                            && Arrays.asList(components.get(j).getSelection()).contains(accumulatedProperties[i])) {
+                        accumulatedProperties[i] = null;
+                        break;
+                    }
+                }
+            }
+        }
+
+        stateTuple.setProperties(state);
+        while (itr.hasNext()) {
+            final Properties properties = itr.next();
+            if (null == properties) {
+                continue;
+            }
+            propertiesTuple.setProperties(properties);
+            for (int i = 0; i < numComponents; i++) {
+                final TupleAdaptedBinaryOperator<String, ?> component = components.get(i);
+                if (null == accumulatedProperties[i]) {
+                    component.apply(stateTuple, propertiesTuple);
+                } else {
+                    accumulators[i] = accumulate(component, accumulators[i], state, properties, accumulatedProperties[i]);
+                }
+            }
+        }
+
+        for (int i = 0; i < numComponents; i++) {
+            if (null != accumulators[i]) {
+                final AccumulatingBinaryOperator<Object, Object> operator = getAccumulatingBinaryOperator(components.get(i));
+                state.put(accumulatedProperties[i], operator.getResult(accumulators[i]));
+            }
+        }
+        return state;
+    }
+
+    private Object accumulate(final TupleAdaptedBinaryOperator<String, ?> component, final Object accumulator,
+                              final Properties state, final Properties properties, final String propertyName) {
+        final Object value = properties.get(propertyName);
+        if (null == value) {
+            return accumulator;
+        }
+
+        final AccumulatingBinaryOperator<Object, Object> operator = getAccumulatingBinaryOperator(component);
+        if (null != accumulator) {
+            return operator.accumulate(accumulator, value);
+        }
+
+        // The accumulator is only created once there is a second value to aggregate
+        final Object stateValue = state.get(propertyName);
+        if (null == stateValue) {
+            state.put(propertyName, value);
+            return null;
+        }
+        return operator.accumulate(operator.createAccumulator(stateValue), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private AccumulatingBinaryOperator<Object, Object> getAccumulatingBinaryOperator(final TupleAdaptedBinaryOperator<String, ?> component) {
+        return (AccumulatingBinaryOperator<Object, Object>) component.getBinaryOperator();
+    }
+
     @Override
     public List<TupleAdaptedBinaryOperator<String, ?>> getComponents() {
         if (readOnly) {
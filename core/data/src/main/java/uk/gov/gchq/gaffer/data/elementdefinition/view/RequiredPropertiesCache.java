@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.elementdefinition.view;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Caches, for each group, the properties that need to be deserialised in
+ * order to apply a {@link View} and return the properties it requires, as
+ * given by {@link ViewUtil#getRequiredProperties(ViewElementDefinition, Set)}.
+ * This class is not thread safe.
+ */
+public class RequiredPropertiesCache {
+    private final View view;
+    private final Function<String, Set<String>> groupProperties;
+    private final Map<String, Set<String>> propertiesToLoad = new HashMap<>();
+
+    /**
+     * @param view            the view to apply, this may be null
+     * @param groupProperties a function returning all the properties of a
+     *                        group, or null if the group is unknown
+     */
+    public RequiredPropertiesCache(final View view, final Function<String, Set<String>> groupProperties) {
+        this.view = view;
+        this.groupProperties = groupProperties;
+    }
+
+    /**
+     * Gets the properties to deserialise for elements in the given group.
+     *
+     * @param group the element group
+     * @return the properties to deserialise, or null if all the properties
+     * should be deserialised
+     */
+    public Set<String> getPropertiesToLoad(final String group) {
+        if (propertiesToLoad.containsKey(group)) {
+            return propertiesToLoad.get(group);
+        }
+
+        Set<String> groupPropertiesToLoad = null;
+        final Set<String> allProperties = groupProperties.apply(group);
+        if (null != allProperties && null != view) {
+            final Set<String> requiredProperties = ViewUtil.getRequiredProperties(view.getElement(group), allProperties);
+            if (requiredProperties.size() < allProperties.size()) {
+                groupPropertiesToLoad = requiredProperties;
+            }
+        }
+        propertiesToLoad.put(group, groupPropertiesToLoad);
+        return groupPropertiesToLoad;
+    }
+}
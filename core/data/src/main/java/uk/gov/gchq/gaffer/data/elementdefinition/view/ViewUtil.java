@@ -18,8 +18,15 @@ package uk.gov.gchq.gaffer.data.elementdefinition.view;
 
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
+import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Utility class containing methods for modifying {@link View} objects.
@@ -68,6 +75,71 @@ public final class ViewUtil {
         }
     }
 
+    /**
+     * Gets the properties that need to be loaded for an element in order to
+     * apply the {@link ViewElementDefinition}. These are the properties used by
+     * the filters, aggregator and transformer, the group by properties and the
+     * properties that are returned after applying
+     * {@link #removeProperties(ViewElementDefinition, Properties)}.
+     * Stores can use this to avoid deserialising properties that would only be
+     * removed again.
+     *
+     * @param elDef         the element definition to apply, this may be null
+     * @param allProperties all the properties of the element's group
+     * @return the properties to load. If all the properties are required then
+     * allProperties is returned.
+     */
+    public static Set<String> getRequiredProperties(final ViewElementDefinition elDef, final Set<String> allProperties) {
+        if (null == elDef || elDef.isAllProperties()) {
+            return allProperties;
+        }
+
+        final Set<String> requiredProperties = new HashSet<>();
+        if (null == elDef.getProperties()) {
+            requiredProperties.addAll(allProperties);
+            requiredProperties.removeAll(elDef.getExcludeProperties());
+        } else {
+            requiredProperties.addAll(elDef.getProperties());
+        }
+        if (null != elDef.getGroupBy()) {
+            requiredProperties.addAll(elDef.getGroupBy());
+        }
+        addFilterSelections(elDef.getPreAggregationFilterFunctions(), requiredProperties);
+        addFilterSelections(elDef.getPostAggregationFilterFunctions(), requiredProperties);
+        addFilterSelections(elDef.getPostTransformFilterFunctions(), requiredProperties);
+        if (null != elDef.getAggregator()) {
+            for (final TupleAdaptedBinaryOperator<String, ?> component : elDef.getAggregator().getComponents()) {
+                addSelection(component.getSelection(), requiredProperties);
+            }
+        }
+        if (null != elDef.getTransformFunctions()) {
+            for (final TupleAdaptedFunction<String, ?, ?> component : elDef.getTransformFunctions()) {
+                addSelection(component.getSelection(), requiredProperties);
+            }
+        }
+
+        // Selections may also refer to identifiers and transient properties
+        requiredProperties.retainAll(allProperties);
+        if (requiredProperties.size() == allProperties.size()) {
+            return allProperties;
+        }
+        return requiredProperties;
+    }
+
+    private static void addFilterSelections(final List<TupleAdaptedPredicate<String, ?>> components, final Set<String> requiredProperties) {
+        if (null != components) {
+            for (final TupleAdaptedPredicate<String, ?> component : components) {
+                addSelection(component.getSelection(), requiredProperties);
+            }
+        }
+    }
+
+    private static void addSelection(final String[] selection, final Set<String> requiredProperties) {
+        if (null != selection) {
+            Collections.addAll(requiredProperties, selection);
+        }
+    }
+
     /**
      * Remove specified from the supplied view.
      * Because The {@link View} is unmodifiable it will return a new {@link View} with the group(s) removed.
@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.data.element.function;
 
 import org.junit.Test;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Properties;
@@ -26,6 +27,7 @@ import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
 import uk.gov.gchq.koryphe.tuple.n.Tuple3;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.BinaryOperator;
 
@@ -126,6 +128,62 @@ public class ElementAggregatorTest {
         assertEquals(3, result.getProperty(reference));
     }
 
+    @Test
+    public void shouldAggregateElementsUsingASingleAccumulator() {
+        // Given
+        final String reference1 = "reference1";
+        final String reference2 = "reference2";
+        final ExampleAccumulatingBinaryOperator accumulatingFunction = new ExampleAccumulatingBinaryOperator();
+        final ElementAggregator aggregator = new ElementAggregator.Builder()
+                .select(reference1)
+                .execute(accumulatingFunction)
+                .select(reference2)
+                .execute(new KorypheBinaryOperator<Integer>() {
+                    @Override
+                    public Integer _apply(final Integer a, final Integer b) {
+                        return a + b;
+                    }
+                })
+                .build();
+
+        final List<Edge> edges = Arrays.asList(
+                new Edge.Builder().property(reference1, "a").property(reference2, 1).build(),
+                new Edge.Builder().property(reference2, 2).build(),
+                new Edge.Builder().property(reference1, "b").property(reference2, 3).build(),
+                new Edge.Builder().property(reference1, "c").build());
+
+        // When
+        final Element result = aggregator.aggregate(edges);
+
+        // Then
+        assertSame(edges.get(0), result);
+        assertEquals("a,b,c", result.getProperty(reference1));
+        assertEquals(6, result.getProperty(reference2));
+        assertEquals(1, accumulatingFunction.accumulatorsCreated);
+    }
+
+    @Test
+    public void shouldNotCreateAnAccumulatorWhenAggregatingASingleValue() {
+        // Given
+        final String reference = "reference1";
+        final ExampleAccumulatingBinaryOperator accumulatingFunction = new ExampleAccumulatingBinaryOperator();
+        final ElementAggregator aggregator = new ElementAggregator.Builder()
+                .select(reference)
+                .execute(accumulatingFunction)
+                .build();
+
+        final List<Edge> edges = Arrays.asList(
+                new Edge.Builder().build(),
+                new Edge.Builder().property(reference, "a").build());
+
+        // When
+        final Element result = aggregator.aggregate(edges);
+
+        // Then
+        assertEquals("a", result.getProperty(reference));
+        assertEquals(0, accumulatingFunction.accumulatorsCreated);
+    }
+
     @Test
     public void shouldAggregateProperties() {
         // Given
@@ -343,4 +401,30 @@ public class ElementAggregatorTest {
         // Then - no exceptions
         components.add(null);
     }
+
+    private static final class ExampleAccumulatingBinaryOperator extends KorypheBinaryOperator<String>
+            implements AccumulatingBinaryOperator<String, StringBuilder> {
+        private int accumulatorsCreated;
+
+        @Override
+        protected String _apply(final String a, final String b) {
+            return a + "," + b;
+        }
+
+        @Override
+        public StringBuilder createAccumulator(final String first) {
+            accumulatorsCreated++;
+            return new StringBuilder(first);
+        }
+
+        @Override
+        public StringBuilder accumulate(final StringBuilder accumulator, final String value) {
+            return accumulator.append(',').append(value);
+        }
+
+        @Override
+        public String getResult(final StringBuilder accumulator) {
+            return accumulator.toString();
+        }
+    }
 }
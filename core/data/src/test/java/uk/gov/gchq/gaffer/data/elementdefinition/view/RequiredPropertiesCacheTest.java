@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.elementdefinition.view;
+
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RequiredPropertiesCacheTest {
+    private static final Set<String> ALL_PROPERTIES = Sets.newHashSet(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2);
+
+    @Test
+    public void shouldGetRequiredPropertiesOnceForEachGroup() {
+        // Given
+        final View view = new View.Builder()
+                .entity(TestGroups.ENTITY, new ViewElementDefinition.Builder()
+                        .properties(TestPropertyNames.PROP_1)
+                        .build())
+                .build();
+        final AtomicInteger lookups = new AtomicInteger();
+        final RequiredPropertiesCache cache = new RequiredPropertiesCache(view, group -> {
+            lookups.incrementAndGet();
+            return ALL_PROPERTIES;
+        });
+
+        // When
+        final Set<String> first = cache.getPropertiesToLoad(TestGroups.ENTITY);
+        final Set<String> second = cache.getPropertiesToLoad(TestGroups.ENTITY);
+
+        // Then
+        assertEquals(Sets.newHashSet(TestPropertyNames.PROP_1), first);
+        assertEquals(first, second);
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void shouldReturnNullWhenAllPropertiesAreRequired() {
+        // Given
+        final View view = new View.Builder()
+                .entity(TestGroups.ENTITY)
+                .build();
+
+        // When / Then
+        assertNull(new RequiredPropertiesCache(view, group -> ALL_PROPERTIES).getPropertiesToLoad(TestGroups.ENTITY));
+        assertNull(new RequiredPropertiesCache(null, group -> ALL_PROPERTIES).getPropertiesToLoad(TestGroups.ENTITY));
+        assertNull(new RequiredPropertiesCache(view, group -> null).getPropertiesToLoad(TestGroups.ENTITY));
+    }
+}
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.data.elementdefinition.view;
 
+import com.google.common.collect.Sets;
 import org.junit.Test;
 
 import uk.gov.gchq.gaffer.commonutil.JsonAssert;
@@ -914,4 +915,62 @@ public class ViewUtilTest {
                         .build())
                 .build();
     }
+
+    @Test
+    public void shouldRequireAllPropertiesWhenViewElementDefinitionIsNullOrHasAllProperties() {
+        // Given
+        final Set<String> allProperties = Sets.newHashSet(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2);
+        final ViewElementDefinition elDef = new ViewElementDefinition.Builder()
+                .allProperties()
+                .build();
+
+        // When / Then
+        assertSame(allProperties, ViewUtil.getRequiredProperties(null, allProperties));
+        assertSame(allProperties, ViewUtil.getRequiredProperties(elDef, allProperties));
+    }
+
+    @Test
+    public void shouldRequireReturnedPropertiesAndPropertiesUsedByFunctions() {
+        // Given
+        final Set<String> allProperties = Sets.newHashSet(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2,
+                TestPropertyNames.PROP_3, TestPropertyNames.PROP_4, TestPropertyNames.PROP_5);
+        final ViewElementDefinition elDef = new ViewElementDefinition.Builder()
+                .properties(TestPropertyNames.PROP_1)
+                .preAggregationFilter(new ElementFilter.Builder()
+                        .select(TestPropertyNames.PROP_2, IdentifierType.SOURCE.name())
+                        .execute(new ExampleFilterFunction())
+                        .build())
+                .transformer(new ElementTransformer.Builder()
+                        .select(TestPropertyNames.PROP_3)
+                        .execute(new ExampleTransformFunction())
+                        .project(TestPropertyNames.TRANSIENT_1)
+                        .build())
+                .build();
+
+        // When
+        final Set<String> requiredProperties = ViewUtil.getRequiredProperties(elDef, allProperties);
+
+        // Then
+        assertEquals(Sets.newHashSet(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2, TestPropertyNames.PROP_3), requiredProperties);
+    }
+
+    @Test
+    public void shouldNotRequireExcludedPropertiesUnlessUsedByFunctions() {
+        // Given
+        final Set<String> allProperties = Sets.newHashSet(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2,
+                TestPropertyNames.PROP_3);
+        final ViewElementDefinition elDef = new ViewElementDefinition.Builder()
+                .excludeProperties(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2)
+                .postTransformFilter(new ElementFilter.Builder()
+                        .select(TestPropertyNames.PROP_2)
+                        .execute(new Exists())
+                        .build())
+                .build();
+
+        // When
+        final Set<String> requiredProperties = ViewUtil.getRequiredProperties(elDef, allProperties);
+
+        // Then
+        assertEquals(Sets.newHashSet(TestPropertyNames.PROP_2, TestPropertyNames.PROP_3), requiredProperties);
+    }
 }
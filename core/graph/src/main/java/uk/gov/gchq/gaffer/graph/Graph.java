@@ -45,6 +45,7 @@ import uk.gov.gchq.gaffer.store.StoreTrait;
 import uk.gov.gchq.gaffer.store.library.GraphLibrary;
 import uk.gov.gchq.gaffer.store.library.NoGraphLibrary;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.IOException;
@@ -57,6 +58,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -202,6 +204,9 @@ public final class Graph {
         }
 
         context.setOriginalOpChain(operationChain);
+        if (null == context.getConfig(GraphStatistics.CONTEXT_CONFIG_KEY)) {
+            context.setConfig(GraphStatistics.CONTEXT_CONFIG_KEY, (Supplier<GraphStatistics>) store::getStatistics);
+        }
 
         final OperationChain clonedOpChain = operationChain.shallowClone();
         O result = null;
@@ -24,8 +24,10 @@ import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.operation.handler.ScoreOperationChainHandler;
 import uk.gov.gchq.gaffer.store.operation.resolver.ScoreResolver;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * An {@code OperationChainLimiter} is a {@link GraphHook} that checks a
@@ -60,7 +62,9 @@ public class OperationChainLimiter implements GraphHook {
     @Override
     public void preExecute(final OperationChain<?> opChain, final Context context) {
         if (null != opChain) {
-            Integer chainScore = scorer.getChainScore(opChain, context.getUser());
+            @SuppressWarnings("unchecked")
+            final Supplier<GraphStatistics> statisticsSupplier = (Supplier<GraphStatistics>) context.getConfig(GraphStatistics.CONTEXT_CONFIG_KEY);
+            Integer chainScore = scorer.getChainScore(opChain, context.getUser(), statisticsSupplier);
             Integer maxAuthScore = scorer.getMaxUserAuthScore(context.getUser().getOpAuths());
 
             if (chainScore > maxAuthScore) {
@@ -21,6 +21,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -41,6 +43,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.jackson.CloseableIterableDeserializer;
@@ -48,6 +51,7 @@ import uk.gov.gchq.koryphe.impl.binaryoperator.StringDeduplicateConcat;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -84,6 +88,7 @@ public class JSONSerialiser {
     public static final String FILTER_FIELDS_BY_NAME = "filterFieldsByName";
 
     private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final SerializedString NEW_LINE = new SerializedString("\n");
     private static final Logger LOGGER = LoggerFactory.getLogger(JSONSerialiser.class);
 
     private static JSONSerialiser instance;
@@ -265,6 +270,92 @@ public class JSONSerialiser {
         }
     }
 
+    /**
+     * Serialises each of the objects as newline-delimited json, writing each
+     * object to the stream as soon as it has been serialised. The stream is
+     * flushed but not closed.
+     *
+     * @param objects         the objects to be serialised
+     * @param stream          the {@link OutputStream} to write the json to
+     * @param fieldsToExclude optional property names to exclude from the json
+     * @throws SerialisationException if an object fails to serialise
+     */
+    public static void serialiseStream(final Iterable<?> objects, final OutputStream stream, final String... fieldsToExclude) throws SerialisationException {
+        try {
+            serialiseStream(objects, getInstance().mapper.getFactory().createGenerator(stream, JsonEncoding.UTF8), fieldsToExclude);
+        } catch (final IOException e) {
+            throw new SerialisationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Serialises each of the objects as a separate root level value using the
+     * provided json generator. For a json generator the values are separated
+     * by new lines, giving newline-delimited json. The generator can also be
+     * created from any other {@link JsonFactory}, such as a binary Smile
+     * factory. The generator is closed but the underlying target is not.
+     *
+     * @param objects         the objects to be serialised
+     * @param jsonGenerator   the {@link JsonGenerator} to use to write the objects
+     * @param fieldsToExclude optional property names to exclude from the json
+     * @throws SerialisationException if an object fails to serialise
+     */
+    public static void serialiseStream(final Iterable<?> objects, final JsonGenerator jsonGenerator, final String... fieldsToExclude) throws SerialisationException {
+        jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        jsonGenerator.setRootValueSeparator(NEW_LINE);
+
+        // Flushing after each value would defeat the buffering of the generator
+        final ObjectWriter writer = getInstance().mapper.writer(getFilterProvider(fieldsToExclude))
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (final JsonGenerator generator = jsonGenerator) {
+            for (final Object object : objects) {
+                writer.writeValue(generator, object);
+            }
+        } catch (final IOException e) {
+            throw new SerialisationException("Failed to serialise object to json: " + e.getMessage(), e);
+        } finally {
+            CloseableUtil.close(objects);
+        }
+    }
+
+    /**
+     * Lazily deserialises a stream of json values, such as newline-delimited
+     * json or a json array. Each value is only parsed when the returned
+     * iterable reaches it, so the stream is never held in memory.
+     *
+     * @param stream the {@link InputStream} containing the json values to deserialise
+     * @param clazz  the class of the values to deserialise
+     * @param <T>    the type of the values
+     * @return a {@link CloseableIterable} of the deserialised values, that can only be iterated over once
+     * @throws SerialisationException if the stream fails to be read
+     */
+    public static <T> CloseableIterable<T> deserialiseStream(final InputStream stream, final Class<T> clazz) throws SerialisationException {
+        try {
+            return new JsonStreamIterable<>(getInstance().mapper.readerFor(clazz).<T>readValues(stream));
+        } catch (final IOException e) {
+            throw new SerialisationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lazily deserialises a stream of values using the provided parser. The
+     * parser can be created from any {@link JsonFactory}, such as a binary
+     * Smile factory.
+     *
+     * @param jsonParser the {@link JsonParser} to read the values from
+     * @param clazz      the class of the values to deserialise
+     * @param <T>        the type of the values
+     * @return a {@link CloseableIterable} of the deserialised values, that can only be iterated over once
+     * @throws SerialisationException if the parser fails to be read
+     */
+    public static <T> CloseableIterable<T> deserialiseStream(final JsonParser jsonParser, final Class<T> clazz) throws SerialisationException {
+        try {
+            return new JsonStreamIterable<>(getInstance().mapper.readerFor(clazz).<T>readValues(jsonParser));
+        } catch (final IOException e) {
+            throw new SerialisationException(e.getMessage(), e);
+        }
+    }
+
     /**
      * @param bytes the bytes of the object to deserialise
      * @param clazz the class of the object to deserialise
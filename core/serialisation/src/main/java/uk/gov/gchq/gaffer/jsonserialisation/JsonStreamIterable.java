@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.jsonserialisation;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+
+/**
+ * A {@code JsonStreamIterable} lazily deserialises a stream of json values,
+ * such as newline-delimited json, so each value is only parsed when the
+ * iterator reaches it. The underlying stream can only be read once, so only a
+ * single iterator can be created.
+ *
+ * @param <T> the type of the deserialised values
+ * @see JSONSerialiser#deserialiseStream(java.io.InputStream, Class)
+ */
+public class JsonStreamIterable<T> implements CloseableIterable<T> {
+    private final MappingIterator<T> mappingIterator;
+    private boolean iterated;
+
+    public JsonStreamIterable(final MappingIterator<T> mappingIterator) {
+        this.mappingIterator = mappingIterator;
+    }
+
+    @Override
+    public CloseableIterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("The json stream can only be iterated over once");
+        }
+        iterated = true;
+
+        return new CloseableIterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return mappingIterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return mappingIterator.next();
+            }
+
+            @Override
+            public void close() {
+                JsonStreamIterable.this.close();
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        CloseableUtil.close(mappingIterator);
+    }
+}
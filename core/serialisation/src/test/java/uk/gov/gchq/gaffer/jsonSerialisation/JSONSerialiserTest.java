@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.common.collect.Lists;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,6 +30,7 @@ import org.mockito.Mockito;
 
 import uk.gov.gchq.gaffer.commonutil.CommonConstants;
 import uk.gov.gchq.gaffer.commonutil.JsonAssert;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
@@ -36,6 +38,8 @@ import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiserModules;
 import uk.gov.gchq.gaffer.serialisation.ParameterisedTestObject;
 import uk.gov.gchq.gaffer.serialisation.SimpleTestObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -203,6 +207,57 @@ public class JSONSerialiserTest {
         assertTrue(json.contains("x"));
     }
 
+    @Test
+    public void shouldSerialiseAndDeserialiseStreamOfObjectsAsNewlineDelimitedJson() throws Exception {
+        // Given
+        final SimpleTestObject obj1 = new SimpleTestObject();
+        obj1.setX("value1");
+        final SimpleTestObject obj2 = new SimpleTestObject();
+        obj2.setX("value2");
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        // When
+        JSONSerialiser.serialiseStream(Arrays.asList(obj1, obj2), stream);
+        final CloseableIterable<SimpleTestObject> deserialised = JSONSerialiser.deserialiseStream(
+                new ByteArrayInputStream(stream.toByteArray()), SimpleTestObject.class);
+
+        // Then
+        assertEquals("{\"x\":\"value1\"}\n{\"x\":\"value2\"}", new String(stream.toByteArray(), CommonConstants.UTF_8));
+        assertEquals(Arrays.asList(obj1, obj2), Lists.newArrayList(deserialised));
+    }
+
+    @Test
+    public void shouldDeserialiseStreamOfObjectsFromJsonArray() throws Exception {
+        // Given
+        final byte[] json = "[{\"x\":\"value1\"},{\"x\":\"value2\"}]".getBytes(CommonConstants.UTF_8);
+
+        // When
+        final CloseableIterable<SimpleTestObject> deserialised = JSONSerialiser.deserialiseStream(
+                new ByteArrayInputStream(json), SimpleTestObject.class);
+
+        // Then
+        final List<SimpleTestObject> results = Lists.newArrayList(deserialised);
+        assertEquals(2, results.size());
+        assertEquals("value1", results.get(0).getX());
+        assertEquals("value2", results.get(1).getX());
+    }
+
+    @Test
+    public void shouldOnlyAllowStreamOfObjectsToBeIteratedOnce() throws Exception {
+        // Given
+        final CloseableIterable<SimpleTestObject> deserialised = JSONSerialiser.deserialiseStream(
+                new ByteArrayInputStream("{\"x\":\"value1\"}".getBytes(CommonConstants.UTF_8)), SimpleTestObject.class);
+        deserialised.iterator();
+
+        // When / Then
+        try {
+            deserialised.iterator();
+            fail("Exception expected");
+        } catch (final IllegalStateException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
     @Test
     public void shouldSerialiseWithHistoricValues() throws Exception {
         assertNotNull(historicSerialisationPairs);
@@ -119,11 +119,13 @@ import uk.gov.gchq.gaffer.store.operation.handler.output.ToSetHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.output.ToStreamHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.output.ToVerticesHandler;
 import uk.gov.gchq.gaffer.store.optimiser.OperationChainOptimiser;
+import uk.gov.gchq.gaffer.store.optimiser.ViewPushDownOptimiser;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
 import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
 import uk.gov.gchq.gaffer.store.schema.ViewValidator;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 import uk.gov.gchq.gaffer.user.User;
 import uk.gov.gchq.koryphe.ValidationResult;
 
@@ -233,6 +235,7 @@ public abstract class Store {
         optimiseSchema();
         validateSchemas();
         addOpHandlers();
+        addViewPushDownOptimiser();
         addExecutorService();
     }
 
@@ -260,6 +263,19 @@ public abstract class Store {
      */
     public abstract Set<StoreTrait> getTraits();
 
+    /**
+     * Gets approximate statistics about the elements held in the store, which
+     * are used to estimate the cost of operations. This may be called for
+     * every operation chain that is scored, so stores should return cached
+     * statistics if they are expensive to calculate.
+     *
+     * @return the {@link GraphStatistics} for this store, or null if the store
+     * does not provide statistics.
+     */
+    public GraphStatistics getStatistics() {
+        return null;
+    }
+
     /**
      * Executes a given operation and returns the result.
      *
@@ -732,6 +748,14 @@ public abstract class Store {
         return result;
     }
 
+    private void addViewPushDownOptimiser() {
+        // Remove any optimiser added by a previous initialisation of the store
+        opChainOptimisers.removeIf(ViewPushDownOptimiser.class::isInstance);
+        if (getProperties().getViewPushDownEnabled()) {
+            opChainOptimisers.add(0, new ViewPushDownOptimiser(getTraits()));
+        }
+    }
+
     private void addExecutorService() {
         final Integer jobExecutorThreadCount = getProperties().getJobExecutorThreadCount();
         LOGGER.debug("Initialising ExecutorService with " + jobExecutorThreadCount + " threads");
@@ -65,6 +65,13 @@ public class StoreProperties implements Cloneable {
 
     public static final String JOB_TRACKER_ENABLED = "gaffer.store.job.tracker.enabled";
 
+    /**
+     * If true, functions in the operations that follow a GetElements or
+     * GetAllElements are pushed down into its view.
+     * See {@link uk.gov.gchq.gaffer.store.optimiser.ViewPushDownOptimiser}.
+     */
+    public static final String VIEW_PUSH_DOWN_ENABLED = "gaffer.store.operation.chain.view.push.down.enabled";
+
     public static final String EXECUTOR_SERVICE_THREAD_COUNT = "gaffer.store.job.executor.threads";
     public static final String EXECUTOR_SERVICE_THREAD_COUNT_DEFAULT = "50";
 
@@ -329,6 +336,14 @@ public class StoreProperties implements Cloneable {
         set(JOB_TRACKER_ENABLED, jobTrackerEnabled.toString());
     }
 
+    public Boolean getViewPushDownEnabled() {
+        return Boolean.valueOf(get(VIEW_PUSH_DOWN_ENABLED, "false"));
+    }
+
+    public void setViewPushDownEnabled(final Boolean viewPushDownEnabled) {
+        set(VIEW_PUSH_DOWN_ENABLED, viewPushDownEnabled.toString());
+    }
+
     public String getSchemaClassName() {
         return get(SCHEMA_CLASS, Schema.class.getName());
     }
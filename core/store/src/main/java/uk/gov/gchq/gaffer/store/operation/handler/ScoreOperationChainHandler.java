@@ -28,8 +28,11 @@ import uk.gov.gchq.gaffer.operation.Operations;
 import uk.gov.gchq.gaffer.operation.impl.ScoreOperationChain;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.operation.resolver.CostContext;
+import uk.gov.gchq.gaffer.store.operation.resolver.CostScoreResolver;
 import uk.gov.gchq.gaffer.store.operation.resolver.DefaultScoreResolver;
 import uk.gov.gchq.gaffer.store.operation.resolver.ScoreResolver;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.ArrayList;
@@ -39,6 +42,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Operation Handler for ScoreOperationChain
@@ -65,32 +69,54 @@ public class ScoreOperationChainHandler implements OutputOperationHandler<ScoreO
     public Integer doOperation(final ScoreOperationChain operation, final Context context, final Store store) throws OperationException {
 
         if (null != operation.getOperationChain()) {
-            return getChainScore(operation.getOperationChain(), context.getUser());
+            return getChainScore(operation.getOperationChain(), context.getUser(), store::getStatistics);
         } else {
             return 0;
         }
     }
 
     public int getChainScore(final Operations<?> operations, final User user) {
+        return getChainScore(operations, user, null);
+    }
+
+    /**
+     * Returns the score of the provided operations. The statistics are only
+     * fetched if one of the score resolvers requires them.
+     *
+     * @param operations         the operations to score
+     * @param user               the user executing the operations
+     * @param statisticsSupplier a supplier of the store's statistics, may be null
+     * @return the score of the operations
+     */
+    public int getChainScore(final Operations<?> operations, final User user, final Supplier<GraphStatistics> statisticsSupplier) {
+        return scoreOperations(operations, user, new CostContext(statisticsSupplier));
+    }
+
+    private int scoreOperations(final Operations<?> operations, final User user, final CostContext costContext) {
         int chainScore = 0;
 
         if (null != operations.getOperations()) {
             for (final Operation operation : operations.getOperations()) {
                 if (operation instanceof Operations) {
-                    chainScore += getChainScore((Operations) operation, user);
+                    chainScore += scoreOperations((Operations) operation, user, costContext);
                 } else {
                     ScoreResolver resolver = scoreResolvers.get(operation.getClass());
                     if (null == resolver) {
                         resolver = defaultScoreResolver;
                     }
 
-                    Integer opScore = resolver.getScore(operation, defaultScoreResolver);
+                    Integer opScore;
+                    if (resolver instanceof CostScoreResolver) {
+                        opScore = ((CostScoreResolver) resolver).getScore(operation, defaultScoreResolver, costContext);
+                    } else {
+                        opScore = resolver.getScore(operation, defaultScoreResolver);
+                    }
                     if (null == opScore) {
                         opScore = defaultScoreResolver.getScore(operation, defaultScoreResolver);
                     }
 
                     chainScore += opScore;
-
+                    costContext.nextOperation();
                 }
             }
         }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.operation.handler.generate;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.StreamIterable;
+import uk.gov.gchq.gaffer.commonutil.stream.ParallelMapStreamSupplier;
+
+import java.util.function.Function;
+
+/**
+ * An {@code AbstractGenerateHandler} contains the configuration shared by the
+ * {@link GenerateElementsHandler} and the {@link GenerateObjectsHandler}.
+ * <p>
+ * By default the generator is applied lazily on the consuming thread. If the
+ * parallelism is set above 1 the input is split into batches, which are
+ * converted by the generator on that many threads, see
+ * {@link ParallelMapStreamSupplier}. The generator must then be thread safe.
+ * Unless ordered is set to false the output is in the same order as the input.
+ * </p>
+ *
+ * @param <I> the type of input objects
+ * @param <O> the type of output objects
+ */
+public abstract class AbstractGenerateHandler<I, O> {
+    public static final int DEFAULT_PARALLELISM = 1;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private int parallelism = DEFAULT_PARALLELISM;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private Integer maxBatchesInFlight;
+    private boolean ordered = true;
+
+    @SuppressWarnings("unchecked")
+    protected Iterable<? extends O> generate(final Iterable<? extends I> input,
+                                             final Function<Iterable<? extends I>, Iterable<? extends O>> generator) {
+        if (parallelism <= 1 || null == input) {
+            return generator.apply(input);
+        }
+
+        return new StreamIterable<>(new ParallelMapStreamSupplier<I, O>(
+                (Iterable<I>) input, generator::apply, parallelism, batchSize, getMaxBatchesInFlight(), ordered));
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return the maximum number of batches being generated or waiting to be
+     * consumed, which defaults to twice the parallelism
+     */
+    public int getMaxBatchesInFlight() {
+        return null == maxBatchesInFlight ? 2 * parallelism : maxBatchesInFlight;
+    }
+
+    public void setMaxBatchesInFlight(final Integer maxBatchesInFlight) {
+        this.maxBatchesInFlight = maxBatchesInFlight;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public void setOrdered(final boolean ordered) {
+        this.ordered = ordered;
+    }
+}
@@ -27,14 +27,15 @@ import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
  * An {@code GenerateElementsHandler} handles {@link uk.gov.gchq.gaffer.operation.impl.generate.GenerateElements} operations.
  * It uses the {@link uk.gov.gchq.gaffer.data.generator.ElementGenerator} from the operation to generate
  * {@link uk.gov.gchq.gaffer.data.element.Element}s from the operation input objects.
+ * The generator can be run on multiple threads, see {@link AbstractGenerateHandler}.
  *
  * @param <OBJ> the type of input objects from the operation.
  */
-public class GenerateElementsHandler<OBJ> implements OutputOperationHandler<GenerateElements<OBJ>, Iterable<? extends Element>> {
+public class GenerateElementsHandler<OBJ> extends AbstractGenerateHandler<OBJ, Element> implements OutputOperationHandler<GenerateElements<OBJ>, Iterable<? extends Element>> {
     @Override
     public Iterable<? extends Element> doOperation(final GenerateElements<OBJ> operation,
                                                    final Context context, final Store store)
             throws OperationException {
-        return operation.getElementGenerator().apply(operation.getInput());
+        return generate(operation.getInput(), operation.getElementGenerator());
     }
 }
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.store.operation.handler.generate;
 
+import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.generate.GenerateObjects;
 import uk.gov.gchq.gaffer.store.Context;
@@ -26,14 +27,15 @@ import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
  * An {@code GenerateObjectsHandler} handles {@link uk.gov.gchq.gaffer.operation.impl.generate.GenerateObjects} operations.
  * It uses the {@link uk.gov.gchq.gaffer.data.generator.ElementGenerator} from the operation to generate
  * objects of type OBJ from the operation input {@link uk.gov.gchq.gaffer.data.element.Element}s.
+ * The generator can be run on multiple threads, see {@link AbstractGenerateHandler}.
  *
  * @param <OBJ> the type of output objects from the operation.
  */
-public class GenerateObjectsHandler<OBJ> implements OutputOperationHandler<GenerateObjects<OBJ>, Iterable<? extends OBJ>> {
+public class GenerateObjectsHandler<OBJ> extends AbstractGenerateHandler<Element, OBJ> implements OutputOperationHandler<GenerateObjects<OBJ>, Iterable<? extends OBJ>> {
     @Override
     public Iterable<? extends OBJ> doOperation(final GenerateObjects<OBJ> operation,
                                                final Context context, final Store store)
             throws OperationException {
-        return operation.getElementGenerator().apply(operation.getInput());
+        return generate(operation.getInput(), operation.getElementGenerator());
     }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.operation.resolver;
+
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.graph.OperationView;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.operation.io.Input;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * A {@code CostBasedScoreResolver} is a {@link CostScoreResolver} that scores
+ * retrieval operations by estimating the number of rows, and optionally bytes,
+ * they will return, using the {@link GraphStatistics} provided by the store.
+ * <ul>
+ * <li>{@link GetAllElements} returns the number of elements in the view's groups.</li>
+ * <li>{@link GetElements} and {@link GetAdjacentIds} return the number of seeds
+ * multiplied by the seed fan out. The fan out is taken from the configured
+ * quantile of the store's fan out histogram, otherwise from the average degree,
+ * otherwise the default fan out is used. If the seeds are not provided directly
+ * the estimated output of the previous operation is used.</li>
+ * <li>{@link Limit} caps the estimated rows at the result limit but keeps the
+ * default score.</li>
+ * </ul>
+ * The score is the number of rows divided by the rows per score, rounded up.
+ * If bytes per score is set then the score is the larger of that and the
+ * estimated bytes divided by the bytes per score.
+ * If an operation cannot be estimated, for example because the store has no
+ * statistics, null is returned so the default score is used.
+ * <p>
+ * To use this resolver, register it in the score resolvers for each of the
+ * operations above.
+ * </p>
+ */
+public class CostBasedScoreResolver implements CostScoreResolver<Operation> {
+    public static final long DEFAULT_ROWS_PER_SCORE = 1000L;
+    public static final long DEFAULT_FAN_OUT = 10L;
+    public static final double DEFAULT_FAN_OUT_QUANTILE = 0.9;
+    public static final long DEFAULT_ELEMENT_BYTES = 100L;
+
+    private long rowsPerScore = DEFAULT_ROWS_PER_SCORE;
+    private Long bytesPerScore;
+    private long defaultFanOut = DEFAULT_FAN_OUT;
+    private double fanOutQuantile = DEFAULT_FAN_OUT_QUANTILE;
+    private long defaultElementBytes = DEFAULT_ELEMENT_BYTES;
+
+    @Override
+    public Integer getScore(final Operation operation) {
+        return getScore(operation, null, new CostContext());
+    }
+
+    @Override
+    public Integer getScore(final Operation operation, final ScoreResolver defaultScoreResolver, final CostContext costContext) {
+        if (operation instanceof Limit) {
+            final Integer resultLimit = ((Limit) operation).getResultLimit();
+            final Long inputRows = costContext.getInputRows();
+            if (null != resultLimit && (null == inputRows || resultLimit < inputRows)) {
+                costContext.setOutputRows((long) resultLimit);
+            }
+            return null;
+        }
+
+        final GraphStatistics statistics = costContext.getStatistics();
+        if (null == statistics) {
+            return null;
+        }
+
+        final Long rows = estimateRows(operation, statistics, costContext);
+        if (null == rows) {
+            return null;
+        }
+        costContext.setOutputRows(rows);
+
+        long score = ceilDiv(rows, rowsPerScore);
+        if (null != bytesPerScore) {
+            Long elementBytes = statistics.getAverageElementBytes();
+            if (null == elementBytes) {
+                elementBytes = defaultElementBytes;
+            }
+            score = Math.max(score, ceilDiv(multiply(rows, elementBytes), bytesPerScore));
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, score));
+    }
+
+    private Long estimateRows(final Operation operation, final GraphStatistics statistics, final CostContext costContext) {
+        if (operation instanceof GetAllElements) {
+            return statistics.getElementCount(getGroups((OperationView) operation));
+        }
+
+        if (operation instanceof GetElements || operation instanceof GetAdjacentIds) {
+            final Long seeds = getNumSeeds((Input<?>) operation, costContext);
+            if (null == seeds) {
+                return null;
+            }
+
+            long rows = multiply(seeds, getFanOut(statistics));
+            final Long elementCount = statistics.getElementCount(getGroups((OperationView) operation));
+            if (null != elementCount && elementCount < rows) {
+                rows = elementCount;
+            }
+            return rows;
+        }
+
+        return null;
+    }
+
+    private Long getNumSeeds(final Input<?> operation, final CostContext costContext) {
+        final Object input = operation.getInput();
+        if (input instanceof Collection) {
+            return (long) ((Collection) input).size();
+        }
+        return costContext.getInputRows();
+    }
+
+    private long getFanOut(final GraphStatistics statistics) {
+        final Long fanOut = statistics.getFanOut(fanOutQuantile);
+        if (null != fanOut) {
+            return fanOut;
+        }
+
+        final Double averageDegree = statistics.getAverageDegree();
+        if (null != averageDegree) {
+            return (long) Math.ceil(averageDegree);
+        }
+
+        return defaultFanOut;
+    }
+
+    private Set<String> getGroups(final OperationView operation) {
+        final View view = operation.getView();
+        if (null == view || !view.hasGroups()) {
+            return null;
+        }
+        return view.getGroups();
+    }
+
+    private static long ceilDiv(final long value, final long divisor) {
+        if (divisor <= 0) {
+            return value;
+        }
+        return value / divisor + (0 == value % divisor ? 0 : 1);
+    }
+
+    private static long multiply(final long a, final long b) {
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (final ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    public long getRowsPerScore() {
+        return rowsPerScore;
+    }
+
+    public void setRowsPerScore(final long rowsPerScore) {
+        this.rowsPerScore = rowsPerScore;
+    }
+
+    public Long getBytesPerScore() {
+        return bytesPerScore;
+    }
+
+    public void setBytesPerScore(final Long bytesPerScore) {
+        this.bytesPerScore = bytesPerScore;
+    }
+
+    public long getDefaultFanOut() {
+        return defaultFanOut;
+    }
+
+    public void setDefaultFanOut(final long defaultFanOut) {
+        this.defaultFanOut = defaultFanOut;
+    }
+
+    public double getFanOutQuantile() {
+        return fanOutQuantile;
+    }
+
+    public void setFanOutQuantile(final double fanOutQuantile) {
+        this.fanOutQuantile = fanOutQuantile;
+    }
+
+    public long getDefaultElementBytes() {
+        return defaultElementBytes;
+    }
+
+    public void setDefaultElementBytes(final long defaultElementBytes) {
+        this.defaultElementBytes = defaultElementBytes;
+    }
+}
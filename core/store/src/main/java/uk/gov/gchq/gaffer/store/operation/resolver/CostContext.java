@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.operation.resolver;
+
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@code CostContext} is passed to the {@link CostScoreResolver}s while an
+ * operation chain is being scored. It provides access to the store's
+ * {@link GraphStatistics}, which are only fetched if a resolver asks for them,
+ * and tracks the estimated number of rows flowing between the operations.
+ */
+public class CostContext {
+    private final Supplier<GraphStatistics> statisticsSupplier;
+    private boolean statisticsFetched;
+    private GraphStatistics statistics;
+    private Long inputRows;
+    private Long outputRows;
+
+    public CostContext() {
+        this(null);
+    }
+
+    public CostContext(final Supplier<GraphStatistics> statisticsSupplier) {
+        this.statisticsSupplier = statisticsSupplier;
+    }
+
+    /**
+     * @return the store's statistics, or null if the store has none
+     */
+    public GraphStatistics getStatistics() {
+        if (!statisticsFetched) {
+            statisticsFetched = true;
+            if (null != statisticsSupplier) {
+                statistics = statisticsSupplier.get();
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * @return the estimated number of rows output by the previous operation,
+     * or null if unknown
+     */
+    public Long getInputRows() {
+        return inputRows;
+    }
+
+    /**
+     * @return the estimated number of rows output by the current operation,
+     * or null if unknown
+     */
+    public Long getOutputRows() {
+        return outputRows;
+    }
+
+    public void setOutputRows(final Long outputRows) {
+        this.outputRows = outputRows;
+    }
+
+    /**
+     * Moves on to the next operation in the chain. The output rows of the
+     * current operation become the input rows of the next one. If the output
+     * rows of the current operation were not estimated then the input rows
+     * are assumed to pass straight through it.
+     */
+    public void nextOperation() {
+        if (null != outputRows) {
+            inputRows = outputRows;
+            outputRows = null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.operation.resolver;
+
+import uk.gov.gchq.gaffer.operation.Operation;
+
+/**
+ * A {@code CostScoreResolver} is a {@link ScoreResolver} that estimates the
+ * cost of an operation using the {@link CostContext} of the operation chain
+ * being scored, which provides the store's statistics and the estimated
+ * output of the previous operation.
+ *
+ * @param <T> the {@link Operation} type
+ */
+public interface CostScoreResolver<T extends Operation> extends ScoreResolver<T> {
+    /**
+     * Should return a (nullable) score for a given operation. The estimated
+     * number of rows the operation outputs can be recorded in the
+     * {@link CostContext} for the following operations.
+     *
+     * @param operation            the provided operation for which the score should be resolved
+     * @param defaultScoreResolver the default score resolver to look up scores for nested operations
+     * @param costContext          the context of the operation chain being scored
+     * @return the score for the operation, otherwise null if not found
+     */
+    Integer getScore(final T operation, final ScoreResolver defaultScoreResolver, final CostContext costContext);
+}
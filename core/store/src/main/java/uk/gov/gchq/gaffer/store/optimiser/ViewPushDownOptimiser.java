@@ -0,0 +1,389 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.optimiser;
+
+import uk.gov.gchq.gaffer.data.element.IdentifierType;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.function.Filter;
+import uk.gov.gchq.gaffer.operation.impl.function.Transform;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.operation.impl.output.ToVertices;
+import uk.gov.gchq.gaffer.operation.io.Input;
+import uk.gov.gchq.gaffer.store.StoreTrait;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@code ViewPushDownOptimiser} moves work from the operations that follow a
+ * {@link GetElements} or {@link GetAllElements} into that operation's
+ * {@link View}, so the store can do it while it retrieves the elements rather
+ * than the core handlers doing it afterwards, one element at a time.
+ * <ul>
+ * <li>A {@link Filter} is added to the post aggregation filter of each group, or
+ * to the post transform filter if the group has a transformer.</li>
+ * <li>A {@link Transform} is added to the transformer of each group.</li>
+ * <li>A {@link Limit} is moved before any {@link Transform}s that could not be
+ * pushed down, so fewer elements are retrieved and transformed.</li>
+ * <li>A {@link GetElements} of edges for entity seeds followed by a
+ * {@link ToVertices} of the opposite vertices is replaced by a
+ * {@link GetAdjacentIds}, so only the adjacent vertices are returned.</li>
+ * </ul>
+ * An operation is only pushed down if the result of the chain is unchanged, for
+ * example a {@link Filter} is not pushed down if it does not contain a filter
+ * for every group in the view or it selects a property the view removes. Each
+ * push down also requires the store to have the relevant {@link StoreTrait}.
+ */
+public class ViewPushDownOptimiser extends AbstractOperationChainOptimiser {
+    private final Set<StoreTrait> traits;
+
+    public ViewPushDownOptimiser(final Set<StoreTrait> traits) {
+        this.traits = traits;
+    }
+
+    @Override
+    protected List<Operation> addPreOperations(final Operation previousOp, final Operation currentOp) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseCurrentOperation(final Operation previousOp, final Operation currentOp, final Operation nextOp) {
+        return Collections.singletonList(currentOp);
+    }
+
+    @Override
+    protected List<Operation> addPostOperations(final Operation currentOp, final Operation nextOp) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseAll(final List<Operation> ops) {
+        final List<Operation> optimisedOps = new ArrayList<>(ops.size());
+        for (final Operation op : ops) {
+            final int previousIndex = optimisedOps.size() - 1;
+            final Operation previousOp = previousIndex < 0 ? null : optimisedOps.get(previousIndex);
+            if (null == previousOp || !hasNullInput(op)) {
+                optimisedOps.add(op);
+            } else if (op instanceof Limit) {
+                int index = previousIndex + 1;
+                while (index > 1 && optimisedOps.get(index - 1) instanceof Transform && hasNullInput(optimisedOps.get(index - 1))) {
+                    index--;
+                }
+                optimisedOps.add(index, op);
+            } else if (isGetElements(previousOp)) {
+                final View previousView = ((GraphFilters) previousOp).getView();
+                if (op instanceof Filter) {
+                    final View view = pushDownFilter(previousView, (Filter) op);
+                    if (null == view) {
+                        optimisedOps.add(op);
+                    } else {
+                        optimisedOps.set(previousIndex, withView(previousOp, view));
+                    }
+                } else if (op instanceof Transform) {
+                    final View view = pushDownTransform(previousView, (Transform) op);
+                    if (null == view) {
+                        optimisedOps.add(op);
+                    } else {
+                        optimisedOps.set(previousIndex, withView(previousOp, view));
+                    }
+                } else if (op instanceof ToVertices) {
+                    final GetAdjacentIds getAdjacentIds = toGetAdjacentIds(previousOp, (ToVertices) op);
+                    if (null != getAdjacentIds) {
+                        optimisedOps.set(previousIndex, getAdjacentIds);
+                    }
+                    optimisedOps.add(op);
+                } else {
+                    optimisedOps.add(op);
+                }
+            } else {
+                optimisedOps.add(op);
+            }
+        }
+        return optimisedOps;
+    }
+
+    /**
+     * The operation is cloned so the operations in the original chain are not
+     * changed.
+     *
+     * @param getOp the get elements operation
+     * @param view  the new view
+     * @return a clone of the operation with the new view
+     */
+    private static Operation withView(final Operation getOp, final View view) {
+        final Operation clone = getOp.shallowClone();
+        ((GraphFilters) clone).setView(view);
+        return clone;
+    }
+
+    private View pushDownFilter(final View view, final Filter filter) {
+        if (!canPushDown(view)) {
+            return null;
+        }
+
+        final boolean allGroups = null == filter.getEntities() && null == filter.getEdges();
+        final View.Builder builder = new View.Builder();
+        for (final Map.Entry<String, ViewElementDefinition> entry : view.getEntities().entrySet()) {
+            final List<TupleAdaptedPredicate<String, ?>> functions = getFilterFunctions(
+                    filter, filter.getGlobalEntities(), filter.getEntities(), entry.getKey(), allGroups);
+            final ViewElementDefinition elementDef = null == functions ? null : pushDownFilter(entry.getValue(), functions);
+            if (null == elementDef) {
+                return null;
+            }
+            builder.entity(entry.getKey(), elementDef);
+        }
+        for (final Map.Entry<String, ViewElementDefinition> entry : view.getEdges().entrySet()) {
+            final List<TupleAdaptedPredicate<String, ?>> functions = getFilterFunctions(
+                    filter, filter.getGlobalEdges(), filter.getEdges(), entry.getKey(), allGroups);
+            final ViewElementDefinition elementDef = null == functions ? null : pushDownFilter(entry.getValue(), functions);
+            if (null == elementDef) {
+                return null;
+            }
+            builder.edge(entry.getKey(), elementDef);
+        }
+        return builder.build();
+    }
+
+    private ViewElementDefinition pushDownFilter(final ViewElementDefinition elementDef, final List<TupleAdaptedPredicate<String, ?>> functions) {
+        if (functions.isEmpty()) {
+            return elementDef;
+        }
+
+        for (final TupleAdaptedPredicate<String, ?> function : functions) {
+            if (!isRetained(elementDef, function.getSelection())) {
+                return null;
+            }
+        }
+
+        final ViewElementDefinition.Builder builder = copy(elementDef);
+        if (hasTransformFunctions(elementDef)) {
+            if (!traits.contains(StoreTrait.POST_TRANSFORMATION_FILTERING)) {
+                return null;
+            }
+            builder.postTransformFilterFunctions(concat(elementDef.getPostTransformFilterFunctions(), functions));
+        } else {
+            if (!traits.contains(StoreTrait.POST_AGGREGATION_FILTERING)) {
+                return null;
+            }
+            builder.postAggregationFilterFunctions(concat(elementDef.getPostAggregationFilterFunctions(), functions));
+        }
+        return builder.build();
+    }
+
+    private View pushDownTransform(final View view, final Transform transform) {
+        if (!canPushDown(view)) {
+            return null;
+        }
+
+        if (null == transform.getEntities() && null == transform.getEdges()) {
+            // The transform has no functions so it does not change the elements
+            return view;
+        }
+
+        if (!traits.contains(StoreTrait.TRANSFORMATION)) {
+            return null;
+        }
+
+        final View.Builder builder = new View.Builder();
+        for (final Map.Entry<String, ViewElementDefinition> entry : view.getEntities().entrySet()) {
+            final ViewElementDefinition elementDef = pushDownTransform(entry.getValue(), transform.getEntities(), entry.getKey());
+            if (null == elementDef) {
+                return null;
+            }
+            builder.entity(entry.getKey(), elementDef);
+        }
+        for (final Map.Entry<String, ViewElementDefinition> entry : view.getEdges().entrySet()) {
+            final ViewElementDefinition elementDef = pushDownTransform(entry.getValue(), transform.getEdges(), entry.getKey());
+            if (null == elementDef) {
+                return null;
+            }
+            builder.edge(entry.getKey(), elementDef);
+        }
+        return builder.build();
+    }
+
+    private ViewElementDefinition pushDownTransform(final ViewElementDefinition elementDef, final Map<String, ElementTransformer> transformers, final String group) {
+        // Without a transformer for the group the Transform handler would fail, so leave it to report the error
+        final ElementTransformer transformer = null == transformers ? null : transformers.get(group);
+        if (null == transformer) {
+            return null;
+        }
+
+        if (transformer.getComponents().isEmpty()) {
+            return elementDef;
+        }
+
+        // The view's post transform filter and properties are applied after its transformer
+        if (elementDef.hasPostTransformFilters() || !elementDef.isAllProperties()) {
+            return null;
+        }
+
+        return copy(elementDef)
+                .transformFunctions(concat(elementDef.getTransformFunctions(), transformer.getComponents()))
+                .build();
+    }
+
+    private GetAdjacentIds toGetAdjacentIds(final Operation getOp, final ToVertices toVertices) {
+        if (!(getOp instanceof GetElements)
+                || !traits.contains(StoreTrait.MATCHED_VERTEX)
+                || ToVertices.UseMatchedVertex.OPPOSITE != toVertices.getUseMatchedVertex()
+                || ToVertices.EdgeVertices.NONE == toVertices.getEdgeVertices()) {
+            return null;
+        }
+
+        final GetElements getElements = (GetElements) getOp;
+        final View view = getElements.getView();
+        if (!canPushDown(view) || view.hasEntities() || !view.hasEdges()
+                || (null != getElements.getSeedMatching() && GetElements.SeedMatchingType.RELATED != getElements.getSeedMatching())
+                || !(getElements.getInput() instanceof Collection)) {
+            return null;
+        }
+
+        for (final ViewElementDefinition elementDef : view.getEdges().values()) {
+            if (hasTransformFunctions(elementDef) || elementDef.hasPostTransformFilters()) {
+                return null;
+            }
+        }
+
+        final List<EntityId> seeds = new ArrayList<>();
+        for (final Object seed : getElements.getInput()) {
+            if (!(seed instanceof EntityId)) {
+                return null;
+            }
+            seeds.add((EntityId) seed);
+        }
+
+        return new GetAdjacentIds.Builder()
+                .input(seeds)
+                .view(view)
+                .directedType(getElements.getDirectedType())
+                .inOutType(getElements.getIncludeIncomingOutGoing())
+                .options(getElements.getOptions())
+                .build();
+    }
+
+    private static List<TupleAdaptedPredicate<String, ?>> getFilterFunctions(
+            final Filter filter, final ElementFilter globalFilter, final Map<String, ElementFilter> groupFilters,
+            final String group, final boolean allGroups) {
+        final ElementFilter groupFilter = null == groupFilters ? null : groupFilters.get(group);
+        if (null == groupFilter && !allGroups) {
+            // The Filter would remove all elements in this group
+            return null;
+        }
+
+        final List<TupleAdaptedPredicate<String, ?>> functions = new ArrayList<>();
+        addComponents(functions, filter.getGlobalElements());
+        addComponents(functions, globalFilter);
+        addComponents(functions, groupFilter);
+        return functions;
+    }
+
+    private static void addComponents(final List<TupleAdaptedPredicate<String, ?>> functions, final ElementFilter filter) {
+        if (null != filter) {
+            functions.addAll(filter.getComponents());
+        }
+    }
+
+    private static boolean isGetElements(final Operation op) {
+        return op instanceof GetElements || op instanceof GetAllElements;
+    }
+
+    private static boolean hasNullInput(final Operation op) {
+        return op instanceof Input && null == ((Input) op).getInput();
+    }
+
+    /**
+     * The view must not have any global definitions, as the graph expands them
+     * into the groups before the chain is optimised.
+     *
+     * @param view the view
+     * @return true if functions can be added to the groups in the view
+     */
+    private static boolean canPushDown(final View view) {
+        return null != view
+                && (null == view.getGlobalElements() || view.getGlobalElements().isEmpty())
+                && (null == view.getGlobalEntities() || view.getGlobalEntities().isEmpty())
+                && (null == view.getGlobalEdges() || view.getGlobalEdges().isEmpty());
+    }
+
+    private static boolean hasTransformFunctions(final ViewElementDefinition elementDef) {
+        return null != elementDef.getTransformFunctions() && !elementDef.getTransformFunctions().isEmpty();
+    }
+
+    private static boolean isRetained(final ViewElementDefinition elementDef, final String[] selection) {
+        if (elementDef.isAllProperties() || null == selection) {
+            return true;
+        }
+
+        for (final String name : selection) {
+            if (null == IdentifierType.fromName(name)
+                    && ((null != elementDef.getProperties() && !elementDef.getProperties().contains(name))
+                    || (null != elementDef.getExcludeProperties() && elementDef.getExcludeProperties().contains(name)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The copy has new filter and transform lists, so functions can be added
+     * to it without changing the original element definition.
+     *
+     * @param elementDef the element definition to copy
+     * @return a builder containing a copy of the element definition
+     */
+    private static ViewElementDefinition.Builder copy(final ViewElementDefinition elementDef) {
+        final ViewElementDefinition.Builder builder = new ViewElementDefinition.Builder()
+                .merge(elementDef)
+                .aggregator(elementDef.getAggregator());
+        if (null != elementDef.getPreAggregationFilter()) {
+            builder.preAggregationFilterFunctions(new ArrayList<>(elementDef.getPreAggregationFilterFunctions()));
+        }
+        if (null != elementDef.getPostAggregationFilter()) {
+            builder.postAggregationFilterFunctions(new ArrayList<>(elementDef.getPostAggregationFilterFunctions()));
+        }
+        if (null != elementDef.getPostTransformFilter()) {
+            builder.postTransformFilterFunctions(new ArrayList<>(elementDef.getPostTransformFilterFunctions()));
+        }
+        if (null != elementDef.getTransformer()) {
+            builder.transformFunctions(new ArrayList<>(elementDef.getTransformFunctions()));
+        }
+        return builder;
+    }
+
+    private static <T> List<T> concat(final List<T> first, final List<T> second) {
+        final List<T> items = new ArrayList<>();
+        if (null != first) {
+            items.addAll(first);
+        }
+        items.addAll(second);
+        return items;
+    }
+}
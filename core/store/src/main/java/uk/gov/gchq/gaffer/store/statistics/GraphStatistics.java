@@ -0,0 +1,250 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.statistics;
+
+import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code GraphStatistics} are cheap, approximate statistics about the elements
+ * in a store, used to estimate the number of results an operation will return.
+ * Any of the statistics may be unknown, in which case they are null or empty.
+ * <ul>
+ * <li>The element count per group and the total element count.</li>
+ * <li>The total size of the elements in bytes.</li>
+ * <li>The average degree - the average number of elements per vertex.</li>
+ * <li>The seed fan out histogram - the number of vertices by the number of
+ * elements they have. Bucket 0 counts vertices with at most 1 element and
+ * bucket i counts vertices with more than 2<sup>i-1</sup> and at most
+ * 2<sup>i</sup> elements.</li>
+ * </ul>
+ */
+public class GraphStatistics {
+    /**
+     * The key of the {@link uk.gov.gchq.gaffer.store.Context} config containing
+     * a {@link java.util.function.Supplier} of the store's statistics.
+     */
+    public static final String CONTEXT_CONFIG_KEY = "gaffer.store.statistics";
+
+    private final Map<String, Long> groupCounts;
+    private final Long elementCount;
+    private final Long byteCount;
+    private final Double averageDegree;
+    private final long[] fanOutHistogram;
+
+    public GraphStatistics(final Map<String, Long> groupCounts, final Long elementCount, final Long byteCount,
+                           final Double averageDegree, final long[] fanOutHistogram) {
+        this.groupCounts = null == groupCounts ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(groupCounts));
+        this.elementCount = elementCount;
+        this.byteCount = byteCount;
+        this.averageDegree = averageDegree;
+        this.fanOutHistogram = null == fanOutHistogram ? new long[0] : fanOutHistogram.clone();
+    }
+
+    public Map<String, Long> getGroupCounts() {
+        return groupCounts;
+    }
+
+    public Long getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * Gets the number of elements in the provided groups. If the count of any
+     * of the groups is unknown then the total element count is returned, as
+     * an upper bound.
+     *
+     * @param groups the groups, or null for all groups
+     * @return the number of elements in the groups, or null if unknown
+     */
+    public Long getElementCount(final Collection<String> groups) {
+        if (null == groups || !groupCounts.keySet().containsAll(groups)) {
+            return elementCount;
+        }
+
+        long count = 0;
+        for (final String group : groups) {
+            count += groupCounts.get(group);
+        }
+        return count;
+    }
+
+    public Long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * @return the average size of an element in bytes, or null if unknown
+     */
+    public Long getAverageElementBytes() {
+        if (null == byteCount || null == elementCount || 0 == elementCount) {
+            return null;
+        }
+        return byteCount / elementCount;
+    }
+
+    public Double getAverageDegree() {
+        return averageDegree;
+    }
+
+    public long[] getFanOutHistogram() {
+        return fanOutHistogram.clone();
+    }
+
+    /**
+     * Gets the fan out that the given fraction of vertices do not exceed,
+     * rounded up to a power of 2.
+     *
+     * @param quantile the fraction of vertices, between 0 and 1
+     * @return the fan out, or null if the histogram is unknown
+     */
+    public Long getFanOut(final double quantile) {
+        long numVertices = 0;
+        for (final long bucket : fanOutHistogram) {
+            numVertices += bucket;
+        }
+        if (0 == numVertices) {
+            return null;
+        }
+
+        final double target = quantile * numVertices;
+        long verticesSoFar = 0;
+        for (int i = 0; i < fanOutHistogram.length; i++) {
+            verticesSoFar += fanOutHistogram[i];
+            if (verticesSoFar >= target) {
+                return getBucketMaxFanOut(i);
+            }
+        }
+        return getBucketMaxFanOut(fanOutHistogram.length - 1);
+    }
+
+    /**
+     * @param fanOut the number of elements a vertex has
+     * @return the bucket of the fan out histogram the vertex is counted in
+     */
+    public static int getFanOutBucket(final long fanOut) {
+        if (fanOut <= 1) {
+            return 0;
+        }
+        return Long.SIZE - Long.numberOfLeadingZeros(fanOut - 1);
+    }
+
+    private static long getBucketMaxFanOut(final int bucket) {
+        return 1L << bucket;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("groupCounts", groupCounts)
+                .append("elementCount", elementCount)
+                .append("byteCount", byteCount)
+                .append("averageDegree", averageDegree)
+                .append("fanOutHistogram", Arrays.toString(fanOutHistogram))
+                .toString();
+    }
+
+    public static class Builder {
+        private final Map<String, Long> groupCounts = new HashMap<>();
+        private Long elementCount;
+        private Long byteCount;
+        private Double averageDegree;
+        private long[] fanOutHistogram = new long[0];
+        private long numVertices;
+        private long totalFanOut;
+
+        /**
+         * Adds to the element count of a group.
+         *
+         * @param group the group
+         * @param count the number of elements to add to the group's count
+         * @return this Builder
+         */
+        public Builder groupCount(final String group, final long count) {
+            groupCounts.merge(group, count, Long::sum);
+            return this;
+        }
+
+        /**
+         * Sets the total element count. If not set, the total of the group
+         * counts is used.
+         *
+         * @param elementCount the total number of elements
+         * @return this Builder
+         */
+        public Builder elementCount(final Long elementCount) {
+            this.elementCount = elementCount;
+            return this;
+        }
+
+        public Builder byteCount(final Long byteCount) {
+            this.byteCount = byteCount;
+            return this;
+        }
+
+        /**
+         * Sets the average degree. If not set, the average of the fan outs is
+         * used.
+         *
+         * @param averageDegree the average number of elements per vertex
+         * @return this Builder
+         */
+        public Builder averageDegree(final Double averageDegree) {
+            this.averageDegree = averageDegree;
+            return this;
+        }
+
+        /**
+         * Adds a vertex with the given number of elements to the fan out
+         * histogram.
+         *
+         * @param fanOut the number of elements the vertex has
+         * @return this Builder
+         */
+        public Builder fanOut(final long fanOut) {
+            final int bucket = getFanOutBucket(fanOut);
+            if (bucket >= fanOutHistogram.length) {
+                fanOutHistogram = Arrays.copyOf(fanOutHistogram, bucket + 1);
+            }
+            fanOutHistogram[bucket]++;
+            numVertices++;
+            totalFanOut += fanOut;
+            return this;
+        }
+
+        public GraphStatistics build() {
+            Long count = elementCount;
+            if (null == count && !groupCounts.isEmpty()) {
+                count = 0L;
+                for (final Long groupCount : groupCounts.values()) {
+                    count += groupCount;
+                }
+            }
+
+            Double degree = averageDegree;
+            if (null == degree && numVertices > 0) {
+                degree = (double) totalFanOut / numVertices;
+            }
+
+            return new GraphStatistics(groupCounts, count, byteCount, degree, fanOutHistogram);
+        }
+    }
+}
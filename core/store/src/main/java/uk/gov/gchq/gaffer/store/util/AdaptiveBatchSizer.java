@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
+
+/**
+ * An {@code AdaptiveBatchSizer} decides how many seeds should be used in the
+ * next batch of a seeded scan.
+ * <p>
+ * After each batch the caller records how many seeds were used, how many
+ * results and bytes were returned and how long the scan took. The per seed
+ * rates are smoothed and the next batch size is chosen so that a batch is
+ * expected to stay within the target results, bytes and latency. The batch
+ * size is always kept within the configured minimum and maximum and is only
+ * allowed to grow by {@link #MAX_GROWTH_FACTOR} per batch. If the minimum
+ * and maximum are equal the batch size is fixed.
+ * <p>
+ * The chosen batch sizes are recorded so they can be used to tune the bounds.
+ * This class is not thread safe, a new instance should be used for each scan.
+ */
+public class AdaptiveBatchSizer {
+    public static final int MAX_GROWTH_FACTOR = 4;
+    private static final double SMOOTHING_FACTOR = 0.5;
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveBatchSizer.class);
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long targetResults;
+    private final long targetBytes;
+    private final long targetLatencyMillis;
+
+    private int batchSize;
+    private double resultsPerSeed = -1;
+    private double bytesPerSeed = -1;
+    private double millisPerSeed = -1;
+
+    private long batchCount;
+    private long totalSeeds;
+    private int smallestBatchSize = Integer.MAX_VALUE;
+    private int largestBatchSize;
+
+    /**
+     * Creates a batch sizer that always returns the given batch size.
+     *
+     * @param batchSize the fixed batch size
+     */
+    public AdaptiveBatchSizer(final int batchSize) {
+        this(batchSize, batchSize, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public AdaptiveBatchSizer(final int minBatchSize,
+                              final int maxBatchSize,
+                              final long targetResults,
+                              final long targetBytes,
+                              final long targetLatencyMillis) {
+        if (minBatchSize < 1) {
+            throw new IllegalArgumentException("The minimum batch size must be at least 1");
+        }
+        if (maxBatchSize < minBatchSize) {
+            throw new IllegalArgumentException("The maximum batch size (" + maxBatchSize
+                    + ") must not be less than the minimum batch size (" + minBatchSize + ")");
+        }
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.targetResults = targetResults;
+        this.targetBytes = targetBytes;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.batchSize = minBatchSize;
+    }
+
+    /**
+     * @return the number of seeds that should be used in the next batch.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Records the results of a completed batch and adjusts the size of the
+     * next batch.
+     *
+     * @param seeds         the number of seeds in the batch
+     * @param results       the number of results returned by the batch
+     * @param bytes         the number of bytes returned by the batch
+     * @param latencyMillis the time taken to scan the batch in milliseconds
+     */
+    public void recordBatch(final int seeds, final long results, final long bytes, final long latencyMillis) {
+        if (seeds < 1) {
+            return;
+        }
+
+        batchCount++;
+        totalSeeds += seeds;
+        smallestBatchSize = Math.min(smallestBatchSize, seeds);
+        largestBatchSize = Math.max(largestBatchSize, seeds);
+
+        if (minBatchSize == maxBatchSize) {
+            return;
+        }
+
+        resultsPerSeed = smooth(resultsPerSeed, (double) results / seeds);
+        bytesPerSeed = smooth(bytesPerSeed, (double) bytes / seeds);
+        millisPerSeed = smooth(millisPerSeed, (double) latencyMillis / seeds);
+
+        double nextBatchSize = (double) batchSize * MAX_GROWTH_FACTOR;
+        nextBatchSize = Math.min(nextBatchSize, seedsWithinTarget(targetResults, resultsPerSeed));
+        nextBatchSize = Math.min(nextBatchSize, seedsWithinTarget(targetBytes, bytesPerSeed));
+        nextBatchSize = Math.min(nextBatchSize, seedsWithinTarget(targetLatencyMillis, millisPerSeed));
+
+        batchSize = (int) Math.max(minBatchSize, Math.min(maxBatchSize, nextBatchSize));
+        LOGGER.debug("Batch of {} seeds returned {} results and {} bytes in {}ms, next batch size is {}",
+                seeds, results, bytes, latencyMillis, batchSize);
+    }
+
+    public int getMinBatchSize() {
+        return minBatchSize;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the number of batches that have been recorded.
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * @return the total number of seeds across all recorded batches.
+     */
+    public long getTotalSeeds() {
+        return totalSeeds;
+    }
+
+    /**
+     * @return the smallest recorded batch size, or 0 if no batches have been recorded.
+     */
+    public int getSmallestBatchSize() {
+        return batchCount > 0 ? smallestBatchSize : 0;
+    }
+
+    /**
+     * @return the largest recorded batch size, or 0 if no batches have been recorded.
+     */
+    public int getLargestBatchSize() {
+        return largestBatchSize;
+    }
+
+    /**
+     * @return the mean recorded batch size, or 0 if no batches have been recorded.
+     */
+    public double getMeanBatchSize() {
+        return batchCount > 0 ? (double) totalSeeds / batchCount : 0;
+    }
+
+    private static double smooth(final double previous, final double current) {
+        if (previous < 0) {
+            return current;
+        }
+        return SMOOTHING_FACTOR * current + (1 - SMOOTHING_FACTOR) * previous;
+    }
+
+    private static double seedsWithinTarget(final long target, final double perSeed) {
+        if (perSeed <= 0) {
+            return Double.MAX_VALUE;
+        }
+        return target / perSeed;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("minBatchSize", minBatchSize)
+                .append("maxBatchSize", maxBatchSize)
+                .append("batchCount", batchCount)
+                .append("totalSeeds", totalSeeds)
+                .append("smallestBatchSize", getSmallestBatchSize())
+                .append("largestBatchSize", largestBatchSize)
+                .append("meanBatchSize", getMeanBatchSize())
+                .append("nextBatchSize", batchSize)
+                .toString();
+    }
+}
@@ -20,6 +20,7 @@ import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.GroupedProperties;
+import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.store.schema.Schema;
@@ -75,9 +76,13 @@ public final class AggregatorUtil {
             }
         }
 
+        final IngestElementBinaryOperator aggregator = new IngestElementBinaryOperator(schema);
         final Iterable<Element> aggregatedElements = Streams.toStream(aggregatableElements)
-                .collect(Collectors.groupingBy(new ToIngestElementKey(schema), Collectors.reducing(null, new IngestElementBinaryOperator(schema))))
-                .values();
+                .collect(Collectors.groupingBy(new ToIngestElementKey(schema), Collectors.toList()))
+                .values()
+                .stream()
+                .map(aggregator::aggregate)
+                .collect(Collectors.toList());
         return new ChainedIterable<>(aggregatedElements, nonAggregatedElements);
     }
 
@@ -112,9 +117,13 @@ public final class AggregatorUtil {
                 }
             }
         }
+        final QueryElementBinaryOperator aggregator = new QueryElementBinaryOperator(schema, view);
         final Iterable<Element> aggregatedElements = Streams.toStream(aggregatableElements)
-                .collect(Collectors.groupingBy(new ToQueryElementKey(schema, view), Collectors.reducing(null, new QueryElementBinaryOperator(schema, view))))
-                .values();
+                .collect(Collectors.groupingBy(new ToQueryElementKey(schema, view), Collectors.toList()))
+                .values()
+                .stream()
+                .map(aggregator::aggregate)
+                .collect(Collectors.toList());
         return new ChainedIterable<>(aggregatedElements, nonAggregatedElements);
     }
 
@@ -237,12 +246,25 @@ public final class AggregatorUtil {
             if (null == b) {
                 return a;
             }
-            final String group = a.getGroup();
-            if (null == view) {
-                return schema.getElement(group).getIngestAggregator().apply(a, b);
+            return getAggregator(schema, view, a.getGroup()).apply(a, b);
+        }
+
+        /**
+         * Aggregates a list of elements that all have the same group and group-by
+         * values into the first element, using a single fold of the
+         * {@link ElementAggregator} rather than aggregating each pair of elements.
+         *
+         * @param elements the elements to aggregate
+         * @return the aggregated element, or null if the list is empty
+         */
+        public Element aggregate(final List<? extends Element> elements) {
+            if (elements.isEmpty()) {
+                return null;
+            }
+            if (1 == elements.size()) {
+                return elements.get(0);
             }
-            final ViewElementDefinition elementDef = view.getElement(group);
-            return schema.getElement(group).getQueryAggregator(elementDef.getGroupBy(), elementDef.getAggregator()).apply(a, b);
+            return getAggregator(schema, view, elements.get(0).getGroup()).aggregate(elements);
         }
     }
 
@@ -267,17 +289,38 @@ public final class AggregatorUtil {
                 return a;
             }
 
-            final String group = a.getGroup();
-            if (null == view) {
-                schema.getElement(a.getGroup()).getIngestAggregator().apply(a, b);
-            } else {
-                final ViewElementDefinition elementDef = view.getElement(group);
-                schema.getElement(group).getQueryAggregator(elementDef.getGroupBy(), elementDef.getAggregator()).apply(a, b);
-            }
+            getAggregator(schema, view, a.getGroup()).apply(a, b);
 
             // The aggregator will always return a so this is safe
             return a;
         }
+
+        /**
+         * Aggregates a list of properties that all have the same group and group-by
+         * values into the first properties, using a single fold of the
+         * {@link ElementAggregator} rather than aggregating each pair of properties.
+         *
+         * @param propertiesList the properties to aggregate
+         * @return the aggregated properties, or null if the list is empty
+         */
+        public GroupedProperties aggregate(final List<? extends GroupedProperties> propertiesList) {
+            if (propertiesList.isEmpty()) {
+                return null;
+            }
+            final GroupedProperties state = propertiesList.get(0);
+            if (1 < propertiesList.size()) {
+                getAggregator(schema, view, state.getGroup()).aggregateProperties(propertiesList);
+            }
+            return state;
+        }
+    }
+
+    private static ElementAggregator getAggregator(final Schema schema, final View view, final String group) {
+        if (null == view) {
+            return schema.getElement(group).getIngestAggregator();
+        }
+        final ViewElementDefinition elementDef = view.getElement(group);
+        return schema.getElement(group).getQueryAggregator(elementDef.getGroupBy(), elementDef.getAggregator());
     }
 
     public static Map<String, Set<String>> getIngestGroupBys(final Schema schema) {
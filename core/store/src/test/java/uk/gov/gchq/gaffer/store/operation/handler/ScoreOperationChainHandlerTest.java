@@ -39,8 +39,10 @@ import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.StoreProperties;
 import uk.gov.gchq.gaffer.store.operation.declaration.OperationDeclarations;
+import uk.gov.gchq.gaffer.store.operation.resolver.CostBasedScoreResolver;
 import uk.gov.gchq.gaffer.store.operation.resolver.ScoreResolver;
 import uk.gov.gchq.gaffer.store.operation.resolver.named.NamedOperationScoreResolver;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.InputStream;
@@ -60,6 +62,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class ScoreOperationChainHandlerTest {
     @Rule
@@ -296,6 +300,61 @@ public class ScoreOperationChainHandlerTest {
         assertEquals(10, result);
     }
 
+    @Test
+    public void shouldResolveScoreOperationChainUsingStoreStatistics() throws OperationException {
+        // Given
+        final ScoreOperationChainHandler handler = new ScoreOperationChainHandler();
+        final CostBasedScoreResolver costBasedScoreResolver = new CostBasedScoreResolver();
+        final Map<Class<? extends Operation>, ScoreResolver> resolvers = new HashMap<>();
+        resolvers.put(GetAllElements.class, costBasedScoreResolver);
+        resolvers.put(Limit.class, costBasedScoreResolver);
+        resolvers.put(GetElements.class, costBasedScoreResolver);
+        handler.setScoreResolvers(resolvers);
+
+        final Context context = mock(Context.class);
+        final Store store = mock(Store.class);
+        final User user = mock(User.class);
+        given(context.getUser()).willReturn(user);
+        given(store.getStatistics()).willReturn(new GraphStatistics.Builder()
+                .elementCount(5000L)
+                .build());
+
+        final OperationChain opChain = new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new Limit<>(100))
+                .then(new GetElements())
+                .build();
+
+        // When
+        final Object result = handler.doOperation(new ScoreOperationChain.Builder()
+                .operationChain(opChain)
+                .build(), context, store);
+
+        // Then
+        assertEquals(7, result);
+    }
+
+    @Test
+    public void shouldNotGetStoreStatisticsWhenNoCostScoreResolvers() throws OperationException {
+        // Given
+        final ScoreOperationChainHandler handler = new ScoreOperationChainHandler();
+        final Context context = mock(Context.class);
+        final Store store = mock(Store.class);
+        final User user = mock(User.class);
+        given(context.getUser()).willReturn(user);
+
+        final OperationChain opChain = new OperationChain(Arrays.asList(new GetAllElements(), new Limit<>(100)));
+
+        // When
+        final Object result = handler.doOperation(new ScoreOperationChain.Builder()
+                .operationChain(opChain)
+                .build(), context, store);
+
+        // Then
+        assertEquals(2, result);
+        verify(store, never()).getStatistics();
+    }
+
     @Test
     public void shouldCorrectlyResolveScoreForNullListOfOperations() throws OperationException {
         // Given
@@ -16,17 +16,26 @@
 
 package uk.gov.gchq.gaffer.store.operation.handler.generate;
 
+import com.google.common.collect.Lists;
 import org.junit.Test;
 
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.generator.ElementGenerator;
+import uk.gov.gchq.gaffer.data.generator.OneToOneElementGenerator;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.generate.GenerateElements;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -56,4 +65,31 @@ public class GenerateElementsHandlerTest {
         // Then
         assertSame(elementsIter, result.iterator());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGenerateElementsInParallelInInputOrder() throws OperationException {
+        // Given
+        final GenerateElementsHandler<String> handler = new GenerateElementsHandler<>();
+        handler.setParallelism(4);
+        handler.setBatchSize(3);
+        final List<String> input = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            input.add("vertex" + i);
+        }
+        final GenerateElements<String> operation = new GenerateElements.Builder<String>()
+                .input(input)
+                .generator((OneToOneElementGenerator<String>) vertex -> new Entity(TestGroups.ENTITY, vertex))
+                .build();
+
+        // When
+        final Iterable<? extends Element> result = handler.doOperation(operation, new Context(), mock(Store.class));
+
+        // Then
+        final List<Element> expected = new ArrayList<>();
+        for (final String vertex : input) {
+            expected.add(new Entity(TestGroups.ENTITY, vertex));
+        }
+        assertEquals(expected, Lists.newArrayList(result));
+        CloseableUtil.close(result);
+    }
+}
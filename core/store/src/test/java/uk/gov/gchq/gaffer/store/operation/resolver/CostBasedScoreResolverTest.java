@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.operation.resolver;
+
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.function.Transform;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CostBasedScoreResolverTest {
+    @Test
+    public void shouldReturnNullWhenNoStatistics() {
+        // Given
+        final CostBasedScoreResolver resolver = new CostBasedScoreResolver();
+        final CostContext costContext = new CostContext(() -> null);
+
+        // When
+        final Integer score = resolver.getScore(new GetAllElements(), null, costContext);
+
+        // Then
+        assertNull(score);
+        assertNull(costContext.getOutputRows());
+    }
+
+    @Test
+    public void shouldScoreGetAllElementsByGroupCounts() {
+        // Given
+        final CostBasedScoreResolver resolver = new CostBasedScoreResolver();
+        final CostContext costContext = new CostContext(() -> new GraphStatistics.Builder()
+                .groupCount("entity", 2500L)
+                .groupCount("edge", 10000L)
+                .build());
+        final GetAllElements getAllElements = new GetAllElements.Builder()
+                .view(new View.Builder()
+                        .entity("entity")
+                        .build())
+                .build();
+
+        // When
+        final Integer score = resolver.getScore(getAllElements, null, costContext);
+
+        // Then
+        assertEquals(3, (int) score);
+        assertEquals(2500L, (long) costContext.getOutputRows());
+    }
+
+    @Test
+    public void shouldScoreGetElementsBySeedsAndFanOut() {
+        // Given
+        final CostBasedScoreResolver resolver = new CostBasedScoreResolver();
+        resolver.setRowsPerScore(10);
+        final GraphStatistics.Builder statisticsBuilder = new GraphStatistics.Builder()
+                .groupCount("edge", 1000000L);
+        for (int i = 0; i < 10; i++) {
+            statisticsBuilder.fanOut(8);
+        }
+        final CostContext costContext = new CostContext(statisticsBuilder::build);
+        final GetElements getElements = new GetElements.Builder()
+                .input(new EntitySeed("A"), new EntitySeed("B"), new EntitySeed("C"))
+                .build();
+
+        // When
+        final Integer score = resolver.getScore(getElements, null, costContext);
+
+        // Then
+        assertEquals(24L, (long) costContext.getOutputRows());
+        assertEquals(3, (int) score);
+    }
+
+    @Test
+    public void shouldCapGetElementsRowsByElementCount() {
+        // Given
+        final CostBasedScoreResolver resolver = new CostBasedScoreResolver();
+        final CostContext costContext = new CostContext(() -> new GraphStatistics.Builder()
+                .groupCount("edge", 5L)
+                .build());
+        final GetElements getElements = new GetElements.Builder()
+                .input(new EntitySeed("A"), new EntitySeed("B"))
+                .build();
+
+        // When
+        resolver.getScore(getElements, null, costContext);
+
+        // Then
+        assertEquals(5L, (long) costContext.getOutputRows());
+    }
+
+    @Test
+    public void shouldUsePreviousOutputAsSeedsAndLimitRows() {
+        // Given
+        final CostBasedScoreResolver resolver = new CostBasedScoreResolver();
+        resolver.setDefaultFanOut(100);
+        final CostContext costContext = new CostContext(() -> new GraphStatistics.Builder()
+                .elementCount(1000000000L)
+                .build());
+
+        // When
+        final Integer getAllScore = resolver.getScore(new GetAllElements(), null, costContext);
+        costContext.nextOperation();
+        final Integer limitScore = resolver.getScore(new Limit<>(50), null, costContext);
+        costContext.nextOperation();
+        final Integer transformScore = resolver.getScore(new Transform(), null, costContext);
+        costContext.nextOperation();
+        final Integer getAdjacentIdsScore = resolver.getScore(new GetAdjacentIds(), null, costContext);
+
+        // Then
+        assertEquals(1000000, (int) getAllScore);
+        assertNull(limitScore);
+        assertNull(transformScore);
+        assertEquals(5000L, (long) costContext.getOutputRows());
+        assertEquals(5, (int) getAdjacentIdsScore);
+    }
+
+    @Test
+    public void shouldScoreByBytesWhenBytesPerScoreSet() {
+        // Given
+        final CostBasedScoreResolver resolver = new CostBasedScoreResolver();
+        resolver.setBytesPerScore(1000L);
+        final CostContext costContext = new CostContext(() -> new GraphStatistics.Builder()
+                .elementCount(100L)
+                .byteCount(100000L)
+                .build());
+
+        // When
+        final Integer score = resolver.getScore(new GetAllElements(), null, costContext);
+
+        // Then
+        assertEquals(100, (int) score);
+    }
+}
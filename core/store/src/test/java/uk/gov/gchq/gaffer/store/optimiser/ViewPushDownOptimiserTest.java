@@ -0,0 +1,379 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.optimiser;
+
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.function.Filter;
+import uk.gov.gchq.gaffer.operation.impl.function.Transform;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.operation.impl.output.ToVertices;
+import uk.gov.gchq.gaffer.store.StoreTrait;
+import uk.gov.gchq.koryphe.impl.function.Identity;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ViewPushDownOptimiserTest {
+    private static final ElementFilter FILTER = new ElementFilter.Builder()
+            .select(TestPropertyNames.COUNT)
+            .execute(new IsMoreThan(1L))
+            .build();
+
+    private static final ElementTransformer TRANSFORMER = new ElementTransformer.Builder()
+            .select(TestPropertyNames.COUNT)
+            .execute(new Identity())
+            .project(TestPropertyNames.PROP_1)
+            .build();
+
+    private final ViewPushDownOptimiser optimiser = new ViewPushDownOptimiser(StoreTrait.ALL_TRAITS);
+
+    @Test
+    public void shouldPushDownFilterIntoPostAggregationFilter() {
+        // Given
+        final GetAllElements getAllElements = new GetAllElements.Builder()
+                .view(new View.Builder()
+                        .entity(TestGroups.ENTITY)
+                        .edge(TestGroups.EDGE)
+                        .build())
+                .build();
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(getAllElements)
+                .then(new Filter.Builder()
+                        .entity(TestGroups.ENTITY, FILTER)
+                        .edge(TestGroups.EDGE, FILTER)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(1, ops.size());
+        assertNotSame(getAllElements, ops.get(0));
+        assertNull(getAllElements.getView().getEntity(TestGroups.ENTITY).getPostAggregationFilter());
+        final View view = ((GetAllElements) ops.get(0)).getView();
+        assertEquals(FILTER.getComponents(), view.getEntity(TestGroups.ENTITY).getPostAggregationFilterFunctions());
+        assertEquals(FILTER.getComponents(), view.getEdge(TestGroups.EDGE).getPostAggregationFilterFunctions());
+    }
+
+    @Test
+    public void shouldPushDownFilterIntoPostTransformFilterWhenViewHasTransformer() {
+        // Given
+        final GetAllElements getAllElements = new GetAllElements.Builder()
+                .view(new View.Builder()
+                        .entity(TestGroups.ENTITY, new ViewElementDefinition.Builder()
+                                .transformer(TRANSFORMER)
+                                .build())
+                        .build())
+                .build();
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(getAllElements)
+                .then(new Filter.Builder()
+                        .globalElements(FILTER)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(1, ops.size());
+        final ViewElementDefinition elementDef = ((GetAllElements) ops.get(0)).getView().getEntity(TestGroups.ENTITY);
+        assertEquals(FILTER.getComponents(), elementDef.getPostTransformFilterFunctions());
+        assertEquals(TRANSFORMER.getComponents(), elementDef.getTransformFunctions());
+        assertNull(elementDef.getPostAggregationFilter());
+    }
+
+    @Test
+    public void shouldNotPushDownFilterThatDoesNotHaveAFilterForEveryGroup() {
+        // Given
+        final View view = new View.Builder()
+                .entity(TestGroups.ENTITY)
+                .edge(TestGroups.EDGE)
+                .build();
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(view)
+                        .build())
+                .then(new Filter.Builder()
+                        .edge(TestGroups.EDGE, FILTER)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(2, ops.size());
+        assertTrue(ops.get(1) instanceof Filter);
+        assertSame(view, ((GetAllElements) ops.get(0)).getView());
+    }
+
+    @Test
+    public void shouldNotPushDownFilterThatSelectsAPropertyTheViewRemoves() {
+        // Given
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(new View.Builder()
+                                .entity(TestGroups.ENTITY, new ViewElementDefinition.Builder()
+                                        .excludeProperties(TestPropertyNames.COUNT)
+                                        .build())
+                                .build())
+                        .build())
+                .then(new Filter.Builder()
+                        .entity(TestGroups.ENTITY, FILTER)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(2, ops.size());
+        assertTrue(ops.get(1) instanceof Filter);
+    }
+
+    @Test
+    public void shouldNotPushDownFilterThatHasItsOwnInput() {
+        // Given
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(new View.Builder()
+                                .entity(TestGroups.ENTITY)
+                                .build())
+                        .build())
+                .then(new Filter.Builder()
+                        .input(Collections.emptyList())
+                        .entity(TestGroups.ENTITY, FILTER)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(2, ops.size());
+        assertTrue(ops.get(1) instanceof Filter);
+    }
+
+    @Test
+    public void shouldNotPushDownFilterWhenStoreDoesNotFilter() {
+        // Given
+        final ViewPushDownOptimiser optimiser = new ViewPushDownOptimiser(Collections.singleton(StoreTrait.TRANSFORMATION));
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(new View.Builder()
+                                .entity(TestGroups.ENTITY)
+                                .build())
+                        .build())
+                .then(new Filter.Builder()
+                        .entity(TestGroups.ENTITY, FILTER)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(2, ops.size());
+        assertTrue(ops.get(1) instanceof Filter);
+    }
+
+    @Test
+    public void shouldPushDownTransformAndFollowingFilter() {
+        // Given
+        final GetElements getElements = new GetElements.Builder()
+                .input(new EntitySeed("A"))
+                .view(new View.Builder()
+                        .entity(TestGroups.ENTITY, new ViewElementDefinition.Builder()
+                                .preAggregationFilter(FILTER)
+                                .build())
+                        .build())
+                .build();
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(getElements)
+                .then(new Transform.Builder()
+                        .entity(TestGroups.ENTITY, TRANSFORMER)
+                        .build())
+                .then(new Filter.Builder()
+                        .entity(TestGroups.ENTITY, FILTER)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(1, ops.size());
+        final ViewElementDefinition elementDef = ((GetElements) ops.get(0)).getView().getEntity(TestGroups.ENTITY);
+        assertEquals(FILTER.getComponents(), elementDef.getPreAggregationFilterFunctions());
+        assertEquals(TRANSFORMER.getComponents(), elementDef.getTransformFunctions());
+        assertEquals(FILTER.getComponents(), elementDef.getPostTransformFilterFunctions());
+    }
+
+    @Test
+    public void shouldNotPushDownTransformWhenViewHasPostTransformFilter() {
+        // Given
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(new View.Builder()
+                                .entity(TestGroups.ENTITY, new ViewElementDefinition.Builder()
+                                        .postTransformFilter(FILTER)
+                                        .build())
+                                .build())
+                        .build())
+                .then(new Transform.Builder()
+                        .entity(TestGroups.ENTITY, TRANSFORMER)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(2, ops.size());
+        assertTrue(ops.get(1) instanceof Transform);
+    }
+
+    @Test
+    public void shouldMoveLimitBeforeTransformThatCannotBePushedDown() {
+        // Given
+        final ViewPushDownOptimiser optimiser = new ViewPushDownOptimiser(Collections.emptySet());
+        final Transform transform = new Transform.Builder()
+                .entity(TestGroups.ENTITY, TRANSFORMER)
+                .build();
+        final Limit<Object> limit = new Limit<>(10);
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(new View.Builder()
+                                .entity(TestGroups.ENTITY)
+                                .build())
+                        .build())
+                .then(transform)
+                .then(limit)
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(3, ops.size());
+        assertSame(limit, ops.get(1));
+        assertSame(transform, ops.get(2));
+    }
+
+    @Test
+    public void shouldReplaceGetElementsAndToVerticesWithGetAdjacentIds() {
+        // Given
+        final View view = new View.Builder()
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .preAggregationFilter(FILTER)
+                        .build())
+                .build();
+        final ToVertices toVertices = new ToVertices.Builder()
+                .useMatchedVertex(ToVertices.UseMatchedVertex.OPPOSITE)
+                .edgeVertices(ToVertices.EdgeVertices.DESTINATION)
+                .build();
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetElements.Builder()
+                        .input(new EntitySeed("A"), new EntitySeed("B"))
+                        .view(view)
+                        .inOutType(GetElements.IncludeIncomingOutgoingType.OUTGOING)
+                        .build())
+                .then(toVertices)
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(2, ops.size());
+        final GetAdjacentIds getAdjacentIds = (GetAdjacentIds) ops.get(0);
+        assertEquals(Arrays.asList(new EntitySeed("A"), new EntitySeed("B")), getAdjacentIds.getInput());
+        assertEquals(view, getAdjacentIds.getView());
+        assertEquals(GetElements.IncludeIncomingOutgoingType.OUTGOING, getAdjacentIds.getIncludeIncomingOutGoing());
+        assertSame(toVertices, ops.get(1));
+    }
+
+    @Test
+    public void shouldNotReplaceGetElementsWithEdgeSeeds() {
+        // Given
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetElements.Builder()
+                        .input(new EdgeSeed("A", "B", true))
+                        .view(new View.Builder()
+                                .edge(TestGroups.EDGE)
+                                .build())
+                        .build())
+                .then(new ToVertices.Builder()
+                        .useMatchedVertex(ToVertices.UseMatchedVertex.OPPOSITE)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(2, ops.size());
+        assertTrue(ops.get(0) instanceof GetElements);
+    }
+
+    @Test
+    public void shouldNotReplaceGetElementsWhenStoreDoesNotSetMatchedVertex() {
+        // Given
+        final ViewPushDownOptimiser optimiser = new ViewPushDownOptimiser(Collections.singleton(StoreTrait.POST_AGGREGATION_FILTERING));
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetElements.Builder()
+                        .input(new EntitySeed("A"))
+                        .view(new View.Builder()
+                                .edge(TestGroups.EDGE)
+                                .build())
+                        .build())
+                .then(new ToVertices.Builder()
+                        .useMatchedVertex(ToVertices.UseMatchedVertex.OPPOSITE)
+                        .build())
+                .build();
+
+        // When
+        final List<Operation> ops = optimiser.optimise(opChain).getOperations();
+
+        // Then
+        assertEquals(2, ops.size());
+        assertTrue(ops.get(0) instanceof GetElements);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.statistics;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class GraphStatisticsTest {
+    @Test
+    public void shouldSumGroupCountsWhenElementCountNotSet() {
+        // Given
+        final GraphStatistics statistics = new GraphStatistics.Builder()
+                .groupCount("A", 10)
+                .groupCount("B", 5)
+                .groupCount("A", 2)
+                .build();
+
+        // When / Then
+        assertEquals(17L, (long) statistics.getElementCount());
+        assertEquals(12L, (long) statistics.getGroupCounts().get("A"));
+        assertEquals(5L, (long) statistics.getElementCount(Collections.singleton("B")));
+    }
+
+    @Test
+    public void shouldReturnTotalElementCountWhenGroupCountUnknown() {
+        // Given
+        final GraphStatistics statistics = new GraphStatistics.Builder()
+                .groupCount("A", 10)
+                .elementCount(100L)
+                .build();
+
+        // When / Then
+        assertEquals(10L, (long) statistics.getElementCount(Collections.singleton("A")));
+        assertEquals(100L, (long) statistics.getElementCount(Arrays.asList("A", "B")));
+        assertEquals(100L, (long) statistics.getElementCount(null));
+    }
+
+    @Test
+    public void shouldReturnNullForUnknownStatistics() {
+        // Given
+        final GraphStatistics statistics = new GraphStatistics.Builder().build();
+
+        // When / Then
+        assertNull(statistics.getElementCount());
+        assertNull(statistics.getElementCount(Collections.singleton("A")));
+        assertNull(statistics.getAverageElementBytes());
+        assertNull(statistics.getAverageDegree());
+        assertNull(statistics.getFanOut(0.5));
+    }
+
+    @Test
+    public void shouldCalculateAverageElementBytes() {
+        // Given
+        final GraphStatistics statistics = new GraphStatistics.Builder()
+                .elementCount(10L)
+                .byteCount(1000L)
+                .build();
+
+        // When / Then
+        assertEquals(100L, (long) statistics.getAverageElementBytes());
+    }
+
+    @Test
+    public void shouldBucketFanOutsByPowersOfTwo() {
+        // When / Then
+        assertEquals(0, GraphStatistics.getFanOutBucket(0));
+        assertEquals(0, GraphStatistics.getFanOutBucket(1));
+        assertEquals(1, GraphStatistics.getFanOutBucket(2));
+        assertEquals(2, GraphStatistics.getFanOutBucket(3));
+        assertEquals(2, GraphStatistics.getFanOutBucket(4));
+        assertEquals(3, GraphStatistics.getFanOutBucket(5));
+        assertEquals(10, GraphStatistics.getFanOutBucket(1024));
+        assertEquals(11, GraphStatistics.getFanOutBucket(1025));
+    }
+
+    @Test
+    public void shouldBuildFanOutHistogramAndAverageDegree() {
+        // Given
+        final GraphStatistics.Builder builder = new GraphStatistics.Builder();
+        for (int i = 0; i < 8; i++) {
+            builder.fanOut(1);
+        }
+        builder.fanOut(4);
+        builder.fanOut(100);
+
+        // When
+        final GraphStatistics statistics = builder.build();
+
+        // Then
+        assertArrayEquals(new long[]{8, 0, 1, 0, 0, 0, 0, 1}, statistics.getFanOutHistogram());
+        assertEquals(11.2, statistics.getAverageDegree(), 0.0001);
+        assertEquals(1L, (long) statistics.getFanOut(0.8));
+        assertEquals(4L, (long) statistics.getFanOut(0.9));
+        assertEquals(128L, (long) statistics.getFanOut(1.0));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.store.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AdaptiveBatchSizerTest {
+    @Test
+    public void shouldAlwaysReturnFixedBatchSize() {
+        // Given
+        final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(50);
+
+        // When
+        batchSizer.recordBatch(50, 1000000, 1000000000, 100000);
+        batchSizer.recordBatch(50, 0, 0, 0);
+
+        // Then
+        assertEquals(50, batchSizer.getBatchSize());
+        assertEquals(2, batchSizer.getBatchCount());
+        assertEquals(100, batchSizer.getTotalSeeds());
+    }
+
+    @Test
+    public void shouldStartAtMinBatchSize() {
+        // Given
+        final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(10, 1000, 100, 1000, 1000);
+
+        // When
+        final int batchSize = batchSizer.getBatchSize();
+
+        // Then
+        assertEquals(10, batchSize);
+        assertEquals(0, batchSizer.getBatchCount());
+        assertEquals(0, batchSizer.getSmallestBatchSize());
+        assertEquals(0, batchSizer.getLargestBatchSize());
+        assertEquals(0, batchSizer.getMeanBatchSize(), 0);
+    }
+
+    @Test
+    public void shouldGrowBatchSizeUpToMaxWhenSeedsAreSparse() {
+        // Given
+        final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(10, 1000, 1000, 1000000, 1000);
+
+        // When
+        batchSizer.recordBatch(10, 1, 10, 0);
+        final int secondBatchSize = batchSizer.getBatchSize();
+        for (int i = 0; i < 10; i++) {
+            batchSizer.recordBatch(batchSizer.getBatchSize(), 1, 10, 0);
+        }
+
+        // Then
+        assertEquals(10 * AdaptiveBatchSizer.MAX_GROWTH_FACTOR, secondBatchSize);
+        assertEquals(1000, batchSizer.getBatchSize());
+        assertEquals(1000, batchSizer.getLargestBatchSize());
+        assertEquals(10, batchSizer.getSmallestBatchSize());
+    }
+
+    @Test
+    public void shouldShrinkBatchSizeWhenSeedsReturnTooManyResults() {
+        // Given
+        final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(10, 1000, 1000, Long.MAX_VALUE, Long.MAX_VALUE);
+        batchSizer.recordBatch(10, 10, 0, 0);
+        batchSizer.recordBatch(batchSizer.getBatchSize(), 40, 0, 0);
+        final int grownBatchSize = batchSizer.getBatchSize();
+
+        // When
+        batchSizer.recordBatch(grownBatchSize, grownBatchSize * 1000, 0, 0);
+
+        // Then
+        assertTrue(batchSizer.getBatchSize() < grownBatchSize);
+    }
+
+    @Test
+    public void shouldNotShrinkBelowMinBatchSize() {
+        // Given
+        final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(10, 1000, 100, 100, 100);
+
+        // When
+        batchSizer.recordBatch(10, 1000000, 1000000, 1000000);
+
+        // Then
+        assertEquals(10, batchSizer.getBatchSize());
+    }
+
+    @Test
+    public void shouldLimitBatchSizeByBytesAndLatency() {
+        // Given
+        final AdaptiveBatchSizer bytesLimited = new AdaptiveBatchSizer(10, 1000, Long.MAX_VALUE, 200, Long.MAX_VALUE);
+        final AdaptiveBatchSizer latencyLimited = new AdaptiveBatchSizer(10, 1000, Long.MAX_VALUE, Long.MAX_VALUE, 20);
+
+        // When
+        bytesLimited.recordBatch(10, 10, 100, 0);
+        latencyLimited.recordBatch(10, 10, 0, 10);
+
+        // Then
+        assertEquals(20, bytesLimited.getBatchSize());
+        assertEquals(20, latencyLimited.getBatchSize());
+    }
+
+    @Test
+    public void shouldIgnoreEmptyBatches() {
+        // Given
+        final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(10, 1000, 100, 100, 100);
+
+        // When
+        batchSizer.recordBatch(0, 100, 100, 100);
+
+        // Then
+        assertEquals(10, batchSizer.getBatchSize());
+        assertEquals(0, batchSizer.getBatchCount());
+    }
+
+    @Test
+    public void shouldThrowExceptionIfMaxIsLessThanMin() {
+        // When / Then
+        try {
+            new AdaptiveBatchSizer(10, 5, 100, 100, 100);
+            fail("Exception expected");
+        } catch (final IllegalArgumentException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+}
@@ -16,20 +16,21 @@
 package uk.gov.gchq.gaffer.bitmap.serialisation;
 
 import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
 
 import uk.gov.gchq.gaffer.bitmap.serialisation.utils.RoaringBitmapUtils;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
 /**
  * A {@link uk.gov.gchq.gaffer.serialisation.Serialiser} implementation for {@link RoaringBitmap}
- * instances.
+ * instances. Callers that only need to read a bitmap can use
+ * {@link #deserialiseImmutable(byte[], int, int)} to read it in place, rather than copying every container into a
+ * new {@link RoaringBitmap}.
  */
 public class RoaringBitmapSerialiser implements ToBytesSerialiser<RoaringBitmap> {
 
@@ -54,16 +55,21 @@ public class RoaringBitmapSerialiser implements ToBytesSerialiser<RoaringBitmap>
 
     @Override
     public RoaringBitmap deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
-        final RoaringBitmap value = new RoaringBitmap();
-        final byte[] convertedBytes = RoaringBitmapUtils.upConvertSerialisedForm(allBytes, offset, length);
-        final ByteArrayInputStream byteIn = new ByteArrayInputStream(convertedBytes);
-        final DataInputStream in = new DataInputStream(byteIn);
-        try {
-            value.deserialize(in);
-        } catch (final IOException e) {
-            throw new SerialisationException(e.getMessage(), e);
-        }
-        return value;
+        return RoaringBitmapUtils.deserialise(RoaringBitmapUtils.wrapSerialisedForm(allBytes, offset, length));
+    }
+
+    /**
+     * Returns a read-only view of the serialised bitmap which reads the containers directly from the given bytes, so
+     * the bytes must not be modified while the view is in use.
+     *
+     * @param allBytes the bytes containing the serialised bitmap
+     * @param offset   the offset of the serialised bitmap
+     * @param length   the length of the serialised bitmap
+     * @return an {@link ImmutableRoaringBitmap} backed by the given bytes
+     * @throws SerialisationException if the bytes do not contain a serialised RoaringBitmap
+     */
+    public ImmutableRoaringBitmap deserialiseImmutable(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return new ImmutableRoaringBitmap(RoaringBitmapUtils.wrapSerialisedForm(allBytes, offset, length));
     }
 
     @Override
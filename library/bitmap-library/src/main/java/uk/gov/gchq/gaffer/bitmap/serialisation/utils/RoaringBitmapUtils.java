@@ -15,6 +15,8 @@
  */
 package uk.gov.gchq.gaffer.bitmap.serialisation.utils;
 
+import org.roaringbitmap.RoaringBitmap;
+
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
 import java.io.ByteArrayInputStream;
@@ -26,7 +28,8 @@ import java.nio.ByteBuffer;
 
 /**
  * Contains a method for converting version 0.1.5 serialised RoaringBitmaps into
- * version 0.4.0-0.6.35 compatible forms.
+ * version 0.4.0-0.6.35 compatible forms, and methods for reading serialised
+ * RoaringBitmaps in place.
  */
 public final class RoaringBitmapUtils {
     private static final int BITMAP_CONTAINER_SIZE = (1 << 16) / 8;
@@ -40,6 +43,56 @@ public final class RoaringBitmapUtils {
 
     }
 
+    /**
+     * Returns a {@link ByteBuffer} containing the serialised RoaringBitmap in a form that can be read by an
+     * {@link org.roaringbitmap.buffer.ImmutableRoaringBitmap}. If the bitmap was serialised by version 0.4.0 or later then the buffer wraps
+     * the given bytes without copying them, so the bytes must not be modified while the buffer is in use.
+     *
+     * @param serialisedBitmap the bytes containing the serialised bitmap
+     * @param offset           the offset of the serialised bitmap
+     * @param length           the length of the serialised bitmap
+     * @return a {@link ByteBuffer} containing the serialised bitmap
+     * @throws SerialisationException if the bytes do not contain a known version of a serialised RoaringBitmap
+     */
+    public static ByteBuffer wrapSerialisedForm(final byte[] serialisedBitmap, final int offset, final int length) throws SerialisationException {
+        if (length >= 4) {
+            final int cookie = (serialisedBitmap[offset] & 0xFF)
+                    | (serialisedBitmap[offset + 1] & 0xFF) << 8
+                    | (serialisedBitmap[offset + 2] & 0xFF) << 16
+                    | (serialisedBitmap[offset + 3] & 0xFF) << 24;
+            if (cookie == VERSION_ZERO_FOUR_ZERO_TO_SIX_THRIRTY_FIVE_NO_RUNCONTAINER_COOKIE || (cookie & 0xFFFF) == VERSION_ZERO_FIVE_ZERO_TO_SIX_THIRTY_FIVE_COOKIE) {
+                return ByteBuffer.wrap(serialisedBitmap, offset, length).slice();
+            }
+        }
+        return ByteBuffer.wrap(upConvertSerialisedForm(serialisedBitmap, offset, length));
+    }
+
+    /**
+     * Deserialises a RoaringBitmap from a buffer returned by {@link #wrapSerialisedForm(byte[], int, int)}.
+     *
+     * @param serialisedBitmap the buffer containing the serialised bitmap
+     * @return the deserialised {@link RoaringBitmap}
+     * @throws SerialisationException if the bitmap could not be deserialised
+     */
+    public static RoaringBitmap deserialise(final ByteBuffer serialisedBitmap) throws SerialisationException {
+        final ByteArrayInputStream byteIn;
+        if (serialisedBitmap.hasArray()) {
+            byteIn = new ByteArrayInputStream(serialisedBitmap.array(),
+                    serialisedBitmap.arrayOffset() + serialisedBitmap.position(), serialisedBitmap.remaining());
+        } else {
+            final byte[] bytes = new byte[serialisedBitmap.remaining()];
+            serialisedBitmap.duplicate().get(bytes);
+            byteIn = new ByteArrayInputStream(bytes);
+        }
+        final RoaringBitmap bitmap = new RoaringBitmap();
+        try {
+            bitmap.deserialize(new DataInputStream(byteIn));
+        } catch (final IOException e) {
+            throw new SerialisationException("IOException deserialising RoaringBitmap", e);
+        }
+        return bitmap;
+    }
+
     public static byte[] upConvertSerialisedForm(final byte[] serialisedBitmap, final int offset, final int length) throws SerialisationException {
         try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(serialisedBitmap, offset, length))) {
             int cookie;
@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.bitmap.serialisation;
 
 import org.junit.Test;
 import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
@@ -24,6 +25,8 @@ import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialisationTest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class RoaringBitmapSerialiserTest extends ToBytesSerialisationTest<RoaringBitmap> {
 
@@ -43,6 +46,21 @@ public class RoaringBitmapSerialiserTest extends ToBytesSerialisationTest<Roarin
         assertEquals(testBitmap, o);
     }
 
+    @Test
+    public void testCanDeserialiseImmutableBitmapAtOffset() throws SerialisationException {
+        final RoaringBitmap testBitmap = getExampleValue();
+        final byte[] serialised = SERIALISER.serialise(testBitmap);
+        final byte[] b = new byte[serialised.length + 3];
+        System.arraycopy(serialised, 0, b, 2, serialised.length);
+
+        final ImmutableRoaringBitmap immutable = SERIALISER.deserialiseImmutable(b, 2, serialised.length);
+
+        assertEquals(testBitmap.getCardinality(), immutable.getCardinality());
+        assertTrue(immutable.contains(3000));
+        assertFalse(immutable.contains(3001));
+        assertEquals(testBitmap, SERIALISER.deserialise(b, 2, serialised.length));
+    }
+
     private RoaringBitmap getExampleValue() {
         RoaringBitmap testBitmap = new RoaringBitmap();
         testBitmap.add(2);
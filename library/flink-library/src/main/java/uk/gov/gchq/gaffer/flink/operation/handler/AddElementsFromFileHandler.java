@@ -36,7 +36,10 @@ import uk.gov.gchq.gaffer.store.operation.handler.OperationHandler;
  * objects from a file into Gaffer.
  * </p>
  * <p>
- * Rebalancing can be skipped by setting the operation option: gaffer.flink.operation.handler.skip-rebalancing to true
+ * Rebalancing can be skipped by setting the operation option: gaffer.flink.operation.handler.skip-rebalancing to true.
+ * Alternatively the elements can be partitioned by vertex by setting the operation option:
+ * gaffer.flink.operation.handler.partition-by-vertex to true. The parallelism of the
+ * element generation can be set using the operation option: gaffer.flink.operation.handler.generator-parallelism.
  * </p>
  */
 public class AddElementsFromFileHandler implements OperationHandler<AddElementsFromFile> {
@@ -50,8 +53,14 @@ public class AddElementsFromFileHandler implements OperationHandler<AddElementsF
         final FlatMapOperator<String, Element> builder =
                 env.readTextFile(op.getFilename())
                         .flatMap(new GafferMapFunction(op.getElementGenerator()));
+        final String generatorParallelism = op.getOption(FlinkConstants.GENERATOR_PARALLELISM);
+        if (null != generatorParallelism) {
+            builder.setParallelism(Integer.parseInt(generatorParallelism));
+        }
 
-        if (Boolean.parseBoolean(op.getOption(FlinkConstants.SKIP_REBALANCING))) {
+        if (Boolean.parseBoolean(op.getOption(FlinkConstants.PARTITION_BY_VERTEX))) {
+            builder.partitionByHash(new ElementVertexKeySelector()).output(new GafferOutput(op, store));
+        } else if (Boolean.parseBoolean(op.getOption(FlinkConstants.SKIP_REBALANCING))) {
             builder.output(new GafferOutput(op, store));
         } else {
             builder.rebalance().output(new GafferOutput(op, store));
@@ -16,7 +16,7 @@
 package uk.gov.gchq.gaffer.flink.operation.handler;
 
 import org.apache.commons.lang.StringUtils;
-import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.streaming.connectors.kafka.FlinkKafkaConsumer010;
 import org.apache.flink.streaming.util.serialization.SimpleStringSchema;
@@ -41,7 +41,10 @@ import java.util.Properties;
  * objects from a Kafka queue into Gaffer.
  * </p>
  * <p>
- * Rebalancing can be skipped by setting the operation option: gaffer.flink.operation.handler.skip-rebalancing to true
+ * Rebalancing can be skipped by setting the operation option: gaffer.flink.operation.handler.skip-rebalancing to true.
+ * Alternatively the elements can be partitioned by vertex by setting the operation option:
+ * gaffer.flink.operation.handler.partition-by-vertex to true. The parallelism of the
+ * element generation can be set using the operation option: gaffer.flink.operation.handler.generator-parallelism.
  * </p>
  */
 public class AddElementsFromKafkaHandler implements OperationHandler<AddElementsFromKafka> {
@@ -55,11 +58,17 @@ public class AddElementsFromKafkaHandler implements OperationHandler<AddElements
             env.setParallelism(op.getParallelism());
         }
 
-        final DataStream<Element> builder =
+        final SingleOutputStreamOperator<Element> builder =
                 env.addSource(new FlinkKafkaConsumer010<>(op.getTopic(), new SimpleStringSchema(), createFlinkProperties(op)))
                         .flatMap(new GafferMapFunction(op.getElementGenerator()));
+        final String generatorParallelism = op.getOption(FlinkConstants.GENERATOR_PARALLELISM);
+        if (null != generatorParallelism) {
+            builder.setParallelism(Integer.parseInt(generatorParallelism));
+        }
 
-        if (Boolean.parseBoolean(op.getOption(FlinkConstants.SKIP_REBALANCING))) {
+        if (Boolean.parseBoolean(op.getOption(FlinkConstants.PARTITION_BY_VERTEX))) {
+            builder.keyBy(new ElementVertexKeySelector()).addSink(new GafferSink(op, store));
+        } else if (Boolean.parseBoolean(op.getOption(FlinkConstants.SKIP_REBALANCING))) {
             builder.addSink(new GafferSink(op, store));
         } else {
             builder.rebalance().addSink(new GafferSink(op, store));
@@ -82,6 +91,10 @@ public class AddElementsFromKafkaHandler implements OperationHandler<AddElements
         properties.put(FLINK_KAFKA_GROUP_ID, operation.getGroupId());
         properties.put(FLINK_KAFKA_BOOTSTRAP_SERVERS, StringUtils.join(operation.getBootstrapServers(), ","));
         properties.remove(FlinkConstants.SKIP_REBALANCING);
+        properties.remove(FlinkConstants.PARTITION_BY_VERTEX);
+        properties.remove(FlinkConstants.GENERATOR_PARALLELISM);
+        properties.remove(FlinkConstants.MAX_QUEUE_SIZE);
+        properties.remove(FlinkConstants.FLUSH_INTERVAL);
         return properties;
     }
 }
@@ -15,7 +15,7 @@
  */
 package uk.gov.gchq.gaffer.flink.operation.handler;
 
-import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 
 import uk.gov.gchq.gaffer.data.element.Element;
@@ -36,7 +36,10 @@ import uk.gov.gchq.gaffer.store.operation.handler.OperationHandler;
  * objects from a socket into Gaffer.
  * </p>
  * <p>
- * Rebalancing can be skipped by setting the operation option: gaffer.flink.operation.handler.skip-rebalancing to true
+ * Rebalancing can be skipped by setting the operation option: gaffer.flink.operation.handler.skip-rebalancing to true.
+ * Alternatively the elements can be partitioned by vertex by setting the operation option:
+ * gaffer.flink.operation.handler.partition-by-vertex to true. The parallelism of the
+ * element generation can be set using the operation option: gaffer.flink.operation.handler.generator-parallelism.
  * </p>
  */
 public class AddElementsFromSocketHandler implements OperationHandler<AddElementsFromSocket> {
@@ -47,11 +50,17 @@ public class AddElementsFromSocketHandler implements OperationHandler<AddElement
             env.setParallelism(op.getParallelism());
         }
 
-        final DataStream<Element> builder =
+        final SingleOutputStreamOperator<Element> builder =
                 env.socketTextStream(op.getHostname(), op.getPort(), op.getDelimiter())
                         .flatMap(new GafferMapFunction(op.getElementGenerator()));
+        final String generatorParallelism = op.getOption(FlinkConstants.GENERATOR_PARALLELISM);
+        if (null != generatorParallelism) {
+            builder.setParallelism(Integer.parseInt(generatorParallelism));
+        }
 
-        if (Boolean.parseBoolean(op.getOption(FlinkConstants.SKIP_REBALANCING))) {
+        if (Boolean.parseBoolean(op.getOption(FlinkConstants.PARTITION_BY_VERTEX))) {
+            builder.keyBy(new ElementVertexKeySelector()).addSink(new GafferSink(op, store));
+        } else if (Boolean.parseBoolean(op.getOption(FlinkConstants.SKIP_REBALANCING))) {
             builder.addSink(new GafferSink(op, store));
         } else {
             builder.rebalance().addSink(new GafferSink(op, store));
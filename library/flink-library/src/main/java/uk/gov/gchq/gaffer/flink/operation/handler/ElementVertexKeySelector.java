@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.flink.operation.handler;
+
+import org.apache.flink.api.java.functions.KeySelector;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link KeySelector} that keys {@link Element}s by their
+ * vertex - the vertex of an {@link Entity} or the source of an {@link Edge}.
+ * Partitioning elements with this key sends all the elements for a vertex to the
+ * same sink, so they can be aggregated together before they are added to the
+ * Gaffer Store. The key is the hash code of the vertex, so the vertex class
+ * must have a hash code that is consistent across JVMs.
+ */
+public class ElementVertexKeySelector implements KeySelector<Element, Integer> {
+    private static final long serialVersionUID = 4526356393618826934L;
+
+    @Override
+    public Integer getKey(final Element element) throws Exception {
+        final Object vertex;
+        if (element instanceof Entity) {
+            vertex = ((Entity) element).getVertex();
+        } else {
+            vertex = ((Edge) element).getSource();
+        }
+
+        if (null == vertex) {
+            return 0;
+        }
+        if (vertex instanceof byte[]) {
+            return Arrays.hashCode((byte[]) vertex);
+        }
+        return vertex.hashCode();
+    }
+}
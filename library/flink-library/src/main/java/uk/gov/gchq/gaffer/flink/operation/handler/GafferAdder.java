@@ -16,8 +16,13 @@
 package uk.gov.gchq.gaffer.flink.operation.handler;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MeterView;
+import org.apache.flink.metrics.MetricGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import uk.gov.gchq.gaffer.commonutil.iterable.ConsumableBlockingQueue;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.flink.operation.handler.util.FlinkConstants;
 import uk.gov.gchq.gaffer.operation.Operation;
@@ -31,7 +36,12 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
@@ -40,29 +50,36 @@ import java.util.Properties;
  * <p>
  * The Flink sink is given a single element at a time. Adding a single element
  * at a time to Gaffer would be really inefficient so we add these individual
- * elements to a blocking queue that we simultaneously add elements to whilst
- * the Gaffer Store is consuming them.
+ * elements to a batch and add the whole batch to the Gaffer Store in a single
+ * {@link AddElements} operation.
  * </p>
  * <p>
- * The queue is a {@link java.util.concurrent.BlockingQueue} with a maximum size to prevent the queue
- * from getting too large and running out of memory. If the maximum size is reached
- * Flink will be blocked from adding elements to the queue. The maximum size of
- * the queue can be configured using the operation option:
+ * A batch is added synchronously once it contains the maximum number of
+ * elements, so Flink is blocked from adding more elements whilst the Gaffer
+ * Store is consuming them. This applies back-pressure to the Flink job rather
+ * than buffering an unbounded number of elements in memory. The maximum size
+ * of a batch can be configured using the operation option:
  * gaffer.flink.operation.handler.max-queue-size.
  * By default the maximum size is 1,000,000.
- * The blocking queue is only blocked on addition, it does not cause the Gaffer
- * Store to block if the queue is empty. In the case where a Kafka queue has
- * just a single Gaffer element the Store can immediately add this rather than
- * blocking and waiting for a batch to fill up. A side affect of this is that
- * AddElements operation may complete if no elements are added to the queue for
- * some time. In this situation we just restart the AddElements operation next
- * time an element is received.
+ * </p>
+ * <p>
+ * So that a quiet stream does not leave elements waiting in a partially filled
+ * batch, the batch is also added to the Gaffer Store periodically. The interval
+ * in milliseconds can be configured using the operation option:
+ * gaffer.flink.operation.handler.flush-interval.
+ * By default the interval is 1000 milliseconds, a value of 0 or less disables
+ * the periodic flush. Any elements remaining in the batch can be added at any
+ * time by calling {@link #flush()}, this is done by the Flink sink when a
+ * checkpoint is taken so that no buffered elements are lost.
  * </p>
  */
 @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "There are null checks that will initialise the fields")
 public class GafferAdder implements Serializable {
     private static final long serialVersionUID = -3418606107861031989L;
+    private static final Logger LOGGER = LoggerFactory.getLogger(GafferAdder.class);
     public static final int MAX_QUEUE_SIZE_DEFAULT = 1000000;
+    public static final long FLUSH_INTERVAL_DEFAULT = 1000L;
+    private static final int METER_TIME_SPAN_SECONDS = 60;
 
     private final String graphId;
     private final byte[] schema;
@@ -71,10 +88,14 @@ public class GafferAdder implements Serializable {
     private final boolean validate;
     private final boolean skipInvalid;
     private final int maxQueueSize;
+    private final long flushInterval;
 
     private transient Store store;
-    private transient ConsumableBlockingQueue<Element> queue;
-    private transient boolean restart;
+    private transient List<Element> batch;
+    private transient ScheduledExecutorService flushScheduler;
+    private transient volatile RuntimeException flushFailure;
+    private transient Counter elementsAdded;
+    private transient Counter batchesAdded;
 
     public <OP extends Validatable & Operation> GafferAdder(final OP operation, final Store store) {
         this.store = store;
@@ -82,6 +103,8 @@ public class GafferAdder implements Serializable {
         this.skipInvalid = operation.isSkipInvalidElements();
         final String maxQueueSizeOption = operation.getOption(FlinkConstants.MAX_QUEUE_SIZE);
         this.maxQueueSize = null != maxQueueSizeOption ? Integer.parseInt(maxQueueSizeOption) : MAX_QUEUE_SIZE_DEFAULT;
+        final String flushIntervalOption = operation.getOption(FlinkConstants.FLUSH_INTERVAL);
+        this.flushInterval = null != flushIntervalOption ? Long.parseLong(flushIntervalOption) : FLUSH_INTERVAL_DEFAULT;
         graphId = store.getGraphId();
         schema = store.getSchema().toCompactJson();
         properties = store.getProperties().getProperties();
@@ -93,37 +116,112 @@ public class GafferAdder implements Serializable {
         }
     }
 
-    public void add(final Element element) {
+    /**
+     * Registers metrics for the number of elements added to the Gaffer Store,
+     * the rate they are being added, the number of batches added and the
+     * number of elements currently waiting in the batch.
+     *
+     * @param metricGroup the Flink metric group to register the metrics with
+     */
+    public void registerMetrics(final MetricGroup metricGroup) {
+        elementsAdded = metricGroup.counter("elementsAdded");
+        metricGroup.meter("elementsAddedPerSecond", new MeterView(elementsAdded, METER_TIME_SPAN_SECONDS));
+        batchesAdded = metricGroup.counter("batchesAdded");
+        metricGroup.gauge("queueSize", (Gauge<Integer>) this::getQueueSize);
+    }
+
+    public synchronized void add(final Element element) {
+        checkFlushFailure();
         if (null == element) {
             return;
         }
 
-        if (null == queue) {
-            queue = new ConsumableBlockingQueue<>(maxQueueSize);
-            restart = true;
+        if (null == batch) {
+            batch = new ArrayList<>();
+            startFlushScheduler();
+        }
+
+        batch.add(element);
+        if (batch.size() >= maxQueueSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Synchronously adds any elements waiting in the batch to the Gaffer Store.
+     */
+    public synchronized void flush() {
+        checkFlushFailure();
+        if (null == batch || batch.isEmpty()) {
+            return;
         }
 
+        final List<Element> elements = batch;
+        batch = new ArrayList<>();
         try {
-            queue.put(element);
-        } catch (final InterruptedException e) {
-            throw new RuntimeException("Interrupted while waiting to add an element to the queue", e);
+            store.execute(new AddElements.Builder()
+                            .input(elements)
+                            .validate(validate)
+                            .skipInvalidElements(skipInvalid)
+                            .build(),
+                    new Context(new User()));
+        } catch (final OperationException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+
+        if (null != elementsAdded) {
+            elementsAdded.inc(elements.size());
+            batchesAdded.inc();
         }
+    }
+
+    /**
+     * Stops the periodic flush, waiting for any batch it is currently adding,
+     * and then adds any remaining elements to the Gaffer Store.
+     */
+    public void close() {
+        if (null != flushScheduler) {
+            // The periodic flush is not interrupted, as its batch has already
+            // been removed from the queue and would otherwise be lost.
+            flushScheduler.shutdown();
+            try {
+                flushScheduler.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushScheduler = null;
+        }
+        flush();
+    }
+
+    public synchronized int getQueueSize() {
+        return null != batch ? batch.size() : 0;
+    }
 
-        if (restart && !queue.isEmpty()) {
-            restart = false;
-            store.runAsync(() -> {
+    private void startFlushScheduler() {
+        if (flushInterval > 0 && null == flushScheduler) {
+            flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "gaffer-flink-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flushScheduler.scheduleWithFixedDelay(() -> {
+                if (null != flushFailure) {
+                    return;
+                }
                 try {
-                    store.execute(new AddElements.Builder()
-                                    .input(queue)
-                                    .validate(validate)
-                                    .skipInvalidElements(skipInvalid)
-                                    .build(),
-                            new Context(new User()));
-                    restart = true;
-                } catch (final OperationException e) {
-                    throw new RuntimeException(e.getMessage(), e);
+                    flush();
+                } catch (final RuntimeException e) {
+                    LOGGER.error("Failed to add elements to the Gaffer Store", e);
+                    flushFailure = e;
                 }
-            });
+            }, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void checkFlushFailure() {
+        if (null != flushFailure) {
+            throw flushFailure;
         }
     }
 }
@@ -56,10 +56,11 @@ public class GafferOutput extends RichOutputFormat<Element> {
     @Override
     public void open(final int taskNumber, final int numTasks) throws IOException {
         adder.initialise();
+        adder.registerMetrics(getRuntimeContext().getMetricGroup());
     }
 
     @Override
     public void close() throws IOException {
-        // no action required
+        adder.close();
     }
 }
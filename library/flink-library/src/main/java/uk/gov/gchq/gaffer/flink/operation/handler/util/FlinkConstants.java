@@ -23,13 +23,36 @@ public final class FlinkConstants {
      */
     public static final String SKIP_REBALANCING = "gaffer.flink.operation.handler.skip-rebalancing";
 
+    /**
+     * Operation option key for setting the parallelism of the stage that
+     * generates elements from the input. By default this is the parallelism
+     * of the operation.
+     */
+    public static final String GENERATOR_PARALLELISM = "gaffer.flink.operation.handler.generator-parallelism";
+
+    /**
+     * Operation option key for partitioning the elements by vertex between
+     * the generator and the sink, so all the elements for a vertex are added
+     * to the Gaffer Store by the same sink. This takes precedence over
+     * skipping rebalancing and is false by default.
+     */
+    public static final String PARTITION_BY_VERTEX = "gaffer.flink.operation.handler.partition-by-vertex";
+
     /**
      * Operation option key for setting the maximum queue size for adding to
-     * a Gaffer store. If the queue size is exceeded Flink will be blocked
-     * from adding to the queue until the Gaffer Store has consumed the elements.
+     * a Gaffer store. Once the queue is full the elements are added to the
+     * Gaffer Store and Flink will be blocked from adding to the queue until
+     * the Gaffer Store has consumed the elements.
      */
     public static final String MAX_QUEUE_SIZE = "gaffer.flink.operation.handler.max-queue-size";
 
+    /**
+     * Operation option key for setting the interval, in milliseconds, at which
+     * queued elements are added to a Gaffer store even if the queue is not full.
+     * A value of 0 or less disables the periodic flush.
+     */
+    public static final String FLUSH_INTERVAL = "gaffer.flink.operation.handler.flush-interval";
+
     private FlinkConstants() {
         // private constructor to prevent users instantiating this class as it
         // only contains constants.
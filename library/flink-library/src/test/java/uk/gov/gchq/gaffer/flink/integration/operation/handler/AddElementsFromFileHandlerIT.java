@@ -24,6 +24,7 @@ import org.junit.rules.TemporaryFolder;
 
 import uk.gov.gchq.gaffer.commonutil.CommonTestConstants;
 import uk.gov.gchq.gaffer.flink.operation.FlinkTest;
+import uk.gov.gchq.gaffer.flink.operation.handler.util.FlinkConstants;
 import uk.gov.gchq.gaffer.generator.TestGeneratorImpl;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.mapstore.MapStore;
@@ -66,4 +67,24 @@ public class AddElementsFromFileHandlerIT extends FlinkTest {
         // Then
         verifyElements(graph);
     }
+
+    @Test
+    public void shouldAddElementsWithParallelGeneratorsPartitionedByVertex() throws Exception {
+        // Given
+        final Graph graph = createGraph();
+
+        final AddElementsFromFile op = new AddElementsFromFile.Builder()
+                .filename(file.getAbsolutePath())
+                .generator(TestGeneratorImpl.class)
+                .parallelism(2)
+                .option(FlinkConstants.GENERATOR_PARALLELISM, "2")
+                .option(FlinkConstants.PARTITION_BY_VERTEX, "true")
+                .build();
+
+        // When
+        graph.execute(op, new User());
+
+        // Then
+        verifyElements(graph);
+    }
 }
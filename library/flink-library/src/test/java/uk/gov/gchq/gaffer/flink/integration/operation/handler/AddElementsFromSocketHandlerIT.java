@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.flink.integration.operation.handler;
 import org.junit.Test;
 
 import uk.gov.gchq.gaffer.flink.operation.FlinkTest;
+import uk.gov.gchq.gaffer.flink.operation.handler.util.FlinkConstants;
 import uk.gov.gchq.gaffer.generator.TestGeneratorImpl;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.mapstore.MapStore;
@@ -68,4 +69,44 @@ public class AddElementsFromSocketHandlerIT extends FlinkTest {
         // Then
         verifyElements(graph);
     }
+
+    @Test
+    public void shouldAddElementsWithParallelGeneratorsPartitionedByVertex() throws Exception {
+        // Given
+        MapStore.resetStaticMap();
+        final Graph graph = createGraph();
+        final boolean validate = true;
+        final boolean skipInvalid = false;
+        final String hostname = "localhost";
+        final int[] port = new int[1];
+
+        final ServerSocket server = new ServerSocket(0);
+        port[0] = server.getLocalPort();
+
+        new Thread(() -> {
+            try (final Socket socket = server.accept();
+                 final OutputStream out = socket.getOutputStream()) {
+                out.write(DATA_BYTES);
+            } catch (IOException e) {
+                throw new RuntimeException();
+            }
+        }).start();
+
+        final AddElementsFromSocket op = new AddElementsFromSocket.Builder()
+                .generator(TestGeneratorImpl.class)
+                .parallelism(2)
+                .option(FlinkConstants.GENERATOR_PARALLELISM, "2")
+                .option(FlinkConstants.PARTITION_BY_VERTEX, "true")
+                .validate(validate)
+                .skipInvalidElements(skipInvalid)
+                .hostname(hostname)
+                .port(port[0])
+                .build();
+
+        // When
+        graph.execute(op, new User());
+
+        // Then
+        verifyElements(graph);
+    }
 }
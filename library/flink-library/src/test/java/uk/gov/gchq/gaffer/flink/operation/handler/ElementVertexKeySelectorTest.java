@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.flink.operation.handler;
+
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Entity;
+
+import static org.junit.Assert.assertEquals;
+
+public class ElementVertexKeySelectorTest {
+    @Test
+    public void shouldKeyEntitiesAndEdgesWithTheSameVertexTheSame() throws Exception {
+        // Given
+        final ElementVertexKeySelector keySelector = new ElementVertexKeySelector();
+        final Entity entity = new Entity(TestGroups.ENTITY, "vertex1");
+        final Edge edge = new Edge(TestGroups.EDGE, "vertex1", "vertex2", true);
+
+        // When
+        final Integer entityKey = keySelector.getKey(entity);
+        final Integer edgeKey = keySelector.getKey(edge);
+
+        // Then
+        assertEquals(entityKey, edgeKey);
+        assertEquals((Integer) "vertex1".hashCode(), entityKey);
+    }
+
+    @Test
+    public void shouldKeyByteArrayVerticesByContent() throws Exception {
+        // Given
+        final ElementVertexKeySelector keySelector = new ElementVertexKeySelector();
+        final Entity entity1 = new Entity(TestGroups.ENTITY, new byte[]{1, 2, 3});
+        final Entity entity2 = new Entity(TestGroups.ENTITY, new byte[]{1, 2, 3});
+
+        // When
+        final Integer key1 = keySelector.getKey(entity1);
+        final Integer key2 = keySelector.getKey(entity2);
+
+        // Then
+        assertEquals(key1, key2);
+    }
+}
@@ -16,123 +16,105 @@
 
 package uk.gov.gchq.gaffer.flink.operation.handler;
 
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.SimpleCounter;
 import org.junit.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Mockito;
 
-import uk.gov.gchq.gaffer.commonutil.iterable.ConsumableBlockingQueue;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.flink.operation.handler.util.FlinkConstants;
+import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElementsFromSocket;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.StoreProperties;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 public class GafferAdderTest {
     private static final String MAX_QUEUE_SIZE_OPTION = "10";
     private static final int MAX_QUEUE_SIZE_VALUE = Integer.parseInt(MAX_QUEUE_SIZE_OPTION);
+    private static final String FLUSH_DISABLED_OPTION = "0";
 
     @Test
-    public void shouldAddElementsToStore() throws Exception {
+    public void shouldAddElementsToStoreWhenQueueIsFull() throws Exception {
         // Given
-        final AddElementsFromSocket op = mock(AddElementsFromSocket.class);
-        final Store store = mock(Store.class);
-        given(store.getProperties()).willReturn(new StoreProperties());
-        given(store.getSchema()).willReturn(new Schema());
-        given(op.isValidate()).willReturn(true);
-        given(op.isSkipInvalidElements()).willReturn(false);
-        given(op.getOption(FlinkConstants.MAX_QUEUE_SIZE)).willReturn(MAX_QUEUE_SIZE_OPTION);
-        final Element element = mock(Element.class);
-
+        final Store store = createStore();
+        final AddElementsFromSocket op = createOperation(FLUSH_DISABLED_OPTION);
         final GafferAdder adder = new GafferAdder(op, store);
+        final List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < MAX_QUEUE_SIZE_VALUE; i++) {
+            elements.add(mock(Element.class));
+        }
 
         // When
-        adder.add(element);
+        for (int i = 0; i < MAX_QUEUE_SIZE_VALUE - 1; i++) {
+            adder.add(elements.get(i));
+        }
 
         // Then
-        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(store).runAsync(runnableCaptor.capture());
-        runnableCaptor.getValue().run();
-
-        ArgumentCaptor<AddElements> opCaptor = ArgumentCaptor.forClass(AddElements.class);
-        verify(store).execute(
-                opCaptor.capture(),
-                Mockito.any()
-        );
-
-        final ConsumableBlockingQueue<Element> expectedQueue = new ConsumableBlockingQueue<>(MAX_QUEUE_SIZE_VALUE);
-        expectedQueue.put(element);
-        verify(store).execute(Mockito.eq(new AddElements.Builder()
-                .input(expectedQueue)
-                .validate(true)
-                .skipInvalidElements(false)
-                .build()), Mockito.any());
+        verify(store, never()).execute(any(AddElements.class), any());
+
+        // When
+        adder.add(elements.get(MAX_QUEUE_SIZE_VALUE - 1));
+
+        // Then
+        verify(store).execute(eq(createAddElements(elements)), any());
+        assertEquals(0, adder.getQueueSize());
     }
 
     @Test
-    public void shouldRestartAddElementsIfPauseInIngest() throws Exception {
+    public void shouldOnlyAddElementsToStoreWhenFlushed() throws Exception {
         // Given
-        final AddElementsFromSocket op = mock(AddElementsFromSocket.class);
-        final Store store = mock(Store.class);
-        given(store.getProperties()).willReturn(new StoreProperties());
-        given(store.getSchema()).willReturn(new Schema());
-        given(op.isValidate()).willReturn(true);
-        given(op.isSkipInvalidElements()).willReturn(false);
-        given(op.getOption(FlinkConstants.MAX_QUEUE_SIZE)).willReturn(MAX_QUEUE_SIZE_OPTION);
+        final Store store = createStore();
+        final AddElementsFromSocket op = createOperation(FLUSH_DISABLED_OPTION);
+        final GafferAdder adder = new GafferAdder(op, store);
         final Element element = mock(Element.class);
         final Element element2 = mock(Element.class);
 
-        final GafferAdder adder = new GafferAdder(op, store);
-
         // When
         adder.add(element);
 
         // Then
-        final ArgumentCaptor<Runnable> runnableCaptor1 = ArgumentCaptor.forClass(Runnable.class);
-        verify(store).runAsync(runnableCaptor1.capture());
-        runnableCaptor1.getValue().run();
-        final ConsumableBlockingQueue<Element> expectedQueue = new ConsumableBlockingQueue<>(MAX_QUEUE_SIZE_VALUE);
-        expectedQueue.put(element);
-        verify(store).execute(Mockito.eq(new AddElements.Builder()
-                .input(expectedQueue)
-                .validate(true)
-                .skipInvalidElements(false)
-                .build()), Mockito.any());
-        Mockito.reset(store);
+        verify(store, never()).execute(any(AddElements.class), any());
+        assertEquals(1, adder.getQueueSize());
 
         // When
+        adder.flush();
         adder.add(element2);
+        adder.flush();
 
         // Then
-        final ArgumentCaptor<Runnable> runnableCaptor2 = ArgumentCaptor.forClass(Runnable.class);
-        verify(store).runAsync(runnableCaptor2.capture());
-        runnableCaptor2.getValue().run();
-        // As the queue has not been consumed the original elements will still be on the queue.
-        expectedQueue.put(element2);
-        verify(store).execute(Mockito.eq(new AddElements.Builder()
-                .input(expectedQueue)
-                .validate(true)
-                .skipInvalidElements(false)
-                .build()), Mockito.any());
+        verify(store).execute(eq(createAddElements(Collections.singletonList(element))), any());
+        verify(store).execute(eq(createAddElements(Collections.singletonList(element2))), any());
+        assertEquals(0, adder.getQueueSize());
     }
 
     @Test
     public void shouldAddElementsIfInvokeCalledMultipleTimes() throws Exception {
         // Given
         final int duplicates = 4;
-        final AddElementsFromSocket op = mock(AddElementsFromSocket.class);
-        final Store store = mock(Store.class);
-        given(store.getProperties()).willReturn(new StoreProperties());
-        given(store.getSchema()).willReturn(new Schema());
-        given(op.isValidate()).willReturn(true);
-        given(op.isSkipInvalidElements()).willReturn(false);
-        given(op.getOption(FlinkConstants.MAX_QUEUE_SIZE)).willReturn(MAX_QUEUE_SIZE_OPTION);
+        final Store store = createStore();
+        final AddElementsFromSocket op = createOperation(FLUSH_DISABLED_OPTION);
         final Element element = mock(Element.class);
         final GafferAdder adder = new GafferAdder(op, store);
 
@@ -140,20 +122,127 @@ public class GafferAdderTest {
         for (int i = 0; i < duplicates; i++) {
             adder.add(element);
         }
+        adder.close();
 
         // Then
-        final ArgumentCaptor<Runnable> runnableCaptor1 = ArgumentCaptor.forClass(Runnable.class);
-        verify(store).runAsync(runnableCaptor1.capture());
-        assertEquals(1, runnableCaptor1.getAllValues().size());
-        runnableCaptor1.getValue().run();
-        final ConsumableBlockingQueue<Element> expectedQueue = new ConsumableBlockingQueue<>(MAX_QUEUE_SIZE_VALUE);
-        for (int i = 0; i < duplicates; i++) {
-            expectedQueue.put(element);
+        verify(store).execute(eq(createAddElements(Collections.nCopies(duplicates, element))), any());
+    }
+
+    @Test
+    public void shouldPeriodicallyAddElementsToStore() throws Exception {
+        // Given
+        final Store store = createStore();
+        final AddElementsFromSocket op = createOperation("10");
+        final Element element = mock(Element.class);
+        final GafferAdder adder = new GafferAdder(op, store);
+
+        // When
+        adder.add(element);
+
+        // Then
+        verify(store, timeout(10000)).execute(eq(createAddElements(Collections.singletonList(element))), any());
+        adder.close();
+    }
+
+    @Test
+    public void shouldRethrowFailureFromPeriodicFlush() throws Exception {
+        // Given
+        final Store store = createStore();
+        final AddElementsFromSocket op = createOperation("10");
+        final GafferAdder adder = new GafferAdder(op, store);
+        willThrow(new OperationException("Store failure")).given(store).execute(any(AddElements.class), any());
+        adder.add(mock(Element.class));
+        verify(store, timeout(10000)).execute(any(AddElements.class), any());
+
+        // When / Then
+        try {
+            for (int i = 0; i < 1000; i++) {
+                adder.add(mock(Element.class));
+                Thread.sleep(10);
+            }
+            fail("Exception expected");
+        } catch (final RuntimeException e) {
+            assertEquals("Store failure", e.getMessage());
         }
-        verify(store).execute(Mockito.eq(new AddElements.Builder()
-                .input(expectedQueue)
+    }
+
+    @Test
+    public void shouldWaitForPeriodicFlushWhenClosed() throws Exception {
+        // Given
+        final Store store = createStore();
+        final AddElementsFromSocket op = createOperation("10");
+        final Element element = mock(Element.class);
+        final GafferAdder adder = new GafferAdder(op, store);
+        final CountDownLatch flushStarted = new CountDownLatch(1);
+        final AtomicBoolean flushInterrupted = new AtomicBoolean();
+        willAnswer(invocation -> {
+            flushStarted.countDown();
+            try {
+                Thread.sleep(500);
+            } catch (final InterruptedException e) {
+                flushInterrupted.set(true);
+                throw new OperationException("Periodic flush interrupted", e);
+            }
+            return null;
+        }).given(store).execute(any(AddElements.class), any());
+        adder.add(element);
+        assertTrue(flushStarted.await(10, TimeUnit.SECONDS));
+
+        // When
+        adder.close();
+
+        // Then
+        assertFalse(flushInterrupted.get());
+        verify(store).execute(eq(createAddElements(Collections.singletonList(element))), any());
+    }
+
+    @Test
+    public void shouldUpdateMetricsWhenElementsAreAdded() throws Exception {
+        // Given
+        final Store store = createStore();
+        final AddElementsFromSocket op = createOperation(FLUSH_DISABLED_OPTION);
+        final GafferAdder adder = new GafferAdder(op, store);
+        final MetricGroup metricGroup = mock(MetricGroup.class);
+        final SimpleCounter elementsAdded = new SimpleCounter();
+        final SimpleCounter batchesAdded = new SimpleCounter();
+        given(metricGroup.counter("elementsAdded")).willReturn(elementsAdded);
+        given(metricGroup.counter("batchesAdded")).willReturn(batchesAdded);
+        adder.registerMetrics(metricGroup);
+
+        // When
+        for (int i = 0; i < MAX_QUEUE_SIZE_VALUE + 2; i++) {
+            adder.add(mock(Element.class));
+        }
+        adder.flush();
+
+        // Then
+        assertEquals(MAX_QUEUE_SIZE_VALUE + 2, elementsAdded.getCount());
+        assertEquals(2, batchesAdded.getCount());
+        verify(metricGroup).meter(eq("elementsAddedPerSecond"), any());
+        verify(metricGroup).gauge(eq("queueSize"), any());
+    }
+
+    private Store createStore() {
+        final Store store = mock(Store.class);
+        given(store.getProperties()).willReturn(new StoreProperties());
+        given(store.getSchema()).willReturn(new Schema());
+        return store;
+    }
+
+    private AddElementsFromSocket createOperation(final String flushInterval) {
+        final AddElementsFromSocket op = mock(AddElementsFromSocket.class);
+        given(op.isValidate()).willReturn(true);
+        given(op.isSkipInvalidElements()).willReturn(false);
+        given(op.getOption(FlinkConstants.MAX_QUEUE_SIZE)).willReturn(MAX_QUEUE_SIZE_OPTION);
+        given(op.getOption(FlinkConstants.FLUSH_INTERVAL)).willReturn(flushInterval);
+        return op;
+    }
+
+    private AddElements createAddElements(final List<Element> elements) {
+        return new AddElements.Builder()
+                .input(elements)
                 .validate(true)
                 .skipInvalidElements(false)
-                .build()), Mockito.any());
+                .build();
     }
 }
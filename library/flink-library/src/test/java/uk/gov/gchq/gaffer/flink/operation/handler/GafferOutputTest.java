@@ -16,10 +16,15 @@
 
 package uk.gov.gchq.gaffer.flink.operation.handler;
 
+import org.apache.flink.api.common.functions.RuntimeContext;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
 import org.junit.Test;
 
 import uk.gov.gchq.gaffer.data.element.Element;
 
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -29,12 +34,14 @@ public class GafferOutputTest {
         // Given
         final GafferAdder adder = mock(GafferAdder.class);
         final GafferOutput output = new GafferOutput(adder);
+        output.setRuntimeContext(createRuntimeContext());
 
         // When
         output.open(1, 2);
 
         // Then
         verify(adder).initialise();
+        verify(adder).registerMetrics(any(MetricGroup.class));
     }
 
     @Test
@@ -50,4 +57,23 @@ public class GafferOutputTest {
         // Then
         verify(adder).add(element);
     }
+
+    @Test
+    public void shouldDelegateCloseToGafferAdderClose() throws Exception {
+        // Given
+        final GafferAdder adder = mock(GafferAdder.class);
+        final GafferOutput output = new GafferOutput(adder);
+
+        // When
+        output.close();
+
+        // Then
+        verify(adder).close();
+    }
+
+    private RuntimeContext createRuntimeContext() {
+        final RuntimeContext runtimeContext = mock(RuntimeContext.class);
+        given(runtimeContext.getMetricGroup()).willReturn(new UnregisteredMetricsGroup());
+        return runtimeContext;
+    }
 }
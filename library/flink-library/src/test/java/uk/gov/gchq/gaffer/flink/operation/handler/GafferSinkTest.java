@@ -16,10 +16,15 @@
 
 package uk.gov.gchq.gaffer.flink.operation.handler;
 
+import org.apache.flink.api.common.functions.RuntimeContext;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
 import org.junit.Test;
 
 import uk.gov.gchq.gaffer.data.element.Element;
 
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -29,12 +34,14 @@ public class GafferSinkTest {
         // Given
         final GafferAdder adder = mock(GafferAdder.class);
         final GafferSink sink = new GafferSink(adder);
+        sink.setRuntimeContext(createRuntimeContext());
 
         // When
         sink.open(null);
 
         // Then
         verify(adder).initialise();
+        verify(adder).registerMetrics(any(MetricGroup.class));
     }
 
     @Test
@@ -50,4 +57,36 @@ public class GafferSinkTest {
         // Then
         verify(adder).add(element);
     }
+
+    @Test
+    public void shouldFlushAdderOnCheckpoint() throws Exception {
+        // Given
+        final GafferAdder adder = mock(GafferAdder.class);
+        final GafferSink sink = new GafferSink(adder);
+
+        // When
+        sink.snapshotState(null);
+
+        // Then
+        verify(adder).flush();
+    }
+
+    @Test
+    public void shouldDelegateCloseToGafferAdderClose() throws Exception {
+        // Given
+        final GafferAdder adder = mock(GafferAdder.class);
+        final GafferSink sink = new GafferSink(adder);
+
+        // When
+        sink.close();
+
+        // Then
+        verify(adder).close();
+    }
+
+    private RuntimeContext createRuntimeContext() {
+        final RuntimeContext runtimeContext = mock(RuntimeContext.class);
+        given(runtimeContext.getMetricGroup()).willReturn(new UnregisteredMetricsGroup());
+        return runtimeContext;
+    }
 }
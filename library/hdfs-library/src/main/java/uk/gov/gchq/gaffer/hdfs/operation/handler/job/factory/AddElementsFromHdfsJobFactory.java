@@ -21,6 +21,15 @@ import uk.gov.gchq.gaffer.store.StoreException;
 
 
 public interface AddElementsFromHdfsJobFactory extends JobFactory<AddElementsFromHdfs> {
+    /**
+     * The operation option, and job configuration key, for the maximum number
+     * of elements each mapper holds in its aggregation buffer. Elements with
+     * the same identifiers, group-by properties and visibility are aggregated
+     * in the mapper with the schema's ingest aggregators, so duplicate keys are
+     * not serialised, spilled and sorted. By default the buffer is disabled.
+     */
+    String MAPPER_AGGREGATION_BUFFER_SIZE = "gaffer.hdfs.operation.mapper_aggregation_buffer_size";
+
 
     /**
      * Prepares the store for the add from hdfs.
@@ -24,10 +24,14 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.hdfs.operation.mapper.generator.MapperGenerator;
 import uk.gov.gchq.gaffer.store.ElementValidator;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.util.HashMap;
+import java.util.Map;
 
+import static uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsFromHdfsJobFactory.MAPPER_AGGREGATION_BUFFER_SIZE;
 import static uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsFromHdfsJobFactory.MAPPER_GENERATOR;
 import static uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsFromHdfsJobFactory.SCHEMA;
 import static uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsFromHdfsJobFactory.VALIDATE;
@@ -37,6 +41,15 @@ import static uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsF
  * {@link MapperGenerator} to map the input data into
  * {@link Element}s and then delegates the elements to an abstract map method to serialise them
  * and add them to the job map context.
+ * <p>
+ * If {@link uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsFromHdfsJobFactory#MAPPER_AGGREGATION_BUFFER_SIZE}
+ * is set
+ * then elements of aggregated groups are held in a bounded buffer, keyed on
+ * their identifiers, group-by properties and visibility, and aggregated with the
+ * schema's ingest aggregators. The buffer is flushed when it is full and when the
+ * mapper finishes. The {@link MapperGenerator} must therefore create a new
+ * element each time rather than reusing them.
+ * </p>
  *
  * @param <KEY_IN>    type of input key
  * @param <VALUE_IN>  type of input value
@@ -48,6 +61,8 @@ public abstract class GafferMapper<KEY_IN, VALUE_IN, KEY_OUT, VALUE_OUT> extends
     private MapperGenerator<KEY_IN, VALUE_IN> mapperGenerator;
     private boolean doValidation;
     private ElementValidator elementValidator;
+    private int aggregationBufferSize;
+    private Map<Element, Element> aggregationBuffer;
     protected Schema schema;
 
     @Override
@@ -59,6 +74,10 @@ public abstract class GafferMapper<KEY_IN, VALUE_IN, KEY_OUT, VALUE_OUT> extends
             throw new RuntimeException(e.getMessage(), e);
         }
         elementValidator = new ElementValidator(schema);
+        aggregationBufferSize = context.getConfiguration().getInt(MAPPER_AGGREGATION_BUFFER_SIZE, 0);
+        if (aggregationBufferSize > 0) {
+            aggregationBuffer = new HashMap<>();
+        }
 
         final String generatorClass = context.getConfiguration().get(MAPPER_GENERATOR);
         try {
@@ -72,7 +91,11 @@ public abstract class GafferMapper<KEY_IN, VALUE_IN, KEY_OUT, VALUE_OUT> extends
     protected void map(final KEY_IN keyIn, final VALUE_IN valueIn, final Context context) throws IOException, InterruptedException {
         for (final Element element : mapperGenerator.getElements(keyIn, valueIn, context)) {
             if (!doValidation || isValid(element)) {
-                map(element, context);
+                if (null == aggregationBuffer) {
+                    map(element, context);
+                } else {
+                    aggregate(element, context);
+                }
             } else {
                 LOGGER.warn("Element {} did not validate.", element);
                 context.getCounter("Bulk import", "Invalid element count").increment(1L);
@@ -80,6 +103,53 @@ public abstract class GafferMapper<KEY_IN, VALUE_IN, KEY_OUT, VALUE_OUT> extends
         }
     }
 
+    @Override
+    protected void cleanup(final Context context) throws IOException, InterruptedException {
+        if (null != aggregationBuffer) {
+            flushAggregationBuffer(context);
+        }
+        super.cleanup(context);
+    }
+
+    private void aggregate(final Element element, final Context context) throws IOException, InterruptedException {
+        final SchemaElementDefinition elementDef = schema.getElement(element.getGroup());
+        if (null == elementDef || !elementDef.isAggregate()) {
+            map(element, context);
+            return;
+        }
+
+        final Element key = createAggregationKey(element, elementDef);
+        final Element state = aggregationBuffer.get(key);
+        if (null == state) {
+            if (aggregationBuffer.size() >= aggregationBufferSize) {
+                flushAggregationBuffer(context);
+            }
+            aggregationBuffer.put(key, element);
+        } else {
+            elementDef.getIngestAggregator().apply(state, element);
+            context.getCounter("Bulk import", "Aggregated in mapper count").increment(1L);
+        }
+    }
+
+    private Element createAggregationKey(final Element element, final SchemaElementDefinition elementDef) {
+        final Element key = element.emptyClone();
+        for (final String property : elementDef.getGroupBy()) {
+            key.putProperty(property, element.getProperty(property));
+        }
+        final String visibilityProperty = schema.getVisibilityProperty();
+        if (null != visibilityProperty) {
+            key.putProperty(visibilityProperty, element.getProperty(visibilityProperty));
+        }
+        return key;
+    }
+
+    private void flushAggregationBuffer(final Context context) throws IOException, InterruptedException {
+        for (final Element element : aggregationBuffer.values()) {
+            map(element, context);
+        }
+        aggregationBuffer.clear();
+    }
+
     protected boolean isValid(final Element element) {
         return elementValidator.validateWithSchema(element);
     }
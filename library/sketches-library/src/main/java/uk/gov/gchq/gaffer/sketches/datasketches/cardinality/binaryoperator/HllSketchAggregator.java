@@ -18,13 +18,15 @@ package uk.gov.gchq.gaffer.sketches.datasketches.cardinality.binaryoperator;
 import com.yahoo.sketches.hll.HllSketch;
 import com.yahoo.sketches.hll.Union;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code HllSketchAggregator} is a {@link java.util.function.BinaryOperator} that takes in
- * {@link HllSketch}s and merges them together using a {@link Union}.
+ * {@link HllSketch}s and merges them together using a {@link Union}. When many sketches are
+ * aggregated together a single {@link Union} is used for all of them.
  */
-public class HllSketchAggregator extends KorypheBinaryOperator<HllSketch> {
+public class HllSketchAggregator extends KorypheBinaryOperator<HllSketch> implements AccumulatingBinaryOperator<HllSketch, Union> {
 
     @Override
     protected HllSketch _apply(final HllSketch a, final HllSketch b) {
@@ -33,4 +35,22 @@ public class HllSketchAggregator extends KorypheBinaryOperator<HllSketch> {
         union.update(b);
         return union.getResult();
     }
+
+    @Override
+    public Union createAccumulator(final HllSketch first) {
+        final Union union = new Union(first.getLgConfigK());
+        union.update(first);
+        return union;
+    }
+
+    @Override
+    public Union accumulate(final Union union, final HllSketch value) {
+        union.update(value);
+        return union;
+    }
+
+    @Override
+    public HllSketch getResult(final Union union) {
+        return union.getResult();
+    }
 }
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation;
 
+import com.yahoo.memory.Memory;
 import com.yahoo.sketches.hll.HllSketch;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
@@ -42,6 +43,11 @@ public class HllSketchSerialiser implements ToBytesSerialiser<HllSketch> {
         return HllSketch.heapify(bytes);
     }
 
+    @Override
+    public HllSketch deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return HllSketch.heapify(Memory.wrap(allBytes).region(offset, length));
+    }
+
     @Override
     public HllSketch deserialiseEmpty() throws SerialisationException {
         return null;
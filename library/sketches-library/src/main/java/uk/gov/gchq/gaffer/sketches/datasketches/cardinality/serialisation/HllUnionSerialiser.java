@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation;
 
+import com.yahoo.memory.Memory;
 import com.yahoo.sketches.hll.Union;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
@@ -42,6 +43,11 @@ public class HllUnionSerialiser implements ToBytesSerialiser<Union> {
         return Union.heapify(bytes);
     }
 
+    @Override
+    public Union deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return Union.heapify(Memory.wrap(allBytes).region(offset, length));
+    }
+
     @Override
     public Union deserialiseEmpty() throws SerialisationException {
         return null;
@@ -17,17 +17,34 @@ package uk.gov.gchq.gaffer.sketches.datasketches.frequencies.binaryoperator;
 
 import com.yahoo.sketches.frequencies.LongsSketch;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code LongsSketchAggregator} is a {@link java.util.function.BinaryOperator} that takes in
  * {@link LongsSketch}s and merges them together using {@link LongsSketch#merge(LongsSketch)}.
  */
-public class LongsSketchAggregator extends KorypheBinaryOperator<LongsSketch> {
+public class LongsSketchAggregator extends KorypheBinaryOperator<LongsSketch> implements AccumulatingBinaryOperator<LongsSketch, LongsSketch> {
 
     @Override
     protected LongsSketch _apply(final LongsSketch a, final LongsSketch b) {
         a.merge(b);
         return a;
     }
+
+    @Override
+    public LongsSketch createAccumulator(final LongsSketch first) {
+        return first;
+    }
+
+    @Override
+    public LongsSketch accumulate(final LongsSketch sketch, final LongsSketch value) {
+        sketch.merge(value);
+        return sketch;
+    }
+
+    @Override
+    public LongsSketch getResult(final LongsSketch sketch) {
+        return sketch;
+    }
 }
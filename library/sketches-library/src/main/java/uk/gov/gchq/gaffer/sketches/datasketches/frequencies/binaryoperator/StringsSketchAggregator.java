@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.sketches.datasketches.frequencies.binaryoperator;
 
 import com.yahoo.sketches.frequencies.ItemsSketch;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
@@ -27,11 +28,27 @@ import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
  * supplied to the {@code _aggregate} method and that requires serialising and deserialising which
  * requires a specific serialiser.
  */
-public class StringsSketchAggregator extends KorypheBinaryOperator<ItemsSketch<String>> {
+public class StringsSketchAggregator extends KorypheBinaryOperator<ItemsSketch<String>> implements AccumulatingBinaryOperator<ItemsSketch<String>, ItemsSketch<String>> {
 
     @Override
     protected ItemsSketch<String> _apply(final ItemsSketch<String> a, final ItemsSketch<String> b) {
         a.merge(b);
         return a;
     }
+
+    @Override
+    public ItemsSketch<String> createAccumulator(final ItemsSketch<String> first) {
+        return first;
+    }
+
+    @Override
+    public ItemsSketch<String> accumulate(final ItemsSketch<String> sketch, final ItemsSketch<String> value) {
+        sketch.merge(value);
+        return sketch;
+    }
+
+    @Override
+    public ItemsSketch<String> getResult(final ItemsSketch<String> sketch) {
+        return sketch;
+    }
 }
@@ -18,13 +18,15 @@ package uk.gov.gchq.gaffer.sketches.datasketches.quantiles.binaryoperator;
 import com.yahoo.sketches.quantiles.DoublesSketch;
 import com.yahoo.sketches.quantiles.DoublesUnion;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code DoublesSketchAggregator} is a {@link java.util.function.BinaryOperator} that aggregates
- * {@link DoublesSketch}s using a {@link DoublesUnion}.
+ * {@link DoublesSketch}s using a {@link DoublesUnion}. When many sketches are aggregated together a single
+ * {@link DoublesUnion} is used for all of them.
  */
-public class DoublesSketchAggregator extends KorypheBinaryOperator<DoublesSketch> {
+public class DoublesSketchAggregator extends KorypheBinaryOperator<DoublesSketch> implements AccumulatingBinaryOperator<DoublesSketch, DoublesUnion> {
 
     @Override
     protected DoublesSketch _apply(final DoublesSketch a, final DoublesSketch b) {
@@ -33,4 +35,22 @@ public class DoublesSketchAggregator extends KorypheBinaryOperator<DoublesSketch
         union.update(b);
         return union.getResult();
     }
+
+    @Override
+    public DoublesUnion createAccumulator(final DoublesSketch first) {
+        final DoublesUnion union = DoublesUnion.builder().setMaxK(first.getK()).build();
+        union.update(first);
+        return union;
+    }
+
+    @Override
+    public DoublesUnion accumulate(final DoublesUnion union, final DoublesSketch value) {
+        union.update(value);
+        return union;
+    }
+
+    @Override
+    public DoublesSketch getResult(final DoublesUnion union) {
+        return union.getResult();
+    }
 }
@@ -19,13 +19,16 @@ import com.google.common.collect.Ordering;
 import com.yahoo.sketches.quantiles.ItemsSketch;
 import com.yahoo.sketches.quantiles.ItemsUnion;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code StringsSketchAggregator} is a {@link java.util.function.BinaryOperator} that aggregates
- * {@link ItemsSketch}s of {@link String}s using an {@link ItemsUnion}.
+ * {@link ItemsSketch}s of {@link String}s using an {@link ItemsUnion}. When many sketches are aggregated
+ * together a single {@link ItemsUnion} is used for all of them.
  */
-public class StringsSketchAggregator extends KorypheBinaryOperator<ItemsSketch<String>> {
+public class StringsSketchAggregator extends KorypheBinaryOperator<ItemsSketch<String>>
+        implements AccumulatingBinaryOperator<ItemsSketch<String>, ItemsUnion<String>> {
 
     @Override
     protected ItemsSketch<String> _apply(final ItemsSketch<String> a, final ItemsSketch<String> b) {
@@ -34,4 +37,22 @@ public class StringsSketchAggregator extends KorypheBinaryOperator<ItemsSketch<S
         union.update(b);
         return union.getResult();
     }
+
+    @Override
+    public ItemsUnion<String> createAccumulator(final ItemsSketch<String> first) {
+        final ItemsUnion<String> union = ItemsUnion.getInstance(Ordering.<String>natural());
+        union.update(first);
+        return union;
+    }
+
+    @Override
+    public ItemsUnion<String> accumulate(final ItemsUnion<String> union, final ItemsSketch<String> value) {
+        union.update(value);
+        return union;
+    }
+
+    @Override
+    public ItemsSketch<String> getResult(final ItemsUnion<String> union) {
+        return union.getResult();
+    }
 }
@@ -43,6 +43,11 @@ public class DoublesSketchSerialiser implements ToBytesSerialiser<DoublesSketch>
         return DoublesSketch.wrap(Memory.wrap(bytes));
     }
 
+    @Override
+    public DoublesSketch deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return DoublesSketch.wrap(Memory.wrap(allBytes).region(offset, length));
+    }
+
     @Override
     public DoublesSketch deserialiseEmpty() throws SerialisationException {
         return null;
@@ -15,7 +15,7 @@
  */
 package uk.gov.gchq.gaffer.sketches.datasketches.quantiles.serialisation;
 
-import com.yahoo.memory.WritableMemory;
+import com.yahoo.memory.Memory;
 import com.yahoo.sketches.quantiles.DoublesUnion;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
@@ -40,8 +40,17 @@ public class DoublesUnionSerialiser implements ToBytesSerialiser<DoublesUnion> {
 
     @Override
     public DoublesUnion deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(Memory.wrap(bytes));
+    }
+
+    @Override
+    public DoublesUnion deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return deserialise(Memory.wrap(allBytes).region(offset, length));
+    }
+
+    private DoublesUnion deserialise(final Memory memory) {
         final DoublesUnion union = DoublesUnion.builder().build();
-        union.update(WritableMemory.wrap(bytes));
+        union.update(memory);
         return union;
     }
 
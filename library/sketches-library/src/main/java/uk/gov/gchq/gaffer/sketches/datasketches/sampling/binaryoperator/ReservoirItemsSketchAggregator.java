@@ -18,13 +18,16 @@ package uk.gov.gchq.gaffer.sketches.datasketches.sampling.binaryoperator;
 import com.yahoo.sketches.sampling.ReservoirItemsSketch;
 import com.yahoo.sketches.sampling.ReservoirItemsUnion;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code ReservoirItemsSketchAggregator} is a {@link java.util.function.BinaryOperator} that aggregates
- * {@link ReservoirItemsSketch}s using a {@link ReservoirItemsUnion}.
+ * {@link ReservoirItemsSketch}s using a {@link ReservoirItemsUnion}. When many sketches are aggregated together a
+ * single {@link ReservoirItemsUnion} is used for all of them.
  */
-public class ReservoirItemsSketchAggregator<T> extends KorypheBinaryOperator<ReservoirItemsSketch<T>> {
+public class ReservoirItemsSketchAggregator<T> extends KorypheBinaryOperator<ReservoirItemsSketch<T>>
+        implements AccumulatingBinaryOperator<ReservoirItemsSketch<T>, ReservoirItemsUnion<T>> {
 
     @Override
     protected ReservoirItemsSketch<T> _apply(final ReservoirItemsSketch<T> a, final ReservoirItemsSketch<T> b) {
@@ -33,4 +36,22 @@ public class ReservoirItemsSketchAggregator<T> extends KorypheBinaryOperator<Res
         union.update(b);
         return union.getResult();
     }
+
+    @Override
+    public ReservoirItemsUnion<T> createAccumulator(final ReservoirItemsSketch<T> first) {
+        final ReservoirItemsUnion<T> union = ReservoirItemsUnion.newInstance(first.getK());
+        union.update(first);
+        return union;
+    }
+
+    @Override
+    public ReservoirItemsUnion<T> accumulate(final ReservoirItemsUnion<T> union, final ReservoirItemsSketch<T> value) {
+        union.update(value);
+        return union;
+    }
+
+    @Override
+    public ReservoirItemsSketch<T> getResult(final ReservoirItemsUnion<T> union) {
+        return union.getResult();
+    }
 }
@@ -18,13 +18,16 @@ package uk.gov.gchq.gaffer.sketches.datasketches.sampling.binaryoperator;
 import com.yahoo.sketches.sampling.ReservoirLongsSketch;
 import com.yahoo.sketches.sampling.ReservoirLongsUnion;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code ReservoirLongsSketchAggregator} is a {@link java.util.function.BinaryOperator} that aggregates
- * {@link ReservoirLongsSketch}s using a {@link ReservoirLongsUnion}.
+ * {@link ReservoirLongsSketch}s using a {@link ReservoirLongsUnion}. When many sketches are aggregated together a
+ * single {@link ReservoirLongsUnion} is used for all of them.
  */
-public class ReservoirLongsSketchAggregator extends KorypheBinaryOperator<ReservoirLongsSketch> {
+public class ReservoirLongsSketchAggregator extends KorypheBinaryOperator<ReservoirLongsSketch>
+        implements AccumulatingBinaryOperator<ReservoirLongsSketch, ReservoirLongsUnion> {
 
     @Override
     protected ReservoirLongsSketch _apply(final ReservoirLongsSketch a, final ReservoirLongsSketch b) {
@@ -33,4 +36,22 @@ public class ReservoirLongsSketchAggregator extends KorypheBinaryOperator<Reserv
         union.update(b);
         return union.getResult();
     }
+
+    @Override
+    public ReservoirLongsUnion createAccumulator(final ReservoirLongsSketch first) {
+        final ReservoirLongsUnion union = ReservoirLongsUnion.newInstance(first.getK());
+        union.update(first);
+        return union;
+    }
+
+    @Override
+    public ReservoirLongsUnion accumulate(final ReservoirLongsUnion union, final ReservoirLongsSketch value) {
+        union.update(value);
+        return union;
+    }
+
+    @Override
+    public ReservoirLongsSketch getResult(final ReservoirLongsUnion union) {
+        return union.getResult();
+    }
 }
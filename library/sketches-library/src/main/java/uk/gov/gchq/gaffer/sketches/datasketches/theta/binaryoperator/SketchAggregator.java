@@ -19,13 +19,14 @@ import com.yahoo.sketches.theta.Sketch;
 import com.yahoo.sketches.theta.Sketches;
 import com.yahoo.sketches.theta.Union;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code SketchAggregator} is a {@link java.util.function.BinaryOperator} that aggregates {@link Sketch}s
  * using a {@link Union}.
  */
-public class SketchAggregator extends KorypheBinaryOperator<Sketch> {
+public class SketchAggregator extends KorypheBinaryOperator<Sketch> implements AccumulatingBinaryOperator<Sketch, Union> {
 
     @Override
     protected Sketch _apply(final Sketch a, final Sketch b) {
@@ -34,4 +35,22 @@ public class SketchAggregator extends KorypheBinaryOperator<Sketch> {
         union.update(b);
         return union.getResult();
     }
+
+    @Override
+    public Union createAccumulator(final Sketch first) {
+        final Union union = Sketches.setOperationBuilder().buildUnion();
+        union.update(first);
+        return union;
+    }
+
+    @Override
+    public Union accumulate(final Union union, final Sketch value) {
+        union.update(value);
+        return union;
+    }
+
+    @Override
+    public Sketch getResult(final Union union) {
+        return union.getResult();
+    }
 }
@@ -28,7 +28,7 @@ public class UnionAggregator extends KorypheBinaryOperator<Union> {
 
     @Override
     protected Union _apply(final Union a, final Union b) {
-        a.update(b.getResult());
+        a.update(b.getResult(false, null));
         return a;
     }
 }
@@ -23,7 +23,8 @@ import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
 /**
  * A {@code SketchSerialiser} serialises a {@link com.yahoo.sketches.theta.Sketch} using its
- * {@code toByteArray()}.
+ * {@code toByteArray()}. Deserialised sketches are read-only and wrap the serialised bytes,
+ * without copying them.
  */
 public class SketchSerialiser implements ToBytesSerialiser<Sketch> {
     private static final long serialVersionUID = 7334348024327614467L;
@@ -43,6 +44,11 @@ public class SketchSerialiser implements ToBytesSerialiser<Sketch> {
         return Sketch.wrap(Memory.wrap(bytes));
     }
 
+    @Override
+    public Sketch deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return Sketch.wrap(Memory.wrap(allBytes).region(offset, length));
+    }
+
     @Override
     public Sketch deserialiseEmpty() throws SerialisationException {
         return null;
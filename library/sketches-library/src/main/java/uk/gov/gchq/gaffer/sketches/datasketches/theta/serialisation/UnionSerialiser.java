@@ -15,7 +15,7 @@
  */
 package uk.gov.gchq.gaffer.sketches.datasketches.theta.serialisation;
 
-import com.yahoo.memory.WritableMemory;
+import com.yahoo.memory.Memory;
 import com.yahoo.sketches.theta.Sketches;
 import com.yahoo.sketches.theta.Union;
 
@@ -24,7 +24,7 @@ import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
 /**
  * A {@code UnionSerialiser} serialises an {@link Union} using the {@code toByteArray()} method from the
- * sketch
+ * sketch.
  */
 public class UnionSerialiser implements ToBytesSerialiser<Union> {
     private static final long serialVersionUID = -7510002118163110532L;
@@ -41,8 +41,17 @@ public class UnionSerialiser implements ToBytesSerialiser<Union> {
 
     @Override
     public Union deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(Memory.wrap(bytes));
+    }
+
+    @Override
+    public Union deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return deserialise(Memory.wrap(allBytes).region(offset, length));
+    }
+
+    private Union deserialise(final Memory memory) {
         final Union union = Sketches.setOperationBuilder().buildUnion();
-        union.update(WritableMemory.wrap(bytes));
+        union.update(memory);
         return union;
     }
 
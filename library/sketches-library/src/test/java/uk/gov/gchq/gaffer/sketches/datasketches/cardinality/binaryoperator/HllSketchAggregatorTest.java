@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.cardinality.binaryoperator;
 
 import com.yahoo.sketches.hll.HllSketch;
+import com.yahoo.sketches.hll.Union;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -54,6 +55,23 @@ public class HllSketchAggregatorTest extends BinaryOperatorTest {
         assertEquals(4.0D, currentState.getEstimate(), DELTA);
     }
 
+    @Test
+    public void testAccumulate() {
+        final HllSketchAggregator sketchAggregator = new HllSketchAggregator();
+        final HllSketch sketch3 = new HllSketch(10);
+        sketch3.update("A");
+        sketch3.update("E");
+
+        Union union = sketchAggregator.createAccumulator(sketch1);
+        union = sketchAggregator.accumulate(union, sketch2);
+        union = sketchAggregator.accumulate(union, sketch3);
+        final HllSketch result = sketchAggregator.getResult(union);
+
+        assertEquals(5.0D, result.getEstimate(), DELTA);
+        assertEquals(sketchAggregator.apply(sketchAggregator.apply(sketch1, sketch2), sketch3).getEstimate(),
+                result.getEstimate(), DELTA);
+    }
+
     @Test
     public void testEquals() {
         assertEquals(new HllSketchAggregator(), new HllSketchAggregator());
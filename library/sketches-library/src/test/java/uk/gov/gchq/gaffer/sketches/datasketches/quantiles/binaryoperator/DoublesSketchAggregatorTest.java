@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.quantiles.binaryoperator;
 
 import com.yahoo.sketches.quantiles.DoublesSketch;
+import com.yahoo.sketches.quantiles.DoublesUnion;
 import com.yahoo.sketches.quantiles.UpdateDoublesSketch;
 import org.junit.Before;
 import org.junit.Test;
@@ -61,6 +62,22 @@ public class DoublesSketchAggregatorTest extends BinaryOperatorTest {
         assertEquals(4.0D, currentState.getQuantile(0.5D), DELTA);
     }
 
+    @Test
+    public void testAccumulate() {
+        final DoublesSketchAggregator sketchAggregator = new DoublesSketchAggregator();
+        final UpdateDoublesSketch sketch3 = DoublesSketch.builder().build();
+        sketch3.update(8.0D);
+        sketch3.update(9.0D);
+
+        DoublesUnion union = sketchAggregator.createAccumulator(sketch1);
+        union = sketchAggregator.accumulate(union, sketch2);
+        union = sketchAggregator.accumulate(union, sketch3);
+        final DoublesSketch result = sketchAggregator.getResult(union);
+
+        assertEquals(9L, result.getN());
+        assertEquals(5.0D, result.getQuantile(0.5D), DELTA);
+    }
+
     @Test
     public void testEquals() {
         assertEquals(new DoublesSketchAggregator(), new DoublesSketchAggregator());
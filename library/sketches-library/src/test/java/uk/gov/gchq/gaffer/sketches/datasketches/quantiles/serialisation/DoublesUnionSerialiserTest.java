@@ -19,9 +19,11 @@ import com.yahoo.sketches.quantiles.DoublesUnion;
 import org.junit.Test;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.sketches.clearspring.cardinality.serialisation.ViaCalculatedValueSerialiserTest;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -66,4 +68,20 @@ public class DoublesUnionSerialiserTest extends ViaCalculatedValueSerialiserTest
         assertTrue(serialiser.canHandle(DoublesUnion.class));
         assertFalse(serialiser.canHandle(String.class));
     }
+
+    @Test
+    public void shouldDeserialiseAtOffset() throws SerialisationException {
+        // Given
+        final DoublesUnionSerialiser doublesUnionSerialiser = new DoublesUnionSerialiser();
+        final byte[] serialised = doublesUnionSerialiser.serialise(getExampleOutput());
+        final byte[] allBytes = new byte[serialised.length + 5];
+        System.arraycopy(serialised, 0, allBytes, 3, serialised.length);
+
+        // When
+        final DoublesUnion union = doublesUnionSerialiser.deserialise(allBytes, 3, serialised.length);
+
+        // Then
+        assertEquals(3L, union.getResult().getN());
+        assertEquals(2.0D, union.getResult().getQuantile(0.5D), DELTA);
+    }
 }
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.theta.binaryoperator;
 
 import com.yahoo.sketches.theta.Sketch;
+import com.yahoo.sketches.theta.Union;
 import com.yahoo.sketches.theta.UpdateSketch;
 import org.junit.Before;
 import org.junit.Test;
@@ -55,6 +56,20 @@ public class SketchAggregatorTest extends BinaryOperatorTest {
         assertEquals(4.0D, currentState.getEstimate(), DELTA);
     }
 
+    @Test
+    public void testAccumulate() {
+        final SketchAggregator sketchAggregator = new SketchAggregator();
+        final UpdateSketch sketch3 = UpdateSketch.builder().build();
+        sketch3.update("A");
+        sketch3.update("E");
+
+        Union union = sketchAggregator.createAccumulator(sketch1);
+        union = sketchAggregator.accumulate(union, sketch2);
+        union = sketchAggregator.accumulate(union, sketch3);
+
+        assertEquals(5.0D, sketchAggregator.getResult(union).getEstimate(), DELTA);
+    }
+
     @Test
     public void testEquals() {
         assertEquals(new SketchAggregator(), new SketchAggregator());
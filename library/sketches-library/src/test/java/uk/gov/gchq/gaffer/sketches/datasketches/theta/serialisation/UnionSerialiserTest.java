@@ -20,9 +20,11 @@ import com.yahoo.sketches.theta.Union;
 import org.junit.Test;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.sketches.clearspring.cardinality.serialisation.ViaCalculatedValueSerialiserTest;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -69,4 +71,18 @@ public class UnionSerialiserTest extends ViaCalculatedValueSerialiserTest<Union,
         assertFalse(serialiser.canHandle(String.class));
     }
 
+    @Test
+    public void shouldDeserialiseAtOffset() throws SerialisationException {
+        // Given
+        final UnionSerialiser unionSerialiser = new UnionSerialiser();
+        final byte[] serialised = unionSerialiser.serialise(getExampleOutput());
+        final byte[] allBytes = new byte[serialised.length + 5];
+        System.arraycopy(serialised, 0, allBytes, 3, serialised.length);
+
+        // When
+        final Union union = unionSerialiser.deserialise(allBytes, 3, serialised.length);
+
+        // Then
+        assertEquals(3.0D, union.getResult().getEstimate(), DELTA);
+    }
 }
@@ -23,6 +23,7 @@ import com.yahoo.sketches.sampling.ReservoirLongsUnion;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.roaringbitmap.IntIterator;
 
 import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil;
 import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil.TimeBucket;
@@ -200,12 +201,41 @@ public class BoundedTimestampSet implements TimestampSet {
         }
         // Switch state from RBM to ReservoirLongsUnion, copy values from RBM to the reservoir, and set the
         // RBM to null.
+        final RBMBackedTimestampSet timestamps = rbmBackedTimestampSet;
         state = State.SAMPLE;
         reservoirLongsUnion = ReservoirLongsUnion.newInstance(maxSize);
-        for (final Instant instant : rbmBackedTimestampSet.getTimestamps()) {
-            reservoirLongsUnion.update(instant.toEpochMilli());
-        }
         rbmBackedTimestampSet = null;
+        addToReservoir(timestamps);
+    }
+
+    /**
+     * Adds all of the timestamps in the other {@link BoundedTimestampSet} to this one. If both sets are in state
+     * {@code NOT_FULL} then the bitmaps are merged. If the other set is in state {@code SAMPLE} then its sample is
+     * merged into this set's {@link ReservoirLongsUnion}, taking into account the number of timestamps that it
+     * was sampled from. Timestamps are never converted to {@link Instant}s, so a fold over many sets only
+     * updates a single bitmap or {@link ReservoirLongsUnion}.
+     *
+     * @param other the {@link BoundedTimestampSet} to add, which must have the same time bucket and maximum size
+     */
+    public void addAll(final BoundedTimestampSet other) {
+        if (State.NOT_FULL.equals(other.state)) {
+            if (State.NOT_FULL.equals(state)) {
+                rbmBackedTimestampSet.addAll(other.rbmBackedTimestampSet);
+                checkSize();
+            } else {
+                addToReservoir(other.rbmBackedTimestampSet);
+            }
+        } else {
+            switchToSampleState();
+            reservoirLongsUnion.update(other.reservoirLongsUnion.getResult());
+        }
+    }
+
+    private void addToReservoir(final RBMBackedTimestampSet timestamps) {
+        final IntIterator it = timestamps.getImmutableRbm().getIntIterator();
+        while (it.hasNext()) {
+            reservoirLongsUnion.update(RBMBackedTimestampSet.fromInt(timeBucket, it.next()));
+        }
     }
 
     /**
@@ -19,7 +19,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.Sets;
-import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil;
@@ -27,6 +26,7 @@ import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil.TimeBucket;
 import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
@@ -50,6 +50,10 @@ import static uk.gov.gchq.gaffer.commonutil.CommonTimeUtil.TimeBucket.YEAR;
  * <code>MINUTE</code> is specified, and a timestamp of January 1st 2017, 12:34:56
  * is added then the seconds are removed so that the value is associated to
  * 12:34.
+ *
+ * <p>The buckets and their values are stored in two parallel, sorted arrays of
+ * primitive longs, so lookups and range queries use a binary search and two
+ * time series can be merged in a single linear pass without boxing.
  */
 public class LongTimeSeries implements TimeSeries<Long> {
     private static final Set<TimeBucket> VALID_TIME_BUCKETS = Sets.newHashSet(
@@ -62,9 +66,12 @@ public class LongTimeSeries implements TimeSeries<Long> {
             MONTH,
             YEAR
     );
+    private static final long[] EMPTY = new long[0];
 
     private final TimeBucket timeBucket;
-    private final SortedMap<Long, Long> timeSeries = new TreeMap<>();
+    private long[] buckets = EMPTY;
+    private long[] values = EMPTY;
+    private int size;
 
     public LongTimeSeries(final TimeBucket timeBucket) {
         if (!VALID_TIME_BUCKETS.contains(timeBucket)) {
@@ -90,8 +97,7 @@ public class LongTimeSeries implements TimeSeries<Long> {
      */
     @Override
     public void put(final Instant instant, final Long value) {
-        final long bucket = toLong(timeBucket, instant.toEpochMilli());
-        timeSeries.put(bucket, value);
+        put(toLong(timeBucket, instant.toEpochMilli()), value, false);
     }
 
     /**
@@ -104,7 +110,8 @@ public class LongTimeSeries implements TimeSeries<Long> {
     @JsonIgnore
     @Override
     public Long get(final Instant instant) {
-        return timeSeries.get(toLong(timeBucket, instant.toEpochMilli()));
+        final int index = Arrays.binarySearch(buckets, 0, size, toLong(timeBucket, instant.toEpochMilli()));
+        return index >= 0 ? values[index] : null;
     }
 
     /**
@@ -118,8 +125,52 @@ public class LongTimeSeries implements TimeSeries<Long> {
      * @param count   The value observed at the instant.
      */
     public void upsert(final Instant instant, final long count) {
-        final long bucket = toLong(timeBucket, instant.toEpochMilli());
-        timeSeries.merge(bucket, count, (x, y) -> x + y);
+        put(toLong(timeBucket, instant.toEpochMilli()), count, true);
+    }
+
+    /**
+     * Adds the values of the given time series to this time series, summing the
+     * values of any buckets that are in both. The two sorted time series are
+     * merged in a single pass. Note that the caller of this method is
+     * responsible for dealing with the case where the sums would overflow.
+     *
+     * @param other The time series to merge into this time series.
+     */
+    public void merge(final LongTimeSeries other) {
+        if (!timeBucket.equals(other.timeBucket)) {
+            throw new IllegalArgumentException("Can't merge two LongTimeSeries with different time buckets: "
+                    + timeBucket + " and " + other.timeBucket);
+        }
+        if (0 == other.size) {
+            return;
+        }
+        final long[] mergedBuckets = new long[size + other.size];
+        final long[] mergedValues = new long[size + other.size];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size && j < other.size) {
+            if (buckets[i] < other.buckets[j]) {
+                mergedBuckets[k] = buckets[i];
+                mergedValues[k++] = values[i++];
+            } else if (buckets[i] > other.buckets[j]) {
+                mergedBuckets[k] = other.buckets[j];
+                mergedValues[k++] = other.values[j++];
+            } else {
+                mergedBuckets[k] = buckets[i];
+                mergedValues[k++] = values[i++] + other.values[j++];
+            }
+        }
+        final int remaining = size - i;
+        System.arraycopy(buckets, i, mergedBuckets, k, remaining);
+        System.arraycopy(values, i, mergedValues, k, remaining);
+        k += remaining;
+        final int otherRemaining = other.size - j;
+        System.arraycopy(other.buckets, j, mergedBuckets, k, otherRemaining);
+        System.arraycopy(other.values, j, mergedValues, k, otherRemaining);
+        buckets = mergedBuckets;
+        values = mergedValues;
+        size = k + otherRemaining;
     }
 
     /**
@@ -130,11 +181,9 @@ public class LongTimeSeries implements TimeSeries<Long> {
     @JsonIgnore
     public SortedSet<Instant> getInstants() {
         final SortedSet<Instant> instants = new TreeSet<>();
-        timeSeries
-                .keySet()
-                .stream()
-                .map(l -> getInstantFromLong(timeBucket, l))
-                .forEach(instants::add);
+        for (int i = 0; i < size; i++) {
+            instants.add(getInstantFromLong(timeBucket, buckets[i]));
+        }
         return instants;
     }
 
@@ -145,7 +194,7 @@ public class LongTimeSeries implements TimeSeries<Long> {
      */
     @JsonIgnore
     public int getNumberOfInstants() {
-        return timeSeries.size();
+        return size;
     }
 
     /**
@@ -156,9 +205,90 @@ public class LongTimeSeries implements TimeSeries<Long> {
      * @return The time series.
      */
     public SortedMap<Instant, Long> getTimeSeries() {
-        final SortedMap<Instant, Long> map = new TreeMap<>();
-        timeSeries.forEach((k, v) -> map.put(getInstantFromLong(timeBucket, k), v));
-        return map;
+        return toMap(0, size);
+    }
+
+    /**
+     * Returns the part of the time series from <code>start</code>, inclusive,
+     * to <code>end</code>, exclusive. Both instants are rounded to the nearest
+     * bucket.
+     *
+     * @param start The start of the range, inclusive.
+     * @param end   The end of the range, exclusive.
+     * @return The part of the time series within the range.
+     */
+    public SortedMap<Instant, Long> getTimeSeries(final Instant start, final Instant end) {
+        final int from = lowerBound(toLong(timeBucket, start.toEpochMilli()));
+        final int to = lowerBound(toLong(timeBucket, end.toEpochMilli()));
+        return toMap(from, Math.max(from, to));
+    }
+
+    /**
+     * Returns the sum of the values from <code>start</code>, inclusive, to
+     * <code>end</code>, exclusive. Both instants are rounded to the nearest
+     * bucket.
+     *
+     * @param start The start of the range, inclusive.
+     * @param end   The end of the range, exclusive.
+     * @return The sum of the values within the range.
+     */
+    public long getSum(final Instant start, final Instant end) {
+        final int to = lowerBound(toLong(timeBucket, end.toEpochMilli()));
+        long sum = 0L;
+        for (int i = lowerBound(toLong(timeBucket, start.toEpochMilli())); i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the instants in the time series as milliseconds since the epoch,
+     * in ascending order.
+     *
+     * @return The instants in the time series.
+     */
+    @JsonIgnore
+    public long[] getEpochMillis() {
+        final long[] epochMillis = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochMillis[i] = fromLong(timeBucket, buckets[i]);
+        }
+        return epochMillis;
+    }
+
+    /**
+     * Returns the values in the time series, in the same order as the instants
+     * returned by {@link #getEpochMillis()}.
+     *
+     * @return The values in the time series.
+     */
+    @JsonIgnore
+    public long[] getValues() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Adds the given values to the time series. The instants are given as
+     * milliseconds since the epoch. If they are in ascending order when rounded
+     * to buckets, which is the case for the arrays returned by
+     * {@link #getEpochMillis()} and {@link #getValues()}, then they are added
+     * without any searching.
+     *
+     * @param epochMillis The instants, as milliseconds since the epoch.
+     * @param counts      The values associated to the instants.
+     * @param length      The number of entries to add.
+     */
+    public void upsertAll(final long[] epochMillis, final long[] counts, final int length) {
+        ensureCapacity(size + length);
+        for (int i = 0; i < length; i++) {
+            final long bucket = toLong(timeBucket, epochMillis[i]);
+            if (0 == size || buckets[size - 1] < bucket) {
+                buckets[size] = bucket;
+                values[size++] = counts[i];
+            } else {
+                put(bucket, counts[i], true);
+            }
+        }
     }
 
     /**
@@ -170,7 +300,9 @@ public class LongTimeSeries implements TimeSeries<Long> {
         if (null == timeBucket) {
             throw new IllegalArgumentException("timeBucket should be configured before setting a timeSeries");
         }
-        this.timeSeries.clear();
+        buckets = EMPTY;
+        values = EMPTY;
+        size = 0;
         if (null != timeSeries) {
             timeSeries.forEach(this::put);
         }
@@ -191,28 +323,75 @@ public class LongTimeSeries implements TimeSeries<Long> {
 
         final LongTimeSeries that = (LongTimeSeries) obj;
 
-        return new EqualsBuilder()
-                .append(timeBucket, that.timeBucket)
-                .append(timeSeries, that.timeSeries)
-                .isEquals();
+        if (size != that.size || timeBucket != that.timeBucket) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (buckets[i] != that.buckets[i] || values[i] != that.values[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder(21, 3)
-                .append(timeBucket)
-                .append(timeSeries)
-                .toHashCode();
+        final HashCodeBuilder builder = new HashCodeBuilder(21, 3)
+                .append(timeBucket);
+        for (int i = 0; i < size; i++) {
+            builder.append(buckets[i]).append(values[i]);
+        }
+        return builder.toHashCode();
     }
 
     @Override
     public String toString() {
+        final SortedMap<Long, Long> timeSeries = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            timeSeries.put(buckets[i], values[i]);
+        }
         return new ToStringBuilder(this)
                 .append("timeBucket", timeBucket)
                 .append("timeSeries", timeSeries)
                 .build();
     }
 
+    private void put(final long bucket, final long value, final boolean add) {
+        final int index = Arrays.binarySearch(buckets, 0, size, bucket);
+        if (index >= 0) {
+            values[index] = add ? values[index] + value : value;
+        } else {
+            final int insertionPoint = -index - 1;
+            ensureCapacity(size + 1);
+            System.arraycopy(buckets, insertionPoint, buckets, insertionPoint + 1, size - insertionPoint);
+            System.arraycopy(values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+            buckets[insertionPoint] = bucket;
+            values[insertionPoint] = value;
+            size++;
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > buckets.length) {
+            final int newCapacity = Math.max(capacity, Math.max(8, buckets.length + (buckets.length >> 1)));
+            buckets = Arrays.copyOf(buckets, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    private int lowerBound(final long bucket) {
+        final int index = Arrays.binarySearch(buckets, 0, size, bucket);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private SortedMap<Instant, Long> toMap(final int from, final int to) {
+        final SortedMap<Instant, Long> map = new TreeMap<>();
+        for (int i = from; i < to; i++) {
+            map.put(getInstantFromLong(timeBucket, buckets[i]), values[i]);
+        }
+        return map;
+    }
+
     private static long toLong(final TimeBucket timeBucket, final long time) {
         final long timeTruncatedToBucket = CommonTimeUtil.timeToBucket(time, timeBucket);
         switch (timeBucket) {
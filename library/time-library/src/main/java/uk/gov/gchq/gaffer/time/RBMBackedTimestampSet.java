@@ -22,12 +22,17 @@ import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.roaringbitmap.ImmutableBitmapDataProvider;
 import org.roaringbitmap.IntIterator;
 import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
 
+import uk.gov.gchq.gaffer.bitmap.serialisation.utils.RoaringBitmapUtils;
 import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil;
 import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
@@ -45,7 +50,9 @@ import static uk.gov.gchq.gaffer.commonutil.CommonTimeUtil.TimeBucket;
  * of 12:34:56 on January 1st 2015 would be truncated to the previous minute, namely 12:34:00 on January 1st 2015.
  * Timebuckets of second, minute, hour, day, week, month and year are supported.
  * <p>
- * Internally this class stores the timestamps in a {@link RoaringBitmap}.
+ * Internally this class stores the timestamps in a {@link RoaringBitmap}. When it is created from a serialised
+ * bitmap, the timestamps are read in place using an {@link ImmutableRoaringBitmap} and are only deserialised into a
+ * {@link RoaringBitmap} when the set is modified.
  * </p>
  * <p>
  * NB: This class does not accept {@link Instant}s that are before the Unix epoch or after the {@link Instant}
@@ -71,6 +78,8 @@ public class RBMBackedTimestampSet implements TimestampSet {
 
     private final TimeBucket timeBucket;
     private RoaringBitmap rbm = new RoaringBitmap();
+    private ByteBuffer serialisedRbm;
+    private ImmutableRoaringBitmap immutableRbm;
 
     public RBMBackedTimestampSet(final TimeBucket timeBucket) {
         if (!VALID_TIMEBUCKETS.contains(timeBucket)) {
@@ -89,7 +98,7 @@ public class RBMBackedTimestampSet implements TimestampSet {
         if (instant.isBefore(MIN_TIME) || instant.isAfter(MAX_TIME)) {
             throw new IllegalArgumentException("Invalid instant of " + instant);
         }
-        rbm.add(toInt(instant.toEpochMilli()));
+        getRbm().add(toInt(instant.toEpochMilli()));
     }
 
     @Override
@@ -100,18 +109,21 @@ public class RBMBackedTimestampSet implements TimestampSet {
     @Override
     public SortedSet<Instant> getTimestamps() {
         final SortedSet<Instant> instants = new TreeSet<>();
-        rbm.forEach(i -> instants.add(getInstantFromInt(i)));
+        final IntIterator it = getImmutableRbm().getIntIterator();
+        while (it.hasNext()) {
+            instants.add(getInstantFromInt(it.next()));
+        }
         return instants;
     }
 
     @Override
     public long getNumberOfTimestamps() {
-        return rbm.getCardinality();
+        return getImmutableRbm().getCardinality();
     }
 
     @Override
     public Instant getEarliest() {
-        final IntIterator it = rbm.getIntIterator();
+        final IntIterator it = getImmutableRbm().getIntIterator();
         if (!it.hasNext()) {
             return null;
         }
@@ -120,7 +132,7 @@ public class RBMBackedTimestampSet implements TimestampSet {
 
     @Override
     public Instant getLatest() {
-        final IntIterator it = rbm.getReverseIntIterator();
+        final IntIterator it = getImmutableRbm().getReverseIntIterator();
         if (!it.hasNext()) {
             return null;
         }
@@ -132,15 +144,36 @@ public class RBMBackedTimestampSet implements TimestampSet {
     }
 
     /**
-     * This exposes the underlying {@link RoaringBitmap} so that serialisers can access it.
+     * This exposes the underlying {@link RoaringBitmap} so that it can be modified. If this set was created from a
+     * serialised bitmap then the bitmap is deserialised first.
      *
      * @return the {@link RoaringBitmap} used by this class to store the timestamps.
      */
     @JsonIgnore
     public RoaringBitmap getRbm() {
+        if (null == rbm) {
+            try {
+                rbm = RoaringBitmapUtils.deserialise(serialisedRbm);
+            } catch (final SerialisationException e) {
+                throw new IllegalStateException("Unable to deserialise the RoaringBitmap", e);
+            }
+            serialisedRbm = null;
+            immutableRbm = null;
+        }
         return rbm;
     }
 
+    /**
+     * This exposes a read-only view of the timestamps so that serialisers and queries can access them without
+     * deserialising a serialised bitmap.
+     *
+     * @return the bitmap used by this class to store the timestamps.
+     */
+    @JsonIgnore
+    public ImmutableBitmapDataProvider getImmutableRbm() {
+        return null != rbm ? rbm : immutableRbm;
+    }
+
     /**
      * Allows the {@link RoaringBitmap} to be set.
      *
@@ -148,10 +181,42 @@ public class RBMBackedTimestampSet implements TimestampSet {
      */
     public void setRbm(final RoaringBitmap rbm) {
         this.rbm = rbm;
+        this.serialisedRbm = null;
+        this.immutableRbm = null;
+    }
+
+    /**
+     * Allows the timestamps to be set from a serialised {@link RoaringBitmap}, as returned by
+     * {@link RoaringBitmapUtils#wrapSerialisedForm(byte[], int, int)}. The bitmap is read in place and is only
+     * deserialised if this set is modified, so the buffer must not be modified afterwards.
+     *
+     * @param serialisedRbm the serialised {@link RoaringBitmap}
+     */
+    public void setSerialisedRbm(final ByteBuffer serialisedRbm) {
+        this.rbm = null;
+        this.serialisedRbm = serialisedRbm;
+        this.immutableRbm = new ImmutableRoaringBitmap(serialisedRbm);
     }
 
+    /**
+     * Adds all the timestamps in the other set to this set. If the other set is
+     * still held in its serialised form then its timestamps are read in place,
+     * so it is not deserialised.
+     *
+     * @param other the set whose timestamps should be added
+     */
     public void addAll(final RBMBackedTimestampSet other) {
-        rbm.or(other.getRbm());
+        if (null != other.rbm) {
+            getRbm().or(other.rbm);
+        } else {
+            // RoaringBitmap 0.5.11 cannot OR an ImmutableRoaringBitmap into a
+            // RoaringBitmap, so the ints are added in order instead
+            final RoaringBitmap thisRbm = getRbm();
+            final IntIterator it = other.immutableRbm.getIntIterator();
+            while (it.hasNext()) {
+                thisRbm.add(it.next());
+            }
+        }
     }
 
     @Override
@@ -168,16 +233,31 @@ public class RBMBackedTimestampSet implements TimestampSet {
 
         return new EqualsBuilder()
                 .append(timeBucket, rbmBackedTimestampSet.timeBucket)
-                .append(rbm, rbmBackedTimestampSet.rbm)
-                .isEquals();
+                .append(getImmutableRbm().getCardinality(), rbmBackedTimestampSet.getImmutableRbm().getCardinality())
+                .isEquals()
+                && containSameInts(getImmutableRbm(), rbmBackedTimestampSet.getImmutableRbm());
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder(21, 83)
-                .append(timeBucket)
-                .append(rbm)
-                .toHashCode();
+        final HashCodeBuilder builder = new HashCodeBuilder(21, 83)
+                .append(timeBucket);
+        final IntIterator it = getImmutableRbm().getIntIterator();
+        while (it.hasNext()) {
+            builder.append(it.next());
+        }
+        return builder.toHashCode();
+    }
+
+    private static boolean containSameInts(final ImmutableBitmapDataProvider a, final ImmutableBitmapDataProvider b) {
+        final IntIterator itA = a.getIntIterator();
+        final IntIterator itB = b.getIntIterator();
+        while (itA.hasNext() && itB.hasNext()) {
+            if (itA.next() != itB.next()) {
+                return false;
+            }
+        }
+        return !itA.hasNext() && !itB.hasNext();
     }
 
     @Override
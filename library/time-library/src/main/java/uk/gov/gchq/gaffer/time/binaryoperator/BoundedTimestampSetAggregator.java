@@ -15,15 +15,19 @@
  */
 package uk.gov.gchq.gaffer.time.binaryoperator;
 
+import uk.gov.gchq.gaffer.commonutil.stream.AccumulatingBinaryOperator;
 import uk.gov.gchq.gaffer.time.BoundedTimestampSet;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code BoundedTimestampSetAggregator} is a {@link java.util.function.BinaryOperator} that takes in
  * {@link BoundedTimestampSet}s and aggregates the second one into the first. The {@link BoundedTimestampSet}s can
- * only be aggregated if they have the same time bucket and maximum size.
+ * only be aggregated if they have the same time bucket and maximum size. When many sets are aggregated together
+ * they are all added to the first set, so there is a single bitmap or {@link com.yahoo.sketches.sampling.ReservoirLongsUnion}
+ * for the whole aggregation.
  */
-public class BoundedTimestampSetAggregator extends KorypheBinaryOperator<BoundedTimestampSet> {
+public class BoundedTimestampSetAggregator extends KorypheBinaryOperator<BoundedTimestampSet>
+        implements AccumulatingBinaryOperator<BoundedTimestampSet, BoundedTimestampSet> {
 
     @Override
     protected BoundedTimestampSet _apply(final BoundedTimestampSet a, final BoundedTimestampSet b) {
@@ -36,20 +40,22 @@ public class BoundedTimestampSetAggregator extends KorypheBinaryOperator<Bounded
             throw new IllegalArgumentException("Can only merge two BoundedTimestampSet with the same maximum size:" +
                     "a has maximum size " + a.getMaxSize() + ", b has maximum size " + b.getMaxSize());
         }
-        // If both are in NOT_FULL state then all the timestamps for b can just be added to a.
-        if (a.getState().equals(BoundedTimestampSet.State.NOT_FULL)
-                && b.getState().equals(BoundedTimestampSet.State.NOT_FULL)) {
-            a.add(b.getTimestamps());
-            return a;
-        }
-        // If either a or b or both are in SAMPLE state, then the aggregated version must also be in SAMPLE state.
-        if (a.getState().equals(BoundedTimestampSet.State.NOT_FULL)) {
-            // Need to switch the state of a to SAMPLE and add in b's samples.
-            a.switchToSampleState();
-            a.add(b.getTimestamps());
-        } else {
-            a.add(b.getTimestamps());
-        }
+        a.addAll(b);
         return a;
     }
+
+    @Override
+    public BoundedTimestampSet createAccumulator(final BoundedTimestampSet first) {
+        return first;
+    }
+
+    @Override
+    public BoundedTimestampSet accumulate(final BoundedTimestampSet accumulator, final BoundedTimestampSet value) {
+        return _apply(accumulator, value);
+    }
+
+    @Override
+    public BoundedTimestampSet getResult(final BoundedTimestampSet accumulator) {
+        return accumulator;
+    }
 }
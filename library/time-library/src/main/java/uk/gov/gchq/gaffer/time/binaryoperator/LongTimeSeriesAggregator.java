@@ -18,14 +18,11 @@ package uk.gov.gchq.gaffer.time.binaryoperator;
 import uk.gov.gchq.gaffer.time.LongTimeSeries;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
-import java.time.Instant;
-import java.util.Map;
-
 /**
  * A {@code LongTimeSeriesAggregator} is a {@link java.util.function.BinaryOperator}
  * that takes in {@link LongTimeSeries}s and aggregates the time series. If both
  * time series contain a value for the same timestamp then the two timestamps
- * are summed.
+ * are summed. The two sorted time series are merged in a single pass.
  */
 public class LongTimeSeriesAggregator extends KorypheBinaryOperator<LongTimeSeries> {
 
@@ -35,9 +32,7 @@ public class LongTimeSeriesAggregator extends KorypheBinaryOperator<LongTimeSeri
             throw new RuntimeException("Can't aggregate two LongTimeSeries with different time buckets: "
             + "a had bucket " + a.getTimeBucket() + ", b had bucket " + b.getTimeBucket());
         }
-        for (final Map.Entry<Instant, Long> entry : b.getTimeSeries().entrySet()) {
-            a.upsert(entry.getKey(), entry.getValue());
-        }
+        a.merge(b);
         return a;
     }
 }
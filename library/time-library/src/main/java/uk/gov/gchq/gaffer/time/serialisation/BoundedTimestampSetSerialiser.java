@@ -15,9 +15,8 @@
  */
 package uk.gov.gchq.gaffer.time.serialisation;
 
-import com.yahoo.memory.WritableMemory;
+import com.yahoo.memory.Memory;
 import com.yahoo.sketches.sampling.ReservoirLongsUnion;
-import org.roaringbitmap.RoaringBitmap;
 
 import uk.gov.gchq.gaffer.bitmap.serialisation.utils.RoaringBitmapUtils;
 import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil;
@@ -58,7 +57,7 @@ public class BoundedTimestampSetSerialiser implements ToBytesSerialiser<BoundedT
             CompactRawSerialisationUtils.write(boundedTimestampSet.getMaxSize(), dos);
             if (BoundedTimestampSet.State.NOT_FULL.equals(boundedTimestampSet.getState())) {
                 dos.write(NOT_FULL);
-                boundedTimestampSet.getRbmBackedTimestampSet().getRbm().serialize(dos);
+                boundedTimestampSet.getRbmBackedTimestampSet().getImmutableRbm().serialize(dos);
             } else {
                 dos.write(SAMPLE);
                 final byte[] serialisedRLU = boundedTimestampSet.getReservoirLongsUnion().toByteArray();
@@ -86,24 +85,16 @@ public class BoundedTimestampSetSerialiser implements ToBytesSerialiser<BoundedT
             final byte state = dis.readByte();
             if (NOT_FULL == state) {
                 final RBMBackedTimestampSet rbmBackedTimestampSet = new RBMBackedTimestampSet(bucket);
-                final RoaringBitmap rbm = new RoaringBitmap();
-                final byte[] serialisedRBM = new byte[bais.available()];
-                if (-1 == dis.read(serialisedRBM)) {
-                    throw new SerialisationException("Unexpected end of stream when reading serialised RoaringBitmap");
-                }
-                final byte[] convertedBytes = RoaringBitmapUtils.upConvertSerialisedForm(serialisedRBM, 0, serialisedRBM.length);
-                final ByteArrayInputStream baisConvertedBytes = new ByteArrayInputStream(convertedBytes);
-                final DataInputStream disConvertedBytes = new DataInputStream(baisConvertedBytes);
-                rbm.deserialize(disConvertedBytes);
-                rbmBackedTimestampSet.setRbm(rbm);
+                final int rbmOffset = offset + length - bais.available();
+                rbmBackedTimestampSet.setSerialisedRbm(RoaringBitmapUtils.wrapSerialisedForm(allBytes, rbmOffset, offset + length - rbmOffset));
                 boundedTimestampSet.setRbmBackedTimestampSet(rbmBackedTimestampSet);
             } else if (SAMPLE == state) {
-                final byte[] serialisedRLU = new byte[dis.available()];
-                if (-1 == dis.read(serialisedRLU)) {
+                final int rluLength = bais.available();
+                if (0 == rluLength) {
                     throw new SerialisationException("Unexpected end of stream when reading serialised ReservoirLongsUnion");
                 }
-                final ReservoirLongsUnion reservoirLongsUnion = ReservoirLongsUnion.heapify(WritableMemory.wrap(serialisedRLU));
-                boundedTimestampSet.setReservoirLongsUnion(reservoirLongsUnion);
+                final Memory serialisedRLU = Memory.wrap(allBytes).region(offset + length - rluLength, rluLength);
+                boundedTimestampSet.setReservoirLongsUnion(ReservoirLongsUnion.heapify(serialisedRLU));
             } else {
                 throw new SerialisationException("Unexpected byte indicating the state: expected " + NOT_FULL + " or "
                         + SAMPLE + ", got " + state);
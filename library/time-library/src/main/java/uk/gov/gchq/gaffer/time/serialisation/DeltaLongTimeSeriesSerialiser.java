@@ -26,15 +26,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.time.Instant;
-import java.util.Map;
-import java.util.SortedMap;
 
 /**
  * Serialises a {@link LongTimeSeries} by writing out the deltas between
  * consecutive values in the timeseries. The same approach is used, independently,
  * for both the timestamps and the values. This should store the time series
  * compactly when there is some regularity in the spacing of the keys or values.
+ * The timestamps and values are read from, and written to, the primitive
+ * arrays that back the {@link LongTimeSeries}.
  *
  * <p>If the values of the time series are extreme, i.e. greater than half of
  * <code>Long.MAX_VALUE</code> in absolute size, then the deltas might overflow.
@@ -57,17 +56,18 @@ public class DeltaLongTimeSeriesSerialiser implements ToBytesSerialiser<LongTime
         }
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         final DataOutputStream dos = new DataOutputStream(baos);
-        final Mode mode = calculateMode(timeSeries);
-        final SortedMap<Instant, Long> timeseriesMap = timeSeries.getTimeSeries();
+        final long[] epochMillis = timeSeries.getEpochMillis();
+        final long[] values = timeSeries.getValues();
+        final Mode mode = calculateMode(epochMillis, values);
         try {
             dos.write(CompactRawSerialisationUtils.writeLong(timeSeries.getTimeBucket().ordinal()));
-            dos.write(CompactRawSerialisationUtils.writeLong(timeseriesMap.size()));
+            dos.write(CompactRawSerialisationUtils.writeLong(epochMillis.length));
             boolean deltaMode = mode == Mode.DELTA;
             dos.writeBoolean(deltaMode);
             if (deltaMode) {
-                deltaSerialise(timeseriesMap, dos);
+                deltaSerialise(epochMillis, values, dos);
             } else {
-                defaultSerialise(timeseriesMap, dos);
+                defaultSerialise(epochMillis, values, dos);
             }
         } catch (final IOException e) {
             throw new SerialisationException("Exception writing serialised LongTimeSeries to ByteArrayOutputStream",
@@ -124,14 +124,14 @@ public class DeltaLongTimeSeriesSerialiser implements ToBytesSerialiser<LongTime
         DELTA, LITERAL
     }
 
-    private void deltaSerialise(final SortedMap<Instant, Long> timeSeriesMap, final DataOutputStream dos) throws SerialisationException {
+    private void deltaSerialise(final long[] epochMillis, final long[] values, final DataOutputStream dos) throws SerialisationException {
         long previousKey = 0L;
         long previousValue = 0L;
-        for (final Map.Entry<Instant, Long> entry : timeSeriesMap.entrySet()) {
-            final long currentKey = entry.getKey().toEpochMilli();
+        for (int i = 0; i < epochMillis.length; i++) {
+            final long currentKey = epochMillis[i];
             CompactRawSerialisationUtils.write(currentKey - previousKey, dos);
             previousKey = currentKey;
-            final long currentValue = entry.getValue();
+            final long currentValue = values[i];
             CompactRawSerialisationUtils.write(currentValue - previousValue, dos);
             previousValue = currentValue;
         }
@@ -140,6 +140,8 @@ public class DeltaLongTimeSeriesSerialiser implements ToBytesSerialiser<LongTime
     private void deltaDeserialise(final LongTimeSeries timeSeries,
                                   final int numEntries,
                                   final DataInputStream dis) throws SerialisationException {
+        final long[] epochMillis = new long[numEntries];
+        final long[] values = new long[numEntries];
         long previousKey = 0L;
         long previousValue = 0L;
         for (int i = 0; i < numEntries; i++) {
@@ -147,40 +149,42 @@ public class DeltaLongTimeSeriesSerialiser implements ToBytesSerialiser<LongTime
             final long time = currentKey + previousKey;
             final long currentValue = CompactRawSerialisationUtils.read(dis);
             final long value = currentValue + previousValue;
-            timeSeries.upsert(Instant.ofEpochMilli(time), value);
+            epochMillis[i] = time;
+            values[i] = value;
             previousKey = time;
             previousValue = value;
         }
+        timeSeries.upsertAll(epochMillis, values, numEntries);
     }
 
-    private void defaultSerialise(final Map<Instant, Long> timeSeriesMap, final DataOutputStream dos) throws SerialisationException {
-        for (final Map.Entry<Instant, Long> entry : timeSeriesMap.entrySet()) {
-            final long currentKey = entry.getKey().toEpochMilli();
-            CompactRawSerialisationUtils.write(currentKey, dos);
-            final long currentValue = entry.getValue();
-            CompactRawSerialisationUtils.write(currentValue, dos);
+    private void defaultSerialise(final long[] epochMillis, final long[] values, final DataOutputStream dos) throws SerialisationException {
+        for (int i = 0; i < epochMillis.length; i++) {
+            CompactRawSerialisationUtils.write(epochMillis[i], dos);
+            CompactRawSerialisationUtils.write(values[i], dos);
         }
     }
 
     private void defaultDeserialise(final LongTimeSeries timeSeries,
                                     final int numEntries,
                                     final DataInputStream dis) throws SerialisationException {
+        final long[] epochMillis = new long[numEntries];
+        final long[] values = new long[numEntries];
         for (int i = 0; i < numEntries; i++) {
-            final long currentKey = CompactRawSerialisationUtils.read(dis);
-            final long currentValue = CompactRawSerialisationUtils.read(dis);
-            timeSeries.upsert(Instant.ofEpochMilli(currentKey), currentValue);
+            epochMillis[i] = CompactRawSerialisationUtils.read(dis);
+            values[i] = CompactRawSerialisationUtils.read(dis);
         }
+        timeSeries.upsertAll(epochMillis, values, numEntries);
     }
 
-    private static Mode calculateMode(final LongTimeSeries timeSeries) {
-        final boolean noneMatch = timeSeries
-                .getTimeSeries()
-                .entrySet()
-                .stream()
-                .noneMatch(e -> e.getKey().toEpochMilli() < -HALF_MAX_VALUE
-                        || e.getKey().toEpochMilli() > HALF_MAX_VALUE
-                        || e.getValue() < -HALF_MAX_VALUE
-                        || e.getValue() > HALF_MAX_VALUE);
-        return noneMatch ? Mode.DELTA : Mode.LITERAL;
+    private static Mode calculateMode(final long[] epochMillis, final long[] values) {
+        for (int i = 0; i < epochMillis.length; i++) {
+            if (epochMillis[i] < -HALF_MAX_VALUE
+                    || epochMillis[i] > HALF_MAX_VALUE
+                    || values[i] < -HALF_MAX_VALUE
+                    || values[i] > HALF_MAX_VALUE) {
+                return Mode.LITERAL;
+            }
+        }
+        return Mode.DELTA;
     }
 }
@@ -28,6 +28,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
@@ -115,6 +116,71 @@ public class LongTimeSeriesTest extends JSONSerialisationTest<LongTimeSeries> {
         assertEquals(10, numberOfInstants);
     }
 
+    @Test
+    public void testPutOutOfOrder() {
+        // Given
+        final LongTimeSeries timeSeries = new LongTimeSeries(TimeBucket.MINUTE);
+        final Map<Instant, Long> expected = new TreeMap<>();
+        IntStream.of(5, 1, 9, 3, 7, 2)
+                .mapToObj(i -> Instant.ofEpochMilli(1000L * 60 * i))
+                .forEach(i -> {
+                    timeSeries.put(i, i.toEpochMilli());
+                    expected.put(i, i.toEpochMilli());
+                });
+
+        // When
+        final Map<Instant, Long> map = timeSeries.getTimeSeries();
+
+        // Then
+        assertEquals(expected, map);
+    }
+
+    @Test
+    public void testMerge() {
+        // Given
+        final LongTimeSeries timeSeries1 = new LongTimeSeries(TimeBucket.MINUTE);
+        timeSeries1.put(Instant.ofEpochMilli(1000L * 60), 1L);
+        timeSeries1.put(Instant.ofEpochMilli(1000L * 60 * 3), 3L);
+        final LongTimeSeries timeSeries2 = new LongTimeSeries(TimeBucket.MINUTE);
+        timeSeries2.put(Instant.ofEpochMilli(1000L * 60 * 2), 20L);
+        timeSeries2.put(Instant.ofEpochMilli(1000L * 60 * 3), 30L);
+        timeSeries2.put(Instant.ofEpochMilli(1000L * 60 * 4), 40L);
+
+        // When
+        timeSeries1.merge(timeSeries2);
+
+        // Then
+        final LongTimeSeries expected = new LongTimeSeries(TimeBucket.MINUTE);
+        expected.put(Instant.ofEpochMilli(1000L * 60), 1L);
+        expected.put(Instant.ofEpochMilli(1000L * 60 * 2), 20L);
+        expected.put(Instant.ofEpochMilli(1000L * 60 * 3), 33L);
+        expected.put(Instant.ofEpochMilli(1000L * 60 * 4), 40L);
+        assertEquals(expected, timeSeries1);
+        assertEquals(3, timeSeries2.getNumberOfInstants());
+    }
+
+    @Test
+    public void testGetTimeSeriesAndSumForRange() {
+        // Given
+        final LongTimeSeries timeSeries = new LongTimeSeries(TimeBucket.MINUTE);
+        IntStream.range(1, 11)
+                .mapToObj(i -> Instant.ofEpochMilli(1000L * 60 * i))
+                .forEach(i -> timeSeries.put(i, 1L));
+
+        // When
+        final Map<Instant, Long> range = timeSeries.getTimeSeries(Instant.ofEpochMilli(1000L * 60 * 3),
+                Instant.ofEpochMilli(1000L * 60 * 6));
+        final long sum = timeSeries.getSum(Instant.ofEpochMilli(0L), Instant.ofEpochMilli(1000L * 60 * 5 + 1));
+        final Map<Instant, Long> emptyRange = timeSeries.getTimeSeries(Instant.ofEpochMilli(1000L * 60 * 6),
+                Instant.ofEpochMilli(1000L * 60 * 3));
+
+        // Then
+        assertEquals(3, range.size());
+        assertEquals(Instant.ofEpochMilli(1000L * 60 * 3), range.keySet().iterator().next());
+        assertEquals(4L, sum);
+        assertTrue(emptyRange.isEmpty());
+    }
+
     @Test
     public void testGetTimeBucket() {
         // Given
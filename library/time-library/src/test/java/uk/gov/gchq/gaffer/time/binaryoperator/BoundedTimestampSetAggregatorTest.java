@@ -26,6 +26,7 @@ import java.util.Set;
 import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class BoundedTimestampSetAggregatorTest {
@@ -134,6 +135,35 @@ public class BoundedTimestampSetAggregatorTest {
         assertTrue(allInstants.containsAll(aggregated.getTimestamps()));
     }
 
+    @Test
+    public void testAccumulateManySetsIntoASingleSample() {
+        // Given
+        final Set<Instant> allInstants = new HashSet<>();
+        final BoundedTimestampSet first = new BoundedTimestampSet(CommonTimeUtil.TimeBucket.SECOND, 10);
+        first.add(Instant.ofEpochMilli(0L));
+        allInstants.add(Instant.ofEpochMilli(0L));
+
+        // When
+        BoundedTimestampSet accumulator = BOUNDED_TIMESTAMP_SET_AGGREGATOR.createAccumulator(first);
+        for (int i = 0; i < 50; i++) {
+            final BoundedTimestampSet boundedTimestampSet = new BoundedTimestampSet(CommonTimeUtil.TimeBucket.SECOND, 10);
+            for (int j = 1; j <= 3; j++) {
+                final Instant instant = Instant.ofEpochMilli((i * 3 + j) * 1000L);
+                boundedTimestampSet.add(instant);
+                allInstants.add(instant);
+            }
+            accumulator = BOUNDED_TIMESTAMP_SET_AGGREGATOR.accumulate(accumulator, boundedTimestampSet);
+        }
+        final BoundedTimestampSet aggregated = BOUNDED_TIMESTAMP_SET_AGGREGATOR.getResult(accumulator);
+
+        // Then
+        assertSame(first, aggregated);
+        assertEquals(BoundedTimestampSet.State.SAMPLE, aggregated.getState());
+        assertEquals(151L, aggregated.getReservoirLongsUnion().getResult().getN());
+        assertEquals(10, aggregated.getNumberOfTimestamps());
+        assertTrue(allInstants.containsAll(aggregated.getTimestamps()));
+    }
+
     @Test
     public void testCantMergeIfDifferentTimeBucket() {
         try {
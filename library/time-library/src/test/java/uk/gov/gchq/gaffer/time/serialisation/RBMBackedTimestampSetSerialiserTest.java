@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.time.serialisation;
 
 import org.junit.Test;
+import org.roaringbitmap.RoaringBitmap;
 
 import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
@@ -30,6 +31,7 @@ import java.time.ZonedDateTime;
 import java.util.Random;
 import java.util.stream.IntStream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -49,6 +51,50 @@ public class RBMBackedTimestampSetSerialiserTest extends ToBytesSerialisationTes
         assertEquals(rbmBackedTimestampSet, deserialised);
     }
 
+    @Test
+    public void shouldReadDeserialisedSetInPlaceAndOnlyCopyWhenModified() throws SerialisationException {
+        // Given
+        final RBMBackedTimestampSet rbmBackedTimestampSet = getExampleValue();
+        final byte[] serialised = serialiser.serialise(rbmBackedTimestampSet);
+        final byte[] original = serialised.clone();
+
+        // When
+        final RBMBackedTimestampSet deserialised = serialiser.deserialise(serialised);
+
+        // Then
+        assertEquals(2, deserialised.getNumberOfTimestamps());
+        assertEquals(Instant.ofEpochMilli(1000L), deserialised.getEarliest());
+        assertEquals(Instant.ofEpochMilli(1000000L), deserialised.getLatest());
+        assertEquals(rbmBackedTimestampSet.getTimestamps(), deserialised.getTimestamps());
+        assertArrayEquals(serialised, serialiser.serialise(deserialised));
+
+        // When
+        deserialised.add(Instant.ofEpochMilli(5000L));
+
+        // Then
+        assertEquals(3, deserialised.getNumberOfTimestamps());
+        assertArrayEquals(original, serialised);
+        assertEquals(rbmBackedTimestampSet, serialiser.deserialise(serialised));
+    }
+
+    @Test
+    public void shouldAddAllFromDeserialisedSetWithoutModifyingIt() throws SerialisationException {
+        // Given
+        final RBMBackedTimestampSet rbmBackedTimestampSet = new RBMBackedTimestampSet(CommonTimeUtil.TimeBucket.SECOND);
+        rbmBackedTimestampSet.add(Instant.ofEpochMilli(5000L));
+        final RBMBackedTimestampSet other = serialiser.deserialise(serialiser.serialise(getExampleValue()));
+
+        // When
+        rbmBackedTimestampSet.addAll(other);
+
+        // Then
+        assertEquals(3, rbmBackedTimestampSet.getNumberOfTimestamps());
+        assertEquals(Instant.ofEpochMilli(1000L), rbmBackedTimestampSet.getEarliest());
+        assertEquals(Instant.ofEpochMilli(1000000L), rbmBackedTimestampSet.getLatest());
+        assertFalse(other.getImmutableRbm() instanceof RoaringBitmap);
+        assertEquals(getExampleValue(), other);
+    }
+
     private RBMBackedTimestampSet getExampleValue() {
         final RBMBackedTimestampSet rbmBackedTimestampSet = new RBMBackedTimestampSet(CommonTimeUtil.TimeBucket.SECOND);
         rbmBackedTimestampSet.add(Instant.ofEpochMilli(1000L));
@@ -27,6 +27,9 @@ public final class ServiceConstants {
     public static final String JOB_ID_HEADER = "job-id";
     public static final String JOB_ID_HEADER_DESCRIPTION = "The job execution ID.";
 
+    // REST media types
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     // REST status error messages
     public static final String OK = "OK";
     public static final String BAD_REQUEST = "Error while processing request body";
@@ -24,13 +24,19 @@ import org.slf4j.LoggerFactory;
 
 import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.commonutil.Required;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.core.exception.Error;
 import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
 import uk.gov.gchq.gaffer.core.exception.Status;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.rest.factory.GraphFactory;
 import uk.gov.gchq.gaffer.rest.factory.UserFactory;
 import uk.gov.gchq.gaffer.rest.service.v2.example.ExamplesFactory;
@@ -38,15 +44,23 @@ import uk.gov.gchq.gaffer.store.Context;
 
 import javax.inject.Inject;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 import static uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser.createDefaultMapper;
+import static uk.gov.gchq.gaffer.rest.ServiceConstants.APPLICATION_NDJSON;
 import static uk.gov.gchq.gaffer.rest.ServiceConstants.GAFFER_MEDIA_TYPE;
 import static uk.gov.gchq.gaffer.rest.ServiceConstants.GAFFER_MEDIA_TYPE_HEADER;
 import static uk.gov.gchq.gaffer.rest.ServiceConstants.JOB_ID_HEADER;
@@ -88,6 +102,69 @@ public class OperationServiceV2 implements IOperationServiceV2 {
                 .build();
     }
 
+    @Override
+    public Response executeStream(final Operation operation) {
+        final Pair<Object, String> resultAndJobId = _execute(operation);
+        final Object result = resultAndJobId.getFirst();
+        final StreamingOutput output = stream -> {
+            try {
+                JSONSerialiser.serialiseStream(result instanceof Iterable ? (Iterable) result : Collections.singletonList(result), stream);
+            } catch (final SerialisationException e) {
+                throw new GafferRuntimeException("Unable to stream the results: " + e.getMessage(), e);
+            }
+        };
+        return Response.ok(output, APPLICATION_NDJSON)
+                .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
+                .header(JOB_ID_HEADER, resultAndJobId.getSecond())
+                .build();
+    }
+
+    /**
+     * Adds the elements, provided as json, to the graph. The request body is
+     * first spooled to a temporary file, so the elements are never all held in
+     * memory but can still be iterated over more than once. This is required
+     * by stores such as the federated store, which passes the input to each of
+     * its graphs, and the Parquet store.
+     *
+     * @param validate            true if the elements should be validated
+     * @param skipInvalidElements true if invalid elements should be skipped
+     * @param elements            the stream of json elements
+     * @return the response
+     */
+    @Override
+    public Response addElements(final boolean validate, final boolean skipInvalidElements, final InputStream elements) {
+        final Path spoolFile;
+        try {
+            spoolFile = Files.createTempFile("gaffer-add-elements", ".json");
+        } catch (final IOException e) {
+            throw new GafferRuntimeException("Unable to create a file to spool the elements to: " + e.getMessage(), e);
+        }
+
+        try (final SpooledElements spooledElements = new SpooledElements(spoolFile)) {
+            try {
+                Files.copy(elements, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException e) {
+                throw new GafferRuntimeException("Unable to read the elements: " + e.getMessage(), e, Status.BAD_REQUEST);
+            }
+
+            final Pair<Object, String> resultAndJobId = _execute(new AddElements.Builder()
+                    .input(spooledElements)
+                    .validate(validate)
+                    .skipInvalidElements(skipInvalidElements)
+                    .build());
+            return Response.ok()
+                    .header(GAFFER_MEDIA_TYPE_HEADER, GAFFER_MEDIA_TYPE)
+                    .header(JOB_ID_HEADER, resultAndJobId.getSecond())
+                    .build();
+        } finally {
+            try {
+                Files.deleteIfExists(spoolFile);
+            } catch (final IOException e) {
+                LOGGER.warn("Unable to delete the spooled elements file {}", spoolFile, e);
+            }
+        }
+    }
+
     @Override
     public ChunkedOutput<String> executeChunked(final Operation operation) {
         return executeChunkedChain(OperationChain.wrap(operation));
@@ -325,4 +402,41 @@ public class OperationServiceV2 implements IOperationServiceV2 {
                     .collect(Collectors.toList());
         }
     }
+
+    /**
+     * A {@code SpooledElements} lazily deserialises the json elements in a
+     * file. Each iterator reads the file from the start, so unlike a
+     * {@link uk.gov.gchq.gaffer.jsonserialisation.JsonStreamIterable} it can
+     * be iterated over more than once. Closing it closes any open iterators.
+     */
+    private static final class SpooledElements implements CloseableIterable<Element> {
+        private final Path file;
+        private final List<CloseableIterable<Element>> openIterables = new ArrayList<>();
+
+        private SpooledElements(final Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public CloseableIterator<Element> iterator() {
+            final CloseableIterable<Element> iterable;
+            try {
+                iterable = JSONSerialiser.deserialiseStream(Files.newInputStream(file), Element.class);
+            } catch (final IOException e) {
+                throw new GafferRuntimeException("Unable to read the elements: " + e.getMessage(), e, Status.BAD_REQUEST);
+            }
+            synchronized (openIterables) {
+                openIterables.add(iterable);
+            }
+            return iterable.iterator();
+        }
+
+        @Override
+        public void close() {
+            synchronized (openIterables) {
+                openIterables.forEach(CloseableUtil::close);
+                openIterables.clear();
+            }
+        }
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.rest.service.v2;
+
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.Response;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class FederatedOperationServiceV2IT extends AbstractRestApiV2IT {
+
+    public FederatedOperationServiceV2IT() {
+        super(StreamUtil.SCHEMA, "/federatedStore.properties");
+    }
+
+    @Test
+    public void shouldAddElementsFromNewlineDelimitedJsonToEachGraph() throws IOException {
+        // When
+        final Response response = client.addElementsStream(DEFAULT_ELEMENTS);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        final List<Element> results = client.executeOperation(new GetAllElements())
+                .readEntity(new GenericType<List<Element>>() {
+                });
+        verifyElements(DEFAULT_ELEMENTS, results);
+    }
+}
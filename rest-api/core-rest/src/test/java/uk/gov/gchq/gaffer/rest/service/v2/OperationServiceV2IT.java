@@ -16,17 +16,25 @@
 
 package uk.gov.gchq.gaffer.rest.service.v2;
 
+import com.google.common.collect.Lists;
 import org.junit.Test;
 
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.rest.RestApiTestClient;
 import uk.gov.gchq.gaffer.rest.ServiceConstants;
 import uk.gov.gchq.gaffer.rest.service.impl.OperationServiceIT;
 
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 public class OperationServiceV2IT extends OperationServiceIT {
@@ -40,6 +48,43 @@ public class OperationServiceV2IT extends OperationServiceIT {
         assertNotNull(response.getHeaderString(ServiceConstants.JOB_ID_HEADER));
     }
 
+    @Test
+    public void shouldStreamAllElementsAsNewlineDelimitedJson() throws IOException {
+        // Given
+        client.addElements(DEFAULT_ELEMENTS);
+
+        // When
+        final Response response = ((RestApiV2TestClient) client).executeOperationStream(new GetAllElements());
+
+        // Then
+        assertEquals(ServiceConstants.APPLICATION_NDJSON, response.getMediaType().toString());
+        final List<Element> results = Lists.newArrayList(
+                JSONSerialiser.deserialiseStream(response.readEntity(InputStream.class), Element.class));
+        verifyElements(DEFAULT_ELEMENTS, results);
+    }
+
+    @Test
+    public void shouldAddElementsFromNewlineDelimitedJson() throws IOException {
+        // When
+        final Response response = ((RestApiV2TestClient) client).addElementsStream(DEFAULT_ELEMENTS);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        final List<Element> results = client.executeOperation(new GetAllElements())
+                .readEntity(new GenericType<List<Element>>() {
+                });
+        verifyElements(DEFAULT_ELEMENTS, results);
+    }
+
+    @Test
+    public void shouldReturnJsonByDefault() throws IOException {
+        // When
+        final Response response = client.executeOperation(new GetAllElements());
+
+        // Then
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, response.getMediaType());
+    }
+
     @Override
     protected RestApiTestClient getClient() {
         return new RestApiV2TestClient();
@@ -16,17 +16,21 @@
 
 package uk.gov.gchq.gaffer.rest.service.v2;
 
+import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.rest.RestApiTestClient;
+import uk.gov.gchq.gaffer.rest.ServiceConstants;
 import uk.gov.gchq.gaffer.rest.SystemStatus;
 import uk.gov.gchq.gaffer.rest.application.ApplicationConfigV2;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Response;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 
@@ -68,6 +72,24 @@ public class RestApiV2TestClient extends RestApiTestClient {
                 .post(Entity.entity(JSONSerialiser.serialise(operation), APPLICATION_JSON_TYPE));
     }
 
+    public Response executeOperationStream(final Operation operation) throws IOException {
+        startServer();
+        return client.target(uriString)
+                .path("/graph/operations/execute")
+                .request(ServiceConstants.APPLICATION_NDJSON)
+                .post(Entity.entity(JSONSerialiser.serialise(operation), APPLICATION_JSON_TYPE));
+    }
+
+    public Response addElementsStream(final Element... elements) throws IOException {
+        startServer();
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        JSONSerialiser.serialiseStream(Arrays.asList(elements), stream);
+        return client.target(uriString)
+                .path("/graph/operations/addElements")
+                .request()
+                .post(Entity.entity(stream.toByteArray(), ServiceConstants.APPLICATION_NDJSON));
+    }
+
     @Override
     public SystemStatus getRestServiceStatus() {
         return client.target(uriString)
@@ -44,24 +44,38 @@ public class AccumuloProperties extends StoreProperties {
     public static final String PASSWORD = "accumulo.password";
     public static final String THREADS_FOR_BATCH_SCANNER = "accumulo.batchScannerThreads";
     public static final String MAX_ENTRIES_FOR_BATCH_SCANNER = "accumulo.entriesForBatchScanner";
+    public static final String ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER = "accumulo.adaptiveEntriesForBatchScanner";
+    public static final String MIN_ENTRIES_FOR_BATCH_SCANNER = "accumulo.minEntriesForBatchScanner";
+    public static final String TARGET_RESULTS_FOR_BATCH_SCANNER = "accumulo.targetResultsForBatchScanner";
+    public static final String TARGET_BYTES_FOR_BATCH_SCANNER = "accumulo.targetBytesForBatchScanner";
+    public static final String TARGET_LATENCY_FOR_BATCH_SCANNER = "accumulo.targetLatencyForBatchScannerInMilliseconds";
     public static final String CLIENT_SIDE_BLOOM_FILTER_SIZE = "accumulo.clientSideBloomFilterSize";
     public static final String FALSE_POSITIVE_RATE = "accumulo.falsePositiveRate";
     public static final String MAX_BLOOM_FILTER_TO_PASS_TO_AN_ITERATOR = "accumulo.maxBloomFilterToPassToAnIterator";
+    public static final String BLOOM_FILTER_CACHE_SIZE = "accumulo.bloomFilterCacheSizeInBytes";
     public static final String MAX_BUFFER_SIZE_FOR_BATCH_WRITER = "accumulo.maxBufferSizeForBatchWriterInBytes";
     public static final String MAX_TIME_OUT_FOR_BATCH_WRITER = "accumulo.maxTimeOutForBatchWriterInMilliseconds";
     public static final String NUM_THREADS_FOR_BATCH_WRITER = "accumulo.numThreadsForBatchWriter";
     public static final String TABLE_REPLICATION_FACTOR = "accumulo.file.replication";
     public static final String ENABLE_VALIDATOR_ITERATOR = "gaffer.store.accumulo.enable.validator.iterator";
+    public static final String STATISTICS_CACHE_TIME = "accumulo.statisticsCacheTimeInMilliseconds";
 
     // default values
     private static final String NUM_THREADS_FOR_BATCH_WRITER_DEFAULT = "10";
     private static final String MAX_ENTRIES_FOR_BATCH_SCANNER_DEFAULT = "50000";
+    private static final String ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER_DEFAULT = "false";
+    private static final String MIN_ENTRIES_FOR_BATCH_SCANNER_DEFAULT = "100";
+    private static final String TARGET_RESULTS_FOR_BATCH_SCANNER_DEFAULT = "1000000";
+    private static final String TARGET_BYTES_FOR_BATCH_SCANNER_DEFAULT = "104857600";
+    private static final String TARGET_LATENCY_FOR_BATCH_SCANNER_DEFAULT = "5000";
     private static final String CLIENT_SIDE_BLOOM_FILTER_SIZE_DEFAULT = "838860800";
     private static final String FALSE_POSITIVE_RATE_DEFAULT = "0.0002";
     private static final String MAX_BLOOM_FILTER_TO_PASS_TO_AN_ITERATOR_DEFAULT = "8388608";
+    private static final String BLOOM_FILTER_CACHE_SIZE_DEFAULT = "0";
     private static final String MAX_BUFFER_SIZE_FOR_BATCH_WRITER_DEFAULT = "100000000";
     private static final String MAX_TIME_OUT_FOR_BATCH_WRITER_DEFAULT = "1000";
     private static final String THREADS_FOR_BATCH_SCANNER_DEFAULT = "10";
+    private static final String STATISTICS_CACHE_TIME_DEFAULT = "60000";
     public static final String ENABLE_VALIDATOR_ITERATOR_DEFAULT = "true";
 
     public AccumuloProperties() {
@@ -283,6 +297,107 @@ public class AccumuloProperties extends StoreProperties {
         set(MAX_ENTRIES_FOR_BATCH_SCANNER, maxEntriesForBatchScanner);
     }
 
+    /**
+     * Gets the flag determining whether the number of items read into the
+     * scanner at any one time should be adapted to the results returned.
+     *
+     * @return true if the number of items read into the scanner should be adapted.
+     */
+    public boolean getAdaptiveEntriesForBatchScanner() {
+        return Boolean.parseBoolean(get(ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER, ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    /**
+     * Sets the flag determining whether the number of items read into the
+     * scanner at any one time should be adapted to the results returned.
+     *
+     * @param adaptiveEntriesForBatchScanner true if the number of items read into the scanner should be adapted.
+     */
+    public void setAdaptiveEntriesForBatchScanner(final boolean adaptiveEntriesForBatchScanner) {
+        set(ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER, Boolean.toString(adaptiveEntriesForBatchScanner));
+    }
+
+    /**
+     * Gets the min number of items that should be read into the scanner at any
+     * one time when the number of items is adapted.
+     *
+     * @return An integer representing the min number of items that should be
+     * read into the scanner at any one time.
+     */
+    public int getMinEntriesForBatchScanner() {
+        return Integer.parseInt(get(MIN_ENTRIES_FOR_BATCH_SCANNER, MIN_ENTRIES_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    /**
+     * Sets the min number of items that should be read into the scanner at any
+     * one time when the number of items is adapted.
+     *
+     * @param minEntriesForBatchScanner the min number of items that should be read into the scanner at any one time.
+     */
+    public void setMinEntriesForBatchScanner(final String minEntriesForBatchScanner) {
+        set(MIN_ENTRIES_FOR_BATCH_SCANNER, minEntriesForBatchScanner);
+    }
+
+    /**
+     * Gets the number of results a single batch scanner should aim to return
+     * when the number of items is adapted.
+     *
+     * @return the target number of results for a batch scanner.
+     */
+    public long getTargetResultsForBatchScanner() {
+        return Long.parseLong(get(TARGET_RESULTS_FOR_BATCH_SCANNER, TARGET_RESULTS_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    /**
+     * Sets the number of results a single batch scanner should aim to return
+     * when the number of items is adapted.
+     *
+     * @param targetResultsForBatchScanner the target number of results for a batch scanner.
+     */
+    public void setTargetResultsForBatchScanner(final String targetResultsForBatchScanner) {
+        set(TARGET_RESULTS_FOR_BATCH_SCANNER, targetResultsForBatchScanner);
+    }
+
+    /**
+     * Gets the number of bytes a single batch scanner should aim to return
+     * when the number of items is adapted.
+     *
+     * @return the target number of bytes for a batch scanner.
+     */
+    public long getTargetBytesForBatchScanner() {
+        return Long.parseLong(get(TARGET_BYTES_FOR_BATCH_SCANNER, TARGET_BYTES_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    /**
+     * Sets the number of bytes a single batch scanner should aim to return
+     * when the number of items is adapted.
+     *
+     * @param targetBytesForBatchScanner the target number of bytes for a batch scanner.
+     */
+    public void setTargetBytesForBatchScanner(final String targetBytesForBatchScanner) {
+        set(TARGET_BYTES_FOR_BATCH_SCANNER, targetBytesForBatchScanner);
+    }
+
+    /**
+     * Gets the time a single batch scanner should aim to take when the number
+     * of items is adapted.
+     *
+     * @return the target latency in milliseconds for a batch scanner.
+     */
+    public long getTargetLatencyForBatchScannerInMilliseconds() {
+        return Long.parseLong(get(TARGET_LATENCY_FOR_BATCH_SCANNER, TARGET_LATENCY_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    /**
+     * Sets the time a single batch scanner should aim to take when the number
+     * of items is adapted.
+     *
+     * @param targetLatencyForBatchScannerInMilliseconds the target latency in milliseconds for a batch scanner.
+     */
+    public void setTargetLatencyForBatchScannerInMilliseconds(final String targetLatencyForBatchScannerInMilliseconds) {
+        set(TARGET_LATENCY_FOR_BATCH_SCANNER, targetLatencyForBatchScannerInMilliseconds);
+    }
+
     /**
      * Gets the size that should be used for the creation of bloom filters on the
      * client side.
@@ -349,6 +464,48 @@ public class AccumuloProperties extends StoreProperties {
         set(MAX_BLOOM_FILTER_TO_PASS_TO_AN_ITERATOR, maxBloomFilterToPassToAnIterator);
     }
 
+    /**
+     * Gets the maximum total size in bytes of the bloom filters that are cached
+     * and reused between queries for the same set of seeds. A size of 0
+     * disables the cache.
+     *
+     * @return A long representing the maximum size in bytes of the bloom filter cache.
+     */
+    public long getBloomFilterCacheSizeInBytes() {
+        return Long.parseLong(get(BLOOM_FILTER_CACHE_SIZE, BLOOM_FILTER_CACHE_SIZE_DEFAULT));
+    }
+
+    /**
+     * Sets the maximum total size in bytes of the bloom filters that are cached
+     * and reused between queries for the same set of seeds. A size of 0
+     * disables the cache.
+     *
+     * @param bloomFilterCacheSizeInBytes the maximum size in bytes of the bloom filter cache.
+     */
+    public void setBloomFilterCacheSizeInBytes(final String bloomFilterCacheSizeInBytes) {
+        set(BLOOM_FILTER_CACHE_SIZE, bloomFilterCacheSizeInBytes);
+    }
+
+    /**
+     * Gets the time the statistics read from the Accumulo metadata table are
+     * cached for before they are read again.
+     *
+     * @return the time in milliseconds the statistics are cached for.
+     */
+    public long getStatisticsCacheTimeInMilliseconds() {
+        return Long.parseLong(get(STATISTICS_CACHE_TIME, STATISTICS_CACHE_TIME_DEFAULT));
+    }
+
+    /**
+     * Sets the time the statistics read from the Accumulo metadata table are
+     * cached for before they are read again.
+     *
+     * @param statisticsCacheTimeInMilliseconds the time in milliseconds the statistics are cached for.
+     */
+    public void setStatisticsCacheTimeInMilliseconds(final String statisticsCacheTimeInMilliseconds) {
+        set(STATISTICS_CACHE_TIME, statisticsCacheTimeInMilliseconds);
+    }
+
     /**
      * Gets the key package that should be used in conjunction with this table.
      *
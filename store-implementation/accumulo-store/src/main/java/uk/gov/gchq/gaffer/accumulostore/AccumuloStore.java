@@ -18,18 +18,25 @@ package uk.gov.gchq.gaffer.accumulostore;
 
 import com.google.common.collect.Sets;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.accumulo.core.client.AccumuloException;
 import org.apache.accumulo.core.client.AccumuloSecurityException;
 import org.apache.accumulo.core.client.BatchWriter;
 import org.apache.accumulo.core.client.ClientConfiguration;
 import org.apache.accumulo.core.client.Connector;
 import org.apache.accumulo.core.client.IteratorSetting;
 import org.apache.accumulo.core.client.MutationsRejectedException;
+import org.apache.accumulo.core.client.Scanner;
+import org.apache.accumulo.core.client.TableNotFoundException;
+import org.apache.accumulo.core.client.admin.DiskUsage;
 import org.apache.accumulo.core.client.mapreduce.AccumuloInputFormat;
 import org.apache.accumulo.core.client.mapreduce.lib.impl.InputConfigurator;
 import org.apache.accumulo.core.client.security.tokens.PasswordToken;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Mutation;
 import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.metadata.MetadataTable;
+import org.apache.accumulo.core.metadata.schema.DataFileValue;
+import org.apache.accumulo.core.metadata.schema.MetadataSchema;
 import org.apache.accumulo.core.security.Authorizations;
 import org.apache.accumulo.core.security.ColumnVisibility;
 import org.apache.commons.lang.StringUtils;
@@ -62,6 +69,7 @@ import uk.gov.gchq.gaffer.accumulostore.operation.impl.GetElementsInRanges;
 import uk.gov.gchq.gaffer.accumulostore.operation.impl.GetElementsWithinSet;
 import uk.gov.gchq.gaffer.accumulostore.operation.impl.SummariseGroupOverRanges;
 import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.accumulostore.utils.BloomFilterCache;
 import uk.gov.gchq.gaffer.accumulostore.utils.TableUtils;
 import uk.gov.gchq.gaffer.commonutil.CommonConstants;
 import uk.gov.gchq.gaffer.commonutil.iterable.ChainedIterable;
@@ -97,6 +105,7 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
 import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 import uk.gov.gchq.gaffer.user.User;
 import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Max;
@@ -151,6 +160,9 @@ public class AccumuloStore extends Store {
     private static final Logger LOGGER = LoggerFactory.getLogger(AccumuloStore.class);
     private AccumuloKeyPackage keyPackage;
     private Connector connection = null;
+    private BloomFilterCache bloomFilterCache;
+    private GraphStatistics statistics;
+    private long statisticsReadTime;
 
     @Override
     public void initialise(final String graphId, final Schema schema, final StoreProperties properties) throws StoreException {
@@ -188,6 +200,7 @@ public class AccumuloStore extends Store {
             throw new StoreException("Unable to construct an instance of key package: " + keyPackageClass, e);
         }
         this.keyPackage.setSchema(getSchema());
+        this.bloomFilterCache = new BloomFilterCache(getProperties().getBloomFilterCacheSizeInBytes());
     }
 
     /**
@@ -408,6 +421,86 @@ public class AccumuloStore extends Store {
         return TRAITS;
     }
 
+    /**
+     * Gets the size of the files of the table using
+     * {@link org.apache.accumulo.core.client.admin.TableOperations#getDiskUsage(Set)}
+     * and, where possible, the number of key-value pairs from the Accumulo
+     * metadata table. The statistics are cached for
+     * {@link AccumuloProperties#getStatisticsCacheTimeInMilliseconds()}.
+     * <p>
+     * Accumulo has no public API for the number of entries in a table, so the
+     * counts are read using the internal {@code org.apache.accumulo.core.metadata}
+     * classes, which may change between Accumulo versions, and require the
+     * user to have READ permission on the {@code accumulo.metadata} table.
+     * If the metadata table cannot be read the statistics only contain the
+     * byte count.
+     * <p>
+     * Edges are stored as two key-value pairs and data that has not been
+     * flushed from memory is not included, so the counts are approximate.
+     * There are no counts per group.
+     *
+     * @return the statistics of the table, or null if the table size cannot
+     * be read or the table has no files
+     */
+    @Override
+    public synchronized GraphStatistics getStatistics() {
+        final long now = System.currentTimeMillis();
+        if (0 == statisticsReadTime || now - statisticsReadTime > getProperties().getStatisticsCacheTimeInMilliseconds()) {
+            statistics = readStatistics();
+            statisticsReadTime = now;
+        }
+        return statistics;
+    }
+
+    private GraphStatistics readStatistics() {
+        final Connector connector;
+        long size = 0;
+        try {
+            connector = getConnection();
+            for (final DiskUsage diskUsage : connector.tableOperations().getDiskUsage(Collections.singleton(getTableName()))) {
+                size += diskUsage.getUsage();
+            }
+        } catch (final StoreException | AccumuloException | AccumuloSecurityException | TableNotFoundException | RuntimeException e) {
+            LOGGER.debug("Unable to read the disk usage of table {}", getTableName(), e);
+            return null;
+        }
+
+        if (0 == size) {
+            return null;
+        }
+        return new GraphStatistics.Builder()
+                .elementCount(readNumEntries(connector))
+                .byteCount(size)
+                .build();
+    }
+
+    // Sums the number of entries of the data files of the table listed in the
+    // metadata table, or returns null if the metadata table cannot be read.
+    private Long readNumEntries(final Connector connector) {
+        try {
+            final String tableId = connector.tableOperations().tableIdMap().get(getTableName());
+            if (null == tableId) {
+                return null;
+            }
+
+            long numEntries = 0;
+            final Scanner scanner = connector.createScanner(MetadataTable.NAME, Authorizations.EMPTY);
+            try {
+                scanner.setRange(MetadataSchema.TabletsSection.getRange(tableId));
+                scanner.fetchColumnFamily(MetadataSchema.TabletsSection.DataFileColumnFamily.NAME);
+                for (final Entry<Key, Value> entry : scanner) {
+                    numEntries += new DataFileValue(entry.getValue().get()).getNumEntries();
+                }
+            } finally {
+                scanner.close();
+            }
+            return 0 == numEntries ? null : numEntries;
+        } catch (final TableNotFoundException | RuntimeException e) {
+            LOGGER.debug("Unable to read the number of entries of table {} from the metadata table", getTableName(), e);
+            return null;
+        }
+    }
+
     /**
      * Method to add {@link Element}s into Accumulo.
      *
@@ -486,6 +579,16 @@ public class AccumuloStore extends Store {
         return keyPackage;
     }
 
+    /**
+     * Gets the {@link BloomFilterCache} used to share bloom filters between
+     * queries on this store's table.
+     *
+     * @return {@link BloomFilterCache}.
+     */
+    public BloomFilterCache getBloomFilterCache() {
+        return bloomFilterCache;
+    }
+
     /**
      * Gets the TabletServers.
      *
@@ -68,7 +68,9 @@ public abstract class AccumuloElementValueLoader implements ElementValueLoader {
         } else if (name.equals(timestampProperty)) {
             props = elementConverter.getPropertiesFromTimestamp(group, key.getTimestamp());
         } else {
-            props = elementConverter.getPropertiesFromValue(group, value);
+            // Only deserialise the requested property, the other properties
+            // in the value may never be needed.
+            return elementConverter.getPropertyFromValue(group, name, value);
         }
         lazyProperties.putAll(props);
         return props.get(name);
@@ -25,8 +25,11 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.data.element.id.EdgeId;
 import uk.gov.gchq.gaffer.data.element.id.ElementId;
 
+import java.util.Set;
+
 /**
  * The Accumulo ElementConverter Interface details the methods necessary to
  * convert Gaffer {@link Element}s to Accumulo {@link Key}s and {@link Value}s
@@ -95,6 +98,68 @@ public interface AccumuloElementConverter {
      */
     Properties getPropertiesFromValue(final String group, final Value value);
 
+    /**
+     * Deserialises the properties stored in an Accumulo {@link Value} into
+     * the provided {@link uk.gov.gchq.gaffer.data.element.Properties}, rather
+     * than creating a new Properties object.
+     *
+     * @param group      the element group
+     * @param value      the Value containing the serialised properties
+     * @param properties the Properties to add the deserialised properties to
+     */
+    default void addPropertiesFromValue(final String group, final Value value, final Properties properties) {
+        properties.putAll(getPropertiesFromValue(group, value));
+    }
+
+    /**
+     * Deserialises the properties stored in an Accumulo {@link Value} into
+     * the provided {@link uk.gov.gchq.gaffer.data.element.Properties}, skipping
+     * any properties that are not in propertiesToLoad.
+     *
+     * @param group            the element group
+     * @param value            the Value containing the serialised properties
+     * @param properties       the Properties to add the deserialised properties to
+     * @param propertiesToLoad the properties to deserialise, or null to deserialise all the properties
+     */
+    default void addPropertiesFromValue(final String group, final Value value, final Properties properties, final Set<String> propertiesToLoad) {
+        final Properties valueProperties = getPropertiesFromValue(group, value);
+        if (null != propertiesToLoad) {
+            valueProperties.keepOnly(propertiesToLoad);
+        }
+        properties.putAll(valueProperties);
+    }
+
+    /**
+     * Deserialises a single property stored in an Accumulo {@link Value},
+     * without deserialising any of the other properties.
+     *
+     * @param group        the element group
+     * @param propertyName the name of the property to deserialise
+     * @param value        the Value containing the serialised properties
+     * @return the deserialised property, or null if the property is not stored in the value
+     */
+    default Object getPropertyFromValue(final String group, final String propertyName, final Value value) {
+        return getPropertiesFromValue(group, value).get(propertyName);
+    }
+
+    /**
+     * Deserialises all the properties stored in an Accumulo {@link Key} and
+     * {@link Value} into the provided
+     * {@link uk.gov.gchq.gaffer.data.element.Properties}, rather than creating
+     * a new Properties object for each part of the key.
+     *
+     * @param group      the element group
+     * @param key        the Key containing the serialised group by, visibility and timestamp properties
+     * @param value      the Value containing the other serialised properties
+     * @param properties the Properties to add the deserialised properties to
+     */
+    default void addPropertiesFromKeyAndValue(final String group, final Key key, final Value value, final Properties properties) {
+        properties.putAll(getPropertiesFromColumnQualifier(group, key.getColumnQualifierData().getBackingArray()));
+        properties.putAll(getPropertiesFromColumnVisibility(group, key.getColumnVisibilityData().getBackingArray()));
+        properties.putAll(getPropertiesFromValue(group, value));
+        properties.putAll(getPropertiesFromTimestamp(group, key.getTimestamp()));
+    }
+
     /**
      * Gets a new {@link ElementId} from an Accumulo {@link Key}.
      *
@@ -104,6 +169,25 @@ public interface AccumuloElementConverter {
      */
     ElementId getElementId(final Key key, final boolean includeMatchedVertex);
 
+    /**
+     * Gets the serialised form of the vertex adjacent to the matched vertex
+     * from an Accumulo {@link Key}. By default this creates the {@link ElementId}
+     * and re-serialises the adjacent vertex; implementations should override
+     * this to read the vertex bytes without deserialising the vertices.
+     *
+     * @param key the Key containing serialised parts of the Element
+     * @return the serialised adjacent vertex, or null if the key represents an Entity
+     */
+    default byte[] getAdjacentVertexFromKey(final Key key) {
+        final ElementId elementId = getElementId(key, true);
+        if (!(elementId instanceof EdgeId)) {
+            return null;
+        }
+        final EdgeId edgeId = (EdgeId) elementId;
+        return serialiseVertex(EdgeId.MatchedVertex.DESTINATION == edgeId.getMatchedVertex()
+                ? edgeId.getSource() : edgeId.getDestination());
+    }
+
     /**
      * Gets a new {@link Element} from an Accumulo {@link Key}.
      *
@@ -126,6 +210,23 @@ public interface AccumuloElementConverter {
      */
     Element getFullElement(final Key key, final Value value, final boolean includeMatchedVertex);
 
+    /**
+     * Returns an {@link Element} populated with the properties defined within
+     * the {@link Key} and the properties in propertiesToLoad defined within the
+     * {@link Value}. The other properties in the Value are not deserialised.
+     *
+     * @param key                  the accumulo Key containing serialised parts of the Element
+     * @param value                the accumulo Value containing serialised properties of the Element
+     * @param includeMatchedVertex if true then the matchedVertex field is set on Edges
+     * @param propertiesToLoad     the properties to deserialise from the Value, or null to deserialise all the properties
+     * @return Returns an {@link Element} populated with the requested properties
+     */
+    default Element getFullElement(final Key key, final Value value, final boolean includeMatchedVertex, final Set<String> propertiesToLoad) {
+        final Element element = getElementFromKey(key, includeMatchedVertex);
+        addPropertiesFromValue(element.getGroup(), value, element.getProperties(), propertiesToLoad);
+        return element;
+    }
+
     /**
      * Helper Used to create Bloom Filters, method Serialises a given object
      * (from an {@link uk.gov.gchq.gaffer.data.element.id.EntityId} ) with the Identifier
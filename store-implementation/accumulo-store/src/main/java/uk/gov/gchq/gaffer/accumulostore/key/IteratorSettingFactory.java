@@ -23,6 +23,7 @@ import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
 import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
 
 /**
  * The iterator settings factory is designed to enable the AccumuloStore to
@@ -84,6 +85,25 @@ public interface IteratorSettingFactory {
      */
     IteratorSetting getEdgeEntityDirectionFilterIteratorSetting(final GraphFilters operation);
 
+    /**
+     * Returns an Iterator that will replace the value of each edge with the
+     * serialised vertex adjacent to the seed, applying any transforms and post
+     * transform filters in the {@link GetAdjacentIds} view. This is used for
+     * {@link GetAdjacentIds} operations so that full elements do not need to be
+     * returned to the client.
+     * Returns null by default, in which case the full elements are returned
+     * and the adjacent vertices are extracted on the client.
+     *
+     * @param operation the get adjacent ids operation
+     * @param store     the accumulo store
+     * @return A new {@link IteratorSetting} for an Iterator that only returns the adjacent vertices of edges
+     * @throws IteratorSettingException if an iterator setting could not be created
+     */
+    default IteratorSetting getAdjacentVertexIteratorSetting(final GetAdjacentIds operation, final AccumuloStore store)
+            throws IteratorSettingException {
+        return null;
+    }
+
     /**
      * Returns an Iterator that will aggregate values in the accumulo table,
      * this iterator will be applied to the table on creation
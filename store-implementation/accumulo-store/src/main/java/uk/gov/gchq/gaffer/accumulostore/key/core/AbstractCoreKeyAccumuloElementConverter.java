@@ -46,6 +46,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.Iterator;
+import java.util.Set;
 
 import static uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants.DEFAULT_TIMESTAMP;
 
@@ -68,6 +69,17 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
         return getEdgeId(row, includeMatchedVertex);
     }
 
+    @Override
+    public byte[] getAdjacentVertexFromKey(final Key key) {
+        final byte[] row = key.getRowData().getBackingArray();
+        if (doesKeyRepresentEntity(row)) {
+            return null;
+        }
+        final byte[][] result = new byte[2][];
+        final EdgeDirection direction = getSourceAndDestinationFromRowKey(row, result);
+        return EdgeDirection.DIRECTED_REVERSED == direction ? result[0] : result[1];
+    }
+
     @SuppressFBWarnings(value = "BC_UNCONFIRMED_CAST", justification = "If an element is not an Entity it must be an Edge")
     @Override
     public Pair<Key, Key> getKeysFromElement(final Element element) {
@@ -136,6 +148,21 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
     @Override
     public Properties getPropertiesFromValue(final String group, final Value value) {
         final Properties properties = new Properties();
+        addPropertiesFromValue(group, value, properties);
+        return properties;
+    }
+
+    @Override
+    public void addPropertiesFromValue(final String group, final Value value, final Properties properties) {
+        addPropertiesFromValue(group, value, properties, null);
+    }
+
+    /**
+     * Properties that are not in propertiesToLoad are skipped over using their
+     * length prefixes, without being deserialised.
+     */
+    @Override
+    public void addPropertiesFromValue(final String group, final Value value, final Properties properties, final Set<String> propertiesToLoad) {
         if (isNotEmpty(value)) {
             final byte[] bytes = value.get();
             int delimiterPosition = 0;
@@ -146,14 +173,62 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
                 final String propertyName = propertyNames.next();
                 try {
                     if (isStoredInValue(propertyName, elementDefinition)) {
-                        delimiterPosition = addDeserialisedProperty(bytes, delimiterPosition, properties, elementDefinition, propertyName);
+                        if (null == propertiesToLoad || propertiesToLoad.contains(propertyName)) {
+                            delimiterPosition = addDeserialisedProperty(bytes, delimiterPosition, properties, elementDefinition, propertyName);
+                        } else {
+                            delimiterPosition = skipProperty(bytes, delimiterPosition, elementDefinition, propertyName);
+                        }
                     }
                 } catch (final SerialisationException e) {
                     throw new AccumuloElementConversionException("Failed to deserialise property " + propertyName, e);
                 }
             }
         }
-        return properties;
+    }
+
+    /**
+     * Skips over the serialised properties that precede the requested property,
+     * using their length prefixes, so only the requested property is
+     * deserialised.
+     */
+    @Override
+    public Object getPropertyFromValue(final String group, final String propertyName, final Value value) {
+        if (!isNotEmpty(value)) {
+            return null;
+        }
+
+        final byte[] bytes = value.get();
+        int delimiterPosition = 0;
+        final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
+        final Iterator<String> propertyNames = elementDefinition.getProperties().iterator();
+        while (propertyNames.hasNext() && delimiterPosition < bytes.length) {
+            final String currentPropertyName = propertyNames.next();
+            if (isStoredInValue(currentPropertyName, elementDefinition)) {
+                if (currentPropertyName.equals(propertyName)) {
+                    final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(propertyName);
+                    final ToBytesSerialiser serialiser = (null != typeDefinition) ? (ToBytesSerialiser) typeDefinition.getSerialiser() : null;
+                    if (null == serialiser) {
+                        return null;
+                    }
+                    final int numBytesForLength = CompactRawSerialisationUtils.decodeVIntSize(bytes[delimiterPosition]);
+                    try {
+                        return getDeserialisedObject(serialiser, bytes, delimiterPosition + numBytesForLength, getCurrentPropLength(bytes, delimiterPosition));
+                    } catch (final SerialisationException e) {
+                        throw new AccumuloElementConversionException("Failed to deserialise property " + propertyName, e);
+                    }
+                }
+                delimiterPosition = skipProperty(bytes, delimiterPosition, elementDefinition, currentPropertyName);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void addPropertiesFromKeyAndValue(final String group, final Key key, final Value value, final Properties properties) {
+        addPropertiesFromColumnQualifier(group, key.getColumnQualifierData().getBackingArray(), properties);
+        addPropertiesFromColumnVisibility(group, key.getColumnVisibilityData().getBackingArray(), properties);
+        addPropertiesFromValue(group, value, properties);
+        addPropertiesFromTimestamp(group, key.getTimestamp(), properties);
     }
 
     @Override
@@ -168,8 +243,13 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
 
     @Override
     public Element getFullElement(final Key key, final Value value, final boolean includeMatchedVertex) {
+        return getFullElement(key, value, includeMatchedVertex, null);
+    }
+
+    @Override
+    public Element getFullElement(final Key key, final Value value, final boolean includeMatchedVertex, final Set<String> propertiesToLoad) {
         final Element element = getElementFromKey(key, includeMatchedVertex);
-        element.copyProperties(getPropertiesFromValue(element.getGroup(), value));
+        addPropertiesFromValue(element.getGroup(), value, element.getProperties(), propertiesToLoad);
         return element;
     }
 
@@ -227,7 +307,11 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
     @Override
     public Properties getPropertiesFromColumnVisibility(final String group, final byte[] columnVisibility) {
         final Properties properties = new Properties();
+        addPropertiesFromColumnVisibility(group, columnVisibility, properties);
+        return properties;
+    }
 
+    protected void addPropertiesFromColumnVisibility(final String group, final byte[] columnVisibility, final Properties properties) {
         final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
 
         if (null != schema.getVisibilityProperty()) {
@@ -248,8 +332,6 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
                 }
             }
         }
-
-        return properties;
     }
 
     @Override
@@ -293,6 +375,11 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
     @Override
     public Properties getPropertiesFromColumnQualifier(final String group, final byte[] bytes) {
         final Properties properties = new Properties();
+        addPropertiesFromColumnQualifier(group, bytes, properties);
+        return properties;
+    }
+
+    protected void addPropertiesFromColumnQualifier(final String group, final byte[] bytes, final Properties properties) {
         if (null != bytes && bytes.length != 0) {
             int delimiterPosition = 0;
             final int arrayLength = bytes.length;
@@ -307,7 +394,6 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
                 }
             }
         }
-        return properties;
     }
 
     private int addDeserialisedProperty(final byte[] bytes, final int carriage, final Properties properties, final SchemaElementDefinition elementDefinition, final String propertyName) throws SerialisationException {
@@ -325,6 +411,15 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
         return rtn;
     }
 
+    private int skipProperty(final byte[] bytes, final int carriage, final SchemaElementDefinition elementDefinition, final String propertyName) {
+        final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(propertyName);
+        if (null == typeDefinition || null == typeDefinition.getSerialiser()) {
+            return carriage;
+        }
+        final int numBytesForLength = CompactRawSerialisationUtils.decodeVIntSize(bytes[carriage]);
+        return carriage + numBytesForLength + getCurrentPropLength(bytes, carriage);
+    }
+
     @Override
     public BytesAndRange getPropertiesAsBytesFromColumnQualifier(final String group, final byte[] bytes, final int numProps) {
         BytesAndRange rtn = new BytesAndRange(bytes, 0, 0);
@@ -378,14 +473,18 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
      */
     @Override
     public Properties getPropertiesFromTimestamp(final String group, final long timestamp) {
+        final Properties properties = new Properties();
+        addPropertiesFromTimestamp(group, timestamp, properties);
+        return properties;
+    }
+
+    protected void addPropertiesFromTimestamp(final String group, final long timestamp, final Properties properties) {
         final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
 
-        final Properties properties = new Properties();
         // If the element group requires a timestamp property then add it.
         if (null != timestampProperty && elementDefinition.containsProperty(timestampProperty)) {
             properties.put(timestampProperty, timestamp);
         }
-        return properties;
     }
 
     @Override
@@ -435,12 +534,10 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
     }
 
     protected void addPropertiesToElement(final Element element, final Key key) {
-        element.copyProperties(
-                getPropertiesFromColumnQualifier(element.getGroup(), key.getColumnQualifierData().getBackingArray()));
-        element.copyProperties(
-                getPropertiesFromColumnVisibility(element.getGroup(), key.getColumnVisibilityData().getBackingArray()));
-        element.copyProperties(
-                getPropertiesFromTimestamp(element.getGroup(), key.getTimestamp()));
+        final Properties properties = element.getProperties();
+        addPropertiesFromColumnQualifier(element.getGroup(), key.getColumnQualifierData().getBackingArray(), properties);
+        addPropertiesFromColumnVisibility(element.getGroup(), key.getColumnVisibilityData().getBackingArray(), properties);
+        addPropertiesFromTimestamp(element.getGroup(), key.getTimestamp(), properties);
     }
 
     @SuppressWarnings("WeakerAccess")
@@ -24,6 +24,7 @@ import uk.gov.gchq.gaffer.accumulostore.key.IteratorSettingFactory;
 import uk.gov.gchq.gaffer.accumulostore.key.core.impl.CoreKeyBloomFilterIterator;
 import uk.gov.gchq.gaffer.accumulostore.key.core.impl.CoreKeyGroupByAggregatorIterator;
 import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
+import uk.gov.gchq.gaffer.accumulostore.key.impl.AdjacentVertexIterator;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.AggregatorIterator;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.ElementPostAggregationFilter;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.ElementPreAggregationFilter;
@@ -33,6 +34,7 @@ import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
 import uk.gov.gchq.gaffer.accumulostore.utils.IteratorSettingBuilder;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
 import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
@@ -75,6 +77,18 @@ public abstract class AbstractCoreKeyIteratorSettingsFactory implements Iterator
                 .build();
     }
 
+    @Override
+    public IteratorSetting getAdjacentVertexIteratorSetting(final GetAdjacentIds operation, final AccumuloStore store)
+            throws IteratorSettingException {
+        return new IteratorSettingBuilder(AccumuloStoreConstants.ADJACENT_VERTEX_ITERATOR_PRIORITY,
+                AccumuloStoreConstants.ADJACENT_VERTEX_ITERATOR_NAME, AdjacentVertexIterator.class)
+                .schema(store.getSchema())
+                .view(operation.getView())
+                .keyConverter(store.getKeyPackage().getKeyConverter())
+                .deduplicateAdjacentVertices(Boolean.parseBoolean(operation.getOption(AccumuloStoreConstants.GET_ADJACENT_IDS_DEDUPLICATE)))
+                .build();
+    }
+
     @Override
     public IteratorSetting getAggregatorIteratorSetting(final AccumuloStore store) throws IteratorSettingException {
         return new IteratorSettingBuilder(AccumuloStoreConstants.AGGREGATOR_ITERATOR_PRIORITY,
@@ -141,25 +141,11 @@ public abstract class CoreKeyGroupByCombiner extends WrappingIterator
                 throw new NoSuchElementException();
             }
 
-            final byte[] topColumnQualifier = source.getTopKey().getColumnQualifierData().getBackingArray();
-            final byte[] topColumnVisibility = source.getTopKey().getColumnVisibilityData().getBackingArray();
-            final long topTimestamp = source.getTopKey().getTimestamp();
-            final Value topValue = new Value(source.getTopValue());
-
-            try {
-                source.next();
-                hasNext = _hasNext();
-            } catch (final IOException e) {
-                throw new RuntimeException(e); // Looks like a bad idea, but
-                // this is what the in-built Combiner iterator does
-            }
-
+            // Deserialise the properties before advancing the source, so the
+            // source's key and value do not need to be copied.
             final Properties properties = new Properties();
             try {
-                properties.putAll(elementConverter.getPropertiesFromColumnQualifier(group, topColumnQualifier));
-                properties.putAll(elementConverter.getPropertiesFromColumnVisibility(group, topColumnVisibility));
-                properties.putAll(elementConverter.getPropertiesFromValue(group, topValue));
-                properties.putAll(elementConverter.getPropertiesFromTimestamp(group, topTimestamp));
+                elementConverter.addPropertiesFromKeyAndValue(group, source.getTopKey(), source.getTopValue(), properties);
                 if (null == groupBy) {
                     if (null != schemaGroupBy) {
                         properties.remove(schemaGroupBy);
@@ -171,6 +157,14 @@ public abstract class CoreKeyGroupByCombiner extends WrappingIterator
                 throw new RuntimeException(e);
             }
 
+            try {
+                source.next();
+                hasNext = _hasNext();
+            } catch (final IOException e) {
+                throw new RuntimeException(e); // Looks like a bad idea, but
+                // this is what the in-built Combiner iterator does
+            }
+
             return properties;
         }
 
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.accumulostore.key.impl;
+
+import org.apache.accumulo.core.data.ArrayByteSequence;
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.IteratorEnvironment;
+import org.apache.accumulo.core.iterators.OptionDescriber;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.iterators.WrappingIterator;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.exception.ElementFilterException;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.accumulostore.utils.IteratorOptionsBuilder;
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+import uk.gov.gchq.gaffer.commonutil.iterable.ChainedIterable;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.store.ElementValidator;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The AdjacentVertexIterator replaces the value of each edge with the serialised
+ * form of the vertex adjacent to the seed, so only the adjacent vertex needs
+ * to be returned to the client for a GetAdjacentIds query.
+ * <p>
+ * Edges in groups with post transform filters in the {@link View} are
+ * transformed and filtered before their adjacent vertex is extracted. All
+ * other edges are not deserialised. Entities are skipped.
+ * <p>
+ * If the {@link AccumuloStoreConstants#DEDUPLICATE_ADJACENT_VERTICES} option
+ * is set, each adjacent vertex is only returned once by each instance of this
+ * iterator. This is only a best effort deduplication, it is done per tablet
+ * and is reset when the iterator is recreated or the set of vertices already
+ * returned exceeds {@link #MAX_DEDUPLICATED_VERTICES}.
+ */
+public class AdjacentVertexIterator extends WrappingIterator implements OptionDescriber {
+    public static final int MAX_DEDUPLICATED_VERTICES = 100000;
+
+    private AccumuloElementConverter elementConverter;
+    private View view;
+    private ElementValidator validator;
+    private Set<String> groupsWithTransformFilters;
+    private boolean deduplicate;
+    private Set<ByteSequence> returnedVertices;
+
+    private Key topKey;
+    private Value topValue;
+
+    @Override
+    public void init(final SortedKeyValueIterator<Key, Value> source,
+                     final Map<String, String> options,
+                     final IteratorEnvironment env) throws IOException {
+        super.init(source, options, env);
+        validateOptions(options);
+
+        final Schema schema = Schema.fromJson(StringUtil.toBytes(options.get(AccumuloStoreConstants.SCHEMA)));
+        try {
+            elementConverter = Class
+                    .forName(options.get(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS))
+                    .asSubclass(AccumuloElementConverter.class)
+                    .getConstructor(Schema.class)
+                    .newInstance(schema);
+        } catch (final ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new ElementFilterException("Failed to load element converter from class name provided : "
+                    + options.get(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS), e);
+        }
+
+        view = View.fromJson(StringUtil.toBytes(options.get(AccumuloStoreConstants.VIEW)));
+        validator = new ElementValidator(view);
+        groupsWithTransformFilters = getGroupsWithTransformFilters(view);
+        deduplicate = Boolean.parseBoolean(options.get(AccumuloStoreConstants.DEDUPLICATE_ADJACENT_VERTICES));
+        returnedVertices = deduplicate ? new HashSet<>() : null;
+    }
+
+    @Override
+    public void seek(final Range range, final Collection<ByteSequence> columnFamilies, final boolean inclusive) throws IOException {
+        super.seek(range, columnFamilies, inclusive);
+        findTop();
+    }
+
+    @Override
+    public void next() throws IOException {
+        super.next();
+        findTop();
+    }
+
+    @Override
+    public boolean hasTop() {
+        return null != topKey;
+    }
+
+    @Override
+    public Key getTopKey() {
+        return topKey;
+    }
+
+    @Override
+    public Value getTopValue() {
+        return topValue;
+    }
+
+    @Override
+    public SortedKeyValueIterator<Key, Value> deepCopy(final IteratorEnvironment env) {
+        final AdjacentVertexIterator newInstance = new AdjacentVertexIterator();
+        newInstance.setSource(getSource().deepCopy(env));
+        newInstance.elementConverter = elementConverter;
+        newInstance.view = view;
+        newInstance.validator = validator;
+        newInstance.groupsWithTransformFilters = groupsWithTransformFilters;
+        newInstance.deduplicate = deduplicate;
+        newInstance.returnedVertices = deduplicate ? new HashSet<>() : null;
+        return newInstance;
+    }
+
+    @Override
+    public IteratorOptions describeOptions() {
+        return new IteratorOptionsBuilder(AccumuloStoreConstants.ADJACENT_VERTEX_ITERATOR_NAME,
+                "Only returns the serialised vertex adjacent to the seed of each edge")
+                .addViewNamedOption()
+                .addSchemaNamedOption()
+                .addElementConverterClassNamedOption()
+                .addNamedOption(AccumuloStoreConstants.DEDUPLICATE_ADJACENT_VERTICES,
+                        "Optional: If true, adjacent vertices are only returned once per tablet")
+                .build();
+    }
+
+    @Override
+    public boolean validateOptions(final Map<String, String> options) {
+        if (!options.containsKey(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS)) {
+            throw new IllegalArgumentException("Must specify the " + AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS);
+        }
+        if (!options.containsKey(AccumuloStoreConstants.SCHEMA)) {
+            throw new IllegalArgumentException("Must specify the " + AccumuloStoreConstants.SCHEMA);
+        }
+        if (!options.containsKey(AccumuloStoreConstants.VIEW)) {
+            throw new IllegalArgumentException("Must specify the " + AccumuloStoreConstants.VIEW);
+        }
+        return true;
+    }
+
+    private void findTop() throws IOException {
+        topKey = null;
+        topValue = null;
+        while (getSource().hasTop()) {
+            final Key key = getSource().getTopKey();
+            final byte[] adjacentVertex = getAdjacentVertex(key, getSource().getTopValue());
+            if (null != adjacentVertex && isNotDuplicate(adjacentVertex)) {
+                topKey = new Key(key);
+                topValue = new Value(adjacentVertex);
+                return;
+            }
+            getSource().next();
+        }
+    }
+
+    private byte[] getAdjacentVertex(final Key key, final Value value) {
+        final byte[] adjacentVertex = elementConverter.getAdjacentVertexFromKey(key);
+        if (null == adjacentVertex) {
+            return null;
+        }
+
+        final String group = elementConverter.getGroupFromColumnFamily(key.getColumnFamilyData().getBackingArray());
+        if (groupsWithTransformFilters.contains(group)) {
+            Element element = elementConverter.getFullElement(key, value, true);
+            final ElementTransformer transformer = view.getElement(group).getTransformer();
+            if (null != transformer) {
+                element = transformer.apply(element);
+            }
+            if (!validator.validateTransform(element)) {
+                return null;
+            }
+        }
+
+        return adjacentVertex;
+    }
+
+    private boolean isNotDuplicate(final byte[] adjacentVertex) {
+        if (!deduplicate) {
+            return true;
+        }
+        if (returnedVertices.size() >= MAX_DEDUPLICATED_VERTICES) {
+            returnedVertices.clear();
+        }
+        return returnedVertices.add(new ArrayByteSequence(adjacentVertex));
+    }
+
+    private static Set<String> getGroupsWithTransformFilters(final View view) {
+        final Set<String> groups = new HashSet<>();
+        for (final Map.Entry<String, ViewElementDefinition> entry : new ChainedIterable<Map.Entry<String, ViewElementDefinition>>(view.getEntities().entrySet(), view.getEdges().entrySet())) {
+            if (null != entry.getValue() && entry.getValue().hasPostTransformFilters()) {
+                groups.add(entry.getKey());
+            }
+        }
+        return groups;
+    }
+}
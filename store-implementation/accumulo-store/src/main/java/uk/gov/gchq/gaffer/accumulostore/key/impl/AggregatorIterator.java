@@ -72,10 +72,14 @@ public class AggregatorIterator extends Combiner {
             throw new AggregationException("Failed to recreate a graph element from a key and value", e);
         }
         Properties aggregatedProps = properties;
+        // The aggregator only reads the properties being merged in, so the
+        // same Properties object can be reused for each remaining value.
+        properties = new Properties();
         while (iter.hasNext()) {
             value = iter.next();
+            properties.clear();
             try {
-                properties = elementConverter.getPropertiesFromValue(group, value);
+                elementConverter.addPropertiesFromValue(group, value, properties);
             } catch (final AccumuloElementConversionException e) {
                 throw new AggregationException("Failed to recreate a graph element from a key and value", e);
             }
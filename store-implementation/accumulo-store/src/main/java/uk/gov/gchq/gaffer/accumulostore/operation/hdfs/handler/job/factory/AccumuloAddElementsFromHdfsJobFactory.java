@@ -21,6 +21,8 @@ import org.apache.accumulo.core.data.Value;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.io.WritableUtils;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapreduce.Job;
 import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
@@ -64,6 +66,11 @@ public class AccumuloAddElementsFromHdfsJobFactory implements AddElementsFromHdf
         LOGGER.info("Added {} of {} to job conf", MAPPER_GENERATOR, mapperGeneratorClassName);
         jobConf.set(VALIDATE, String.valueOf(operation.isValidate()));
         LOGGER.info("Added {} option of {} to job conf", VALIDATE, operation.isValidate());
+        final String aggregationBufferSize = operation.getOption(MAPPER_AGGREGATION_BUFFER_SIZE);
+        if (null != aggregationBufferSize) {
+            jobConf.set(MAPPER_AGGREGATION_BUFFER_SIZE, aggregationBufferSize);
+            LOGGER.info("Added {} option of {} to job conf", MAPPER_AGGREGATION_BUFFER_SIZE, aggregationBufferSize);
+        }
 
         if (null != operation.getNumMapTasks()) {
             jobConf.setNumMapTasks(operation.getNumMapTasks());
@@ -108,6 +115,7 @@ public class AccumuloAddElementsFromHdfsJobFactory implements AddElementsFromHdf
         job.setMapperClass(AddElementsFromHdfsMapper.class);
         job.setMapOutputKeyClass(Key.class);
         job.setMapOutputValueClass(Value.class);
+        job.setSortComparatorClass(AccumuloKeyRawComparator.class);
     }
 
     protected void setupCombiner(final Job job) {
@@ -198,6 +206,72 @@ public class AccumuloAddElementsFromHdfsJobFactory implements AddElementsFromHdf
         GafferKeyRangePartitioner.setSplitFile(job, splitsFilePath);
     }
 
+    /**
+     * A {@link org.apache.hadoop.io.RawComparator} that sorts serialised Accumulo {@link Key}s in the
+     * same order as {@link Key#compareTo(Key)}, without deserialising them.
+     * A serialised key is made up of the offsets of the column family, column
+     * qualifier and column visibility and the total length of the data, then the
+     * row, column family, column qualifier and column visibility bytes, then the
+     * timestamp and the deleted flag.
+     */
+    public static class AccumuloKeyRawComparator extends WritableComparator {
+        private static final int NUM_OFFSETS = 4;
+
+        public AccumuloKeyRawComparator() {
+            super(Key.class);
+        }
+
+        @Override
+        public int compare(final byte[] b1, final int s1, final int l1, final byte[] b2, final int s2, final int l2) {
+            try {
+                final int[] offsets1 = new int[NUM_OFFSETS];
+                final int[] offsets2 = new int[NUM_OFFSETS];
+                final int data1 = readOffsets(b1, s1, offsets1);
+                final int data2 = readOffsets(b2, s2, offsets2);
+
+                // Compare the row, column family, column qualifier and column visibility in turn
+                int start1 = 0;
+                int start2 = 0;
+                for (int i = 0; i < NUM_OFFSETS; i++) {
+                    final int result = compareBytes(b1, data1 + start1, offsets1[i] - start1, b2, data2 + start2, offsets2[i] - start2);
+                    if (0 != result) {
+                        return result;
+                    }
+                    start1 = offsets1[i];
+                    start2 = offsets2[i];
+                }
+
+                // More recent timestamps are sorted first
+                final int timestampPos1 = data1 + offsets1[NUM_OFFSETS - 1];
+                final int timestampPos2 = data2 + offsets2[NUM_OFFSETS - 1];
+                final long timestamp1 = readVLong(b1, timestampPos1);
+                final long timestamp2 = readVLong(b2, timestampPos2);
+                if (timestamp1 != timestamp2) {
+                    return timestamp1 < timestamp2 ? 1 : -1;
+                }
+
+                // Deleted keys are sorted first
+                final boolean deleted1 = 0 != b1[timestampPos1 + WritableUtils.decodeVIntSize(b1[timestampPos1])];
+                final boolean deleted2 = 0 != b2[timestampPos2 + WritableUtils.decodeVIntSize(b2[timestampPos2])];
+                if (deleted1 == deleted2) {
+                    return 0;
+                }
+                return deleted1 ? -1 : 1;
+            } catch (final IOException e) {
+                throw new IllegalArgumentException("Unable to compare serialised keys", e);
+            }
+        }
+
+        private static int readOffsets(final byte[] bytes, final int start, final int[] offsets) throws IOException {
+            int pos = start;
+            for (int i = 0; i < NUM_OFFSETS; i++) {
+                offsets[i] = readVInt(bytes, pos);
+                pos += WritableUtils.decodeVIntSize(bytes[pos]);
+            }
+            return pos;
+        }
+    }
+
     protected static int validateValue(final Integer value) throws IOException {
         int result = 0;
         if (null != value) {
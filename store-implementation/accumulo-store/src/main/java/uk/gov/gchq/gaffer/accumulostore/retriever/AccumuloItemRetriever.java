@@ -39,6 +39,7 @@ import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
 import uk.gov.gchq.gaffer.operation.io.Input;
 import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.util.AdaptiveBatchSizer;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.HashSet;
@@ -46,6 +47,7 @@ import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<? extends Element>> & GraphFilters, I_ITEM>
         extends AccumuloRetriever<OP, Element> {
@@ -90,28 +92,23 @@ public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<
 
     protected class ElementIterator implements CloseableIterator<Element> {
         private final Iterator<? extends I_ITEM> idsIterator;
+        private final AdaptiveBatchSizer batchSizer;
         private int count;
+        private long batchResults;
+        private long batchBytes;
+        private long batchNanos;
         private BatchScanner scanner;
         private Iterator<Entry<Key, Value>> scannerIterator;
         private Element nextElm;
 
         public ElementIterator(final Iterator<? extends I_ITEM> idIterator) throws RetrieverException {
             idsIterator = idIterator;
-            count = 0;
-            final Set<Range> ranges = new HashSet<>();
-            while (idsIterator.hasNext() && count < store.getProperties().getMaxEntriesForBatchScanner()) {
-                count++;
-                try {
-                    addToRanges(idsIterator.next(), ranges);
-                } catch (final RangeFactoryException e) {
-                    LOGGER.error("Failed to create a range from given seed pair", e);
-                }
-            }
+            batchSizer = createBatchSizer();
 
             // Create BatchScanner, appropriately configured (i.e. ranges,
             // iterators, etc).
             try {
-                scanner = getScanner(ranges);
+                scanner = getScanner(getNextRanges());
             } catch (final Exception e) {
                 CloseableUtil.close(idsIterator);
                 CloseableUtil.close(ids);
@@ -126,13 +123,12 @@ public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<
             if (null != nextElm) {
                 return true;
             }
-            while (scannerIterator.hasNext()) {
-                final Entry<Key, Value> entry = scannerIterator.next();
+            while (scannerHasNext()) {
+                final Entry<Key, Value> entry = scannerNext();
                 try {
-                    nextElm = elementConverter.getFullElement(
-                            entry.getKey(),
-                            entry.getValue(),
-                            includeMatchedVertex);
+                    nextElm = elementConverter.getElementFromKey(entry.getKey(), includeMatchedVertex);
+                    elementConverter.addPropertiesFromValue(nextElm.getGroup(), entry.getValue(),
+                            nextElm.getProperties(), getPropertiesToLoad(nextElm.getGroup()));
                 } catch (final AccumuloElementConversionException e) {
                     LOGGER.error("Failed to re-create an element from a key value entry set returning next element as null",
                             e);
@@ -150,17 +146,9 @@ public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<
             // through the provided entities, and see if there are more.
             // If so create the next scanner, if there are no more entities
             // then return false.
-            while (idsIterator.hasNext() && !scannerIterator.hasNext()) {
-                count = 0;
-                final Set<Range> ranges = new HashSet<>();
-                while (idsIterator.hasNext() && count < store.getProperties().getMaxEntriesForBatchScanner()) {
-                    count++;
-                    try {
-                        addToRanges(idsIterator.next(), ranges);
-                    } catch (final RangeFactoryException e) {
-                        LOGGER.error("Failed to create a range from given seed", e);
-                    }
-                }
+            while (idsIterator.hasNext() && !scannerHasNext()) {
+                recordBatch();
+                final Set<Range> ranges = getNextRanges();
                 scanner.close();
                 try {
                     scanner = getScanner(ranges);
@@ -170,7 +158,9 @@ public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<
                 }
                 scannerIterator = scanner.iterator();
             }
-            if (!scannerIterator.hasNext()) {
+            if (!scannerHasNext()) {
+                recordBatch();
+                LOGGER.debug("Batch scanner sizes used: {}", batchSizer);
                 scanner.close();
                 return false;
             } else {
@@ -201,5 +191,51 @@ public abstract class AccumuloItemRetriever<OP extends Output<CloseableIterable<
                 scanner.close();
             }
         }
+
+        /**
+         * @return the batch sizer holding the sizes of the batches used so far.
+         */
+        public AdaptiveBatchSizer getBatchSizer() {
+            return batchSizer;
+        }
+
+        private Set<Range> getNextRanges() {
+            count = 0;
+            final int batchSize = batchSizer.getBatchSize();
+            final Set<Range> ranges = new HashSet<>();
+            while (idsIterator.hasNext() && count < batchSize) {
+                count++;
+                try {
+                    addToRanges(idsIterator.next(), ranges);
+                } catch (final RangeFactoryException e) {
+                    LOGGER.error("Failed to create a range from given seed", e);
+                }
+            }
+            return ranges;
+        }
+
+        private boolean scannerHasNext() {
+            final long startTime = System.nanoTime();
+            final boolean hasNext = scannerIterator.hasNext();
+            batchNanos += System.nanoTime() - startTime;
+            return hasNext;
+        }
+
+        private Entry<Key, Value> scannerNext() {
+            final long startTime = System.nanoTime();
+            final Entry<Key, Value> entry = scannerIterator.next();
+            batchNanos += System.nanoTime() - startTime;
+            batchResults++;
+            batchBytes += entry.getKey().getSize() + entry.getValue().getSize();
+            return entry;
+        }
+
+        private void recordBatch() {
+            batchSizer.recordBatch(count, batchResults, batchBytes, TimeUnit.NANOSECONDS.toMillis(batchNanos));
+            count = 0;
+            batchResults = 0;
+            batchBytes = 0;
+            batchNanos = 0;
+        }
     }
 }
@@ -23,6 +23,7 @@ import org.apache.accumulo.core.data.Range;
 import org.apache.accumulo.core.security.Authorizations;
 import org.apache.hadoop.io.Text;
 
+import uk.gov.gchq.gaffer.accumulostore.AccumuloProperties;
 import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
 import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
 import uk.gov.gchq.gaffer.accumulostore.key.IteratorSettingFactory;
@@ -32,10 +33,13 @@ import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.RequiredPropertiesCache;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
 import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+import uk.gov.gchq.gaffer.store.util.AdaptiveBatchSizer;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.Set;
@@ -50,6 +54,7 @@ public abstract class AccumuloRetriever<OP extends Output & GraphFilters, O_ITEM
     protected final OP operation;
     protected final AccumuloElementConverter elementConverter;
     protected final IteratorSetting[] iteratorSettings;
+    private final RequiredPropertiesCache propertiesToLoad;
 
     protected AccumuloRetriever(final AccumuloStore store, final OP operation,
                                 final User user, final IteratorSetting... iteratorSettings)
@@ -59,6 +64,10 @@ public abstract class AccumuloRetriever<OP extends Output & GraphFilters, O_ITEM
         this.iteratorSettingFactory = store.getKeyPackage().getIteratorFactory();
         this.elementConverter = store.getKeyPackage().getKeyConverter();
         this.operation = operation;
+        this.propertiesToLoad = new RequiredPropertiesCache(operation.getView(), group -> {
+            final SchemaElementDefinition elementDef = store.getSchema().getElement(group);
+            return null != elementDef ? elementDef.getProperties() : null;
+        });
         this.iteratorSettings = iteratorSettings;
         this.user = user;
         if (null != user && null != user.getDataAuths()) {
@@ -81,6 +90,18 @@ public abstract class AccumuloRetriever<OP extends Output & GraphFilters, O_ITEM
         }
     }
 
+    /**
+     * Gets the properties that need to be deserialised for elements in the
+     * given group in order to apply the view and return the properties it
+     * requires. The result is cached for each group.
+     *
+     * @param group the element group
+     * @return the properties to deserialise, or null if all the properties should be deserialised
+     */
+    protected Set<String> getPropertiesToLoad(final String group) {
+        return propertiesToLoad.getPropertiesToLoad(group);
+    }
+
     /**
      * Performs any post Filtering specified in a view on an element
      *
@@ -133,6 +154,26 @@ public abstract class AccumuloRetriever<OP extends Output & GraphFilters, O_ITEM
         return scanner;
     }
 
+    /**
+     * Creates the {@link AdaptiveBatchSizer} used to decide how many seeds are
+     * added to each batch scanner. If adaptive batch sizes are disabled the
+     * batch sizer always returns the max entries for the batch scanner.
+     *
+     * @return a new batch sizer
+     */
+    protected AdaptiveBatchSizer createBatchSizer() {
+        final AccumuloProperties properties = store.getProperties();
+        if (!properties.getAdaptiveEntriesForBatchScanner()) {
+            return new AdaptiveBatchSizer(properties.getMaxEntriesForBatchScanner());
+        }
+        return new AdaptiveBatchSizer(
+                Math.min(properties.getMinEntriesForBatchScanner(), properties.getMaxEntriesForBatchScanner()),
+                properties.getMaxEntriesForBatchScanner(),
+                properties.getTargetResultsForBatchScanner(),
+                properties.getTargetBytesForBatchScanner(),
+                properties.getTargetLatencyForBatchScannerInMilliseconds());
+    }
+
     protected void transform(final Element element, final ElementTransformer transformer) {
         if (null != transformer) {
             transformer.apply(element);
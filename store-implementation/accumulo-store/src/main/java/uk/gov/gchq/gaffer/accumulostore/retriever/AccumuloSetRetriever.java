@@ -31,6 +31,7 @@ import uk.gov.gchq.gaffer.accumulostore.key.exception.AccumuloElementConversionE
 import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
 import uk.gov.gchq.gaffer.accumulostore.key.exception.RangeFactoryException;
 import uk.gov.gchq.gaffer.accumulostore.retriever.impl.AccumuloSingleIDRetriever;
+import uk.gov.gchq.gaffer.accumulostore.utils.BloomFilterCache;
 import uk.gov.gchq.gaffer.accumulostore.utils.BloomFilterUtils;
 import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
@@ -45,9 +46,11 @@ import uk.gov.gchq.gaffer.operation.io.InputOutput;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -163,29 +166,100 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
     }
 
     private void addToBloomFilter(final Object vertex, final BloomFilter filter) throws RetrieverException {
+        filter.add(new org.apache.hadoop.util.bloom.Key(serialiseVertex(vertex)));
+    }
+
+    /**
+     * Gets the {@link IteratorSetting} that passes a {@link BloomFilter}
+     * containing the given vertices to the tablet servers. The filter is sized
+     * to achieve the store's false positive rate subject to the maximum size
+     * of filter that can be passed to an iterator. If the store's
+     * {@link BloomFilterCache} is enabled then the iterator setting previously
+     * built from the same vertices is reused, so the filter is neither built
+     * nor serialised again.
+     *
+     * @param vertices the vertices to add to the filter
+     * @return the iterator setting, or null if it could not be created
+     * @throws RetrieverException if a vertex could not be serialised
+     */
+    protected IteratorSetting getBloomFilterIteratorSetting(final Set<Object> vertices) throws RetrieverException {
+        final double falsePositiveRate = store.getProperties().getFalsePositiveRate();
+        final int maxBloomFilterSize = store.getProperties().getMaxBloomFilterToPassToAnIterator();
+        final BloomFilterCache cache = store.getBloomFilterCache();
+        if (null == cache || !cache.isEnabled()) {
+            final BloomFilter filter = BloomFilterUtils.getBloomFilter(falsePositiveRate, vertices.size(), maxBloomFilterSize);
+            addToBloomFilter(vertices, filter);
+            return createBloomFilterIteratorSetting(filter);
+        }
+
+        final List<byte[]> serialisedVertices = new ArrayList<>(vertices.size());
+        final BloomFilterCache.KeyBuilder keyBuilder = new BloomFilterCache.KeyBuilder();
+        for (final Object vertex : vertices) {
+            final byte[] serialisedVertex = serialiseVertex(vertex);
+            keyBuilder.add(serialisedVertex);
+            serialisedVertices.add(serialisedVertex);
+        }
+
+        final String key = keyBuilder.build("set:" + falsePositiveRate + ":" + maxBloomFilterSize);
+        IteratorSetting iteratorSetting = cache.getIteratorSetting(key);
+        if (null == iteratorSetting) {
+            final BloomFilter filter = BloomFilterUtils.getBloomFilter(falsePositiveRate, vertices.size(), maxBloomFilterSize);
+            addSerialisedToBloomFilter(serialisedVertices, filter);
+            iteratorSetting = createBloomFilterIteratorSetting(filter);
+            if (null != iteratorSetting) {
+                cache.put(key, filter, iteratorSetting);
+            }
+        }
+        return iteratorSetting;
+    }
+
+    private void addSerialisedToBloomFilter(final List<byte[]> serialisedVertices, final BloomFilter filter) {
+        for (final byte[] serialisedVertex : serialisedVertices) {
+            filter.add(new org.apache.hadoop.util.bloom.Key(serialisedVertex));
+        }
+    }
+
+    private IteratorSetting createBloomFilterIteratorSetting(final BloomFilter filter) {
         try {
-            filter.add(new org.apache.hadoop.util.bloom.Key(elementConverter.serialiseVertex(vertex)));
+            return iteratorSettingFactory.getBloomFilterIteratorSetting(filter);
+        } catch (final IteratorSettingException e) {
+            LOGGER.error("Failed to apply the bloom filter iterator setting continuing without bloom filter", e);
+            return null;
+        }
+    }
+
+    private byte[] serialiseVertex(final Object vertex) throws RetrieverException {
+        try {
+            return elementConverter.serialiseVertex(vertex);
         } catch (final AccumuloElementConversionException e) {
             throw new RetrieverException("Failed to add identifier to the bloom key", e);
         }
     }
 
+    private void recordFalsePositives(final long checked, final long rejected) {
+        final BloomFilterCache cache = store.getBloomFilterCache();
+        if (null != cache && checked > 0) {
+            cache.recordFalsePositives(checked, rejected);
+        }
+    }
+
     protected abstract class AbstractElementIteratorReadIntoMemory implements CloseableIterator<Element> {
         private AccumuloItemRetriever<?, ?> parentRetriever;
         private Iterator<Element> iterator;
         private Element nextElm;
+        private long edgesChecked;
+        private long falsePositives;
 
-        protected void initialise(final BloomFilter filter) throws RetrieverException {
-            IteratorSetting bloomFilter = null;
+        /**
+         * @param bloomFilterIteratorSetting the iterator setting for the Bloom
+         *                                   filter, e.g. from
+         *                                   {@link #getBloomFilterIteratorSetting(Set)},
+         *                                   may be null
+         * @throws RetrieverException if the retriever could not be created
+         */
+        protected void initialise(final IteratorSetting bloomFilterIteratorSetting) throws RetrieverException {
             IteratorSetting[] iteratorSettings1 = Arrays.copyOf(iteratorSettings, iteratorSettings.length + 1);
-            try {
-                bloomFilter = iteratorSettingFactory.getBloomFilterIteratorSetting(filter);
-            } catch (final IteratorSettingException e) {
-                LOGGER.error(
-                        "Failed to apply the bloom filter to the retriever, creating the gaffer.accumulostore.retriever without bloom filter",
-                        e);
-            }
-            iteratorSettings1[iteratorSettings.length] = bloomFilter;
+            iteratorSettings1[iteratorSettings.length] = bloomFilterIteratorSetting;
             try {
                 parentRetriever = new AccumuloSingleIDRetriever(store, operation, user, iteratorSettings1);
             } catch (final Exception e) {
@@ -237,6 +311,9 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
             if (null != parentRetriever) {
                 parentRetriever.close();
             }
+            recordFalsePositives(edgesChecked, falsePositives);
+            edgesChecked = 0;
+            falsePositives = 0;
         }
 
         protected abstract boolean checkIfBothEndsInSet(final Object source, final Object destination);
@@ -259,7 +336,12 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
             final Edge edge = (Edge) elm;
             final Object source = edge.getSource();
             final Object destination = edge.getDestination();
-            return checkIfBothEndsInSet(source, destination);
+            final boolean bothEndsInSet = checkIfBothEndsInSet(source, destination);
+            edgesChecked++;
+            if (!bothEndsInSet) {
+                falsePositives++;
+            }
+            return bothEndsInSet;
         }
 
     }
@@ -271,19 +353,101 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
         protected BloomFilter clientSideFilter;
         protected Set<Object> currentSeeds;
         protected BatchScanner scanner;
+        // The Bloom filter passed to the iterators. This is null if its
+        // iterator setting was taken from the cache.
         protected BloomFilter filter;
         private Iterator<Entry<Key, Value>> scannerIterator;
+        private IteratorSetting bloomFilterIteratorSetting;
         private Element nextElm;
         private int count;
+        private long edgesChecked;
+        private long falsePositives;
 
         public AbstractElementIteratorFromBatches() {
+            this(true);
+        }
+
+        /**
+         * @param createBloomFilters if false the Bloom filters are not created
+         *                           and must be set, e.g. using
+         *                           {@link #initialiseBloomFilters(Iterator)}
+         */
+        protected AbstractElementIteratorFromBatches(final boolean createBloomFilters) {
+            if (createBloomFilters) {
+                createBloomFilters();
+            }
+            currentSeeds = new HashSet<>();
+        }
+
+        private void createBloomFilters() {
+            createClientSideFilter();
+            createFilter();
+        }
+
+        private void createClientSideFilter() {
             // Set up client side filter
             clientSideFilter = BloomFilterUtils.getBloomFilter(store.getProperties().getClientSideBloomFilterSize());
+        }
+
+        private void createFilter() {
             // Create Bloom filter to be passed to iterators.
             filter = BloomFilterUtils.getBloomFilter(store.getProperties().getFalsePositiveRate(),
                     store.getProperties().getMaxEntriesForBatchScanner(),
                     store.getProperties().getMaxBloomFilterToPassToAnIterator());
-            currentSeeds = new HashSet<>();
+        }
+
+        /**
+         * Sets both Bloom filters to contain the given seeds. The filters must
+         * not be modified afterwards as, if the store's {@link BloomFilterCache}
+         * is enabled, they may be shared with other queries for the same seeds.
+         * When the cache is enabled the cache keys are computed from the
+         * serialised seeds first and the filters are only built if they are not
+         * already cached. The iterator setting for the filter passed to the
+         * iterators is cached with it, in which case {@link #filter} is not set.
+         *
+         * @param seedsIter an iterator over the seeds, this is always closed
+         * @throws RetrieverException if a vertex could not be serialised
+         */
+        protected void initialiseBloomFilters(final Iterator<? extends EntityId> seedsIter) throws RetrieverException {
+            final BloomFilterCache cache = store.getBloomFilterCache();
+            if (null == cache || !cache.isEnabled()) {
+                createBloomFilters();
+                addToBloomFilter(seedsIter, filter, clientSideFilter);
+                return;
+            }
+
+            final List<byte[]> serialisedVertices = new ArrayList<>();
+            final BloomFilterCache.KeyBuilder keyBuilder = new BloomFilterCache.KeyBuilder();
+            try {
+                while (seedsIter.hasNext()) {
+                    final byte[] serialisedVertex = serialiseVertex(seedsIter.next().getVertex());
+                    keyBuilder.add(serialisedVertex);
+                    serialisedVertices.add(serialisedVertex);
+                }
+            } finally {
+                CloseableUtil.close(seedsIter);
+            }
+
+            final String filterKey = keyBuilder.build("batch:" + store.getProperties().getFalsePositiveRate()
+                    + ":" + store.getProperties().getMaxEntriesForBatchScanner()
+                    + ":" + store.getProperties().getMaxBloomFilterToPassToAnIterator());
+            bloomFilterIteratorSetting = cache.getIteratorSetting(filterKey);
+            if (null == bloomFilterIteratorSetting) {
+                createFilter();
+                addSerialisedToBloomFilter(serialisedVertices, filter);
+                bloomFilterIteratorSetting = createBloomFilterIteratorSetting(filter);
+                if (null != bloomFilterIteratorSetting) {
+                    cache.put(filterKey, filter, bloomFilterIteratorSetting);
+                }
+            }
+
+            final String clientSideFilterKey = keyBuilder.build("client:" + store.getProperties().getClientSideBloomFilterSize());
+            clientSideFilter = cache.get(clientSideFilterKey);
+            if (null == clientSideFilter) {
+                createClientSideFilter();
+                addSerialisedToBloomFilter(serialisedVertices, clientSideFilter);
+                cache.put(clientSideFilterKey, clientSideFilter);
+            }
         }
 
         @Override
@@ -300,7 +464,14 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
                         LOGGER.error("Failed to create next element from key and value entry set", e);
                         continue;
                     }
-                    if (secondaryCheck(nextElm)) {
+                    final boolean passedSecondaryCheck = secondaryCheck(nextElm);
+                    if (Edge.class.isInstance(nextElm)) {
+                        edgesChecked++;
+                        if (!passedSecondaryCheck) {
+                            falsePositives++;
+                        }
+                    }
+                    if (passedSecondaryCheck) {
                         doTransformation(nextElm);
                         if (doPostFilter(nextElm)) {
                             return true;
@@ -338,6 +509,9 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
             if (null != scanner) {
                 scanner.close();
             }
+            recordFalsePositives(edgesChecked, falsePositives);
+            edgesChecked = 0;
+            falsePositives = 0;
         }
 
         protected abstract void updateBloomFilterIfRequired(final EntityId seed) throws RetrieverException;
@@ -367,14 +541,23 @@ public abstract class AccumuloSetRetriever<OP extends InputOutput<Iterable<? ext
                 CloseableUtil.close(operation);
                 throw new RetrieverException(e);
             }
-            try {
-                scanner.addScanIterator(iteratorSettingFactory.getBloomFilterIteratorSetting(filter));
-            } catch (final IteratorSettingException e) {
-                LOGGER.error("Failed to apply the bloom filter iterator setting continuing without bloom filter", e);
+            if (null == bloomFilterIteratorSetting || !hasFixedBloomFilters()) {
+                bloomFilterIteratorSetting = createBloomFilterIteratorSetting(filter);
+            }
+            if (null != bloomFilterIteratorSetting) {
+                scanner.addScanIterator(bloomFilterIteratorSetting);
             }
             scannerIterator = scanner.iterator();
         }
 
+        /**
+         * @return true if the Bloom filters are not updated between batches,
+         * so the serialised filter can be reused for each batch.
+         */
+        protected boolean hasFixedBloomFilters() {
+            return false;
+        }
+
         /**
          * Check whether this is valid, i.e. one end is in the current set of
          * seeds that are being queried for and the other matches the Bloom
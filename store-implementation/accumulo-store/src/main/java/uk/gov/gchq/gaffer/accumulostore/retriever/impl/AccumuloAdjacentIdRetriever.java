@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.accumulostore.retriever.impl;
 
 import com.google.common.collect.Iterators;
 import org.apache.accumulo.core.client.BatchScanner;
+import org.apache.accumulo.core.client.IteratorSetting;
 import org.apache.accumulo.core.client.TableNotFoundException;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Range;
@@ -32,8 +33,6 @@ import uk.gov.gchq.gaffer.accumulostore.key.exception.RangeFactoryException;
 import uk.gov.gchq.gaffer.accumulostore.retriever.AccumuloRetriever;
 import uk.gov.gchq.gaffer.accumulostore.retriever.RetrieverException;
 import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
-import uk.gov.gchq.gaffer.commonutil.StringUtil;
-import uk.gov.gchq.gaffer.commonutil.iterable.ChainedIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.commonutil.iterable.EmptyCloseableIterator;
 import uk.gov.gchq.gaffer.data.element.Element;
@@ -42,8 +41,10 @@ import uk.gov.gchq.gaffer.data.element.id.ElementId;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.user.User;
 
@@ -57,18 +58,29 @@ public class AccumuloAdjacentIdRetriever extends AccumuloRetriever<GetAdjacentId
     private static final Logger LOGGER = LoggerFactory.getLogger(AccumuloAdjacentIdRetriever.class);
 
     private final Iterable<? extends ElementId> ids;
-    private final Set<String> transformGroups;
+    private final ToBytesSerialiser<Object> vertexSerialiser;
+    private final boolean adjacentVerticesExtractedByIterator;
+    private final Set<String> postTransformFilterGroups;
 
     public AccumuloAdjacentIdRetriever(final AccumuloStore store, final GetAdjacentIds operation,
                                        final User user)
             throws IteratorSettingException, StoreException {
+        this(store, operation, user, store.getKeyPackage().getIteratorFactory().getAdjacentVertexIteratorSetting(operation, store));
+    }
+
+    private AccumuloAdjacentIdRetriever(final AccumuloStore store, final GetAdjacentIds operation,
+                                        final User user, final IteratorSetting adjacentVertexIteratorSetting)
+            throws IteratorSettingException, StoreException {
         super(store, operation, user,
                 store.getKeyPackage().getIteratorFactory().getEdgeEntityDirectionFilterIteratorSetting(operation),
                 store.getKeyPackage().getIteratorFactory().getElementPreAggregationFilterIteratorSetting(operation.getView(), store),
                 store.getKeyPackage().getIteratorFactory().getQueryTimeAggregatorIteratorSetting(operation.getView(), store),
-                store.getKeyPackage().getIteratorFactory().getElementPostAggregationFilterIteratorSetting(operation.getView(), store));
+                store.getKeyPackage().getIteratorFactory().getElementPostAggregationFilterIteratorSetting(operation.getView(), store),
+                adjacentVertexIteratorSetting);
         this.ids = operation.getInput();
-        transformGroups = getGroupsWithTransforms(operation.getView());
+        this.vertexSerialiser = (ToBytesSerialiser) store.getSchema().getVertexSerialiser();
+        this.adjacentVerticesExtractedByIterator = null != adjacentVertexIteratorSetting;
+        this.postTransformFilterGroups = adjacentVerticesExtractedByIterator ? null : getGroupsWithPostTransformFilters(operation.getView());
     }
 
     /**
@@ -137,47 +149,9 @@ public class AccumuloAdjacentIdRetriever extends AccumuloRetriever<GetAdjacentId
             }
             while (scannerIterator.hasNext()) {
                 final Map.Entry<Key, Value> entry = scannerIterator.next();
-
-                final String group = StringUtil.toString(entry.getKey().getColumnFamilyData().getBackingArray());
-                ElementId elementId = null;
-                if (transformGroups.contains(group)) {
-                    final Element element;
-                    try {
-                        element = elementConverter.getFullElement(
-                                entry.getKey(),
-                                entry.getValue(),
-                                true);
-                    } catch (final AccumuloElementConversionException e) {
-                        LOGGER.error("Failed to re-create an element from a key value entry set returning next EntityId as null",
-                                e);
-                        continue;
-                    }
-                    if (null != element) {
-                        doTransformation(element);
-                        if (doPostFilter(element)) {
-                            elementId = element;
-                        }
-                    }
-                } else {
-                    try {
-                        elementId = elementConverter.getElementId(entry.getKey(), true);
-                    } catch (final AccumuloElementConversionException e) {
-                        LOGGER.error("Failed to create element id returning next EntityId as null", e);
-                        continue;
-                    }
-                }
-
-                if (null != elementId) {
-                    if (elementId instanceof EdgeId) {
-                        if (EdgeId.MatchedVertex.DESTINATION == ((EdgeId) elementId).getMatchedVertex()) {
-                            nextId = new EntitySeed(((EdgeId) elementId).getSource());
-                        } else {
-                            nextId = new EntitySeed(((EdgeId) elementId).getDestination());
-                        }
-                        return true;
-                    } else {
-                        LOGGER.error("Unexpected EntityId returned, returning next result as null");
-                    }
+                nextId = adjacentVerticesExtractedByIterator ? getAdjacentIdFromValue(entry) : getAdjacentIdFromElement(entry);
+                if (null != nextId) {
+                    return true;
                 }
             }
 
@@ -238,19 +212,55 @@ public class AccumuloAdjacentIdRetriever extends AccumuloRetriever<GetAdjacentId
         }
     }
 
-    private void addToRanges(final ElementId seed, final Set<Range> ranges) throws RangeFactoryException {
-        ranges.addAll(rangeFactory.getRange(seed, operation));
+    // The adjacent vertex iterator has already applied the view and replaced
+    // the value with the serialised adjacent vertex.
+    private EntityId getAdjacentIdFromValue(final Map.Entry<Key, Value> entry) {
+        try {
+            return new EntitySeed(vertexSerialiser.deserialise(entry.getValue().get()));
+        } catch (final SerialisationException e) {
+            LOGGER.error("Failed to deserialise adjacent vertex returning next EntityId as null", e);
+            return null;
+        }
+    }
+
+    // Used when the key package does not provide an adjacent vertex iterator,
+    // so the adjacent vertex is extracted on the client, applying any
+    // transforms and post transform filters in the view.
+    private EntityId getAdjacentIdFromElement(final Map.Entry<Key, Value> entry) {
+        final String group = elementConverter.getGroupFromColumnFamily(entry.getKey().getColumnFamilyData().getBackingArray());
+        final ElementId elementId;
+        try {
+            if (postTransformFilterGroups.contains(group)) {
+                final Element element = elementConverter.getFullElement(entry.getKey(), entry.getValue(), true);
+                doTransformation(element);
+                elementId = doPostFilter(element) ? element : null;
+            } else {
+                elementId = elementConverter.getElementId(entry.getKey(), true);
+            }
+        } catch (final AccumuloElementConversionException e) {
+            LOGGER.error("Failed to re-create an element from a key value entry set returning next EntityId as null", e);
+            return null;
+        }
+
+        if (!(elementId instanceof EdgeId)) {
+            return null;
+        }
+        final EdgeId edgeId = (EdgeId) elementId;
+        return new EntitySeed(EdgeId.MatchedVertex.DESTINATION == edgeId.getMatchedVertex()
+                ? edgeId.getSource() : edgeId.getDestination());
     }
 
-    private Set<String> getGroupsWithTransforms(final View view) {
+    private Set<String> getGroupsWithPostTransformFilters(final View view) {
         final Set<String> groups = new HashSet<>();
-        for (final Map.Entry<String, ViewElementDefinition> entry : new ChainedIterable<Map.Entry<String, ViewElementDefinition>>(view.getEntities().entrySet(), view.getEdges().entrySet())) {
-            if (null != entry.getValue()) {
-                if (entry.getValue().hasPostTransformFilters()) {
-                    groups.add(entry.getKey());
-                }
+        for (final Map.Entry<String, ViewElementDefinition> entry : view.getEdges().entrySet()) {
+            if (null != entry.getValue() && entry.getValue().hasPostTransformFilters()) {
+                groups.add(entry.getKey());
             }
         }
         return groups;
     }
+
+    private void addToRanges(final ElementId seed, final Set<Range> ranges) throws RangeFactoryException {
+        ranges.addAll(rangeFactory.getRange(seed, operation));
+    }
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.accumulostore.utils;
+
+import org.apache.accumulo.core.client.IteratorSetting;
+import org.apache.hadoop.util.bloom.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@code BloomFilterCache} holds {@link BloomFilter}s that have been built
+ * from sets of seeds so they can be reused by later queries for the same seeds.
+ * <p>
+ * Filters are keyed by a digest of the serialised seed vertices, created using
+ * a {@link KeyBuilder}, together with a description of how the filter was
+ * built. The digest does not depend on the order of the seeds so the same
+ * filter is found regardless of how the seeds were supplied. Filters are
+ * evicted in least recently used order once the total size of the cached
+ * filters exceeds the configured maximum size. A maximum size of 0 disables
+ * the cache.
+ * <p>
+ * Cached filters are shared between queries and must not be modified once
+ * they have been added to the cache. A filter can be cached together with the
+ * {@link IteratorSetting} that passes it to the tablet servers, so that a
+ * cache hit also avoids serialising the filter again.
+ * <p>
+ * The cache also records the number of edges that passed the filters and the
+ * number of those that were then rejected by the exact client side checks, so
+ * that the false positive rate actually observed can be monitored.
+ */
+public class BloomFilterCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BloomFilterCache.class);
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final long maxSizeInBytes;
+    private final Map<String, CachedFilter> filters = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong elementsChecked = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    public BloomFilterCache(final long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * @return true if filters will be cached.
+     */
+    public boolean isEnabled() {
+        return maxSizeInBytes > 0;
+    }
+
+    /**
+     * Gets the cached filter for the given key.
+     *
+     * @param key the key created by a {@link KeyBuilder}
+     * @return the cached filter, or null if there is no filter cached for the key.
+     */
+    public synchronized BloomFilter get(final String key) {
+        final CachedFilter cached = lookup(key);
+        return null != cached ? cached.filter : null;
+    }
+
+    /**
+     * Gets a copy of the {@link IteratorSetting} cached with the filter for
+     * the given key.
+     *
+     * @param key the key created by a {@link KeyBuilder}
+     * @return the cached iterator setting, or null if there is no iterator
+     * setting cached for the key.
+     */
+    public synchronized IteratorSetting getIteratorSetting(final String key) {
+        final CachedFilter cached = lookup(key);
+        if (null == cached || null == cached.iteratorSetting) {
+            return null;
+        }
+        final IteratorSetting setting = cached.iteratorSetting;
+        return new IteratorSetting(setting.getPriority(), setting.getName(), setting.getIteratorClass(), setting.getOptions());
+    }
+
+    private CachedFilter lookup(final String key) {
+        final CachedFilter cached = filters.get(key);
+        if (null == cached) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return cached;
+    }
+
+    /**
+     * Adds a filter to the cache, evicting the least recently used filters if
+     * required. Filters larger than the maximum size of the cache are not
+     * cached.
+     *
+     * @param key    the key created by a {@link KeyBuilder}
+     * @param filter the filter to cache
+     */
+    public void put(final String key, final BloomFilter filter) {
+        put(key, filter, null);
+    }
+
+    /**
+     * Adds a filter, and the {@link IteratorSetting} built from it, to the
+     * cache, evicting the least recently used filters if required. Filters
+     * larger than the maximum size of the cache are not cached.
+     *
+     * @param key             the key created by a {@link KeyBuilder}
+     * @param filter          the filter to cache
+     * @param iteratorSetting the iterator setting containing the serialised
+     *                        filter, may be null
+     */
+    public synchronized void put(final String key, final BloomFilter filter, final IteratorSetting iteratorSetting) {
+        final CachedFilter cached = new CachedFilter(filter, iteratorSetting);
+        if (!isEnabled() || cached.sizeInBytes > maxSizeInBytes) {
+            return;
+        }
+
+        final CachedFilter previous = filters.put(key, cached);
+        if (null != previous) {
+            sizeInBytes -= previous.sizeInBytes;
+        }
+        sizeInBytes += cached.sizeInBytes;
+
+        final Iterator<Map.Entry<String, CachedFilter>> itr = filters.entrySet().iterator();
+        while (sizeInBytes > maxSizeInBytes && itr.hasNext()) {
+            final Map.Entry<String, CachedFilter> eldest = itr.next();
+            if (!key.equals(eldest.getKey())) {
+                sizeInBytes -= eldest.getValue().sizeInBytes;
+                itr.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Records the results of checking the elements that passed a Bloom filter
+     * against the exact set of seeds.
+     *
+     * @param checked  the number of elements checked
+     * @param rejected the number of elements that were false positives
+     */
+    public void recordFalsePositives(final long checked, final long rejected) {
+        elementsChecked.addAndGet(checked);
+        falsePositives.addAndGet(rejected);
+        LOGGER.debug("{} of {} elements that passed the bloom filter were false positives", rejected, checked);
+    }
+
+    public synchronized void clear() {
+        filters.clear();
+        sizeInBytes = 0;
+    }
+
+    public synchronized int getNumberOfFilters() {
+        return filters.size();
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getElementsChecked() {
+        return elementsChecked.get();
+    }
+
+    public long getFalsePositives() {
+        return falsePositives.get();
+    }
+
+    /**
+     * @return the proportion of elements that passed a Bloom filter but were
+     * then rejected, or 0 if no elements have been checked.
+     */
+    public double getObservedFalsePositiveRate() {
+        final long checked = elementsChecked.get();
+        return checked > 0 ? (double) falsePositives.get() / checked : 0;
+    }
+
+    private static final class CachedFilter {
+        private final BloomFilter filter;
+        private final IteratorSetting iteratorSetting;
+        private final long sizeInBytes;
+
+        private CachedFilter(final BloomFilter filter, final IteratorSetting iteratorSetting) {
+            this.filter = filter;
+            this.iteratorSetting = iteratorSetting;
+            long size = (filter.getVectorSize() + 7L) / 8L;
+            if (null != iteratorSetting) {
+                for (final String option : iteratorSetting.getOptions().values()) {
+                    size += option.length();
+                }
+            }
+            this.sizeInBytes = size;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("maxSizeInBytes", maxSizeInBytes)
+                .append("sizeInBytes", getSizeInBytes())
+                .append("numberOfFilters", getNumberOfFilters())
+                .append("hits", getHits())
+                .append("misses", getMisses())
+                .append("evictions", getEvictions())
+                .append("observedFalsePositiveRate", getObservedFalsePositiveRate())
+                .toString();
+    }
+
+    /**
+     * Builds a content based key for a set of serialised vertices. The digest
+     * of each vertex is summed so the key does not depend on the order in
+     * which the vertices are added.
+     */
+    public static class KeyBuilder {
+        private final MessageDigest digest;
+        private final long[] sum = new long[4];
+        private long count;
+
+        public KeyBuilder() {
+            try {
+                digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Unable to create " + DIGEST_ALGORITHM + " message digest", e);
+            }
+        }
+
+        public KeyBuilder add(final byte[] serialisedVertex) {
+            final ByteBuffer vertexDigest = ByteBuffer.wrap(digest.digest(serialisedVertex));
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] += vertexDigest.getLong();
+            }
+            count++;
+            return this;
+        }
+
+        /**
+         * @param description a description of how the filter is built, e.g. its
+         *                    size and number of hashes
+         * @return the cache key
+         */
+        public String build(final String description) {
+            final StringBuilder key = new StringBuilder(description)
+                    .append(':')
+                    .append(count);
+            for (final long part : sum) {
+                key.append(':').append(Long.toHexString(part));
+            }
+            return key.toString();
+        }
+    }
+}
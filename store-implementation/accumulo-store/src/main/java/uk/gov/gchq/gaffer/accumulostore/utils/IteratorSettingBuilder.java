@@ -132,6 +132,13 @@ public class IteratorSettingBuilder {
         return this;
     }
 
+    public IteratorSettingBuilder deduplicateAdjacentVertices(final boolean deduplicateAdjacentVertices) {
+        if (deduplicateAdjacentVertices) {
+            setting.addOption(AccumuloStoreConstants.DEDUPLICATE_ADJACENT_VERTICES, "true");
+        }
+        return this;
+    }
+
     public IteratorSettingBuilder schema(final Schema schema) {
         try {
             setting.addOption(AccumuloStoreConstants.SCHEMA, new String(schema.toCompactJson(), CommonConstants.UTF_8));
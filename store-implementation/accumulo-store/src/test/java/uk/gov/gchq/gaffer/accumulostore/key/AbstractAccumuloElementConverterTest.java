@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.accumulostore.key;
 
+import com.google.common.collect.Sets;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Value;
 import org.junit.Before;
@@ -46,12 +47,17 @@ import uk.gov.gchq.gaffer.types.FreqMap;
 import uk.gov.gchq.gaffer.types.function.FreqMapAggregator;
 
 import java.io.IOException;
+import java.util.Arrays;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
 import static uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants.DEFAULT_TIMESTAMP;
 
 public abstract class AbstractAccumuloElementConverterTest<T extends AccumuloElementConverter> {
@@ -307,6 +313,81 @@ public abstract class AbstractAccumuloElementConverterTest<T extends AccumuloEle
         assertEquals(8, deSerialisedProperties.get(AccumuloPropertyNames.COUNT));
     }
 
+    @Test
+    public void shouldDeserialiseSinglePropertyFromValue() {
+        // Given
+        final Properties properties = new Properties();
+        properties.put(AccumuloPropertyNames.PROP_1, 60);
+        properties.put(AccumuloPropertyNames.PROP_3, 299);
+        properties.put(AccumuloPropertyNames.COUNT, 8);
+        final Value value = converter.getValueFromProperties(TestGroups.EDGE, properties);
+
+        // When / Then
+        assertEquals(60, converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.PROP_1, value));
+        assertNull(converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.PROP_2, value));
+        assertEquals(299, converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.PROP_3, value));
+        assertEquals(8, converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.COUNT, value));
+        assertNull(converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.COLUMN_QUALIFIER, value));
+        assertNull(converter.getPropertyFromValue(TestGroups.EDGE, AccumuloPropertyNames.PROP_1, new Value()));
+    }
+
+    @Test
+    public void shouldOnlyDeserialisePropertiesToLoadFromValue() {
+        // Given
+        final Edge edge = new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("1")
+                .dest("2")
+                .directed(true)
+                .property(AccumuloPropertyNames.COLUMN_QUALIFIER, 100)
+                .property(AccumuloPropertyNames.PROP_1, 60)
+                .property(AccumuloPropertyNames.PROP_3, 299)
+                .property(AccumuloPropertyNames.COUNT, 8)
+                .build();
+        final Key key = converter.getKeysFromEdge(edge).getFirst();
+        final Value value = converter.getValueFromElement(edge);
+
+        // When
+        final Edge result = (Edge) converter.getFullElement(key, value, false,
+                Sets.newHashSet(AccumuloPropertyNames.PROP_3, AccumuloPropertyNames.COUNT));
+
+        // Then
+        assertEquals(edge.getSource(), result.getSource());
+        assertEquals(edge.getDestination(), result.getDestination());
+        assertEquals(100, result.getProperty(AccumuloPropertyNames.COLUMN_QUALIFIER));
+        assertNull(result.getProperty(AccumuloPropertyNames.PROP_1));
+        assertEquals(299, result.getProperty(AccumuloPropertyNames.PROP_3));
+        assertEquals(8, result.getProperty(AccumuloPropertyNames.COUNT));
+    }
+
+    @Test
+    public void shouldAddPropertiesFromKeyAndValueToExistingProperties() {
+        // Given
+        final Edge edge = new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("1")
+                .dest("2")
+                .directed(true)
+                .property(AccumuloPropertyNames.COLUMN_QUALIFIER, 100)
+                .property(AccumuloPropertyNames.PROP_1, 60)
+                .property(AccumuloPropertyNames.COUNT, 8)
+                .build();
+        final Key key = converter.getKeysFromElement(edge).getFirst();
+        final Value value = converter.getValueFromElement(edge);
+        final Properties properties = new Properties();
+        properties.put(TestPropertyNames.PROP_5, "existing");
+
+        // When
+        converter.addPropertiesFromKeyAndValue(TestGroups.EDGE, key, value, properties);
+
+        // Then
+        assertEquals("existing", properties.get(TestPropertyNames.PROP_5));
+        assertEquals(100, properties.get(AccumuloPropertyNames.COLUMN_QUALIFIER));
+        assertEquals(60, properties.get(AccumuloPropertyNames.PROP_1));
+        assertEquals(8, properties.get(AccumuloPropertyNames.COUNT));
+        assertEquals(converter.getFullElement(key, value, false).getProperties().size() + 1, properties.size());
+    }
+
     @Test
     public void shouldTruncatePropertyBytes() {
         // Given
@@ -589,4 +670,35 @@ public abstract class AbstractAccumuloElementConverterTest<T extends AccumuloEle
         // Then
         assertEquals(expectedElementId, elementId);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGetTheSameAdjacentVerticesFromTheDefaultImplementation() {
+        // Given
+        final AccumuloElementConverter defaultConverter = mock(AccumuloElementConverter.class);
+        MockAccumuloElementConverter.mock = defaultConverter;
+        final AccumuloElementConverter converterUsingDefault = new MockAccumuloElementConverter(null);
+        final Edge edge = new Edge.Builder()
+                .source("source1")
+                .dest("dest1")
+                .directed(true)
+                .group(TestGroups.EDGE)
+                .build();
+        final Pair<Key, Key> keys = converter.getKeysFromEdge(edge);
+        final Key entityKey = converter.getKeyFromEntity(new Entity(TestGroups.ENTITY, "source1"));
+        for (final Key key : Arrays.asList(keys.getFirst(), keys.getSecond(), entityKey)) {
+            given(defaultConverter.getElementId(key, true)).willReturn(converter.getElementId(key, true));
+        }
+        given(defaultConverter.serialiseVertex(any())).willAnswer(invocation -> converter.serialiseVertex(invocation.getArguments()[0]));
+
+        try {
+            // When / Then
+            assertArrayEquals(converter.getAdjacentVertexFromKey(keys.getFirst()), converterUsingDefault.getAdjacentVertexFromKey(keys.getFirst()));
+            assertArrayEquals(converter.getAdjacentVertexFromKey(keys.getSecond()), converterUsingDefault.getAdjacentVertexFromKey(keys.getSecond()));
+            assertArrayEquals(converter.serialiseVertex("dest1"), converterUsingDefault.getAdjacentVertexFromKey(keys.getFirst()));
+            assertArrayEquals(converter.serialiseVertex("source1"), converterUsingDefault.getAdjacentVertexFromKey(keys.getSecond()));
+            assertNull(converterUsingDefault.getAdjacentVertexFromKey(entityKey));
+        } finally {
+            MockAccumuloElementConverter.cleanUp();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.accumulostore.key.impl;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.SortedMapIterator;
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityAccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.classic.ClassicAccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.commonutil.CommonConstants;
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawIntegerSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AdjacentVertexIteratorTest {
+    @Test
+    public void shouldThrowIllegalArgumentExceptionWhenValidateOptionsWithNoView() throws Exception {
+        // Given
+        final AdjacentVertexIterator iterator = new AdjacentVertexIterator();
+
+        final Map<String, String> options = new HashMap<>();
+        options.put(AccumuloStoreConstants.SCHEMA, getSchemaJson());
+        options.put(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS,
+                ByteEntityAccumuloElementConverter.class.getName());
+
+        // When / Then
+        try {
+            iterator.validateOptions(options);
+            fail("Expected IllegalArgumentException to be thrown on method invocation");
+        } catch (final IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains(AccumuloStoreConstants.VIEW));
+        }
+    }
+
+    @Test
+    public void shouldReturnAdjacentVerticesWithByteEntityConverter() throws Exception {
+        shouldReturnAdjacentVertices(new ByteEntityAccumuloElementConverter(getSchema()));
+    }
+
+    @Test
+    public void shouldReturnAdjacentVerticesWithClassicConverter() throws Exception {
+        shouldReturnAdjacentVertices(new ClassicAccumuloElementConverter(getSchema()));
+    }
+
+    @Test
+    public void shouldDeduplicateAdjacentVerticesWhenRequested() throws Exception {
+        // Given
+        final AccumuloElementConverter converter = new ByteEntityAccumuloElementConverter(getSchema());
+        final Map<String, String> options = getOptions(converter, getViewJson(new View.Builder()
+                .edge(TestGroups.EDGE)
+                .build()));
+        options.put(AccumuloStoreConstants.DEDUPLICATE_ADJACENT_VERTICES, "true");
+
+        // When
+        final List<String> results = getAdjacentVertices(converter, options,
+                createEdge("A", "B", true, 1),
+                createEdge("C", "B", true, 1),
+                createEdge("A", "B", false, 1));
+
+        // Then
+        Collections.sort(results);
+        assertEquals(Arrays.asList("A", "B", "C"), results);
+    }
+
+    @Test
+    public void shouldApplyPostTransformFiltersBeforeReturningAdjacentVertices() throws Exception {
+        // Given
+        final AccumuloElementConverter converter = new ByteEntityAccumuloElementConverter(getSchema());
+        final Map<String, String> options = getOptions(converter, getViewJson(new View.Builder()
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .postTransformFilter(new ElementFilter.Builder()
+                                .select(TestPropertyNames.COUNT)
+                                .execute(new IsMoreThan(5))
+                                .build())
+                        .build())
+                .build()));
+
+        // When
+        final List<String> results = getAdjacentVertices(converter, options,
+                createEdge("A", "B", true, 1),
+                createEdge("A", "C", true, 10));
+
+        // Then
+        Collections.sort(results);
+        assertEquals(Arrays.asList("A", "C"), results);
+    }
+
+    private void shouldReturnAdjacentVertices(final AccumuloElementConverter converter) throws Exception {
+        // Given
+        final Map<String, String> options = getOptions(converter, getViewJson(new View.Builder()
+                .entity(TestGroups.ENTITY)
+                .edge(TestGroups.EDGE)
+                .build()));
+
+        // When
+        final List<String> results = getAdjacentVertices(converter, options,
+                new Entity.Builder()
+                        .group(TestGroups.ENTITY)
+                        .vertex("A")
+                        .build(),
+                createEdge("A", "B", true, 1),
+                createEdge("A", "C", false, 1));
+
+        // Then
+        Collections.sort(results);
+        assertEquals(Arrays.asList("A", "A", "B", "C"), results);
+    }
+
+    private List<String> getAdjacentVertices(final AccumuloElementConverter converter,
+                                             final Map<String, String> options,
+                                             final Element... elements) throws Exception {
+        final TreeMap<Key, Value> data = new TreeMap<>();
+        for (final Element element : elements) {
+            final Pair<Key, Key> keys = converter.getKeysFromElement(element);
+            final Value value = converter.getValueFromElement(element);
+            data.put(keys.getFirst(), value);
+            if (null != keys.getSecond()) {
+                data.put(keys.getSecond(), value);
+            }
+        }
+
+        final AdjacentVertexIterator iterator = new AdjacentVertexIterator();
+        iterator.init(new SortedMapIterator(data), options, null);
+        iterator.seek(new Range(), Collections.emptyList(), false);
+
+        final List<String> results = new ArrayList<>();
+        while (iterator.hasTop()) {
+            results.add(StringUtil.toString(iterator.getTopValue().get()));
+            iterator.next();
+        }
+        return results;
+    }
+
+    private Edge createEdge(final String source, final String dest, final boolean directed, final int count) {
+        return new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source(source)
+                .dest(dest)
+                .directed(directed)
+                .property(TestPropertyNames.COUNT, count)
+                .build();
+    }
+
+    private Map<String, String> getOptions(final AccumuloElementConverter converter, final String viewJson) throws UnsupportedEncodingException {
+        final Map<String, String> options = new HashMap<>();
+        options.put(AccumuloStoreConstants.SCHEMA, getSchemaJson());
+        options.put(AccumuloStoreConstants.VIEW, viewJson);
+        options.put(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS, converter.getClass().getName());
+        return options;
+    }
+
+    private String getViewJson(final View view) throws UnsupportedEncodingException {
+        return new String(view.toCompactJson(), CommonConstants.UTF_8);
+    }
+
+    private Schema getSchema() {
+        return new Schema.Builder()
+                .type("string", String.class)
+                .type("int", new TypeDefinition.Builder()
+                        .clazz(Integer.class)
+                        .serialiser(new CompactRawIntegerSerialiser())
+                        .aggregateFunction(new Sum())
+                        .build())
+                .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                        .vertex("string")
+                        .build())
+                .edge(TestGroups.EDGE, new SchemaEdgeDefinition.Builder()
+                        .source("string")
+                        .destination("string")
+                        .property(TestPropertyNames.COUNT, "int")
+                        .build())
+                .vertexSerialiser(new StringSerialiser())
+                .build();
+    }
+
+    private String getSchemaJson() throws UnsupportedEncodingException {
+        return new String(getSchema().toCompactJson(), CommonConstants.UTF_8);
+    }
+}
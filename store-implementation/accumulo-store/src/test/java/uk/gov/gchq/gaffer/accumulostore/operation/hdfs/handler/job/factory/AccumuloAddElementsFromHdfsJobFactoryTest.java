@@ -20,6 +20,7 @@ import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Value;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.DataOutputBuffer;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapreduce.Job;
 import org.apache.hadoop.mapreduce.Partitioner;
@@ -32,6 +33,7 @@ import org.mockito.Mockito;
 import uk.gov.gchq.gaffer.accumulostore.AccumuloProperties;
 import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
 import uk.gov.gchq.gaffer.accumulostore.SingleUseMockAccumuloStore;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityKeyPackage;
 import uk.gov.gchq.gaffer.accumulostore.operation.hdfs.handler.job.partitioner.GafferKeyRangePartitioner;
 import uk.gov.gchq.gaffer.accumulostore.operation.hdfs.handler.job.partitioner.GafferRangePartitioner;
 import uk.gov.gchq.gaffer.accumulostore.operation.hdfs.mapper.AddElementsFromHdfsMapper;
@@ -54,6 +56,9 @@ import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -114,6 +119,7 @@ public class AccumuloAddElementsFromHdfsJobFactoryTest {
         verify(job).setMapperClass(AddElementsFromHdfsMapper.class);
         verify(job).setMapOutputKeyClass(Key.class);
         verify(job).setMapOutputValueClass(Value.class);
+        verify(job).setSortComparatorClass(AccumuloAddElementsFromHdfsJobFactory.AccumuloKeyRawComparator.class);
 
         verify(job).setCombinerClass(AccumuloKeyValueReducer.class);
 
@@ -412,6 +418,67 @@ public class AccumuloAddElementsFromHdfsJobFactoryTest {
         }
     }
 
+    @Test
+    public void shouldSortSerialisedKeysInSameOrderAsKeys() throws IOException {
+        // Given
+        final List<Key> keys = new ArrayList<>();
+        for (final String row : Arrays.asList("", "a", "ab", "b")) {
+            for (final String columnFamily : Arrays.asList("", "cf")) {
+                for (final String columnQualifier : Arrays.asList("", "cq", "cq2")) {
+                    for (final String columnVisibility : Arrays.asList("", "public")) {
+                        for (final long timestamp : new long[]{-1L, 0L, 1L, 1000000000000L}) {
+                            final Key key = new Key(row, columnFamily, columnQualifier, columnVisibility, timestamp);
+                            keys.add(key);
+                            final Key deletedKey = new Key(key);
+                            deletedKey.setDeleted(true);
+                            keys.add(deletedKey);
+                        }
+                    }
+                }
+            }
+        }
+        final List<byte[]> serialisedKeys = new ArrayList<>();
+        for (final Key key : keys) {
+            final DataOutputBuffer buffer = new DataOutputBuffer();
+            key.write(buffer);
+            serialisedKeys.add(Arrays.copyOf(buffer.getData(), buffer.getLength()));
+        }
+        final AccumuloAddElementsFromHdfsJobFactory.AccumuloKeyRawComparator comparator = new AccumuloAddElementsFromHdfsJobFactory.AccumuloKeyRawComparator();
+
+        // When / Then
+        for (int i = 0; i < keys.size(); i++) {
+            for (int j = 0; j < keys.size(); j++) {
+                final byte[] bytes1 = serialisedKeys.get(i);
+                final byte[] bytes2 = serialisedKeys.get(j);
+                assertEquals(keys.get(i) + " compared to " + keys.get(j),
+                        Integer.signum(keys.get(i).compareTo(keys.get(j))),
+                        Integer.signum(comparator.compare(bytes1, 0, bytes1.length, bytes2, 0, bytes2.length)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldAddMapperAggregationBufferSizeToJobConf() throws IOException {
+        // Given
+        final AccumuloAddElementsFromHdfsJobFactory factory = new AccumuloAddElementsFromHdfsJobFactory();
+        final AccumuloStore store = mock(AccumuloStore.class);
+        final Schema schema = Schema.fromJson(StreamUtil.schemas(AccumuloAddElementsFromHdfsJobFactoryTest.class));
+        final AddElementsFromHdfs operation = new AddElementsFromHdfs.Builder()
+                .outputPath(outputDir)
+                .addInputMapperPair(inputDir, TextMapperGeneratorImpl.class.getName())
+                .option(AccumuloAddElementsFromHdfsJobFactory.MAPPER_AGGREGATION_BUFFER_SIZE, "1000")
+                .build();
+
+        given(store.getSchema()).willReturn(schema);
+        given(store.getKeyPackage()).willReturn(new ByteEntityKeyPackage(schema));
+
+        // When
+        final JobConf jobConf = factory.createJobConf(operation, TextMapperGeneratorImpl.class.getName(), store);
+
+        // Then
+        assertEquals("1000", jobConf.get(AccumuloAddElementsFromHdfsJobFactory.MAPPER_AGGREGATION_BUFFER_SIZE));
+    }
+
     private JobConf createLocalConf() {
         // Set up local conf
         final JobConf conf = new JobConf();
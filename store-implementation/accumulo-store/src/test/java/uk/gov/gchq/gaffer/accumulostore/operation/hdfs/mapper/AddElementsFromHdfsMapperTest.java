@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.operation.hdfs.mapper;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.Counter;
+import org.apache.hadoop.mapreduce.Mapper;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityAccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.generator.OneToOneElementGenerator;
+import uk.gov.gchq.gaffer.hdfs.operation.mapper.generator.TextMapperGenerator;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawIntegerSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsFromHdfsJobFactory.MAPPER_AGGREGATION_BUFFER_SIZE;
+import static uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsFromHdfsJobFactory.MAPPER_GENERATOR;
+import static uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsFromHdfsJobFactory.SCHEMA;
+import static uk.gov.gchq.gaffer.hdfs.operation.handler.job.factory.AddElementsFromHdfsJobFactory.VALIDATE;
+
+public class AddElementsFromHdfsMapperTest {
+    private static final List<String> LINES = Arrays.asList("A,1", "A,2", "B,5", "A,4");
+
+    private final Schema schema = new Schema.Builder()
+            .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                    .vertex("string")
+                    .property(TestPropertyNames.COUNT, "int")
+                    .build())
+            .type("string", new TypeDefinition.Builder()
+                    .clazz(String.class)
+                    .serialiser(new StringSerialiser())
+                    .build())
+            .type("int", new TypeDefinition.Builder()
+                    .clazz(Integer.class)
+                    .aggregateFunction(new Sum())
+                    .serialiser(new CompactRawIntegerSerialiser())
+                    .build())
+            .vertexSerialiser(new StringSerialiser())
+            .build();
+
+    @Test
+    public void shouldWriteEveryElementWhenAggregationBufferIsNotSet() throws Exception {
+        // When
+        final List<Element> elements = map(null);
+
+        // Then
+        assertEquals(Arrays.asList(createEntity("A", 1), createEntity("A", 2), createEntity("B", 5), createEntity("A", 4)), elements);
+    }
+
+    @Test
+    public void shouldAggregateElementsInMapper() throws Exception {
+        // When
+        final List<Element> elements = map(10);
+
+        // Then
+        assertEquals(2, elements.size());
+        assertEquals(createEntity("A", 7), elements.get(elements.indexOf(createEntity("A", 7))));
+        assertEquals(createEntity("B", 5), elements.get(elements.indexOf(createEntity("B", 5))));
+    }
+
+    @Test
+    public void shouldFlushAggregationBufferWhenFull() throws Exception {
+        // When
+        final List<Element> elements = map(1);
+
+        // Then
+        assertEquals(Arrays.asList(createEntity("A", 3), createEntity("B", 5), createEntity("A", 4)), elements);
+    }
+
+    private List<Element> map(final Integer aggregationBufferSize) throws IOException, InterruptedException {
+        final Configuration conf = new Configuration();
+        conf.set(SCHEMA, StringUtil.toString(schema.toCompactJson()));
+        conf.set(MAPPER_GENERATOR, TextMapperGeneratorImpl.class.getName());
+        conf.set(VALIDATE, "true");
+        conf.set(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS, ByteEntityAccumuloElementConverter.class.getName());
+        if (null != aggregationBufferSize) {
+            conf.setInt(MAPPER_AGGREGATION_BUFFER_SIZE, aggregationBufferSize);
+        }
+
+        final Mapper.Context context = mock(Mapper.Context.class);
+        final Boolean[] hasNext = new Boolean[LINES.size()];
+        Arrays.fill(hasNext, true);
+        hasNext[LINES.size() - 1] = false;
+        final Text[] values = new Text[LINES.size() - 1];
+        for (int i = 1; i < LINES.size(); i++) {
+            values[i - 1] = new Text(LINES.get(i));
+        }
+        given(context.getConfiguration()).willReturn(conf);
+        given(context.getCounter(any(), any())).willReturn(mock(Counter.class));
+        given(context.nextKeyValue()).willReturn(true, hasNext);
+        given(context.getCurrentKey()).willReturn(new LongWritable());
+        given(context.getCurrentValue()).willReturn(new Text(LINES.get(0)), (Object[]) values);
+
+        new AddElementsFromHdfsMapper<LongWritable, Text>().run(context);
+
+        final ArgumentCaptor<Key> keys = ArgumentCaptor.forClass(Key.class);
+        final ArgumentCaptor<Value> writtenValues = ArgumentCaptor.forClass(Value.class);
+        verify(context, times(getNumberOfWrites(aggregationBufferSize))).write(keys.capture(), writtenValues.capture());
+
+        final AccumuloElementConverter converter = new ByteEntityAccumuloElementConverter(schema);
+        final List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < keys.getAllValues().size(); i++) {
+            elements.add(converter.getFullElement(keys.getAllValues().get(i), writtenValues.getAllValues().get(i), false));
+        }
+        return elements;
+    }
+
+    private int getNumberOfWrites(final Integer aggregationBufferSize) {
+        if (null == aggregationBufferSize) {
+            return 4;
+        }
+        return 1 == aggregationBufferSize ? 3 : 2;
+    }
+
+    private static Entity createEntity(final String vertex, final int count) {
+        return new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .vertex(vertex)
+                .property(TestPropertyNames.COUNT, count)
+                .build();
+    }
+
+    public static final class TextMapperGeneratorImpl extends TextMapperGenerator {
+        public TextMapperGeneratorImpl() {
+            super(new ExampleGenerator());
+        }
+    }
+
+    public static final class ExampleGenerator implements OneToOneElementGenerator<String> {
+        @Override
+        public Element _apply(final String domainObject) {
+            final String[] parts = domainObject.split(",");
+            return createEntity(parts[0], Integer.parseInt(parts[1]));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.retriever.impl;
+
+import org.apache.accumulo.core.client.IteratorSetting;
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.accumulostore.AccumuloProperties;
+import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
+import uk.gov.gchq.gaffer.accumulostore.SingleUseMockAccumuloStore;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityIteratorSettingsFactory;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityKeyPackage;
+import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class AccumuloAdjacentIdRetrieverTest {
+    private static final Schema SCHEMA = Schema.fromJson(StreamUtil.schemas(AccumuloAdjacentIdRetrieverTest.class));
+    private static final AccumuloProperties PROPERTIES = AccumuloProperties.loadStoreProperties(StreamUtil.storeProps(AccumuloAdjacentIdRetrieverTest.class));
+
+    @Test
+    public void shouldGetAdjacentIdsUsingTheAdjacentVertexIterator() throws Exception {
+        shouldGetAdjacentIds(PROPERTIES);
+    }
+
+    @Test
+    public void shouldGetAdjacentIdsOnTheClientWhenTheKeyPackageHasNoAdjacentVertexIterator() throws Exception {
+        final AccumuloProperties properties = PROPERTIES.clone();
+        properties.setKeyPackageClass(KeyPackageWithoutAdjacentVertexIterator.class.getName());
+        shouldGetAdjacentIds(properties);
+    }
+
+    private void shouldGetAdjacentIds(final AccumuloProperties properties) throws StoreException, OperationException, IteratorSettingException {
+        // Given
+        final AccumuloStore store = new SingleUseMockAccumuloStore();
+        store.initialise("graphId", SCHEMA, properties);
+        store.execute(new AddElements.Builder()
+                .input(new Entity(TestGroups.ENTITY, "A"),
+                        getEdge("A", "B"),
+                        getEdge("A", "C"),
+                        getEdge("D", "A"),
+                        getEdge("E", "F"))
+                .build(), store.createContext(new User()));
+        final GetAdjacentIds operation = new GetAdjacentIds.Builder()
+                .input(new EntitySeed("A"))
+                .view(new View.Builder()
+                        .edge(TestGroups.EDGE)
+                        .build())
+                .build();
+
+        // When
+        final List<String> adjacentVertices = new ArrayList<>();
+        for (final EntityId entityId : new AccumuloAdjacentIdRetriever(store, operation, new User())) {
+            adjacentVertices.add((String) entityId.getVertex());
+        }
+
+        // Then
+        adjacentVertices.sort(null);
+        assertEquals(Arrays.asList("B", "C", "D"), adjacentVertices);
+    }
+
+    private static Element getEdge(final String source, final String destination) {
+        return new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source(source)
+                .dest(destination)
+                .directed(true)
+                .build();
+    }
+
+    public static class KeyPackageWithoutAdjacentVertexIterator extends ByteEntityKeyPackage {
+        public KeyPackageWithoutAdjacentVertexIterator() {
+            setIteratorFactory(new ByteEntityIteratorSettingsFactory() {
+                @Override
+                public IteratorSetting getAdjacentVertexIteratorSetting(final GetAdjacentIds operation, final AccumuloStore store) {
+                    return null;
+                }
+            });
+        }
+    }
+}
@@ -54,6 +54,7 @@ import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class AccumuloIDBetweenSetsRetrieverTest {
@@ -149,6 +150,43 @@ public class AccumuloIDBetweenSetsRetrieverTest {
         assertThat(thirdResults, IsCollectionContaining.hasItem(AccumuloTestData.A1_ENTITY));
     }
 
+    @Test
+    public void shouldReuseCachedBloomFiltersInMemory() throws StoreException {
+        shouldReuseCachedBloomFilters(true);
+    }
+
+    @Test
+    public void shouldReuseCachedBloomFilters() throws StoreException {
+        shouldReuseCachedBloomFilters(false);
+    }
+
+    private void shouldReuseCachedBloomFilters(final boolean loadIntoMemory) throws StoreException {
+        // Given
+        final AccumuloProperties properties = PROPERTIES.clone();
+        properties.setBloomFilterCacheSizeInBytes("10000000");
+        properties.setClientSideBloomFilterSize("100000");
+        final AccumuloStore store = new SingleUseMockAccumuloStore();
+        store.initialise("cachedBloomFilterGraph", schema, properties);
+        setupGraph(store);
+        final GetElementsBetweenSets op = new GetElementsBetweenSets.Builder()
+                .input(AccumuloTestData.SEED_A0_SET)
+                .inputB(AccumuloTestData.SEED_A23_SET)
+                .view(defaultView)
+                .build();
+
+        // When
+        final Set<Element> firstResults = returnElementsFromOperation(store, op, new User(), loadIntoMemory);
+        final long missesAfterFirstQuery = store.getBloomFilterCache().getMisses();
+        final Set<Element> secondResults = returnElementsFromOperation(store, op, new User(), loadIntoMemory);
+
+        // Then
+        assertThat(firstResults, IsCollectionContaining.hasItems(AccumuloTestData.EDGE_A0_A23, AccumuloTestData.A0_ENTITY));
+        assertEquals(firstResults, secondResults);
+        assertTrue(store.getBloomFilterCache().getNumberOfFilters() > 0);
+        assertTrue(store.getBloomFilterCache().getHits() > 0);
+        assertEquals(missesAfterFirstQuery, store.getBloomFilterCache().getMisses());
+    }
+
     @Test
     public void shouldDealWithOutgoingEdgesOnlyOptionGaffer1KeyStore() {
         shouldDealWithOutgoingEdgesOnlyOption(gaffer1KeyStore);
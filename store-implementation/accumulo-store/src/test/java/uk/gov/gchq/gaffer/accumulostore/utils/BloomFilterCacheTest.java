@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.accumulostore.utils;
+
+import org.apache.accumulo.core.client.IteratorSetting;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hadoop.util.bloom.BloomFilter;
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BloomFilterCacheTest {
+    @Test
+    public void shouldBuildSameKeyRegardlessOfVertexOrder() {
+        // When
+        final String key1 = new BloomFilterCache.KeyBuilder()
+                .add(StringUtil.toBytes("A"))
+                .add(StringUtil.toBytes("B"))
+                .add(StringUtil.toBytes("C"))
+                .build("test");
+        final String key2 = new BloomFilterCache.KeyBuilder()
+                .add(StringUtil.toBytes("C"))
+                .add(StringUtil.toBytes("A"))
+                .add(StringUtil.toBytes("B"))
+                .build("test");
+
+        // Then
+        assertEquals(key1, key2);
+    }
+
+    @Test
+    public void shouldBuildDifferentKeysForDifferentVerticesOrDescriptions() {
+        // When
+        final String key = new BloomFilterCache.KeyBuilder()
+                .add(StringUtil.toBytes("A"))
+                .add(StringUtil.toBytes("B"))
+                .build("test");
+        final String differentVertices = new BloomFilterCache.KeyBuilder()
+                .add(StringUtil.toBytes("A"))
+                .add(StringUtil.toBytes("C"))
+                .build("test");
+        final String differentDescription = new BloomFilterCache.KeyBuilder()
+                .add(StringUtil.toBytes("A"))
+                .add(StringUtil.toBytes("B"))
+                .build("other");
+
+        // Then
+        assertNotEquals(key, differentVertices);
+        assertNotEquals(key, differentDescription);
+    }
+
+    @Test
+    public void shouldReturnCachedFilterAndRecordHitsAndMisses() {
+        // Given
+        final BloomFilterCache cache = new BloomFilterCache(1000);
+        final BloomFilter filter = BloomFilterUtils.getBloomFilter(800);
+
+        // When
+        final BloomFilter missing = cache.get("key");
+        cache.put("key", filter);
+        final BloomFilter cached = cache.get("key");
+
+        // Then
+        assertNull(missing);
+        assertSame(filter, cached);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(100, cache.getSizeInBytes());
+    }
+
+    @Test
+    public void shouldReturnCopyOfCachedIteratorSetting() {
+        // Given
+        final BloomFilterCache cache = new BloomFilterCache(1000);
+        final BloomFilter filter = BloomFilterUtils.getBloomFilter(800);
+        final IteratorSetting setting = new IteratorSetting(10, "bloomFilter", "iteratorClass");
+        setting.addOption("filter", StringUtils.repeat("a", 50));
+        cache.put("key", filter, setting);
+        cache.put("filterOnly", filter);
+
+        // When
+        final IteratorSetting cached = cache.getIteratorSetting("key");
+        final IteratorSetting missing = cache.getIteratorSetting("filterOnly");
+
+        // Then
+        assertEquals(setting, cached);
+        assertNotSame(setting, cached);
+        assertNull(missing);
+        assertSame(filter, cache.get("key"));
+        assertEquals(250, cache.getSizeInBytes());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedFiltersWhenFull() {
+        // Given
+        final BloomFilterCache cache = new BloomFilterCache(200);
+        cache.put("key1", BloomFilterUtils.getBloomFilter(800));
+        cache.put("key2", BloomFilterUtils.getBloomFilter(800));
+        cache.get("key1");
+
+        // When
+        cache.put("key3", BloomFilterUtils.getBloomFilter(800));
+
+        // Then
+        assertEquals(2, cache.getNumberOfFilters());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(200, cache.getSizeInBytes());
+        assertNull(cache.get("key2"));
+    }
+
+    @Test
+    public void shouldNotCacheFiltersWhenDisabledOrTooLarge() {
+        // Given
+        final BloomFilterCache disabled = new BloomFilterCache(0);
+        final BloomFilterCache small = new BloomFilterCache(10);
+
+        // When
+        disabled.put("key", BloomFilterUtils.getBloomFilter(800));
+        small.put("key", BloomFilterUtils.getBloomFilter(800));
+
+        // Then
+        assertFalse(disabled.isEnabled());
+        assertTrue(small.isEnabled());
+        assertEquals(0, disabled.getNumberOfFilters());
+        assertEquals(0, small.getNumberOfFilters());
+    }
+
+    @Test
+    public void shouldCalculateObservedFalsePositiveRate() {
+        // Given
+        final BloomFilterCache cache = new BloomFilterCache(0);
+
+        // When
+        cache.recordFalsePositives(10, 1);
+        cache.recordFalsePositives(30, 1);
+
+        // Then
+        assertEquals(40, cache.getElementsChecked());
+        assertEquals(2, cache.getFalsePositives());
+        assertEquals(0.05, cache.getObservedFalsePositiveRate(), 0.0001);
+    }
+}
@@ -23,6 +23,7 @@ import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 import uk.gov.gchq.gaffer.commonutil.JsonUtil;
 import uk.gov.gchq.gaffer.commonutil.exception.OverwritingException;
 import uk.gov.gchq.gaffer.data.elementdefinition.exception.SchemaException;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.federatedstore.exception.StorageException;
 import uk.gov.gchq.gaffer.federatedstore.util.FederatedStoreUtil;
@@ -46,6 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -62,6 +64,16 @@ public class FederatedGraphStorage {
     private FederatedStoreCache federatedStoreCache = new FederatedStoreCache();
     private Boolean isCacheEnabled = false;
     private GraphLibrary graphLibrary;
+    /**
+     * The merged schemas, keyed on the ordered graphIds of the graphs that
+     * were merged. Replaced whenever a graph is added or removed.
+     */
+    private volatile Map<List<String>, Schema> mergedSchemas = new ConcurrentHashMap<>();
+    /**
+     * The graphIds of the graphs containing each entity and edge group. Built
+     * lazily and cleared whenever a graph is added or removed.
+     */
+    private volatile GroupIndex groupIndex;
 
     protected void startCacheServiceLoader() throws StorageException {
         if (CacheServiceLoader.isEnabled()) {
@@ -120,6 +132,7 @@ public class FederatedGraphStorage {
                     } else {
                         existingGraphs.add(graph);
                     }
+                    invalidateCaches();
                 }
             } catch (final Exception e) {
                 throw new StorageException("Error adding graph " + graphId + " to storage due to: " + e.getMessage(), e);
@@ -184,6 +197,9 @@ public class FederatedGraphStorage {
                 }
             }
         }
+        if (isRemoved) {
+            invalidateCaches();
+        }
         return isRemoved;
     }
 
@@ -215,6 +231,33 @@ public class FederatedGraphStorage {
         return Collections.unmodifiableCollection(rtn);
     }
 
+    /**
+     * returns all graphs objects matching the given graphIds, that is visible
+     * to the user and contain at least one of the groups in the given view.
+     * Graphs that contain none of the groups are skipped using an index of
+     * the graphs containing each group, rather than checking the schema of
+     * each graph.
+     *
+     * @param user     to match visibility against.
+     * @param graphIds the graphIds to get graphs for.
+     * @param view     the view containing the groups, if null or the view
+     *                 has no groups then all the visible graphs are returned.
+     * @return visible graphs from the given graphIds that contain at least one
+     * of the view groups.
+     */
+    public Collection<Graph> get(final User user, final List<String> graphIds, final View view) {
+        final Collection<Graph> graphs = get(user, graphIds);
+        if (null == view || !view.hasGroups() || graphs.isEmpty()) {
+            return graphs;
+        }
+
+        final Set<String> routedGraphIds = getGroupIndex().getGraphIds(view);
+        final Set<Graph> rtn = graphs.stream()
+                .filter(graph -> routedGraphIds.contains(graph.getGraphId()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return Collections.unmodifiableCollection(rtn);
+    }
+
     public Schema getSchema(final GetSchema operation, final Context context) {
         if (null == context || null == context.getUser()) {
             // no user then return an empty schema
@@ -225,24 +268,24 @@ public class FederatedGraphStorage {
             return getSchema((Map<String, String>) null, context);
         }
 
+        if (!operation.isCompact()) {
+            return getSchema(operation.getOptions(), context.getUser());
+        }
+
         final List<String> graphIds = FederatedStoreUtil.getGraphIds(operation.getOptions());
         final Stream<Graph> graphs = getStream(context.getUser(), graphIds);
         final Builder schemaBuilder = new Builder();
         try {
-            if (operation.isCompact()) {
-                final GetSchema getSchema = new GetSchema.Builder()
-                        .compact(true)
-                        .build();
-                graphs.forEach(g -> {
-                    try {
-                        schemaBuilder.merge(g.execute(getSchema, context));
-                    } catch (final OperationException e) {
-                        throw new RuntimeException("Unable to fetch schema from graph " + g.getGraphId(), e);
-                    }
-                });
-            } else {
-                graphs.forEach(g -> schemaBuilder.merge(g.getSchema()));
-            }
+            final GetSchema getSchema = new GetSchema.Builder()
+                    .compact(true)
+                    .build();
+            graphs.forEach(g -> {
+                try {
+                    schemaBuilder.merge(g.execute(getSchema, context));
+                } catch (final OperationException e) {
+                    throw new RuntimeException("Unable to fetch schema from graph " + g.getGraphId(), e);
+                }
+            });
         } catch (final SchemaException e) {
             final List<String> resultGraphIds = getStream(context.getUser(), graphIds).map(Graph::getGraphId).collect(Collectors.toList());
             throw new SchemaException("Unable to merge the schemas for all of your federated graphs: " + resultGraphIds + ". You can limit which graphs to query for using the operation option: " + KEY_OPERATION_OPTIONS_GRAPH_IDS, e);
@@ -264,22 +307,35 @@ public class FederatedGraphStorage {
         return getSchema(config, context.getUser());
     }
 
+    /**
+     * The merged schema is cached for each set of graphs the user is able to
+     * see, so it is only merged again after a graph has been added or removed.
+     *
+     * @param config configuration containing optional graphIds
+     * @param user   the user to match visibility against.
+     * @return merged schema of the visible graphs.
+     */
     public Schema getSchema(final Map<String, String> config, final User user) {
         if (null == user) {
             // no user then return an empty schema
             return new Schema();
         }
 
-        final List<String> graphIds = FederatedStoreUtil.getGraphIds(config);
-        final Stream<Graph> graphs = getStream(user, graphIds);
-        final Builder schemaBuilder = new Builder();
-        try {
-            graphs.forEach(g -> schemaBuilder.merge(g.getSchema()));
-        } catch (final SchemaException e) {
-            final List<String> resultGraphIds = getStream(user, graphIds).map(Graph::getGraphId).collect(Collectors.toList());
-            throw new SchemaException(String.format(UNABLE_TO_MERGE_THE_SCHEMAS_FOR_ALL_OF_YOUR_FEDERATED_GRAPHS, resultGraphIds, KEY_OPERATION_OPTIONS_GRAPH_IDS), e);
+        final Map<List<String>, Schema> schemas = mergedSchemas;
+        final List<Graph> graphs = getStream(user, FederatedStoreUtil.getGraphIds(config)).collect(Collectors.toList());
+        final List<String> resultGraphIds = graphs.stream().map(Graph::getGraphId).collect(Collectors.toList());
+        Schema schema = schemas.get(resultGraphIds);
+        if (null == schema) {
+            final Builder schemaBuilder = new Builder();
+            try {
+                graphs.forEach(g -> schemaBuilder.merge(g.getSchema()));
+            } catch (final SchemaException e) {
+                throw new SchemaException(String.format(UNABLE_TO_MERGE_THE_SCHEMAS_FOR_ALL_OF_YOUR_FEDERATED_GRAPHS, resultGraphIds, KEY_OPERATION_OPTIONS_GRAPH_IDS), e);
+            }
+            schema = schemaBuilder.build();
+            schemas.put(resultGraphIds, schema);
         }
-        return schemaBuilder.build();
+        return schema;
     }
 
     private void validateAllGivenGraphIdsAreVisibleForUser(final User user, final Collection<String> graphIds) {
@@ -378,6 +434,22 @@ public class FederatedGraphStorage {
                 .flatMap(entry -> entry.getValue().stream());
     }
 
+    private GroupIndex getGroupIndex() {
+        GroupIndex index = groupIndex;
+        if (null == index) {
+            index = new GroupIndex(storage.values().stream()
+                    .flatMap(Set::stream)
+                    .collect(Collectors.toList()));
+            groupIndex = index;
+        }
+        return index;
+    }
+
+    private void invalidateCaches() {
+        mergedSchemas = new ConcurrentHashMap<>();
+        groupIndex = null;
+    }
+
     private void addToCache(final Graph newGraph, final FederatedAccess access) {
         final String graphId = newGraph.getGraphId();
         if (federatedStoreCache.contains(graphId)) {
@@ -431,6 +503,38 @@ public class FederatedGraphStorage {
 
     }
 
+    /**
+     * An index of the graphIds of the graphs containing each entity and edge
+     * group.
+     */
+    private static final class GroupIndex {
+        private final Map<String, Set<String>> entityGraphIds = new HashMap<>();
+        private final Map<String, Set<String>> edgeGraphIds = new HashMap<>();
+
+        private GroupIndex(final Collection<Graph> graphs) {
+            for (final Graph graph : graphs) {
+                final Schema schema = graph.getSchema();
+                for (final String group : schema.getEntityGroups()) {
+                    entityGraphIds.computeIfAbsent(group, k -> new HashSet<>()).add(graph.getGraphId());
+                }
+                for (final String group : schema.getEdgeGroups()) {
+                    edgeGraphIds.computeIfAbsent(group, k -> new HashSet<>()).add(graph.getGraphId());
+                }
+            }
+        }
+
+        private Set<String> getGraphIds(final View view) {
+            final Set<String> graphIds = new HashSet<>();
+            for (final String group : view.getEntityGroups()) {
+                graphIds.addAll(entityGraphIds.getOrDefault(group, Collections.emptySet()));
+            }
+            for (final String group : view.getEdgeGroups()) {
+                graphIds.addAll(edgeGraphIds.getOrDefault(group, Collections.emptySet()));
+            }
+            return graphIds;
+        }
+    }
+
     private Boolean isCacheEnabled() {
         boolean rtn = false;
         if (isCacheEnabled) {
@@ -273,6 +273,26 @@ public class FederatedStore extends Store {
         return graphStorage.get(user, getCleanStrings(graphIdsCsv));
     }
 
+    /**
+     * <p>
+     * Gets a collection of graph objects within FederatedStore scope from the
+     * given csv of graphIds, with visibility of the given user, that the
+     * operation should be executed on.
+     * </p>
+     * <p>
+     * If the operation has a view containing groups then only the graphs
+     * that contain at least one of the groups are returned.
+     * </p>
+     *
+     * @param user        the users scope to get graphs for.
+     * @param graphIdsCsv the csv of graphIds to get, null returns all graphs.
+     * @param operation   the operation to be executed on the graphs.
+     * @return the graph collection.
+     */
+    public Collection<Graph> getGraphs(final User user, final String graphIdsCsv, final Operation operation) {
+        return graphStorage.get(user, getCleanStrings(graphIdsCsv), FederatedStoreUtil.getView(operation));
+    }
+
     /**
      * The FederatedStore at time of initialisation, can set the auths required
      * to allow users to use custom {@link StoreProperties} outside the
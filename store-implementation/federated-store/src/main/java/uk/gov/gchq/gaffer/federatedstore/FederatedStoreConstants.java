@@ -24,6 +24,14 @@ public final class FederatedStoreConstants {
     public static final String KEY_SKIP_FAILED_FEDERATED_STORE_EXECUTE = "gaffer.federatedstore.operation.skipFailedFederatedStoreExecute";
     public static final String DEFAULT_VALUE_KEY_SKIP_FAILED_FEDERATED_STORE_EXECUTE = String.valueOf(false);
     public static final String DEFAULT_VALUE_IS_PUBLIC = String.valueOf(false);
+    public static final String KEY_MERGE_RESULTS = "gaffer.federatedstore.operation.mergeResults";
+    public static final String DEFAULT_VALUE_MERGE_RESULTS = String.valueOf(false);
+    public static final String KEY_MERGE_RESULTS_MAX_EXACT_SIZE = "gaffer.federatedstore.operation.mergeResults.maxExactSize";
+    public static final String DEFAULT_VALUE_MERGE_RESULTS_MAX_EXACT_SIZE = String.valueOf(100000);
+    public static final String KEY_MERGE_RESULTS_EXPECTED_SIZE = "gaffer.federatedstore.operation.mergeResults.expectedSize";
+    public static final String DEFAULT_VALUE_MERGE_RESULTS_EXPECTED_SIZE = String.valueOf(1000000);
+    public static final String KEY_MERGE_RESULTS_FALSE_POSITIVE_PROBABILITY = "gaffer.federatedstore.operation.mergeResults.falsePositiveProbability";
+    public static final String DEFAULT_VALUE_MERGE_RESULTS_FALSE_POSITIVE_PROBABILITY = String.valueOf(0.0001);
 
     private FederatedStoreConstants() {
         // private constructor to prevent users instantiating this class as it
@@ -33,4 +41,20 @@ public final class FederatedStoreConstants {
     public static String getSkipFailedFederatedStoreExecute(final Operation op) {
         return op.getOption(KEY_SKIP_FAILED_FEDERATED_STORE_EXECUTE, DEFAULT_VALUE_KEY_SKIP_FAILED_FEDERATED_STORE_EXECUTE);
     }
+
+    public static boolean isMergeResults(final Operation op) {
+        return Boolean.valueOf(op.getOption(KEY_MERGE_RESULTS, DEFAULT_VALUE_MERGE_RESULTS));
+    }
+
+    public static int getMergeResultsMaxExactSize(final Operation op) {
+        return Integer.parseInt(op.getOption(KEY_MERGE_RESULTS_MAX_EXACT_SIZE, DEFAULT_VALUE_MERGE_RESULTS_MAX_EXACT_SIZE));
+    }
+
+    public static int getMergeResultsExpectedSize(final Operation op) {
+        return Integer.parseInt(op.getOption(KEY_MERGE_RESULTS_EXPECTED_SIZE, DEFAULT_VALUE_MERGE_RESULTS_EXPECTED_SIZE));
+    }
+
+    public static double getMergeResultsFalsePositiveProbability(final Operation op) {
+        return Double.parseDouble(op.getOption(KEY_MERGE_RESULTS_FALSE_POSITIVE_PROBABILITY, DEFAULT_VALUE_MERGE_RESULTS_FALSE_POSITIVE_PROBABILITY));
+    }
 }
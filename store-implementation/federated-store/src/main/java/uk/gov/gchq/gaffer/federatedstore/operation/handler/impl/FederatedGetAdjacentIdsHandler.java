@@ -16,31 +16,51 @@
 
 package uk.gov.gchq.gaffer.federatedstore.operation.handler.impl;
 
+import com.google.common.hash.Funnel;
+
 import uk.gov.gchq.gaffer.commonutil.CollectionUtil;
 import uk.gov.gchq.gaffer.commonutil.iterable.ChainedIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.federatedstore.operation.handler.FederatedOperationOutputHandler;
+import uk.gov.gchq.gaffer.federatedstore.util.DeduplicatingCloseableIterable;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 
 import java.util.List;
 
+import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants.getMergeResultsExpectedSize;
+import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants.getMergeResultsFalsePositiveProbability;
+import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants.getMergeResultsMaxExactSize;
+import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants.isMergeResults;
+
 /**
  * A handler for GetAdjacentIds operation for the FederatedStore.
+ * <p>
+ * If the {@link uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants#KEY_MERGE_RESULTS}
+ * option is set then an adjacent id returned by several graphs is only
+ * returned once, see {@link DeduplicatingCloseableIterable}.
  *
  * @see uk.gov.gchq.gaffer.store.operation.handler.OperationHandler
  * @see uk.gov.gchq.gaffer.federatedstore.FederatedStore
  * @see uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds
  */
 public class FederatedGetAdjacentIdsHandler extends FederatedOperationOutputHandler<GetAdjacentIds, CloseableIterable<? extends EntityId>> {
+    private static final Funnel<EntityId> VERTEX_FUNNEL = (entityId, into) -> into.putString(String.valueOf(entityId.getVertex()));
+
     @Override
     protected CloseableIterable<? extends EntityId> mergeResults(final List<CloseableIterable<? extends EntityId>> results, final GetAdjacentIds operation, final Context context, final Store store) {
         // Concatenate all the results into 1 iterable
         if (results.isEmpty()) {
             throw new IllegalArgumentException(NO_RESULTS_TO_MERGE_ERROR);
         }
-        return new ChainedIterable<>(CollectionUtil.toIterableArray(results));
+        final ChainedIterable<? extends EntityId> chainedResults = new ChainedIterable<>(CollectionUtil.toIterableArray(results));
+        if (isMergeResults(operation)) {
+            return new DeduplicatingCloseableIterable<>(chainedResults, VERTEX_FUNNEL,
+                    getMergeResultsMaxExactSize(operation), getMergeResultsExpectedSize(operation),
+                    getMergeResultsFalsePositiveProbability(operation));
+        }
+        return chainedResults;
     }
 }
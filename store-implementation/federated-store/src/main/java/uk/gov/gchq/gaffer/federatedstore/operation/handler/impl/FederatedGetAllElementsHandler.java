@@ -20,28 +20,59 @@ import uk.gov.gchq.gaffer.commonutil.CollectionUtil;
 import uk.gov.gchq.gaffer.commonutil.iterable.ChainedIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.federatedstore.FederatedStore;
 import uk.gov.gchq.gaffer.federatedstore.operation.handler.FederatedOperationOutputHandler;
+import uk.gov.gchq.gaffer.federatedstore.util.OrderedMergeAggregatingIterable;
+import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.serialisation.Serialiser;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.StoreTrait;
+import uk.gov.gchq.gaffer.store.schema.Schema;
 
+import java.util.Collection;
 import java.util.List;
 
+import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants.KEY_OPERATION_OPTIONS_GRAPH_IDS;
+import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants.isMergeResults;
+
 /**
  * A handler for GetAllElements operation for the FederatedStore.
+ * <p>
+ * If the {@link uk.gov.gchq.gaffer.federatedstore.FederatedStoreConstants#KEY_MERGE_RESULTS}
+ * option is set and all the graphs are ORDERED, then the results from each
+ * graph are merged in order and elements with the same key in different graphs
+ * are aggregated together, see {@link OrderedMergeAggregatingIterable}.
+ * Otherwise the results are concatenated.
  *
  * @see uk.gov.gchq.gaffer.store.operation.handler.OperationHandler
  * @see uk.gov.gchq.gaffer.federatedstore.FederatedStore
  * @see uk.gov.gchq.gaffer.operation.impl.get.GetAllElements
  */
 public class FederatedGetAllElementsHandler extends FederatedOperationOutputHandler<GetAllElements, CloseableIterable<? extends Element>> {
+    @SuppressWarnings("unchecked")
     @Override
     protected CloseableIterable<? extends Element> mergeResults(final List<CloseableIterable<? extends Element>> results, final GetAllElements operation, final Context context, final Store store) {
-        // Concatenate all the results into 1 iterable
         if (results.isEmpty()) {
             throw new IllegalArgumentException(NO_RESULTS_TO_MERGE_ERROR);
         }
+
+        if (results.size() > 1 && isMergeResults(operation) && areAllGraphsOrdered(operation, context, store)) {
+            final Schema schema = ((FederatedStore) store).getSchema(operation, context);
+            final Serialiser vertexSerialiser = schema.getVertexSerialiser();
+            if (vertexSerialiser instanceof ToBytesSerialiser) {
+                return new OrderedMergeAggregatingIterable(results, schema, operation.getView(), (ToBytesSerialiser<Object>) vertexSerialiser);
+            }
+        }
+
+        // Concatenate all the results into 1 iterable
         return new ChainedIterable<>(CollectionUtil.toIterableArray(results));
     }
 
+    private boolean areAllGraphsOrdered(final GetAllElements operation, final Context context, final Store store) {
+        final Collection<Graph> graphs = ((FederatedStore) store).getGraphs(context.getUser(), operation.getOption(KEY_OPERATION_OPTIONS_GRAPH_IDS), operation);
+        return graphs.stream().allMatch(graph -> graph.hasTrait(StoreTrait.ORDERED));
+    }
 }
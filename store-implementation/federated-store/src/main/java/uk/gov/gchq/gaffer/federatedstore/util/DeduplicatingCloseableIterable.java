@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.federatedstore.util;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@code DeduplicatingCloseableIterable} lazily removes duplicate items from
+ * an iterable, without holding all of the items in memory.
+ * <p>
+ * The first {@code maxExactSize} distinct items are held in a {@link HashSet},
+ * so up to that point duplicates are removed exactly. After that, further items
+ * are tracked in a {@link BloomFilter}, which uses a fixed amount of memory.
+ * An item that the Bloom filter reports it may have seen is skipped, so once
+ * the exact set is full a distinct item may be incorrectly skipped with
+ * approximately the given false positive probability, provided no more than
+ * the expected number of items are added to the Bloom filter.
+ *
+ * @param <T> the type of items in the iterable.
+ */
+public class DeduplicatingCloseableIterable<T> implements CloseableIterable<T> {
+    private final CloseableIterable<? extends T> iterable;
+    private final Funnel<? super T> funnel;
+    private final int maxExactSize;
+    private final int expectedInsertions;
+    private final double falsePositiveProbability;
+
+    /**
+     * @param iterable                 the items to deduplicate
+     * @param funnel                   the funnel used to add items to the Bloom filter
+     * @param maxExactSize             the maximum number of distinct items to hold in memory
+     * @param expectedInsertions       the expected number of distinct items to add to
+     *                                 the Bloom filter once the exact set is full
+     * @param falsePositiveProbability the false positive probability of the Bloom filter
+     */
+    public DeduplicatingCloseableIterable(final CloseableIterable<? extends T> iterable, final Funnel<? super T> funnel,
+                                          final int maxExactSize, final int expectedInsertions,
+                                          final double falsePositiveProbability) {
+        if (null == iterable) {
+            throw new IllegalArgumentException("Iterable is required");
+        }
+        if (null == funnel) {
+            throw new IllegalArgumentException("Funnel is required");
+        }
+        if (maxExactSize < 1) {
+            throw new IllegalArgumentException("The max exact size must be at least 1");
+        }
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("The expected insertions must be at least 1");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("The false positive probability must be between 0 and 1");
+        }
+        this.iterable = iterable;
+        this.funnel = funnel;
+        this.maxExactSize = maxExactSize;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @Override
+    public void close() {
+        iterable.close();
+    }
+
+    @Override
+    public CloseableIterator<T> iterator() {
+        return new DeduplicatingIterator();
+    }
+
+    private final class DeduplicatingIterator implements CloseableIterator<T> {
+        private final CloseableIterator<? extends T> iterator = iterable.iterator();
+        private final Set<T> seen = new HashSet<>();
+        private BloomFilter<T> bloomFilter;
+        private T next;
+        private boolean hasNext;
+
+        @Override
+        public boolean hasNext() {
+            while (!hasNext && iterator.hasNext()) {
+                final T item = iterator.next();
+                if (isNew(item)) {
+                    next = item;
+                    hasNext = true;
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = false;
+            final T item = next;
+            next = null;
+            return item;
+        }
+
+        @Override
+        public void close() {
+            iterator.close();
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean isNew(final T item) {
+            if (seen.contains(item)) {
+                return false;
+            }
+            if (seen.size() < maxExactSize) {
+                seen.add(item);
+                return true;
+            }
+            if (null == bloomFilter) {
+                bloomFilter = BloomFilter.create((Funnel<T>) funnel, expectedInsertions, falsePositiveProbability);
+            }
+            if (bloomFilter.mightContain(item)) {
+                return false;
+            }
+            bloomFilter.put(item);
+            return true;
+        }
+    }
+}
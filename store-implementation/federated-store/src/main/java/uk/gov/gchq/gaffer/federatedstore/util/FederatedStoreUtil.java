@@ -118,17 +118,18 @@ public final class FederatedStoreUtil {
         } else if (operation instanceof OperationView) {
             final View view = ((OperationView) operation).getView();
             if (null != view && view.hasGroups()) {
-                final View validView = createValidView(view, graph.getSchema());
-                if (view != validView) {
-                    // If the view is not the same instance as the original view
-                    // then clone the operation and add the new view.
-                    resultOp = (OP) operation.shallowClone();
-                    if (validView.hasGroups()) {
+                final Schema schema = graph.getSchema();
+                if (!hasAnyGroup(view, schema)) {
+                    // The graph has none of the view groups so the operation
+                    // would return nothing, so we shouldn't execute the operation.
+                    resultOp = null;
+                } else {
+                    final View validView = createValidView(view, schema);
+                    if (view != validView) {
+                        // If the view is not the same instance as the original view
+                        // then clone the operation and add the new view.
+                        resultOp = (OP) operation.shallowClone();
                         ((OperationView) resultOp).setView(validView);
-                    } else {
-                        // The view has no groups so the operation would return
-                        // nothing, so we shouldn't execute the operation.
-                        resultOp = null;
                     }
                 }
             }
@@ -155,9 +156,54 @@ public final class FederatedStoreUtil {
         return resultOp;
     }
 
+    /**
+     * Gets the view of an operation, which can be used to only select the
+     * graphs that contain the view groups. Operations containing other
+     * operations return null, as each nested operation may have a different
+     * view.
+     *
+     * @param operation the operation
+     * @return the view of the operation or null if the operation does not have
+     * a view.
+     */
+    public static View getView(final Operation operation) {
+        if (operation instanceof OperationView && !(operation instanceof Operations)) {
+            return ((OperationView) operation).getView();
+        }
+        return null;
+    }
+
+    private static boolean hasAnyGroup(final View view, final Schema schema) {
+        for (final String group : view.getEntityGroups()) {
+            if (null != schema.getEntity(group)) {
+                return true;
+            }
+        }
+        for (final String group : view.getEdgeGroups()) {
+            if (null != schema.getEdge(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAllGroups(final View view, final Schema schema) {
+        for (final String group : view.getEntityGroups()) {
+            if (null == schema.getEntity(group)) {
+                return false;
+            }
+        }
+        for (final String group : view.getEdgeGroups()) {
+            if (null == schema.getEdge(group)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static View createValidView(final View view, final Schema delegateGraphSchema) {
         View newView = view;
-        if (view.hasGroups()) {
+        if (view.hasGroups() && !hasAllGroups(view, delegateGraphSchema)) {
             final Set<String> validEntities = new HashSet<>(view.getEntityGroups());
             final Set<String> validEdges = new HashSet<>(view.getEdgeGroups());
             validEntities.retainAll(delegateGraphSchema.getEntityGroups());
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.federatedstore.util;
+
+import com.google.common.primitives.UnsignedBytes;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * An {@code OrderedMergeAggregatingIterable} lazily merges the elements from
+ * several iterables, each of which returns its elements ordered by their
+ * serialised vertex, or serialised source for edges, as they are returned by
+ * ORDERED stores. The elements from all the iterables with the same vertex are
+ * query aggregated together, so an element held in several graphs is only
+ * returned once. Only the elements for a single vertex are held in memory at
+ * a time.
+ * <p>
+ * If an iterable does not return its elements in order then all of the
+ * elements are still returned, but elements with the same key in different
+ * iterables may not be aggregated together.
+ */
+public class OrderedMergeAggregatingIterable implements CloseableIterable<Element> {
+    private static final Comparator<byte[]> BYTES_COMPARATOR = UnsignedBytes.lexicographicalComparator();
+
+    private final List<? extends CloseableIterable<? extends Element>> iterables;
+    private final Schema schema;
+    private final View view;
+    private final ToBytesSerialiser<Object> vertexSerialiser;
+
+    /**
+     * @param iterables        the ordered iterables to merge
+     * @param schema           the schema containing the aggregators
+     * @param view             the view containing the aggregators and groupBy
+     *                         properties to use, if null or the view has no
+     *                         groups then the schema is used.
+     * @param vertexSerialiser the serialiser used to order the vertices
+     */
+    public OrderedMergeAggregatingIterable(final List<? extends CloseableIterable<? extends Element>> iterables,
+                                           final Schema schema, final View view,
+                                           final ToBytesSerialiser<Object> vertexSerialiser) {
+        if (null == iterables) {
+            throw new IllegalArgumentException("Iterables are required");
+        }
+        if (null == schema) {
+            throw new IllegalArgumentException("Schema is required");
+        }
+        if (null == vertexSerialiser) {
+            throw new IllegalArgumentException("Vertex serialiser is required");
+        }
+        this.iterables = iterables;
+        this.schema = schema;
+        if (null == view || !view.hasGroups()) {
+            this.view = new View.Builder()
+                    .entities(schema.getEntityGroups())
+                    .edges(schema.getEdgeGroups())
+                    .build();
+        } else {
+            this.view = view;
+        }
+        this.vertexSerialiser = vertexSerialiser;
+    }
+
+    @Override
+    public void close() {
+        for (final CloseableIterable<? extends Element> iterable : iterables) {
+            iterable.close();
+        }
+    }
+
+    @Override
+    public CloseableIterator<Element> iterator() {
+        return new OrderedMergeAggregatingIterator();
+    }
+
+    private final class OrderedMergeAggregatingIterator implements CloseableIterator<Element> {
+        private final List<CloseableIterator<? extends Element>> iterators = new ArrayList<>(iterables.size());
+        private final PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, iterables.size()),
+                (a, b) -> BYTES_COMPARATOR.compare(a.vertex, b.vertex));
+        private Iterator<? extends Element> pending = Collections.emptyIterator();
+
+        private OrderedMergeAggregatingIterator() {
+            for (final CloseableIterable<? extends Element> iterable : iterables) {
+                final CloseableIterator<? extends Element> iterator = iterable.iterator();
+                iterators.add(iterator);
+                advance(iterator);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!pending.hasNext() && !heads.isEmpty()) {
+                final Head first = heads.poll();
+                final List<Element> elements = new ArrayList<>();
+                elements.add(first.element);
+                advance(first.iterator);
+                while (!heads.isEmpty() && 0 == BYTES_COMPARATOR.compare(heads.peek().vertex, first.vertex)) {
+                    final Head head = heads.poll();
+                    elements.add(head.element);
+                    advance(head.iterator);
+                }
+
+                if (1 == elements.size()) {
+                    pending = elements.iterator();
+                } else {
+                    pending = AggregatorUtil.queryAggregate(elements, schema, view).iterator();
+                }
+            }
+            return pending.hasNext();
+        }
+
+        @Override
+        public Element next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pending.next();
+        }
+
+        @Override
+        public void close() {
+            for (final CloseableIterator<? extends Element> iterator : iterators) {
+                iterator.close();
+            }
+        }
+
+        private void advance(final Iterator<? extends Element> iterator) {
+            while (iterator.hasNext()) {
+                final Element element = iterator.next();
+                if (null != element) {
+                    heads.add(new Head(element, serialiseVertex(element), iterator));
+                    return;
+                }
+            }
+        }
+
+        private byte[] serialiseVertex(final Element element) {
+            final Object vertex = element instanceof Entity ? ((Entity) element).getVertex() : ((Edge) element).getSource();
+            try {
+                return vertexSerialiser.serialise(vertex);
+            } catch (final SerialisationException e) {
+                throw new RuntimeException("Unable to serialise vertex " + vertex, e);
+            }
+        }
+    }
+
+    private static final class Head {
+        private final Element element;
+        private final byte[] vertex;
+        private final Iterator<? extends Element> iterator;
+
+        private Head(final Element element, final byte[] vertex, final Iterator<? extends Element> iterator) {
+            this.element = element;
+            this.vertex = vertex;
+            this.iterator = iterator;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.mockito.Mockito;
 
 import uk.gov.gchq.gaffer.accumulostore.AccumuloProperties;
 import uk.gov.gchq.gaffer.accumulostore.SingleUseMockAccumuloStore;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.federatedstore.exception.StorageException;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.graph.Graph.Builder;
@@ -44,6 +45,7 @@ import java.util.Map;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -311,6 +313,52 @@ public class FederatedGraphStorageTest {
         assertFalse(remove);
     }
 
+    @Test
+    public void shouldReuseMergedSchemaUntilGraphsChange() throws Exception {
+        // Given
+        graphStorage.put(a, access);
+        final Schema schemaA = graphStorage.getSchema((Map<String, String>) null, testUserContext);
+
+        // When
+        final Schema schemaAAgain = graphStorage.getSchema((Map<String, String>) null, authUserContext);
+        graphStorage.put(b, access);
+        final Schema schemaAB = graphStorage.getSchema((Map<String, String>) null, testUserContext);
+        graphStorage.remove(GRAPH_ID_B, testUser);
+        final Schema schemaAAfterRemove = graphStorage.getSchema((Map<String, String>) null, testUserContext);
+
+        // Then
+        assertSame(schemaA, schemaAAgain);
+        assertEquals(2, schemaAB.getTypes().size());
+        assertNotSame(schemaA, schemaAAfterRemove);
+        assertEquals(1, schemaAAfterRemove.getTypes().size());
+        assertEquals(e1, schemaAAfterRemove.getElement("e1"));
+    }
+
+    @Test
+    public void shouldOnlyGetGraphsContainingViewGroups() throws Exception {
+        // Given
+        graphStorage.put(Lists.newArrayList(a, b), access);
+
+        // When
+        final Collection<Graph> graphsE1 = graphStorage.get(testUser, null, new View.Builder()
+                .entity("e1")
+                .build());
+        final Collection<Graph> graphsE1E2 = graphStorage.get(testUser, null, new View.Builder()
+                .entity("e1")
+                .entity("e2")
+                .build());
+        final Collection<Graph> graphsE1AsEdge = graphStorage.get(testUser, null, new View.Builder()
+                .edge("e1")
+                .build());
+        final Collection<Graph> graphsNoView = graphStorage.get(testUser, null, (View) null);
+
+        // Then
+        assertEquals(Lists.newArrayList(a), Lists.newArrayList(graphsE1));
+        assertEquals(Sets.newHashSet(a, b), Sets.newHashSet(graphsE1E2));
+        assertTrue(graphsE1AsEdge.isEmpty());
+        assertEquals(Sets.newHashSet(a, b), Sets.newHashSet(graphsNoView));
+    }
+
     @Test
     public void shouldGetGraphsInOrder() throws Exception {
         // Given
@@ -97,7 +97,7 @@ public abstract class FederatedOperationOutputHandlerTest<OP extends Output<O>,
         linkedGraphs.add(getGraphWithMockStore(mockStore2));
         linkedGraphs.add(getGraphWithMockStore(mockStore3));
         linkedGraphs.add(getGraphWithMockStore(mockStore4));
-        Mockito.when(mockStore.getGraphs(user, null)).thenReturn(linkedGraphs);
+        Mockito.when(mockStore.getGraphs(user, null, op)).thenReturn(linkedGraphs);
 
         // When
         O theMergedResultsOfOperation = getFederatedHandler().doOperation(op, context, mockStore);
@@ -128,7 +128,7 @@ public abstract class FederatedOperationOutputHandlerTest<OP extends Output<O>,
         LinkedHashSet<Graph> filteredGraphs = Sets.newLinkedHashSet();
         filteredGraphs.add(getGraphWithMockStore(mockStore1));
         filteredGraphs.add(getGraphWithMockStore(mockStore3));
-        Mockito.when(mockStore.getGraphs(user, "1,3")).thenReturn(filteredGraphs);
+        Mockito.when(mockStore.getGraphs(user, "1,3", op)).thenReturn(filteredGraphs);
 
         // When
         O theMergedResultsOfOperation = getFederatedHandler().doOperation(op, context, mockStore);
@@ -158,7 +158,7 @@ public abstract class FederatedOperationOutputHandlerTest<OP extends Output<O>,
         given(mockStoreInner.createContext(any(User.class))).willReturn(context);
         FederatedStore mockStore = Mockito.mock(FederatedStore.class);
         HashSet<Graph> filteredGraphs = Sets.newHashSet(getGraphWithMockStore(mockStoreInner));
-        Mockito.when(mockStore.getGraphs(user, TEST_GRAPH_ID)).thenReturn(filteredGraphs);
+        Mockito.when(mockStore.getGraphs(user, TEST_GRAPH_ID, op)).thenReturn(filteredGraphs);
 
         // When
         try {
@@ -186,7 +186,7 @@ public abstract class FederatedOperationOutputHandlerTest<OP extends Output<O>,
         given(mockStoreInner.createContext(any(User.class))).willReturn(context);
         FederatedStore mockStore = Mockito.mock(FederatedStore.class);
         HashSet<Graph> filteredGraphs = Sets.newHashSet(getGraphWithMockStore(mockStoreInner));
-        Mockito.when(mockStore.getGraphs(user, TEST_GRAPH_ID)).thenReturn(filteredGraphs);
+        Mockito.when(mockStore.getGraphs(user, TEST_GRAPH_ID, op)).thenReturn(filteredGraphs);
 
         // When
         try {
@@ -222,7 +222,7 @@ public abstract class FederatedOperationOutputHandlerTest<OP extends Output<O>,
         LinkedHashSet<Graph> filteredGraphs = Sets.newLinkedHashSet();
         filteredGraphs.add(getGraphWithMockStore(mockStore1));
         filteredGraphs.add(getGraphWithMockStore(mockStore3));
-        Mockito.when(mockStore.getGraphs(user, "1,3")).thenReturn(filteredGraphs);
+        Mockito.when(mockStore.getGraphs(user, "1,3", op)).thenReturn(filteredGraphs);
 
         // When
         O theMergedResultsOfOperation = null;
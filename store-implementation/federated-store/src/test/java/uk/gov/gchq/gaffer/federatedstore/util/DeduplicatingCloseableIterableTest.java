@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.federatedstore.util;
+
+import com.google.common.collect.Lists;
+import com.google.common.hash.Funnel;
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DeduplicatingCloseableIterableTest {
+    private static final Funnel<Integer> FUNNEL = (value, into) -> into.putInt(value);
+
+    @Test
+    public void shouldRemoveDuplicatesExactly() {
+        // Given
+        final List<Integer> input = Arrays.asList(1, 2, 1, 3, 2, 4, 1);
+
+        // When
+        final DeduplicatingCloseableIterable<Integer> iterable = new DeduplicatingCloseableIterable<>(
+                new WrappedCloseableIterable<>(input), FUNNEL, 10, 1000, 0.0001);
+
+        // Then
+        assertEquals(Arrays.asList(1, 2, 3, 4), Lists.newArrayList(iterable));
+        assertEquals(Arrays.asList(1, 2, 3, 4), Lists.newArrayList(iterable));
+    }
+
+    @Test
+    public void shouldRemoveDuplicatesUsingBloomFilterOnceExactSetIsFull() {
+        // Given
+        final List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            input.add(i);
+        }
+        input.addAll(new ArrayList<>(input));
+
+        // When
+        final List<Integer> results = Lists.newArrayList(new DeduplicatingCloseableIterable<>(
+                new WrappedCloseableIterable<>(input), FUNNEL, 10, 1000, 0.0001));
+
+        // Then
+        assertTrue(results.size() <= 1000);
+        assertTrue(results.size() > 990);
+        assertEquals(results.size(), results.stream().distinct().count());
+        assertEquals(input.subList(0, 10), results.subList(0, 10));
+    }
+}
@@ -250,6 +250,25 @@ public class FederatedStoreUtilTest {
         assertNull(updatedOp);
     }
 
+    @Test
+    public void shouldGetViewOfOperationViewButNotOfOperationChain() {
+        // Given
+        final View view = new View.Builder()
+                .edge(TestGroups.EDGE)
+                .build();
+        final GetElements getElements = new GetElements.Builder()
+                .view(view)
+                .build();
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(getElements)
+                .build();
+
+        // When / Then
+        assertSame(view, FederatedStoreUtil.getView(getElements));
+        assertNull(FederatedStoreUtil.getView(chain));
+        assertNull(FederatedStoreUtil.getView(new AddElements()));
+    }
+
     @Test
     public void shouldUpdateNestedOperations() {
         // Given
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.federatedstore.util;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.commonutil.TestTypes;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class OrderedMergeAggregatingIterableTest {
+    private final Schema schema = new Schema.Builder()
+            .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                    .vertex(TestTypes.ID_STRING)
+                    .property(TestPropertyNames.COUNT, TestTypes.PROP_COUNT)
+                    .build())
+            .type(TestTypes.ID_STRING, String.class)
+            .type(TestTypes.PROP_COUNT, new TypeDefinition.Builder()
+                    .clazz(Long.class)
+                    .aggregateFunction(new Sum())
+                    .build())
+            .vertexSerialiser(new StringSerialiser())
+            .build();
+
+    @SuppressWarnings("unchecked")
+    private final ToBytesSerialiser<Object> vertexSerialiser = (ToBytesSerialiser) new StringSerialiser();
+
+    @Test
+    public void shouldMergeOrderedIterablesAndAggregateElementsWithTheSameKey() {
+        // Given
+        final List<CloseableIterable<Element>> iterables = Arrays.asList(
+                iterable(entity("a", 1L), entity("c", 2L), entity("d", 3L)),
+                iterable(entity("b", 4L), entity("c", 5L)),
+                iterable(entity("a", 6L), entity("d", 7L), entity("e", 8L)));
+
+        // When
+        final List<Element> results = Lists.newArrayList(new OrderedMergeAggregatingIterable(iterables, schema, null, vertexSerialiser));
+
+        // Then
+        assertEquals(Arrays.asList(
+                entity("a", 7L),
+                entity("b", 4L),
+                entity("c", 7L),
+                entity("d", 10L),
+                entity("e", 8L)), results);
+    }
+
+    @Test
+    public void shouldReturnAllElementsWhenIterablesAreNotOrdered() {
+        // Given
+        final List<CloseableIterable<Element>> iterables = Arrays.asList(
+                iterable(entity("b", 1L), entity("a", 2L)),
+                iterable(entity("a", 3L)));
+
+        // When
+        final List<Element> results = Lists.newArrayList(new OrderedMergeAggregatingIterable(iterables, schema, null, vertexSerialiser));
+
+        // Then
+        assertEquals(Arrays.asList(
+                entity("a", 3L),
+                entity("b", 1L),
+                entity("a", 2L)), results);
+    }
+
+    private static CloseableIterable<Element> iterable(final Element... elements) {
+        return new WrappedCloseableIterable<>(Arrays.asList(elements));
+    }
+
+    private static Entity entity(final String vertex, final long count) {
+        return new Entity.Builder()
+                .group(TestGroups.ENTITY)
+                .vertex(vertex)
+                .property(TestPropertyNames.COUNT, count)
+                .build();
+    }
+}
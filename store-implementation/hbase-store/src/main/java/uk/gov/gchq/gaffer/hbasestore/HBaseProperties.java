@@ -42,9 +42,19 @@ public class HBaseProperties extends StoreProperties {
     public static final String WRITE_BUFFER_SIZE = "hbase.writeBufferSize";
     public static final String DEPENDENCY_JARS_HDFS_DIR_PATH = "hbase.hdfs.jars.path";
     public static final String MAX_ENTRIES_FOR_BATCH_SCANNER = "hbase.entriesForBatchScanner";
+    public static final String ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER = "hbase.adaptiveEntriesForBatchScanner";
+    public static final String MIN_ENTRIES_FOR_BATCH_SCANNER = "hbase.minEntriesForBatchScanner";
+    public static final String TARGET_RESULTS_FOR_BATCH_SCANNER = "hbase.targetResultsForBatchScanner";
+    public static final String TARGET_BYTES_FOR_BATCH_SCANNER = "hbase.targetBytesForBatchScanner";
+    public static final String TARGET_LATENCY_FOR_BATCH_SCANNER = "hbase.targetLatencyForBatchScannerInMilliseconds";
 
     public static final int WRITE_BUFFER_SIZE_DEFAULT = 1000000;
     public static final String MAX_ENTRIES_FOR_BATCH_SCANNER_DEFAULT = "50000";
+    public static final String ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER_DEFAULT = "false";
+    public static final String MIN_ENTRIES_FOR_BATCH_SCANNER_DEFAULT = "100";
+    public static final String TARGET_RESULTS_FOR_BATCH_SCANNER_DEFAULT = "1000000";
+    public static final String TARGET_BYTES_FOR_BATCH_SCANNER_DEFAULT = "104857600";
+    public static final String TARGET_LATENCY_FOR_BATCH_SCANNER_DEFAULT = "5000";
 
     public HBaseProperties() {
         super(HBaseStore.class);
@@ -164,6 +174,91 @@ public class HBaseProperties extends StoreProperties {
         set(MAX_ENTRIES_FOR_BATCH_SCANNER, maxEntriesForBatchScanner);
     }
 
+    /**
+     * Get the flag determining whether the number of items read into the
+     * scanner at any one time should be adapted to the results returned.
+     *
+     * @return true if the number of items read into the scanner should be adapted
+     */
+    public boolean getAdaptiveEntriesForBatchScanner() {
+        return Boolean.parseBoolean(get(ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER, ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    /**
+     * Set the flag determining whether the number of items read into the
+     * scanner at any one time should be adapted to the results returned.
+     *
+     * @param adaptiveEntriesForBatchScanner true if the number of items read
+     *                                       into the scanner should be adapted
+     */
+    public void setAdaptiveEntriesForBatchScanner(final boolean adaptiveEntriesForBatchScanner) {
+        set(ADAPTIVE_ENTRIES_FOR_BATCH_SCANNER, Boolean.toString(adaptiveEntriesForBatchScanner));
+    }
+
+    /**
+     * Get the min number of items that should be read into the scanner at any
+     * one time when the number of items is adapted
+     *
+     * @return An integer representing the min number of items that should be
+     * read into the scanner at any one time
+     */
+    public int getMinEntriesForBatchScanner() {
+        return Integer.parseInt(get(MIN_ENTRIES_FOR_BATCH_SCANNER, MIN_ENTRIES_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    /**
+     * Set the min number of items that should be read into the scanner at any
+     * one time when the number of items is adapted
+     *
+     * @param minEntriesForBatchScanner the min number of items that should be
+     *                                  read into the scanner at any one time
+     */
+    public void setMinEntriesForBatchScanner(final String minEntriesForBatchScanner) {
+        set(MIN_ENTRIES_FOR_BATCH_SCANNER, minEntriesForBatchScanner);
+    }
+
+    /**
+     * Get the number of results a single scanner should aim to return when
+     * the number of items is adapted
+     *
+     * @return the target number of results for a scanner
+     */
+    public long getTargetResultsForBatchScanner() {
+        return Long.parseLong(get(TARGET_RESULTS_FOR_BATCH_SCANNER, TARGET_RESULTS_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    public void setTargetResultsForBatchScanner(final String targetResultsForBatchScanner) {
+        set(TARGET_RESULTS_FOR_BATCH_SCANNER, targetResultsForBatchScanner);
+    }
+
+    /**
+     * Get the number of bytes a single scanner should aim to return when the
+     * number of items is adapted
+     *
+     * @return the target number of bytes for a scanner
+     */
+    public long getTargetBytesForBatchScanner() {
+        return Long.parseLong(get(TARGET_BYTES_FOR_BATCH_SCANNER, TARGET_BYTES_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    public void setTargetBytesForBatchScanner(final String targetBytesForBatchScanner) {
+        set(TARGET_BYTES_FOR_BATCH_SCANNER, targetBytesForBatchScanner);
+    }
+
+    /**
+     * Get the time a single scanner should aim to take when the number of
+     * items is adapted
+     *
+     * @return the target latency in milliseconds for a scanner
+     */
+    public long getTargetLatencyForBatchScannerInMilliseconds() {
+        return Long.parseLong(get(TARGET_LATENCY_FOR_BATCH_SCANNER, TARGET_LATENCY_FOR_BATCH_SCANNER_DEFAULT));
+    }
+
+    public void setTargetLatencyForBatchScannerInMilliseconds(final String targetLatencyForBatchScannerInMilliseconds) {
+        set(TARGET_LATENCY_FOR_BATCH_SCANNER, targetLatencyForBatchScannerInMilliseconds);
+    }
+
     @Override
     public String getJsonSerialiserModules() {
         return new StringDeduplicateConcat().apply(
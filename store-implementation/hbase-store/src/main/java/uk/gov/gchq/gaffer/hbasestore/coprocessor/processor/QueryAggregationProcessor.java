@@ -17,8 +17,8 @@ package uk.gov.gchq.gaffer.hbasestore.coprocessor.processor;
 
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.util.Bytes;
 
-import uk.gov.gchq.gaffer.commonutil.ByteUtil;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Properties;
 import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
@@ -28,17 +28,31 @@ import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.hbasestore.serialisation.ElementSerialisation;
 import uk.gov.gchq.gaffer.hbasestore.serialisation.LazyElementCell;
 import uk.gov.gchq.gaffer.hbasestore.utils.HBaseUtil;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisationUtils;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+/**
+ * The {@code QueryAggregationProcessor} aggregates adjacent cells with the
+ * same group by key, using the group by properties and aggregator from the
+ * {@link View}.
+ * <p>
+ * The group by metadata for each group is resolved once per processor, i.e.
+ * once per scanner. Group by keys are compared using the serialised column
+ * qualifiers, in place, so cells are only deserialised when they are actually
+ * aggregated. The aggregated cells are written back into the list of cells
+ * being processed, so no intermediate lists are created.
+ */
 public class QueryAggregationProcessor implements GafferScannerProcessor {
     private final ElementSerialisation serialisation;
     private final Schema schema;
     private final View view;
-    private final List<String> aggregatedGroups;
+    private final Map<String, GroupAggregation> groupAggregations = new HashMap<>();
 
     public QueryAggregationProcessor(final ElementSerialisation serialisation,
                                      final Schema schema,
@@ -46,7 +60,6 @@ public class QueryAggregationProcessor implements GafferScannerProcessor {
         this.serialisation = serialisation;
         this.schema = schema;
         this.view = view;
-        aggregatedGroups = schema.getAggregatedGroups();
     }
 
     @Override
@@ -55,61 +68,66 @@ public class QueryAggregationProcessor implements GafferScannerProcessor {
             return elementCells;
         }
 
-        final List<LazyElementCell> output = new ArrayList<>();
-        ElementAggregator aggregator = null;
+        // Cells are only written to indexes that have already been read.
+        int outputIndex = 0;
+        GroupAggregation groupAggregation = null;
         Properties aggregatedProperties = null;
         LazyElementCell firstElementCell = null;
-        for (final LazyElementCell elementCell : elementCells) {
+        for (int i = 0; i < elementCells.size(); i++) {
+            final LazyElementCell elementCell = elementCells.get(i);
             if (elementCell.isDeleted()) {
                 continue;
             }
 
-            if (!aggregatedGroups.contains(elementCell.getGroup())) {
-                if (null != firstElementCell) {
-                    output(firstElementCell, aggregatedProperties, output);
-                    firstElementCell = null;
+            if (null != firstElementCell
+                    && groupAggregation.isSameGroupByKey(firstElementCell.getCell(), elementCell.getCell())) {
+                if (null == aggregatedProperties) {
+                    aggregatedProperties = firstElementCell.getElement().getProperties();
                 }
-                output(elementCell, null, output);
-                aggregatedProperties = null;
-                aggregator = null;
-            } else if (null == firstElementCell) {
-                firstElementCell = elementCell;
-                aggregatedProperties = null;
-                aggregator = null;
+                final Properties properties = elementCell.getElement().getProperties();
+                aggregatedProperties = groupAggregation.getAggregator().apply(properties, aggregatedProperties);
             } else {
-                final String group = elementCell.getGroup();
-                final Set<String> schemaGroupBy = schema.getElement(group).getGroupBy();
-                final ViewElementDefinition elementDef = view.getElement(group);
-                final Set<String> groupBy = null != elementDef ? elementDef.getGroupBy() : null;
-                if (!compareGroupByKeys(firstElementCell.getCell(), elementCell.getCell(), group, schemaGroupBy, groupBy)) {
-                    output(firstElementCell, aggregatedProperties, output);
+                outputIndex = output(firstElementCell, aggregatedProperties, elementCells, outputIndex);
+                firstElementCell = null;
+                aggregatedProperties = null;
+
+                groupAggregation = getGroupAggregation(elementCell, groupAggregation);
+                if (groupAggregation.isAggregated()) {
                     firstElementCell = elementCell;
-                    aggregatedProperties = null;
-                    aggregator = null;
                 } else {
-                    if (null == aggregator) {
-                        final ElementAggregator viewAggregator = null != elementDef ? elementDef.getAggregator() : null;
-                        aggregator = schema.getElement(group).getQueryAggregator(groupBy, viewAggregator);
-                        aggregatedProperties = firstElementCell.getElement().getProperties();
-                    }
-
-                    final Properties properties = elementCell.getElement().getProperties();
-                    aggregatedProperties = aggregator.apply(properties, aggregatedProperties);
+                    elementCells.set(outputIndex++, elementCell);
                 }
             }
         }
-        output(firstElementCell, aggregatedProperties, output);
-        return output;
+        outputIndex = output(firstElementCell, aggregatedProperties, elementCells, outputIndex);
+        elementCells.subList(outputIndex, elementCells.size()).clear();
+        return elementCells;
     }
 
-    private void output(final LazyElementCell elementCell,
-                        final Properties aggregatedProperties,
-                        final List<LazyElementCell> output) {
-        if (null == aggregatedProperties) {
-            if (null != elementCell) {
-                output.add(elementCell);
-            }
-        } else {
+    private GroupAggregation getGroupAggregation(final LazyElementCell elementCell,
+                                                 final GroupAggregation previous) {
+        if (null != previous && previous.isGroup(elementCell.getCell())) {
+            return previous;
+        }
+
+        final String group = elementCell.getGroup();
+        GroupAggregation groupAggregation = groupAggregations.get(group);
+        if (null == groupAggregation) {
+            groupAggregation = new GroupAggregation(group);
+            groupAggregations.put(group, groupAggregation);
+        }
+        return groupAggregation;
+    }
+
+    private int output(final LazyElementCell elementCell,
+                       final Properties aggregatedProperties,
+                       final List<LazyElementCell> output,
+                       final int outputIndex) {
+        if (null == elementCell) {
+            return outputIndex;
+        }
+
+        if (null != aggregatedProperties) {
             try {
                 final Cell firstCell = elementCell.getCell();
                 final Element element = elementCell.getElement();
@@ -127,45 +145,119 @@ public class QueryAggregationProcessor implements GafferScannerProcessor {
 
                 elementCell.setCell(aggregatedCell);
                 elementCell.setElement(element);
-                output.add(elementCell);
-
             } catch (final SerialisationException e) {
                 throw new RuntimeException(e);
             }
         }
+
+        output.set(outputIndex, elementCell);
+        return outputIndex + 1;
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    public View getView() {
+        return view;
     }
 
-    private boolean compareGroupByKeys(final Cell left,
-                                       final Cell right,
-                                       final String group,
-                                       final Set<String> schemaGroupBy,
-                                       final Set<String> groupBy) {
-        if (null != groupBy && groupBy.isEmpty()) {
-            return true;
+    /**
+     * The query aggregation metadata for a single group.
+     */
+    private final class GroupAggregation {
+        private final byte[] groupBytes;
+        private final boolean aggregated;
+        private final boolean aggregateAll;
+        private final boolean compareFullQualifier;
+        private final int numGroupByProps;
+        private final ElementAggregator aggregator;
+
+        private GroupAggregation(final String group) {
+            groupBytes = Bytes.toBytes(group);
+            final SchemaElementDefinition schemaElementDef = schema.getElement(group);
+            aggregated = null != schemaElementDef && schemaElementDef.isAggregate();
+            if (aggregated) {
+                final Set<String> schemaGroupBy = schemaElementDef.getGroupBy();
+                final ViewElementDefinition elementDef = view.getElement(group);
+                final Set<String> groupBy = null != elementDef ? elementDef.getGroupBy() : null;
+                final ElementAggregator viewAggregator = null != elementDef ? elementDef.getAggregator() : null;
+                aggregateAll = null != groupBy && groupBy.isEmpty();
+                compareFullQualifier = null == groupBy || groupBy.equals(schemaGroupBy);
+                numGroupByProps = null != groupBy ? groupBy.size() : schemaGroupBy.size();
+                aggregator = schemaElementDef.getQueryAggregator(groupBy, viewAggregator);
+            } else {
+                aggregateAll = false;
+                compareFullQualifier = true;
+                numGroupByProps = 0;
+                aggregator = null;
+            }
         }
 
-        if (HBaseUtil.compareQualifier(left, right) == 0) {
-            return true;
+        private boolean isAggregated() {
+            return aggregated;
         }
 
-        if (null == groupBy || groupBy.equals(schemaGroupBy)) {
-            return false;
+        private ElementAggregator getAggregator() {
+            return aggregator;
         }
 
-        try {
-            final byte[] groupByPropBytesLeft = serialisation.getPropertiesAsBytesFromColumnQualifier(group, CellUtil.cloneQualifier(left), groupBy.size());
-            final byte[] groupByPropBytesRight = serialisation.getPropertiesAsBytesFromColumnQualifier(group, CellUtil.cloneQualifier(right), groupBy.size());
-            return ByteUtil.areSortedBytesEqual(groupByPropBytesLeft, groupByPropBytesRight);
-        } catch (final SerialisationException e) {
-            throw new RuntimeException("Unable to serialise properties into bytes", e);
+        /**
+         * @param cell the cell to check
+         * @return true if the column qualifier of the cell starts with this
+         * group.
+         */
+        private boolean isGroup(final Cell cell) {
+            final byte[] qualifier = cell.getQualifierArray();
+            final int offset = cell.getQualifierOffset();
+            if (0 == cell.getQualifierLength()) {
+                return false;
+            }
+            final int numBytesForLength = CompactRawSerialisationUtils.decodeVIntSize(qualifier[offset]);
+            final long groupLength;
+            try {
+                groupLength = CompactRawSerialisationUtils.readLong(qualifier, offset);
+            } catch (final SerialisationException e) {
+                throw new RuntimeException("Unable to read the group from the column qualifier", e);
+            }
+            return groupLength == groupBytes.length
+                    && numBytesForLength + groupLength <= cell.getQualifierLength()
+                    && Bytes.equals(groupBytes, 0, groupBytes.length, qualifier, offset + numBytesForLength, groupBytes.length);
         }
-    }
 
-    public Schema getSchema() {
-        return schema;
-    }
+        /**
+         * @param left  a cell in this group
+         * @param right the cell to compare it to
+         * @return true if the right cell is in this group and has the same
+         * group by key as the left cell.
+         */
+        private boolean isSameGroupByKey(final Cell left, final Cell right) {
+            if (!isGroup(right)) {
+                return false;
+            }
 
-    public View getView() {
-        return view;
+            if (aggregateAll) {
+                return true;
+            }
+
+            if (HBaseUtil.compareQualifier(left, right) == 0) {
+                return true;
+            }
+
+            if (compareFullQualifier) {
+                return false;
+            }
+
+            try {
+                final int leftLength = serialisation.getColumnQualifierPrefixLength(
+                        left.getQualifierArray(), left.getQualifierOffset(), left.getQualifierLength(), numGroupByProps);
+                final int rightLength = serialisation.getColumnQualifierPrefixLength(
+                        right.getQualifierArray(), right.getQualifierOffset(), right.getQualifierLength(), numGroupByProps);
+                return Bytes.equals(left.getQualifierArray(), left.getQualifierOffset(), leftLength,
+                        right.getQualifierArray(), right.getQualifierOffset(), rightLength);
+            } catch (final SerialisationException e) {
+                throw new RuntimeException("Unable to read the group by properties from the column qualifier", e);
+            }
+        }
     }
 }
@@ -59,6 +59,11 @@ public class HBaseAddElementsFromHdfsJobFactory implements AddElementsFromHdfsJo
         LOGGER.info("Added {} of {} to job conf", MAPPER_GENERATOR, mapperGeneratorClassName);
         jobConf.set(VALIDATE, String.valueOf(operation.isValidate()));
         LOGGER.info("Added {} option of {} to job conf", VALIDATE, operation.isValidate());
+        final String aggregationBufferSize = operation.getOption(MAPPER_AGGREGATION_BUFFER_SIZE);
+        if (null != aggregationBufferSize) {
+            jobConf.set(MAPPER_AGGREGATION_BUFFER_SIZE, aggregationBufferSize);
+            LOGGER.info("Added {} option of {} to job conf", MAPPER_AGGREGATION_BUFFER_SIZE, aggregationBufferSize);
+        }
 
         Integer numTasks = operation.getNumMapTasks();
         if (null != numTasks) {
@@ -17,12 +17,15 @@
 package uk.gov.gchq.gaffer.hbasestore.retriever;
 
 import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.filter.MultiRowRangeFilter;
 import org.apache.hadoop.hbase.security.visibility.Authorizations;
 import org.apache.hadoop.hbase.util.Bytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.commonutil.StringUtil;
@@ -35,9 +38,11 @@ import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.element.id.ElementId;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.RequiredPropertiesCache;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewUtil;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.hbasestore.HBaseProperties;
 import uk.gov.gchq.gaffer.hbasestore.HBaseStore;
 import uk.gov.gchq.gaffer.hbasestore.serialisation.ElementSerialisation;
 import uk.gov.gchq.gaffer.hbasestore.utils.HBaseStoreConstants;
@@ -45,6 +50,8 @@ import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
 import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.store.ElementValidator;
 import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+import uk.gov.gchq.gaffer.store.util.AdaptiveBatchSizer;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.IOException;
@@ -53,8 +60,11 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 
 public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Element>> & GraphFilters> implements CloseableIterable<Element> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HBaseRetriever.class);
+
     private final ElementSerialisation serialisation;
     private final RowRangeFactory rowRangeFactory;
     private final ElementValidator validator;
@@ -64,6 +74,7 @@ public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Elemen
     private final OP operation;
     private final byte[] extraProcessors;
     private final boolean includeMatchedVertex;
+    private final RequiredPropertiesCache propertiesToLoad;
 
     private CloseableIterator<Element> iterator;
     private Iterator<? extends ElementId> idsIterator;
@@ -79,6 +90,10 @@ public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Elemen
         this.validator = new ElementValidator(operation.getView());
         this.store = store;
         this.operation = operation;
+        this.propertiesToLoad = new RequiredPropertiesCache(operation.getView(), group -> {
+            final SchemaElementDefinition elementDef = store.getSchema().getElement(group);
+            return null != elementDef ? elementDef.getProperties() : null;
+        });
         this.ids = ids;
         if (null != user && null != user.getDataAuths()) {
             this.authorisations = new Authorizations(
@@ -126,7 +141,7 @@ public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Elemen
 
     private Element deserialiseAndTransform(final Cell cell) {
         try {
-            Element element = serialisation.getElement(cell, includeMatchedVertex);
+            Element element = serialisation.getElement(cell, includeMatchedVertex, propertiesToLoad.getPropertiesToLoad(serialisation.getGroup(cell)));
             final ViewElementDefinition viewDef = operation.getView().getElement(element.getGroup());
             if (null != viewDef) {
                 final ElementTransformer transformer = viewDef.getTransformer();
@@ -145,28 +160,15 @@ public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Elemen
     }
 
     private CloseableIterable<Result> createScanner() {
-        // End of input ids
-        if (null != idsIterator && !idsIterator.hasNext()) {
-            return null;
-        }
+        return createScanner(null);
+    }
 
+    private CloseableIterable<Result> createScanner(final List<MultiRowRangeFilter.RowRange> rowRanges) {
         Table table = null;
         try {
             final Scan scan = new Scan();
 
-            if (null != idsIterator) {
-                final List<MultiRowRangeFilter.RowRange> rowRanges = new ArrayList<>();
-                final int maxEntriesForBatchScanner = store.getProperties().getMaxEntriesForBatchScanner();
-                int count = 0;
-                while (idsIterator.hasNext() && count < maxEntriesForBatchScanner) {
-                    count++;
-                    rowRanges.addAll(rowRangeFactory.getRowRange(idsIterator.next(), operation));
-                }
-
-                if (rowRanges.isEmpty()) {
-                    return new WrappedCloseableIterable<>(Collections.emptyList());
-                }
-
+            if (null != rowRanges) {
                 scan.setFilter(new MultiRowRangeFilter(rowRanges));
             }
 
@@ -191,10 +193,118 @@ public class HBaseRetriever<OP extends Output<CloseableIterable<? extends Elemen
         }
     }
 
+    private AdaptiveBatchSizer createBatchSizer() {
+        final HBaseProperties properties = store.getProperties();
+        if (!properties.getAdaptiveEntriesForBatchScanner()) {
+            return new AdaptiveBatchSizer(properties.getMaxEntriesForBatchScanner());
+        }
+        return new AdaptiveBatchSizer(
+                Math.min(properties.getMinEntriesForBatchScanner(), properties.getMaxEntriesForBatchScanner()),
+                properties.getMaxEntriesForBatchScanner(),
+                properties.getTargetResultsForBatchScanner(),
+                properties.getTargetBytesForBatchScanner(),
+                properties.getTargetLatencyForBatchScannerInMilliseconds());
+    }
+
+    /**
+     * Creates a scanner for each batch of seeds. The number of seeds in each
+     * batch is decided by an {@link AdaptiveBatchSizer} using the number of
+     * cells, bytes and the time taken by the previous batches.
+     */
     public class BatchedResultScanner extends BatchedIterable<Result> {
+        private final AdaptiveBatchSizer batchSizer = createBatchSizer();
+        private int batchSeeds;
+        private long batchResults;
+        private long batchBytes;
+        private long batchNanos;
+
         @Override
         protected Iterable<Result> createBatch() {
-            return createScanner();
+            recordBatch();
+
+            // End of input ids
+            if (null == idsIterator || !idsIterator.hasNext()) {
+                LOGGER.debug("Scanner batch sizes used: {}", batchSizer);
+                return null;
+            }
+
+            final List<MultiRowRangeFilter.RowRange> rowRanges = new ArrayList<>();
+            final int batchSize = batchSizer.getBatchSize();
+            try {
+                while (idsIterator.hasNext() && batchSeeds < batchSize) {
+                    batchSeeds++;
+                    rowRanges.addAll(rowRangeFactory.getRowRange(idsIterator.next(), operation));
+                }
+            } catch (final SerialisationException e) {
+                throw new RuntimeException(e);
+            }
+
+            if (rowRanges.isEmpty()) {
+                return new WrappedCloseableIterable<>(Collections.emptyList());
+            }
+
+            return new BatchResultIterable(createScanner(rowRanges));
+        }
+
+        /**
+         * @return the batch sizer holding the sizes of the batches used so far.
+         */
+        public AdaptiveBatchSizer getBatchSizer() {
+            return batchSizer;
+        }
+
+        private void recordBatch() {
+            batchSizer.recordBatch(batchSeeds, batchResults, batchBytes, TimeUnit.NANOSECONDS.toMillis(batchNanos));
+            batchSeeds = 0;
+            batchResults = 0;
+            batchBytes = 0;
+            batchNanos = 0;
+        }
+
+        private final class BatchResultIterable implements CloseableIterable<Result> {
+            private final CloseableIterable<Result> scanner;
+
+            private BatchResultIterable(final CloseableIterable<Result> scanner) {
+                this.scanner = scanner;
+            }
+
+            @Override
+            public void close() {
+                scanner.close();
+            }
+
+            @Override
+            public CloseableIterator<Result> iterator() {
+                final CloseableIterator<Result> scannerItr = scanner.iterator();
+                return new CloseableIterator<Result>() {
+                    @Override
+                    public void close() {
+                        scannerItr.close();
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        final long startTime = System.nanoTime();
+                        final boolean hasNext = scannerItr.hasNext();
+                        batchNanos += System.nanoTime() - startTime;
+                        return hasNext;
+                    }
+
+                    @Override
+                    public Result next() {
+                        final long startTime = System.nanoTime();
+                        final Result result = scannerItr.next();
+                        batchNanos += System.nanoTime() - startTime;
+                        if (null != result && !result.isEmpty()) {
+                            for (final Cell cell : result.rawCells()) {
+                                batchResults++;
+                                batchBytes += CellUtil.estimatedSerializedSizeOf(cell);
+                            }
+                        }
+                        return result;
+                    }
+                };
+            }
         }
     }
 
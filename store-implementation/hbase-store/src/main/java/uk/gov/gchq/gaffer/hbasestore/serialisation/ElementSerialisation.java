@@ -50,6 +50,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Set;
 
 public class ElementSerialisation {
     private static final Logger LOGGER = LoggerFactory.getLogger(ElementSerialisation.class);
@@ -104,6 +105,21 @@ public class ElementSerialisation {
 
     public Properties getPropertiesFromValue(final String group, final byte[] value)
             throws SerialisationException {
+        return getPropertiesFromValue(group, value, null);
+    }
+
+    /**
+     * Deserialises the properties stored in the value, skipping any properties
+     * that are not in propertiesToLoad without deserialising them.
+     *
+     * @param group            the element group
+     * @param value            the serialised properties
+     * @param propertiesToLoad the properties to deserialise, or null to deserialise all the properties
+     * @return the deserialised properties
+     * @throws SerialisationException if a property could not be deserialised
+     */
+    public Properties getPropertiesFromValue(final String group, final byte[] value, final Set<String> propertiesToLoad)
+            throws SerialisationException {
         final Properties properties = new Properties();
         if (null == value || value.length == 0) {
             return properties;
@@ -130,7 +146,9 @@ public class ElementSerialisation {
                         throw new SerialisationException("Exception reading length of property");
                     }
                     lastDelimiter += numBytesForLength;
-                    if (currentPropLength > 0) {
+                    if (null != propertiesToLoad && !propertiesToLoad.contains(propertyName)) {
+                        lastDelimiter += currentPropLength;
+                    } else if (currentPropLength > 0) {
                         try {
                             properties.put(propertyName, serialiser.deserialise(value, lastDelimiter, currentPropLength));
                             lastDelimiter += currentPropLength;
@@ -159,11 +177,26 @@ public class ElementSerialisation {
 
     public Element getElement(final Cell cell, final boolean includeMatchedVertex)
             throws SerialisationException {
+        return getElement(cell, includeMatchedVertex, null);
+    }
+
+    /**
+     * Deserialises the element in the cell. Properties stored in the cell value
+     * that are not in propertiesToLoad are not deserialised.
+     *
+     * @param cell                 the cell containing the serialised element
+     * @param includeMatchedVertex if true then the matchedVertex field is set on Edges
+     * @param propertiesToLoad     the properties to deserialise from the value, or null to deserialise all the properties
+     * @return the deserialised element
+     * @throws SerialisationException if the element could not be deserialised
+     */
+    public Element getElement(final Cell cell, final boolean includeMatchedVertex, final Set<String> propertiesToLoad)
+            throws SerialisationException {
         final boolean keyRepresentsEntity = isEntity(cell);
         if (keyRepresentsEntity) {
-            return getEntity(cell);
+            return getEntity(cell, propertiesToLoad);
         }
-        return getEdge(cell, includeMatchedVertex);
+        return getEdge(cell, includeMatchedVertex, propertiesToLoad);
     }
 
     public Properties getProperties(final String group, final Cell cell) throws SerialisationException {
@@ -341,6 +374,43 @@ public class ElementSerialisation {
         return propertyBytes;
     }
 
+    /**
+     * Gets the number of bytes at the start of a serialised column qualifier
+     * that hold the group and the first numProps group by properties. The
+     * qualifier is read in place, so no bytes are copied.
+     *
+     * @param bytes    the array containing the column qualifier
+     * @param offset   the offset of the column qualifier within the array
+     * @param length   the length of the column qualifier
+     * @param numProps the number of group by properties to include
+     * @return the length of the column qualifier prefix
+     * @throws SerialisationException if the qualifier cannot be read
+     */
+    public int getColumnQualifierPrefixLength(final byte[] bytes, final int offset, final int length, final int numProps)
+            throws SerialisationException {
+        final int end = offset + length;
+        int delimiter = offset;
+        int index = 0;
+        while (index <= numProps && delimiter < end) {
+            final int numBytesForLength = CompactRawSerialisationUtils.decodeVIntSize(bytes[delimiter]);
+            final long currentPropLength;
+            try {
+                currentPropLength = CompactRawSerialisationUtils.readLong(bytes, delimiter);
+            } catch (final SerialisationException e) {
+                throw new SerialisationException("Exception reading length of property");
+            }
+
+            delimiter += numBytesForLength;
+            if (currentPropLength > 0) {
+                delimiter += currentPropLength;
+            }
+
+            index++;
+        }
+
+        return Math.min(delimiter, end) - offset;
+    }
+
     public long getTimestamp(final Element element) throws SerialisationException {
         return getTimestamp(element.getProperties());
     }
@@ -594,22 +664,17 @@ public class ElementSerialisation {
         out.write(bytes);
     }
 
-    private void addPropertiesToElement(final Element element, final Cell cell)
+    private void addPropertiesToElement(final Element element, final Cell cell, final Set<String> propertiesToLoad)
             throws SerialisationException {
         element.copyProperties(
                 getPropertiesFromColumnQualifier(element.getGroup(), CellUtil.cloneQualifier(cell)));
         element.copyProperties(
-                getPropertiesFromValue(element.getGroup(), CellUtil.cloneValue(cell)));
+                getPropertiesFromValue(element.getGroup(), CellUtil.cloneValue(cell), propertiesToLoad));
         element.copyProperties(
                 getPropertiesFromTimestamp(element.getGroup(), cell.getTimestamp()));
     }
 
-    private Edge getEdge(final Cell cell)
-            throws SerialisationException {
-        return getEdge(cell, false);
-    }
-
-    private Edge getEdge(final Cell cell, final boolean includeMatchedVertex)
+    private Edge getEdge(final Cell cell, final boolean includeMatchedVertex, final Set<String> propertiesToLoad)
             throws SerialisationException {
         final byte[][] result = new byte[3][];
         final EdgeDirection direction = getSourceAndDestination(CellUtil.cloneRow(cell), result);
@@ -625,20 +690,20 @@ public class ElementSerialisation {
         try {
             final Edge edge = new Edge(group, ((ToBytesSerialiser) schema.getVertexSerialiser()).deserialise(result[0]),
                     ((ToBytesSerialiser) schema.getVertexSerialiser()).deserialise(result[1]), direction.isDirected(), matchedVertex, null);
-            addPropertiesToElement(edge, cell);
+            addPropertiesToElement(edge, cell, propertiesToLoad);
             return edge;
         } catch (final SerialisationException e) {
             throw new SerialisationException("Failed to re-create Edge from cell", e);
         }
     }
 
-    private Entity getEntity(final Cell cell) throws SerialisationException {
+    private Entity getEntity(final Cell cell, final Set<String> propertiesToLoad) throws SerialisationException {
 
         try {
             final byte[] row = CellUtil.cloneRow(cell);
             final Entity entity = new Entity(getGroup(cell), ((ToBytesSerialiser) schema.getVertexSerialiser())
                     .deserialise(ByteArrayEscapeUtils.unEscape(row, 0, row.length - 2)));
-            addPropertiesToElement(entity, cell);
+            addPropertiesToElement(entity, cell, propertiesToLoad);
             return entity;
         } catch (final SerialisationException e) {
             throw new SerialisationException("Failed to re-create Entity from cell", e);
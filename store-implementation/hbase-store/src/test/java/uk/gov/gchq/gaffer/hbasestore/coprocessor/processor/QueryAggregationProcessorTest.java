@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.hbasestore.coprocessor.processor;
+
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.hbasestore.serialisation.ElementSerialisation;
+import uk.gov.gchq.gaffer.hbasestore.serialisation.LazyElementCell;
+import uk.gov.gchq.gaffer.hbasestore.util.CellUtil;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawIntegerSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.koryphe.impl.binaryoperator.First;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class QueryAggregationProcessorTest {
+    private static final Schema SCHEMA = new Schema.Builder()
+            .type("string", new TypeDefinition.Builder()
+                    .clazz(String.class)
+                    .serialiser(new StringSerialiser())
+                    .aggregateFunction(new First())
+                    .build())
+            .type("int", new TypeDefinition.Builder()
+                    .clazz(Integer.class)
+                    .serialiser(new CompactRawIntegerSerialiser())
+                    .aggregateFunction(new Sum())
+                    .build())
+            .entity(TestGroups.ENTITY, new SchemaEntityDefinition.Builder()
+                    .vertex("string")
+                    .property(TestPropertyNames.PROP_1, "string")
+                    .property(TestPropertyNames.PROP_2, "string")
+                    .property(TestPropertyNames.COUNT, "int")
+                    .groupBy(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2)
+                    .build())
+            .entity(TestGroups.ENTITY_2, new SchemaEntityDefinition.Builder()
+                    .vertex("string")
+                    .property(TestPropertyNames.PROP_1, "string")
+                    .property(TestPropertyNames.PROP_2, "string")
+                    .property(TestPropertyNames.COUNT, "int")
+                    .groupBy(TestPropertyNames.PROP_1, TestPropertyNames.PROP_2)
+                    .build())
+            .vertexSerialiser(new StringSerialiser())
+            .build();
+
+    private final ElementSerialisation serialisation = new ElementSerialisation(SCHEMA);
+
+    @Test
+    public void shouldAggregateCellsWithSameGroupByKey() throws SerialisationException {
+        // Given
+        final QueryAggregationProcessor processor = new QueryAggregationProcessor(serialisation, SCHEMA, new View.Builder()
+                .entity(TestGroups.ENTITY)
+                .build());
+        final List<LazyElementCell> cells = getCells(
+                createEntity(TestGroups.ENTITY, "a", "x", 1),
+                createEntity(TestGroups.ENTITY, "a", "x", 2),
+                createEntity(TestGroups.ENTITY, "a", "y", 3));
+
+        // When
+        final List<Element> results = getElements(processor.process(cells));
+
+        // Then
+        assertEquals(Arrays.asList(
+                createEntity(TestGroups.ENTITY, "a", "x", 3),
+                createEntity(TestGroups.ENTITY, "a", "y", 3)
+        ), results);
+    }
+
+    @Test
+    public void shouldAggregateCellsWithSameGroupByPrefixWhenViewHasGroupBy() throws SerialisationException {
+        // Given
+        final QueryAggregationProcessor processor = new QueryAggregationProcessor(serialisation, SCHEMA, new View.Builder()
+                .entity(TestGroups.ENTITY, new ViewElementDefinition.Builder()
+                        .groupBy(TestPropertyNames.PROP_1)
+                        .build())
+                .build());
+        final List<LazyElementCell> cells = getCells(
+                createEntity(TestGroups.ENTITY, "a", "x", 1),
+                createEntity(TestGroups.ENTITY, "a", "y", 2),
+                createEntity(TestGroups.ENTITY, "b", "x", 3),
+                createEntity(TestGroups.ENTITY, "b", "z", 4));
+
+        // When
+        final List<Element> results = getElements(processor.process(cells));
+
+        // Then
+        assertEquals(Arrays.asList(TestGroups.ENTITY + "|a|3", TestGroups.ENTITY + "|b|7"), getGroupByKeysAndCounts(results));
+    }
+
+    @Test
+    public void shouldNotAggregateCellsFromDifferentGroupsWhenViewGroupByIsEmpty() throws SerialisationException {
+        // Given
+        final QueryAggregationProcessor processor = new QueryAggregationProcessor(serialisation, SCHEMA, new View.Builder()
+                .entity(TestGroups.ENTITY, new ViewElementDefinition.Builder()
+                        .groupBy()
+                        .build())
+                .entity(TestGroups.ENTITY_2, new ViewElementDefinition.Builder()
+                        .groupBy()
+                        .build())
+                .build());
+        final List<LazyElementCell> cells = getCells(
+                createEntity(TestGroups.ENTITY, "a", "x", 1),
+                createEntity(TestGroups.ENTITY, "b", "y", 2),
+                createEntity(TestGroups.ENTITY_2, "c", "z", 3),
+                createEntity(TestGroups.ENTITY_2, "d", "z", 4));
+
+        // When
+        final List<Element> results = getElements(processor.process(cells));
+
+        // Then
+        assertEquals(Arrays.asList(TestGroups.ENTITY + "|3", TestGroups.ENTITY_2 + "|7"), getGroupsAndCounts(results));
+    }
+
+    @Test
+    public void shouldWriteAggregatedCellsBackIntoTheSameList() throws SerialisationException {
+        // Given
+        final QueryAggregationProcessor processor = new QueryAggregationProcessor(serialisation, SCHEMA, new View.Builder()
+                .entity(TestGroups.ENTITY)
+                .build());
+        final List<LazyElementCell> cells = getCells(
+                createEntity(TestGroups.ENTITY, "a", "x", 1),
+                createEntity(TestGroups.ENTITY, "a", "x", 2));
+
+        // When
+        final List<LazyElementCell> results = processor.process(cells);
+
+        // Then
+        assertSame(cells, results);
+        assertEquals(1, results.size());
+    }
+
+    private List<LazyElementCell> getCells(final Element... elements) throws SerialisationException {
+        final List<LazyElementCell> cells = new ArrayList<>();
+        for (final Element element : elements) {
+            cells.add(CellUtil.getLazyCell(element, serialisation));
+        }
+        return cells;
+    }
+
+    private List<Element> getElements(final List<LazyElementCell> cells) {
+        final List<Element> elements = new ArrayList<>();
+        for (final LazyElementCell cell : cells) {
+            elements.add(cell.getElement());
+        }
+        return elements;
+    }
+
+    private List<String> getGroupByKeysAndCounts(final List<Element> elements) {
+        final List<String> results = new ArrayList<>();
+        for (final Element element : elements) {
+            results.add(element.getGroup() + "|" + element.getProperty(TestPropertyNames.PROP_1) + "|" + element.getProperty(TestPropertyNames.COUNT));
+        }
+        return results;
+    }
+
+    private List<String> getGroupsAndCounts(final List<Element> elements) {
+        final List<String> results = new ArrayList<>();
+        for (final Element element : elements) {
+            results.add(element.getGroup() + "|" + element.getProperty(TestPropertyNames.COUNT));
+        }
+        return results;
+    }
+
+    private Entity createEntity(final String group, final String prop1, final String prop2, final int count) {
+        return new Entity.Builder()
+                .group(group)
+                .vertex("vertex")
+                .property(TestPropertyNames.PROP_1, prop1)
+                .property(TestPropertyNames.PROP_2, prop2)
+                .property(TestPropertyNames.COUNT, count)
+                .build();
+    }
+}
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.hbasestore.serialisation;
 
+import com.google.common.collect.Sets;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -223,6 +224,23 @@ public class ElementSerialisationTest {
         assertEquals(8, deSerialisedProperties.get(HBasePropertyNames.COUNT));
     }
 
+    @Test
+    public void shouldOnlyDeserialisePropertiesToLoadFromValue() throws Exception {
+        Properties properties = new Properties();
+        properties.put(HBasePropertyNames.PROP_1, 60);
+        properties.put(HBasePropertyNames.PROP_2, 166);
+        properties.put(HBasePropertyNames.PROP_3, 299);
+        properties.put(HBasePropertyNames.PROP_4, 10);
+        properties.put(HBasePropertyNames.COUNT, 8);
+
+        final byte[] value = serialisation.getValue(TestGroups.EDGE, properties);
+        final Properties deSerialisedProperties = serialisation.getPropertiesFromValue(TestGroups.EDGE, value,
+                Sets.newHashSet(HBasePropertyNames.PROP_2, HBasePropertyNames.COUNT));
+        assertEquals(2, deSerialisedProperties.size());
+        assertEquals(166, deSerialisedProperties.get(HBasePropertyNames.PROP_2));
+        assertEquals(8, deSerialisedProperties.get(HBasePropertyNames.COUNT));
+    }
+
     @Test
     public void shouldSerialiseAndDeSerialiseBetweenPropertyAndValueMissingMiddleProperty() throws Exception {
         Properties properties = new Properties();
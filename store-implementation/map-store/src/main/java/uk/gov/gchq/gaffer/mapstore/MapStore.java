@@ -41,6 +41,7 @@ import uk.gov.gchq.gaffer.store.StoreTrait;
 import uk.gov.gchq.gaffer.store.operation.handler.OperationHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -93,6 +94,11 @@ public class MapStore extends Store {
         return TRAITS;
     }
 
+    @Override
+    public GraphStatistics getStatistics() {
+        return null == mapImpl ? null : mapImpl.getStatistics();
+    }
+
     @SuppressFBWarnings(value = "BC_UNCONFIRMED_CAST_OF_RETURN_VALUE", justification = "The properties should always be MapStoreProperties")
     @Override
     public MapStoreProperties getProperties() {
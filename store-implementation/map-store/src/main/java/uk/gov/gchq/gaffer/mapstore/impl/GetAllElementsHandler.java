@@ -20,7 +20,6 @@ import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterator;
 import uk.gov.gchq.gaffer.data.element.Element;
-import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewUtil;
 import uk.gov.gchq.gaffer.mapstore.MapStore;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
@@ -63,11 +62,7 @@ public class GetAllElementsHandler implements OutputOperationHandler<GetAllEleme
             Stream<Element> elements = mapImpl.getAllElements(getAllElements.getView().getGroups());
             elements = GetElementsUtil.applyDirectedTypeFilter(elements, getAllElements.getView().hasEdges(), getAllElements.getDirectedType());
             elements = GetElementsUtil.applyView(elements, schema, getAllElements.getView());
-            elements = elements.map(element -> mapImpl.cloneElement(element, schema));
-            elements = elements.map(element -> {
-                ViewUtil.removeProperties(getAllElements.getView(), element);
-                return element;
-            });
+            elements = GetElementsUtil.cloneElements(elements, mapImpl, schema, getAllElements.getView());
             return new WrappedCloseableIterator<>(elements.iterator());
         }
     }
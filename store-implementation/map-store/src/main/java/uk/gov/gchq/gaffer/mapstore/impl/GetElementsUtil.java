@@ -26,6 +26,7 @@ import uk.gov.gchq.gaffer.data.element.id.ElementId;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewUtil;
 import uk.gov.gchq.gaffer.operation.SeedMatching.SeedMatchingType;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -175,4 +176,32 @@ public final class GetElementsUtil {
 
         return stream;
     }
+
+    /**
+     * Clones the elements so they can be returned, removing the properties
+     * that are not required by the view. Only elements whose view definition
+     * sets properties or excludeProperties are projected, and this is done
+     * before cloning so the removed properties are never cloned.
+     *
+     * @param elements the elements to clone
+     * @param mapImpl  the map used to clone the elements
+     * @param schema   the schema
+     * @param view     the view
+     * @return the cloned elements
+     */
+    public static Stream<Element> cloneElements(final Stream<Element> elements,
+                                                final MapImpl mapImpl,
+                                                final Schema schema,
+                                                final View view) {
+        return elements.map(element -> {
+            final ViewElementDefinition ved = view.getElement(element.getGroup());
+            if (null == ved || ved.isAllProperties()) {
+                return mapImpl.cloneElement(element, schema);
+            }
+            final Element projected = element.emptyClone();
+            projected.copyProperties(element.getProperties());
+            ViewUtil.removeProperties(ved, projected);
+            return mapImpl.cloneElement(projected, schema);
+        });
+    }
 }
@@ -27,6 +27,7 @@ import uk.gov.gchq.gaffer.mapstore.factory.SimpleMapFactory;
 import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
 
 import java.util.Collection;
@@ -36,6 +37,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
@@ -91,6 +93,15 @@ public class MapImpl {
     private final boolean maintainIndex;
     private final AggregatorUtil.IngestPropertiesBinaryOperator propertyAggregator;
 
+    /**
+     * The statistics are cached as calculating the fan outs requires a walk of
+     * the whole index. They are recalculated if the map has been modified
+     * since they were calculated.
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
+    private volatile GraphStatistics statistics;
+    private volatile long statisticsModificationCount = -1;
+
     public MapImpl(final Schema schema, final MapStoreProperties mapStoreProperties) {
         this.schema = schema;
         propertyAggregator = new AggregatorUtil.IngestPropertiesBinaryOperator(schema);
@@ -116,6 +127,7 @@ public class MapImpl {
     }
 
     public void clear() {
+        modificationCount.incrementAndGet();
         aggElements.clear();
         nonAggElements.clear();
         if (maintainIndex) {
@@ -125,10 +137,12 @@ public class MapImpl {
     }
 
     void addNonAggElement(final Element element) {
+        modificationCount.incrementAndGet();
         nonAggElements.get(element.getGroup()).merge(element, 1L, (a, b) -> a + b);
     }
 
     void addAggElement(final Element elementWithGroupByProperties, final GroupedProperties properties) {
+        modificationCount.incrementAndGet();
         aggElements.get(elementWithGroupByProperties.getGroup())
                 .merge(elementWithGroupByProperties, properties, propertyAggregator);
     }
@@ -201,10 +215,12 @@ public class MapImpl {
     }
 
     void addIndex(final EntityId entityId, final Element element) {
+        modificationCount.incrementAndGet();
         entityIdToElements.put(entityId, element);
     }
 
     void addIndex(final EdgeId edgeId, final Element element) {
+        modificationCount.incrementAndGet();
         edgeIdToElements.put(edgeId, element);
     }
 
@@ -250,6 +266,48 @@ public class MapImpl {
         return totalCount;
     }
 
+    /**
+     * Gets the statistics of the elements in the map. The group counts are
+     * cheap to calculate, however the fan out histogram requires a scan of
+     * the index so it is only provided if the index is maintained. The
+     * statistics are cached until the map is next modified.
+     *
+     * @return the statistics of the elements in the map
+     */
+    public synchronized GraphStatistics getStatistics() {
+        final long currentModificationCount = modificationCount.get();
+        if (null == statistics || statisticsModificationCount != currentModificationCount) {
+            statistics = calculateStatistics();
+            statisticsModificationCount = currentModificationCount;
+        }
+        return statistics;
+    }
+
+    private GraphStatistics calculateStatistics() {
+        final GraphStatistics.Builder builder = new GraphStatistics.Builder();
+        for (final Map.Entry<String, Map<Element, GroupedProperties>> entry : aggElements.entrySet()) {
+            builder.groupCount(entry.getKey(), entry.getValue().size());
+        }
+        for (final Map.Entry<String, Map<Element, Long>> entry : nonAggElements.entrySet()) {
+            long count = 0;
+            for (final Long elementCount : entry.getValue().values()) {
+                if (null != elementCount) {
+                    count += elementCount;
+                }
+            }
+            builder.groupCount(entry.getKey(), count);
+        }
+
+        if (maintainIndex) {
+            for (final EntityId entityId : entityIdToElements.keySet()) {
+                final Collection<Element> elements = entityIdToElements.get(entityId);
+                builder.fanOut(null == elements ? 0 : elements.size());
+            }
+        }
+
+        return builder.build();
+    }
+
     private MapFactory createMapFactory(final Schema schema, final MapStoreProperties mapStoreProperties) {
         final MapFactory mapFactory;
         final String factoryClass = mapStoreProperties.getMapFactory();
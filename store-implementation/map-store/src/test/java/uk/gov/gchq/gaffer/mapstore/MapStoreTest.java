@@ -17,15 +17,23 @@ package uk.gov.gchq.gaffer.mapstore;
 
 import org.junit.Test;
 
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.StoreTrait;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class MapStoreTest {
 
@@ -42,4 +50,54 @@ public class MapStoreTest {
                 StoreTrait.MATCHED_VERTEX));
         assertEquals(expectedTraits, mapStore.getTraits());
     }
+
+    @Test
+    public void shouldGetStatistics() throws StoreException, OperationException {
+        // Given
+        final MapStore mapStore = new MapStore();
+        mapStore.initialise("graphId", Schema.fromJson(StreamUtil.openStreams(getClass(), "example-schema")), new MapStoreProperties());
+        mapStore.execute(new AddElements.Builder()
+                .input(new Entity("entity", "vertex1"),
+                        new Entity("entity", "vertex2"),
+                        new Edge.Builder()
+                                .group("edge")
+                                .source("vertex1")
+                                .dest("vertex2")
+                                .directed(true)
+                                .build())
+                .build(), new Context());
+
+        // When
+        final GraphStatistics statistics = mapStore.getStatistics();
+
+        // Then
+        assertEquals(2L, (long) statistics.getGroupCounts().get("entity"));
+        assertEquals(1L, (long) statistics.getGroupCounts().get("edge"));
+        assertEquals(3L, (long) statistics.getElementCount());
+        assertEquals(2.0, statistics.getAverageDegree(), 0.0001);
+        assertEquals(2L, (long) statistics.getFanOut(1.0));
+    }
+
+    @Test
+    public void shouldRecalculateStatisticsAfterElementsAreAdded() throws StoreException, OperationException {
+        // Given
+        final MapStore mapStore = new MapStore();
+        mapStore.initialise("graphId", Schema.fromJson(StreamUtil.openStreams(getClass(), "example-schema")), new MapStoreProperties());
+        mapStore.execute(new AddElements.Builder()
+                .input(new Entity("entity", "vertex1"))
+                .build(), new Context());
+        final GraphStatistics statistics = mapStore.getStatistics();
+
+        // When
+        final GraphStatistics cachedStatistics = mapStore.getStatistics();
+        mapStore.execute(new AddElements.Builder()
+                .input(new Entity("entity", "vertex2"))
+                .build(), new Context());
+        final GraphStatistics updatedStatistics = mapStore.getStatistics();
+
+        // Then
+        assertSame(statistics, cachedStatistics);
+        assertEquals(1L, (long) statistics.getElementCount());
+        assertEquals(2L, (long) updatedStatistics.getElementCount());
+    }
 }
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.mapstore.impl;
 
+import com.google.common.collect.Sets;
 import org.junit.Test;
 
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
@@ -23,6 +24,8 @@ import uk.gov.gchq.gaffer.commonutil.stream.Streams;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.graph.GraphConfig;
@@ -30,18 +33,27 @@ import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.function.Filter;
+import uk.gov.gchq.gaffer.operation.impl.function.Transform;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.operation.impl.output.ToVertices;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.user.User;
+import uk.gov.gchq.koryphe.impl.function.MultiplyBy;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class OperationChainTest {
 
@@ -86,6 +98,101 @@ public class OperationChainTest {
         assertEquals(expectedResults, resultsSet);
     }
 
+    @Test
+    public void shouldReturnTheSameResultsWithViewPushDownEnabled() throws OperationException {
+        // Given
+        final MapStoreProperties pushDownProperties = new MapStoreProperties();
+        pushDownProperties.setViewPushDownEnabled(true);
+        final Graph graph = createGraph("graph1", new MapStoreProperties());
+        final Graph pushDownGraph = createGraph("graph2", pushDownProperties);
+        final ElementFilter countFilter = new ElementFilter.Builder()
+                .select("count")
+                .execute(new IsMoreThan(1))
+                .build();
+        final OperationChain<Iterable<? extends Element>> filterChain = new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new Filter.Builder()
+                        .globalElements(countFilter)
+                        .build())
+                .then(new Limit<>(5))
+                .build();
+        final OperationChain<Iterable<?>> toVerticesChain = new OperationChain.Builder()
+                .first(new GetElements.Builder()
+                        .input(new EntitySeed("vertex2"))
+                        .view(new View.Builder()
+                                .edge("edge")
+                                .build())
+                        .build())
+                .then(new ToVertices.Builder()
+                        .useMatchedVertex(ToVertices.UseMatchedVertex.OPPOSITE)
+                        .build())
+                .build();
+
+        // When
+        final Set<Object> filterResults = Sets.newHashSet(graph.execute(filterChain, new User()));
+        final Set<Object> pushDownFilterResults = Sets.newHashSet(pushDownGraph.execute(filterChain, new User()));
+        final Set<Object> vertices = Sets.newHashSet(graph.execute(toVerticesChain, new User()));
+        final Set<Object> pushDownVertices = Sets.newHashSet(pushDownGraph.execute(toVerticesChain, new User()));
+
+        // Then
+        assertEquals(1, filterResults.size());
+        assertEquals(filterResults, pushDownFilterResults);
+        assertEquals(Collections.singleton("vertex1"), vertices);
+        assertEquals(vertices, pushDownVertices);
+    }
+
+    @Test
+    public void shouldOnlyApplyAPushedDownTransformOnce() throws OperationException {
+        // Given
+        final MapStoreProperties pushDownProperties = new MapStoreProperties();
+        pushDownProperties.setViewPushDownEnabled(true);
+        final Graph graph = createGraph("graph1", new MapStoreProperties());
+        final Graph pushDownGraph = createGraph("graph2", pushDownProperties);
+        final GetElements getElements = new GetElements.Builder()
+                .input(new EntitySeed("vertex1"), new EntitySeed("vertex2"))
+                .view(new View.Builder()
+                        .entity("entity")
+                        .build())
+                .build();
+        final OperationChain<Iterable<? extends Element>> transformChain = new OperationChain.Builder()
+                .first(getElements)
+                .then(new Transform.Builder()
+                        .entity("entity", new ElementTransformer.Builder()
+                                .select("count")
+                                .execute(new MultiplyBy(10))
+                                .project("count")
+                                .build())
+                        .build())
+                .build();
+
+        // When
+        final Set<Object> results = Sets.newHashSet(graph.execute(transformChain, new User()));
+        final Set<Object> pushDownResults = Sets.newHashSet(pushDownGraph.execute(transformChain, new User()));
+
+        // Then
+        final Entity entity1 = new Entity("entity", "vertex1");
+        entity1.putProperty("count", 10);
+        final Entity entity2 = new Entity("entity", "vertex2");
+        entity2.putProperty("count", 20);
+        assertEquals(Sets.newHashSet(entity1, entity2), results);
+        assertEquals(results, pushDownResults);
+        assertNull(getElements.getView().getEntity("entity").getTransformer());
+    }
+
+    private Graph createGraph(final String graphId, final MapStoreProperties properties) throws OperationException {
+        final Graph graph = new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId(graphId)
+                        .build())
+                .addSchemas(StreamUtil.openStreams(getClass(), "example-schema"))
+                .storeProperties(properties)
+                .build();
+        graph.execute(new AddElements.Builder()
+                .input(getElements())
+                .build(), new User());
+        return graph;
+    }
+
     private static List<Element> getElements() {
         final List<Element> elements = new ArrayList<>();
         final Entity entity1 = new Entity("entity", "vertex1");
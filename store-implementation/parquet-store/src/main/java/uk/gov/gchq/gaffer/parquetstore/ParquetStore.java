@@ -29,7 +29,10 @@ import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.parquetstore.index.ColumnIndex;
 import uk.gov.gchq.gaffer.parquetstore.index.GraphIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.GroupIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.IndexPruningMetrics;
 import uk.gov.gchq.gaffer.parquetstore.operation.addelements.handler.AddElementsHandler;
 import uk.gov.gchq.gaffer.parquetstore.operation.addelements.handler.ImportJavaRDDOfElementsHandler;
 import uk.gov.gchq.gaffer.parquetstore.operation.addelements.handler.ImportRDDOfElementsHandler;
@@ -53,12 +56,22 @@ import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
+import uk.gov.gchq.gaffer.store.statistics.GraphStatistics;
 import uk.gov.gchq.koryphe.ValidationResult;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static uk.gov.gchq.gaffer.store.StoreTrait.INGEST_AGGREGATION;
 import static uk.gov.gchq.gaffer.store.StoreTrait.ORDERED;
@@ -73,7 +86,7 @@ import static uk.gov.gchq.gaffer.store.StoreTrait.VISIBILITY;
  * {@link uk.gov.gchq.gaffer.parquetstore.serialisation.ParquetSerialiser}'s which also allows for Gaffer objects to be
  * stored as multiple or nested columns of primitive types.
  */
-public class ParquetStore extends Store {
+public class ParquetStore extends Store implements Closeable {
     private static final Logger LOGGER = LoggerFactory.getLogger(ParquetStore.class);
     private static final Set<StoreTrait> TRAITS =
             Collections.unmodifiableSet(Sets.newHashSet(
@@ -84,7 +97,13 @@ public class ParquetStore extends Store {
                     STORE_VALIDATION
             ));
 
-    private GraphIndex graphIndex;
+    private volatile GraphIndex graphIndex;
+    private volatile List<GraphIndex> deltaIndices = Collections.emptyList();
+    private final Lock writeLock = new ReentrantLock();
+    private ExecutorService compactionExecutor;
+    private boolean closed;
+    private volatile Exception compactionFailure;
+    private final IndexPruningMetrics indexPruningMetrics = new IndexPruningMetrics();
     private SchemaUtils schemaUtils;
     private FileSystem fs;
 
@@ -113,6 +132,39 @@ public class ParquetStore extends Store {
         return TRAITS;
     }
 
+    /**
+     * Gets the number of elements in each group of the current snapshot and its delta snapshots from the row counts
+     * of the row groups held in the indices, so no files are read. The delta snapshots have not been aggregated with
+     * the snapshot, so the counts are an upper bound.
+     *
+     * @return the statistics of the elements in the store, or null if the indices do not contain the row counts
+     */
+    @Override
+    public GraphStatistics getStatistics() {
+        final Map<String, GraphIndex> snapshotDirToIndex = getSnapshotDirToIndex();
+        if (snapshotDirToIndex.isEmpty()) {
+            return null;
+        }
+
+        final GraphStatistics.Builder builder = new GraphStatistics.Builder();
+        for (final GraphIndex index : snapshotDirToIndex.values()) {
+            for (final String group : index.groupsIndexed()) {
+                final GroupIndex groupIndex = index.getGroup(group);
+                ColumnIndex columnIndex = groupIndex.getColumn(ParquetStoreConstants.VERTEX);
+                if (null == columnIndex) {
+                    columnIndex = groupIndex.getColumn(ParquetStoreConstants.SOURCE);
+                }
+                final Long rowCount = null == columnIndex ? null : columnIndex.getRowCount();
+                if (null == rowCount) {
+                    LOGGER.debug("The index of group {} does not contain row counts so no statistics are available", group);
+                    return null;
+                }
+                builder.groupCount(group, rowCount);
+            }
+        }
+        return builder.build();
+    }
+
     public String getDataDir() {
         return getProperties().getDataDir() + "/" + getGraphId();
     }
@@ -121,7 +173,14 @@ public class ParquetStore extends Store {
         return getProperties().getTempFilesDir() + "/" + getGraphId();
     }
 
-    public void setGraphIndex(final GraphIndex graphIndex) {
+    /**
+     * Sets the index of a new snapshot. The new snapshot must contain the data from any delta snapshots of the
+     * previous snapshot, as they are discarded.
+     *
+     * @param graphIndex the index of the new snapshot
+     */
+    public synchronized void setGraphIndex(final GraphIndex graphIndex) {
+        this.deltaIndices = Collections.emptyList();
         this.graphIndex = graphIndex;
     }
 
@@ -129,6 +188,112 @@ public class ParquetStore extends Store {
         return graphIndex;
     }
 
+    /**
+     * @return the indices of the delta snapshots written since the current snapshot, oldest first
+     */
+    public List<GraphIndex> getDeltaIndices() {
+        return deltaIndices;
+    }
+
+    /**
+     * @return the metrics recording how often the index allowed files to be skipped when querying by seeds
+     */
+    public IndexPruningMetrics getIndexPruningMetrics() {
+        return indexPruningMetrics;
+    }
+
+    public synchronized void addDeltaIndex(final GraphIndex deltaIndex) {
+        final List<GraphIndex> newDeltaIndices = new ArrayList<>(deltaIndices);
+        newDeltaIndices.add(deltaIndex);
+        deltaIndices = Collections.unmodifiableList(newDeltaIndices);
+    }
+
+    /**
+     * Gets a consistent view of the current snapshot and its delta snapshots, so that a query never sees a new
+     * snapshot along with the delta snapshots that have already been merged into it.
+     *
+     * @return a map from the directory of each snapshot to its index, with the current snapshot first followed by the
+     * delta snapshots, oldest first
+     */
+    public synchronized Map<String, GraphIndex> getSnapshotDirToIndex() {
+        final Map<String, GraphIndex> snapshotDirToIndex = new LinkedHashMap<>();
+        if (null != graphIndex) {
+            snapshotDirToIndex.put(getSnapshotDir(graphIndex), graphIndex);
+            for (final GraphIndex deltaIndex : deltaIndices) {
+                snapshotDirToIndex.put(getDeltaDir(graphIndex, deltaIndex), deltaIndex);
+            }
+        }
+        return snapshotDirToIndex;
+    }
+
+    public String getSnapshotDir(final GraphIndex snapshotIndex) {
+        return getDataDir() + "/" + snapshotIndex.getSnapshotTimestamp();
+    }
+
+    public String getDeltasDir(final GraphIndex snapshotIndex) {
+        return getSnapshotDir(snapshotIndex) + "/" + ParquetStoreConstants.DELTAS;
+    }
+
+    public String getDeltaDir(final GraphIndex snapshotIndex, final GraphIndex deltaIndex) {
+        return getDeltasDir(snapshotIndex) + "/" + deltaIndex.getSnapshotTimestamp();
+    }
+
+    /**
+     * @return the lock that must be held while writing snapshots or delta snapshots
+     */
+    public Lock getWriteLock() {
+        return writeLock;
+    }
+
+    /**
+     * Runs the compaction of the delta snapshots on a single background thread. The compaction should record any
+     * failure with {@link #setCompactionFailure(Exception)}.
+     *
+     * @param compaction the compaction to run
+     */
+    public synchronized void submitCompaction(final Runnable compaction) {
+        if (closed) {
+            LOGGER.warn("Not starting a compaction of the delta snapshots as the store has been closed");
+            return;
+        }
+        if (null == compactionExecutor) {
+            compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "Parquet compaction " + getGraphId());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        compactionExecutor.submit(compaction);
+    }
+
+    /**
+     * @return the exception thrown by the most recent background compaction, or null if it succeeded or no background
+     * compaction has run
+     */
+    public Exception getCompactionFailure() {
+        return compactionFailure;
+    }
+
+    /**
+     * @param compactionFailure the exception thrown by a compaction, or null once a compaction has succeeded
+     */
+    public void setCompactionFailure(final Exception compactionFailure) {
+        this.compactionFailure = compactionFailure;
+    }
+
+    /**
+     * Stops the background compaction thread. A compaction that is already running is allowed to finish, but no
+     * more compactions are started.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (null != compactionExecutor) {
+            compactionExecutor.shutdown();
+            compactionExecutor = null;
+        }
+    }
+
     public static String getGroupDirectory(final String group, final String column, final String rootDir) {
         if (ParquetStoreConstants.VERTEX.equals(column) || ParquetStoreConstants.SOURCE.equals(column)) {
             return rootDir + "/" + ParquetStoreConstants.GRAPH + "/" + ParquetStoreConstants.GROUP + "=" + group;
@@ -206,12 +371,30 @@ public class ParquetStore extends Store {
                 final long snapshot = getLatestSnapshot(rootDir);
                 graphIndex.readGroups(schemaUtils, rootDir + "/" + snapshot, fs);
                 graphIndex.setSnapshotTimestamp(snapshot);
+                loadDeltaIndices();
             }
         } catch (final IOException e) {
             throw new StoreException(e.getMessage());
         }
     }
 
+    private void loadDeltaIndices() throws StoreException, IOException {
+        final Path deltasDir = new Path(getDeltasDir(graphIndex));
+        if (fs.exists(deltasDir)) {
+            final List<Long> deltaSnapshots = new ArrayList<>();
+            for (final FileStatus status : fs.listStatus(deltasDir)) {
+                deltaSnapshots.add(Long.parseLong(status.getPath().getName()));
+            }
+            Collections.sort(deltaSnapshots);
+            for (final long deltaSnapshot : deltaSnapshots) {
+                final GraphIndex deltaIndex = new GraphIndex();
+                deltaIndex.readGroups(schemaUtils, deltasDir + "/" + deltaSnapshot, fs);
+                deltaIndex.setSnapshotTimestamp(deltaSnapshot);
+                addDeltaIndex(deltaIndex);
+            }
+        }
+    }
+
     private long getLatestSnapshot(final String rootDir) throws StoreException {
         long latestSnapshot = 0L;
         try {
@@ -42,10 +42,18 @@ public class ParquetStoreProperties extends StoreProperties implements Serializa
     public static final String PARQUET_AGGREGATE_ON_INGEST = "parquet.add_elements.aggregate";
     public static final String PARQUET_SORT_BY_SPLITS_ON_INGEST = "parquet.add_elements.sort_by_splits";
     public static final String PARQUET_SPLIT_POINTS_SAMPLE_RATE = "parquet.add_elements.split_points.sample_rate";
+    public static final String PARQUET_SPLIT_POINTS_MAX_SAMPLE_SIZE = "parquet.add_elements.split_points.max_sample_size";
     public static final String PARQUET_THREADS_AVAILABLE = "parquet.threadsAvailable";
     public static final String PARQUET_ADD_ELEMENTS_OUTPUT_FILES_PER_GROUP = "parquet.add_elements.output_files_per_group";
     public static final String SPARK_MASTER = "spark.master";
     public static final String PARQUET_SKIP_VALIDATION = "parquet.skip_validation";
+    public static final String PARQUET_ADD_ELEMENTS_INCREMENTAL = "parquet.add_elements.incremental";
+    public static final String PARQUET_COMPACTION_MAX_DELTAS = "parquet.compaction.max_deltas";
+    public static final String PARQUET_COMPACTION_MAX_DELTAS_SIZE_IN_BYTES = "parquet.compaction.max_deltas_size";
+    public static final String PARQUET_COMPACTION_MAX_DELTAS_HARD_LIMIT = "parquet.compaction.max_deltas_hard_limit";
+    public static final String PARQUET_SEED_MERGE_JOIN_THRESHOLD = "parquet.get_elements.seed_merge_join_threshold";
+    public static final String PARQUET_INDEX_BLOOM_FILTERS = "parquet.add_elements.index.bloom_filters";
+    public static final String PARQUET_INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE = "parquet.add_elements.index.bloom_filter.false_positive_rate";
 
 
     // Default values
@@ -56,10 +64,18 @@ public class ParquetStoreProperties extends StoreProperties implements Serializa
     public static final String PARQUET_AGGREGATE_ON_INGEST_DEFAULT = "true";
     public static final String PARQUET_SORT_BY_SPLITS_ON_INGEST_DEFAULT = "false";
     private static final String PARQUET_SPLIT_POINTS_SAMPLE_RATE_DEFAULT = "10";
+    private static final String PARQUET_SPLIT_POINTS_MAX_SAMPLE_SIZE_DEFAULT = "10000000";
     private static final String PARQUET_THREADS_AVAILABLE_DEFAULT = "3";
     private static final String PARQUET_ADD_ELEMENTS_OUTPUT_FILES_PER_GROUP_DEFAULT = "10";
     private static final String SPARK_MASTER_DEFAULT = "local[*]";
     private static final String PARQUET_SKIP_VALIDATION_DEFAULT = "false";
+    private static final String PARQUET_ADD_ELEMENTS_INCREMENTAL_DEFAULT = "false";
+    private static final String PARQUET_COMPACTION_MAX_DELTAS_DEFAULT = "10";
+    private static final String PARQUET_COMPACTION_MAX_DELTAS_SIZE_IN_BYTES_DEFAULT = "1073741824"; //1GB
+    private static final String PARQUET_COMPACTION_MAX_DELTAS_HARD_LIMIT_DEFAULT = "100";
+    private static final String PARQUET_SEED_MERGE_JOIN_THRESHOLD_DEFAULT = "100";
+    private static final String PARQUET_INDEX_BLOOM_FILTERS_DEFAULT = "true";
+    private static final String PARQUET_INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE_DEFAULT = "0.01";
     private static final long serialVersionUID = 7695540336792378185L;
 
     public ParquetStoreProperties() {
@@ -114,6 +130,20 @@ public class ParquetStoreProperties extends StoreProperties implements Serializa
         set(PARQUET_SPLIT_POINTS_SAMPLE_RATE, sampleRate.toString());
     }
 
+    /**
+     * @return the maximum number of identifiers sampled per group when
+     * calculating split points. Once a group's sample reaches this size, every
+     * other sampled identifier is dropped and the sample rate for that group is
+     * doubled.
+     */
+    public int getSplitPointsMaxSampleSize() {
+        return Integer.parseInt(get(PARQUET_SPLIT_POINTS_MAX_SAMPLE_SIZE, PARQUET_SPLIT_POINTS_MAX_SAMPLE_SIZE_DEFAULT));
+    }
+
+    public void setSplitPointsMaxSampleSize(final int maxSampleSize) {
+        set(PARQUET_SPLIT_POINTS_MAX_SAMPLE_SIZE, String.valueOf(maxSampleSize));
+    }
+
     public Integer getRowGroupSize() {
         return Integer.parseInt(get(PARQUET_ROW_GROUP_SIZE_IN_BYTES, PARQUET_ROW_GROUP_SIZE_IN_BYTES_DEFAULT));
     }
@@ -188,4 +218,92 @@ public class ParquetStoreProperties extends StoreProperties implements Serializa
     public void setSortBySplitsOnIngest(final boolean sortBySplits) {
         set(PARQUET_SORT_BY_SPLITS_ON_INGEST, String.valueOf(sortBySplits));
     }
+
+    /**
+     * If true, and the graph already contains data, each add elements operation writes its elements as a small
+     * sorted and aggregated delta snapshot rather than rewriting the whole graph. The deltas are merged with the
+     * base snapshot when the graph is queried and are compacted into a new base snapshot in the background.
+     *
+     * @return true if elements should be added incrementally
+     */
+    public boolean getAddElementsIncremental() {
+        return Boolean.parseBoolean(get(PARQUET_ADD_ELEMENTS_INCREMENTAL, PARQUET_ADD_ELEMENTS_INCREMENTAL_DEFAULT));
+    }
+
+    public void setAddElementsIncremental(final boolean incremental) {
+        set(PARQUET_ADD_ELEMENTS_INCREMENTAL, String.valueOf(incremental));
+    }
+
+    /**
+     * @return the number of delta snapshots that will trigger a compaction
+     */
+    public int getCompactionMaxDeltas() {
+        return Integer.parseInt(get(PARQUET_COMPACTION_MAX_DELTAS, PARQUET_COMPACTION_MAX_DELTAS_DEFAULT));
+    }
+
+    public void setCompactionMaxDeltas(final int maxDeltas) {
+        set(PARQUET_COMPACTION_MAX_DELTAS, String.valueOf(maxDeltas));
+    }
+
+    /**
+     * @return the total size of the delta snapshots that will trigger a compaction
+     */
+    public long getCompactionMaxDeltasSize() {
+        return Long.parseLong(get(PARQUET_COMPACTION_MAX_DELTAS_SIZE_IN_BYTES, PARQUET_COMPACTION_MAX_DELTAS_SIZE_IN_BYTES_DEFAULT));
+    }
+
+    public void setCompactionMaxDeltasSize(final long maxDeltasSizeInBytes) {
+        set(PARQUET_COMPACTION_MAX_DELTAS_SIZE_IN_BYTES, String.valueOf(maxDeltasSizeInBytes));
+    }
+
+    /**
+     * @return the number of delta snapshots at which incremental adds are refused, as the background compactions
+     * are failing or not keeping up
+     */
+    public int getCompactionMaxDeltasHardLimit() {
+        return Integer.parseInt(get(PARQUET_COMPACTION_MAX_DELTAS_HARD_LIMIT, PARQUET_COMPACTION_MAX_DELTAS_HARD_LIMIT_DEFAULT));
+    }
+
+    public void setCompactionMaxDeltasHardLimit(final int maxDeltasHardLimit) {
+        set(PARQUET_COMPACTION_MAX_DELTAS_HARD_LIMIT, String.valueOf(maxDeltasHardLimit));
+    }
+
+    /**
+     * When a get elements operation has at least this many seeds, and they are all entity seeds, the seeds are
+     * sorted and merge joined with the sorted files rather than being converted into an or of equality filters.
+     *
+     * @return the minimum number of seeds for which the seeds are merge joined with the files
+     */
+    public int getSeedMergeJoinThreshold() {
+        return Integer.parseInt(get(PARQUET_SEED_MERGE_JOIN_THRESHOLD, PARQUET_SEED_MERGE_JOIN_THRESHOLD_DEFAULT));
+    }
+
+    public void setSeedMergeJoinThreshold(final int seedMergeJoinThreshold) {
+        set(PARQUET_SEED_MERGE_JOIN_THRESHOLD, String.valueOf(seedMergeJoinThreshold));
+    }
+
+    /**
+     * If true, the index that is generated when elements are added contains a Bloom filter of the values of each
+     * indexed column in each file, which is used to skip files that do not contain any of the seeds of a query.
+     *
+     * @return true if Bloom filters should be added to the index
+     */
+    public boolean getIndexBloomFilters() {
+        return Boolean.parseBoolean(get(PARQUET_INDEX_BLOOM_FILTERS, PARQUET_INDEX_BLOOM_FILTERS_DEFAULT));
+    }
+
+    public void setIndexBloomFilters(final boolean indexBloomFilters) {
+        set(PARQUET_INDEX_BLOOM_FILTERS, String.valueOf(indexBloomFilters));
+    }
+
+    /**
+     * @return the false positive rate of the Bloom filters in the index
+     */
+    public double getIndexBloomFilterFalsePositiveRate() {
+        return Double.parseDouble(get(PARQUET_INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE, PARQUET_INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE_DEFAULT));
+    }
+
+    public void setIndexBloomFilterFalsePositiveRate(final double falsePositiveRate) {
+        set(PARQUET_INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE, String.valueOf(falsePositiveRate));
+    }
 }
@@ -17,29 +17,37 @@ package uk.gov.gchq.gaffer.parquetstore.index;
 
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.util.bloom.BloomFilter;
 import org.apache.parquet.bytes.BytesUtils;
 
 import uk.gov.gchq.gaffer.commonutil.StringUtil;
 import uk.gov.gchq.gaffer.store.StoreException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 /**
  * This class is used to store a file-based index for a single gaffer column, i.e. it stores a set of
  * {@link MinValuesWithPath}s. Each {@link MinValuesWithPath} contains a path to a file that has been sorted by the column this index
- * is for and contains the min and max parquet objects from that parquet file.
+ * is for and contains the min and max parquet objects from that parquet file. It may also store a {@link FileSummary}
+ * for each file, containing a Bloom filter of the values in the file and the min and max values of each row group.
  */
 public class ColumnIndex {
     private static final Comparator<MinValuesWithPath> BY_PATH =
             Comparator.comparing(MinValuesWithPath::getPath);
     private final SortedSet<MinValuesWithPath> minValuesWithPaths;
+    private final Map<String, FileSummary> pathToSummary;
 
     public ColumnIndex() {
         this.minValuesWithPaths = new TreeSet<>(BY_PATH);
+        this.pathToSummary = new HashMap<>();
     }
 
     public boolean isEmpty() {
@@ -58,6 +66,36 @@ public class ColumnIndex {
         return minValuesWithPaths.size();
     }
 
+    public void addSummary(final FileSummary fileSummary) {
+        pathToSummary.put(fileSummary.getPath(), fileSummary);
+    }
+
+    public FileSummary getSummary(final String path) {
+        return pathToSummary.get(path);
+    }
+
+    public boolean hasSummaries() {
+        return !pathToSummary.isEmpty();
+    }
+
+    /**
+     * @return the total number of rows in the indexed files, or null if any of the files does not have a summary
+     * containing its row groups
+     */
+    public Long getRowCount() {
+        long rowCount = 0;
+        for (final MinValuesWithPath minValuesWithPath : minValuesWithPaths) {
+            final FileSummary summary = pathToSummary.get(minValuesWithPath.getPath());
+            if (null == summary || summary.getRowGroups().isEmpty()) {
+                return null;
+            }
+            for (final FileSummary.RowGroupRange rowGroup : summary.getRowGroups()) {
+                rowCount += rowGroup.getRowCount();
+            }
+        }
+        return rowCount;
+    }
+
     protected void write(final FSDataOutputStream outputFile) throws StoreException {
         try {
             for (final MinValuesWithPath minValuesWithPath : minValuesWithPaths) {
@@ -86,6 +124,41 @@ public class ColumnIndex {
         }
     }
 
+    protected void writeSummaries(final FSDataOutputStream outputFile) throws StoreException {
+        try {
+            for (final FileSummary fileSummary : pathToSummary.values()) {
+                final byte[] filePath = StringUtil.toBytes(fileSummary.getPath());
+                outputFile.writeInt(filePath.length);
+                outputFile.write(filePath);
+                final BloomFilter bloomFilter = fileSummary.getBloomFilter();
+                outputFile.writeBoolean(null != bloomFilter);
+                if (null != bloomFilter) {
+                    bloomFilter.write(outputFile);
+                }
+                outputFile.writeInt(fileSummary.getRowGroups().size());
+                for (final FileSummary.RowGroupRange rowGroup : fileSummary.getRowGroups()) {
+                    outputFile.writeLong(rowGroup.getStartingPos());
+                    outputFile.writeLong(rowGroup.getRowCount());
+                    writeValue(outputFile, rowGroup.getMin());
+                    writeValue(outputFile, rowGroup.getMax());
+                }
+            }
+            outputFile.hsync();
+            outputFile.close();
+        } catch (final IOException e) {
+            throw new StoreException(e.getMessage());
+        }
+    }
+
+    private void writeValue(final FSDataOutputStream outputFile, final Object value) throws IOException, StoreException {
+        final byte[] valueType = StringUtil.toBytes(value.getClass().getSimpleName());
+        outputFile.writeInt(valueType.length);
+        outputFile.write(valueType);
+        final byte[] valueBytes = serialiseObject(value);
+        outputFile.writeInt(valueBytes.length);
+        outputFile.write(valueBytes);
+    }
+
     private byte[] serialiseObject(final Object value) throws StoreException {
         final String objectType = value.getClass().getSimpleName();
         if ("Long".equals(objectType)) {
@@ -96,6 +169,8 @@ public class ColumnIndex {
             return BytesUtils.booleanToBytes((boolean) value);
         } else if ("Float".equals(objectType)) {
             return BytesUtils.intToBytes(Float.floatToIntBits((float) value));
+        } else if ("Double".equals(objectType)) {
+            return BytesUtils.longToBytes(Double.doubleToLongBits((double) value));
         } else if ("String".equals(objectType)) {
             return StringUtil.toBytes((String) value);
         } else if ("byte[]".equals(objectType)) {
@@ -127,6 +202,41 @@ public class ColumnIndex {
         }
     }
 
+    public void readSummaries(final FSDataInputStream reader) throws StoreException {
+        try {
+            while (reader.available() > 0) {
+                final int filePathLength = reader.readInt();
+                final String filePath = StringUtil.toString(readBytes(filePathLength, reader));
+                BloomFilter bloomFilter = null;
+                if (reader.readBoolean()) {
+                    bloomFilter = new BloomFilter();
+                    bloomFilter.readFields(reader);
+                }
+                final int numOfRowGroups = reader.readInt();
+                final List<FileSummary.RowGroupRange> rowGroups = new ArrayList<>(numOfRowGroups);
+                for (int i = 0; i < numOfRowGroups; i++) {
+                    final long startingPos = reader.readLong();
+                    final long rowCount = reader.readLong();
+                    final Object min = readValue(reader);
+                    final Object max = readValue(reader);
+                    rowGroups.add(new FileSummary.RowGroupRange(min, max, startingPos, rowCount));
+                }
+                addSummary(new FileSummary(filePath, bloomFilter, rowGroups));
+            }
+            reader.close();
+        } catch (final IOException e) {
+            throw new StoreException(e.getMessage());
+        }
+    }
+
+    private Object readValue(final FSDataInputStream reader) throws IOException, StoreException {
+        final int valueTypeLength = reader.readInt();
+        final byte[] valueType = readBytes(valueTypeLength, reader);
+        final int valueLength = reader.readInt();
+        final byte[] valueBytes = readBytes(valueLength, reader);
+        return deserialiseColumn(valueType, valueBytes);
+    }
+
     private byte[] readBytes(final int length, final FSDataInputStream reader) throws StoreException {
         try {
             final byte[] bytes = new byte[length];
@@ -150,6 +260,8 @@ public class ColumnIndex {
             return BytesUtils.bytesToBool(value);
         } else if ("Float".equals(colTypeName)) {
             return Float.intBitsToFloat(BytesUtils.bytesToInt(value));
+        } else if ("Double".equals(colTypeName)) {
+            return Double.longBitsToDouble(BytesUtils.bytesToLong(value));
         } else if ("String".equals(colTypeName)) {
             return StringUtil.toString(value);
         } else {
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2017. Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.parquetstore.index;
+
+import org.apache.hadoop.util.bloom.BloomFilter;
+import org.apache.hadoop.util.bloom.Key;
+import org.apache.hadoop.util.hash.Hash;
+import org.apache.parquet.io.api.Binary;
+
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class is used to store a summary of the values of an indexed gaffer column within a single parquet file, so that
+ * queries can skip files that do not contain a seed even when the seed lies between the min values of two files.
+ * It contains a {@link BloomFilter} of the values in the file, which may be null if Bloom filters were not generated,
+ * and the min and max values of the first parquet column for each of the file's row groups. If the file's footer does not
+ * contain statistics for that column, e.g. because parquet ignores statistics for binary columns, there is a single
+ * range covering the whole file, or no ranges at all if the values were not read when the index was generated.
+ */
+public class FileSummary {
+    private static final int MAX_BLOOM_FILTER_SIZE_IN_BITS = 64 * 1024 * 1024;
+
+    private final String path;
+    private final BloomFilter bloomFilter;
+    private final List<RowGroupRange> rowGroups;
+
+    public FileSummary(final String path, final BloomFilter bloomFilter, final List<RowGroupRange> rowGroups) {
+        this.path = path;
+        this.bloomFilter = bloomFilter;
+        this.rowGroups = Collections.unmodifiableList(new ArrayList<>(rowGroups));
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public BloomFilter getBloomFilter() {
+        return bloomFilter;
+    }
+
+    public List<RowGroupRange> getRowGroups() {
+        return rowGroups;
+    }
+
+    /**
+     * @param parquetObjects the parquet objects representing a value of the gaffer column
+     * @return false if the value is definitely not in this file's Bloom filter
+     */
+    public boolean isInBloomFilter(final Object[] parquetObjects) {
+        return null == bloomFilter || bloomFilter.membershipTest(getBloomFilterKey(parquetObjects));
+    }
+
+    /**
+     * @param parquetObjects the parquet objects representing a value of the gaffer column
+     * @return false if the first parquet object is definitely not within the range of any of this file's row groups
+     */
+    public boolean isInRowGroupRange(final Object[] parquetObjects) {
+        if (rowGroups.isEmpty()) {
+            return true;
+        }
+        for (final RowGroupRange rowGroup : rowGroups) {
+            if (rowGroup.contains(parquetObjects[0])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a {@link BloomFilter} that is large enough to hold the given number of values with the given false
+     * positive rate.
+     *
+     * @param falsePositiveRate the false positive rate
+     * @param numberOfValues    the number of values that will be added
+     * @return the {@link BloomFilter}
+     */
+    public static BloomFilter createBloomFilter(final double falsePositiveRate, final long numberOfValues) {
+        final long numValues = Math.max(1L, numberOfValues);
+        final int size = (int) Math.min(MAX_BLOOM_FILTER_SIZE_IN_BITS,
+                Math.max(8L, (long) (-numValues * Math.log(falsePositiveRate) / Math.pow(Math.log(2.0), 2.0))));
+        final int numHashes = Math.max(1, (int) Math.round((double) size / numValues * Math.log(2.0)));
+        return new BloomFilter(size, numHashes, Hash.MURMUR_HASH);
+    }
+
+    /**
+     * Creates the {@link Key} used to add a value to, and test a value against, the Bloom filters. Numbers are
+     * normalised so that the key does not depend on whether the value came from the parquet file or from a seed.
+     *
+     * @param parquetObjects the parquet objects representing a value of the gaffer column
+     * @return the {@link Key}
+     */
+    public static Key getBloomFilterKey(final Object[] parquetObjects) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            for (final Object parquetObject : parquetObjects) {
+                if (null == parquetObject) {
+                    out.writeByte('n');
+                } else if (parquetObject instanceof String) {
+                    writeBytes(out, 's', StringUtil.toBytes((String) parquetObject));
+                } else if (parquetObject instanceof byte[]) {
+                    writeBytes(out, 'b', (byte[]) parquetObject);
+                } else if (parquetObject instanceof Binary) {
+                    writeBytes(out, 'b', ((Binary) parquetObject).getBytes());
+                } else if (parquetObject instanceof Float || parquetObject instanceof Double) {
+                    out.writeByte('d');
+                    out.writeDouble(((Number) parquetObject).doubleValue());
+                } else if (parquetObject instanceof Number) {
+                    out.writeByte('l');
+                    out.writeLong(((Number) parquetObject).longValue());
+                } else if (parquetObject instanceof java.util.Date) {
+                    out.writeByte('l');
+                    out.writeLong(((java.util.Date) parquetObject).getTime());
+                } else if (parquetObject instanceof Boolean) {
+                    out.writeByte('z');
+                    out.writeBoolean((Boolean) parquetObject);
+                } else {
+                    writeBytes(out, 'o', StringUtil.toBytes(parquetObject.toString()));
+                }
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to create the Bloom filter key", e);
+        }
+        return new Key(bytes.toByteArray());
+    }
+
+    private static void writeBytes(final DataOutputStream out, final char type, final byte[] value) throws IOException {
+        out.writeByte(type);
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    @Override
+    public String toString() {
+        return "FileSummary{ path=" + path
+                + ", bloomFilter=" + (null == bloomFilter ? "none" : bloomFilter.getVectorSize() + " bits")
+                + ", rowGroups=" + rowGroups + " }";
+    }
+
+    /**
+     * The min and max values of the first parquet column of an indexed gaffer column within a single row group, along
+     * with the position of the row group within the file and the number of rows it contains. Binary values are stored
+     * as byte arrays.
+     */
+    public static class RowGroupRange {
+        private final Object min;
+        private final Object max;
+        private final long startingPos;
+        private final long rowCount;
+
+        public RowGroupRange(final Object min, final Object max, final long startingPos, final long rowCount) {
+            this.min = min;
+            this.max = max;
+            this.startingPos = startingPos;
+            this.rowCount = rowCount;
+        }
+
+        public Object getMin() {
+            return min;
+        }
+
+        public Object getMax() {
+            return max;
+        }
+
+        public long getStartingPos() {
+            return startingPos;
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * @param value the value of the first parquet column
+         * @return true if the value is between the min and max values, or if they can not be compared
+         */
+        public boolean contains(final Object value) {
+            final Integer minToValue = compare(min, value);
+            final Integer maxToValue = compare(max, value);
+            return null == minToValue || null == maxToValue || (minToValue <= 0 && maxToValue >= 0);
+        }
+
+        /**
+         * Compares the values in the same way as the parquet statistics are calculated.
+         *
+         * @param a the first value
+         * @param b the second value
+         * @return the result of comparing the values, or null if they can not be compared
+         */
+        public static Integer compare(final Object a, final Object b) {
+            if (null == a || null == b) {
+                return null;
+            }
+            if (isBinary(a) && isBinary(b)) {
+                return toBinary(a).compareTo(toBinary(b));
+            }
+            if (a instanceof Float || a instanceof Double || b instanceof Float || b instanceof Double) {
+                if (a instanceof Number && b instanceof Number) {
+                    return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+                }
+                return null;
+            }
+            if (a instanceof Number && b instanceof Number) {
+                return Long.compare(((Number) a).longValue(), ((Number) b).longValue());
+            }
+            if (a instanceof Boolean && b instanceof Boolean) {
+                return ((Boolean) a).compareTo((Boolean) b);
+            }
+            return null;
+        }
+
+        private static boolean isBinary(final Object value) {
+            return value instanceof byte[] || value instanceof String || value instanceof Binary;
+        }
+
+        private static Binary toBinary(final Object value) {
+            if (value instanceof Binary) {
+                return (Binary) value;
+            } else if (value instanceof String) {
+                return Binary.fromString((String) value);
+            }
+            return Binary.fromConstantByteArray((byte[]) value);
+        }
+
+        @Override
+        public String toString() {
+            return "RowGroupRange{ startingPos=" + startingPos + ", rowCount=" + rowCount + " }";
+        }
+    }
+}
@@ -64,6 +64,9 @@ public class GroupIndex {
                 final String indexDir = ParquetStore.getGroupDirectory(group, column, rootDir) + "/";
                 final Path path = new Path(indexDir + ParquetStoreConstants.INDEX);
                 colIndex.write(fs.create(path));
+                if (colIndex.hasSummaries()) {
+                    colIndex.writeSummaries(fs.create(new Path(indexDir + ParquetStoreConstants.INDEX_SUMMARIES)));
+                }
             }
         } catch (final IOException e) {
             throw new StoreException(e.getMessage());
@@ -78,6 +81,10 @@ public class GroupIndex {
                 if (fs.exists(path)) {
                     final ColumnIndex colIndex = new ColumnIndex();
                     colIndex.read(fs.open(path));
+                    final Path summariesPath = new Path(indexDir + ParquetStoreConstants.INDEX_SUMMARIES);
+                    if (fs.exists(summariesPath)) {
+                        colIndex.readSummaries(fs.open(summariesPath));
+                    }
                     if (colIndex.getIterator().hasNext()) {
                         add(column, colIndex);
                     }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017. Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.parquetstore.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how often the {@link FileSummary}s in the index allowed a file to be skipped for a seed. A file that is
+ * checked for a seed is either pruned because the seed is outside the ranges of all of the file's row groups, pruned
+ * because the seed is not in the file's Bloom filter, or kept.
+ */
+public class IndexPruningMetrics {
+    private final AtomicLong filesChecked = new AtomicLong();
+    private final AtomicLong filesPrunedByRowGroupRange = new AtomicLong();
+    private final AtomicLong filesPrunedByBloomFilter = new AtomicLong();
+
+    public void record(final long checked, final long prunedByRowGroupRange, final long prunedByBloomFilter) {
+        filesChecked.addAndGet(checked);
+        filesPrunedByRowGroupRange.addAndGet(prunedByRowGroupRange);
+        filesPrunedByBloomFilter.addAndGet(prunedByBloomFilter);
+    }
+
+    public long getFilesChecked() {
+        return filesChecked.get();
+    }
+
+    public long getFilesPrunedByRowGroupRange() {
+        return filesPrunedByRowGroupRange.get();
+    }
+
+    public long getFilesPrunedByBloomFilter() {
+        return filesPrunedByBloomFilter.get();
+    }
+
+    /**
+     * @return the proportion of the files checked that were pruned, or 0 if no files have been checked
+     */
+    public double getHitRate() {
+        final long checked = filesChecked.get();
+        if (0L == checked) {
+            return 0.0;
+        }
+        return (double) (filesPrunedByRowGroupRange.get() + filesPrunedByBloomFilter.get()) / checked;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexPruningMetrics{ filesChecked=" + getFilesChecked()
+                + ", filesPrunedByRowGroupRange=" + getFilesPrunedByRowGroupRange()
+                + ", filesPrunedByBloomFilter=" + getFilesPrunedByBloomFilter()
+                + ", hitRate=" + getHitRate() + " }";
+    }
+}
@@ -59,6 +59,21 @@ public class AddElementsFromRDD {
 
     protected void addElementsFromRDD(final JavaRDD<Element> input, final Context context, final ParquetStore store)
             throws OperationException {
+        final SparkSession spark = SparkContextUtil.getSparkSession(context, store.getProperties());
+        store.getWriteLock().lock();
+        try {
+            // Merge any delta snapshots into the current snapshot first so the new snapshot contains all the data
+            if (!store.getDeltaIndices().isEmpty()) {
+                new AddElementsHandler().compact(store, spark);
+            }
+            addElementsFromRDD(input, spark, store);
+        } finally {
+            store.getWriteLock().unlock();
+        }
+    }
+
+    private void addElementsFromRDD(final JavaRDD<Element> input, final SparkSession spark, final ParquetStore store)
+            throws OperationException {
         try {
             final FileSystem fs = store.getFS();
             final ParquetStoreProperties parquetStoreProperties = store.getProperties();
@@ -69,7 +84,6 @@ public class AddElementsFromRDD {
                 fs.delete(tempDir, true);
                 LOGGER.warn("Temp data directory '{}' has been deleted.", tempDataDirString);
             }
-            final SparkSession spark = SparkContextUtil.getSparkSession(context, store.getProperties());
             SparkParquetUtils.configureSparkForAddElements(spark, parquetStoreProperties);
             final ExecutorService pool = createThreadPool(spark, parquetStoreProperties);
             // aggregate new data and write out as unsorted data
@@ -20,8 +20,8 @@ import org.apache.hadoop.fs.Path;
 import org.apache.spark.sql.SparkSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import scala.Tuple2;
 
+import uk.gov.gchq.gaffer.commonutil.iterable.ChainedIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.data.element.Element;
@@ -32,8 +32,9 @@ import uk.gov.gchq.gaffer.parquetstore.ParquetStoreProperties;
 import uk.gov.gchq.gaffer.parquetstore.index.GraphIndex;
 import uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl.AggregateAndSortTempData;
 import uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl.CalculateSplitPointsFromIndex;
-import uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl.CalculateSplitPointsFromIterable;
+import uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl.DeltaSnapshotElements;
 import uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl.GenerateIndices;
+import uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl.SplitPointsSampler;
 import uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl.WriteUnsortedData;
 import uk.gov.gchq.gaffer.parquetstore.utils.ParquetStoreConstants;
 import uk.gov.gchq.gaffer.parquetstore.utils.SparkParquetUtils;
@@ -45,16 +46,12 @@ import uk.gov.gchq.gaffer.store.operation.handler.OperationHandler;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 
 import static uk.gov.gchq.gaffer.parquetstore.utils.ParquetStoreUtils.createThreadPool;
-import static uk.gov.gchq.gaffer.parquetstore.utils.ParquetStoreUtils.invokeSplitPointCalculations;
 
 /**
  * An {@link OperationHandler} for the {@link AddElements} operation on the {@link ParquetStore}.
@@ -69,53 +66,188 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
         final SparkSession spark = SparkContextUtil.getSparkSession(context, store.getProperties());
         final ParquetStore parquetStore = (ParquetStore) store;
         SparkParquetUtils.configureSparkForAddElements(spark, parquetStore.getProperties());
-        addElements(operation, parquetStore, spark);
+        addElements(operation.getInput(), parquetStore, spark);
         return null;
     }
 
-    private void addElements(final AddElements addElementsOperation, final ParquetStore store, final SparkSession spark)
+    /**
+     * Adds the elements to the store. If incremental adds are enabled and the store already contains data then the
+     * elements are written as a delta snapshot, and a background compaction is started if the compaction policy
+     * requires one. A failed background compaction does not stop the elements being added, it is retried after the
+     * next incremental add, but once there are {@link ParquetStoreProperties#getCompactionMaxDeltasHardLimit()} delta
+     * snapshots no more elements are added until a compaction succeeds. If incremental adds are not enabled the
+     * elements, along with the elements in any delta snapshots, are merged with the current snapshot to create a new
+     * snapshot.
+     *
+     * @param input the elements to add
+     * @param store the store
+     * @param spark the spark session
+     * @throws OperationException if the elements could not be added
+     */
+    public void addElements(final Iterable<? extends Element> input, final ParquetStore store, final SparkSession spark)
+            throws OperationException {
+        store.getWriteLock().lock();
+        try {
+            if (store.getProperties().getAddElementsIncremental() && null != store.getGraphIndex()) {
+                checkDeltaHardLimit(store, spark);
+                writeDeltaSnapshot(input, store, spark);
+                if (requiresCompaction(store)) {
+                    LOGGER.debug("Starting a background compaction of {} delta snapshots", store.getDeltaIndices().size());
+                    store.submitCompaction(() -> compactInBackground(store, spark));
+                }
+            } else if (store.getDeltaIndices().isEmpty()) {
+                writeSnapshot(input, store, spark);
+            } else {
+                writeSnapshot(new ChainedIterable<Element>(input, new DeltaSnapshotElements(store)), store, spark);
+            }
+        } finally {
+            store.getWriteLock().unlock();
+        }
+    }
+
+    /**
+     * Merges the elements in the delta snapshots with the current snapshot to create a new snapshot.
+     *
+     * @param store the store
+     * @param spark the spark session
+     * @throws OperationException if the delta snapshots could not be compacted
+     */
+    public void compact(final ParquetStore store, final SparkSession spark) throws OperationException {
+        store.getWriteLock().lock();
+        try {
+            if (!store.getDeltaIndices().isEmpty()) {
+                LOGGER.debug("Compacting {} delta snapshots", store.getDeltaIndices().size());
+                writeSnapshot(new DeltaSnapshotElements(store), store, spark);
+            }
+            store.setCompactionFailure(null);
+        } finally {
+            store.getWriteLock().unlock();
+        }
+    }
+
+    private void compactInBackground(final ParquetStore store, final SparkSession spark) {
+        try {
+            if (requiresCompaction(store)) {
+                compact(store, spark);
+            }
+        } catch (final OperationException | RuntimeException e) {
+            LOGGER.error("Failed to compact the delta snapshots", e);
+            store.setCompactionFailure(e);
+        }
+    }
+
+    private void checkDeltaHardLimit(final ParquetStore store, final SparkSession spark) throws OperationException {
+        final Exception compactionFailure = store.getCompactionFailure();
+        final int numDeltas = store.getDeltaIndices().size();
+        if (numDeltas < store.getProperties().getCompactionMaxDeltasHardLimit()) {
+            if (null != compactionFailure) {
+                LOGGER.warn("The last background compaction of the delta snapshots failed, there are now {} delta "
+                        + "snapshots: {}", numDeltas, compactionFailure.getMessage());
+            }
+            return;
+        }
+
+        // Retry the compaction so the store can recover
+        store.submitCompaction(() -> compactInBackground(store, spark));
+        final String message = "The elements were not added as there are " + numDeltas + " delta snapshots waiting "
+                + "to be compacted";
+        if (null != compactionFailure) {
+            throw new OperationException(message + ", the last background compaction failed: "
+                    + compactionFailure.getMessage(), compactionFailure);
+        }
+        throw new OperationException(message);
+    }
+
+    private boolean requiresCompaction(final ParquetStore store) {
+        final List<GraphIndex> deltaIndices = store.getDeltaIndices();
+        if (deltaIndices.isEmpty()) {
+            return false;
+        }
+        final ParquetStoreProperties properties = store.getProperties();
+        if (deltaIndices.size() >= properties.getCompactionMaxDeltas()) {
+            return true;
+        }
+        try {
+            final Path deltasDir = new Path(store.getDeltasDir(store.getGraphIndex()));
+            return store.getFS().getContentSummary(deltasDir).getLength() >= properties.getCompactionMaxDeltasSize();
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to get the size of the delta snapshots", e);
+            return false;
+        }
+    }
+
+    private void writeDeltaSnapshot(final Iterable<? extends Element> input, final ParquetStore store, final SparkSession spark)
             throws OperationException {
         try {
             final FileSystem fs = store.getFS();
             final ParquetStoreProperties parquetStoreProperties = store.getProperties();
             final Schema gafferSchema = store.getSchema();
-            final String rootDataDirString = store.getDataDir();
             final String tempDirString = store.getTempFilesDir();
-            final Path tempDir = new Path(tempDirString);
-            if (fs.exists(tempDir)) {
-                fs.delete(tempDir, true);
-                LOGGER.warn("Temp data directory '{}' has been deleted.", tempDirString);
+            deleteTempDir(fs, tempDirString);
+            // The split points only depend on the new elements so the cost of writing the delta is proportional to
+            // the number of elements added
+            final Map<String, Map<Object, Integer>> groupToSplitPoints = new SplitPointsSampler(parquetStoreProperties.getSampleRate(),
+                    parquetStoreProperties.getAddElementsOutputFilesPerGroup() - 1,
+                    parquetStoreProperties.getSplitPointsMaxSampleSize(),
+                    gafferSchema.getEntityGroups(), gafferSchema.getEdgeGroups())
+                    .sample(input)
+                    .getSplitPoints();
+            if (groupToSplitPoints.isEmpty()) {
+                LOGGER.debug("There are no elements to add");
+                return;
+            }
+            LOGGER.debug("Starting to write the delta snapshot data to {}", tempDirString);
+            writeUnsortedData(input, store, groupToSplitPoints);
+            final ExecutorService pool = createThreadPool(spark, parquetStoreProperties);
+            new AggregateAndSortTempData(store, spark, groupToSplitPoints, pool, false);
+            pool.shutdown();
+            final GraphIndex deltaIndex = new GenerateIndices(store, spark).getGraphIndex();
+            final List<GraphIndex> deltaIndices = store.getDeltaIndices();
+            long deltaSnapshot = System.currentTimeMillis();
+            if (!deltaIndices.isEmpty()) {
+                deltaSnapshot = Math.max(deltaSnapshot, deltaIndices.get(deltaIndices.size() - 1).getSnapshotTimestamp() + 1);
             }
+            deltaIndex.setSnapshotTimestamp(deltaSnapshot);
+            final String destPath = store.getDeltaDir(store.getGraphIndex(), deltaIndex);
+            fs.mkdirs(new Path(destPath).getParent());
+            final String tempPath = tempDirString + "/" + ParquetStoreConstants.SORTED;
+            LOGGER.debug("Renaming {} to {}", tempPath, destPath);
+            fs.rename(new Path(tempPath), new Path(destPath));
+            store.addDeltaIndex(deltaIndex);
+            tidyUp(fs, tempDirString);
+        } catch (final IOException e) {
+            throw new OperationException("IOException: Failed to connect to the file system", e);
+        } catch (final StoreException e) {
+            throw new OperationException(e.getMessage(), e);
+        }
+    }
+
+    private void writeSnapshot(final Iterable<? extends Element> input, final ParquetStore store, final SparkSession spark)
+            throws OperationException {
+        try {
+            final FileSystem fs = store.getFS();
+            final ParquetStoreProperties parquetStoreProperties = store.getProperties();
+            final Schema gafferSchema = store.getSchema();
+            final String rootDataDirString = store.getDataDir();
+            final String tempDirString = store.getTempFilesDir();
+            deleteTempDir(fs, tempDirString);
             // Write the data out
             LOGGER.debug("Starting to write the input Parquet data to {} split by group and split points", tempDirString);
-            final Iterable<? extends Element> input = addElementsOperation.getInput();
             final ExecutorService pool = createThreadPool(spark, parquetStoreProperties);
-            final List<Callable<Tuple2<String, Map<Object, Integer>>>> tasks = new ArrayList<>();
             final Map<String, Map<Object, Integer>> groupToSplitPoints;
             final GraphIndex index = store.getGraphIndex();
             if (null == index) {
-                groupToSplitPoints = new HashMap<>();
-                for (final String group : gafferSchema.getEdgeGroups()) {
-                    tasks.add(new CalculateSplitPointsFromIterable(parquetStoreProperties.getSampleRate(),
-                            parquetStoreProperties.getAddElementsOutputFilesPerGroup() - 1, input, group, false));
-                }
-                for (final String group : gafferSchema.getEntityGroups()) {
-                    tasks.add(new CalculateSplitPointsFromIterable(parquetStoreProperties.getSampleRate(),
-                            parquetStoreProperties.getAddElementsOutputFilesPerGroup() - 1, input, group, true));
-                }
-                invokeSplitPointCalculations(pool, tasks, groupToSplitPoints);
+                groupToSplitPoints = new SplitPointsSampler(parquetStoreProperties.getSampleRate(),
+                        parquetStoreProperties.getAddElementsOutputFilesPerGroup() - 1,
+                        parquetStoreProperties.getSplitPointsMaxSampleSize(),
+                        gafferSchema.getEntityGroups(), gafferSchema.getEdgeGroups())
+                        .sample(input)
+                        .getSplitPoints();
             } else {
-                groupToSplitPoints = CalculateSplitPointsFromIndex.apply(index, store.getSchemaUtils(), parquetStoreProperties, input, pool);
+                groupToSplitPoints = CalculateSplitPointsFromIndex.apply(index, store.getSchemaUtils(), parquetStoreProperties, input);
             }
 
-            final Iterator<? extends Element> inputIter = input.iterator();
-            new WriteUnsortedData(store, groupToSplitPoints).writeElements(inputIter);
-            if (inputIter instanceof CloseableIterator) {
-                ((CloseableIterator) inputIter).close();
-            }
-            if (input instanceof CloseableIterable) {
-                ((CloseableIterable) input).close();
-            }
+            writeUnsortedData(input, store, groupToSplitPoints);
             LOGGER.debug("Finished writing the input Parquet data to {}", tempDirString);
             // Use to Spark read in all the data, aggregate and sort it
             LOGGER.debug("Starting to write the sorted and aggregated Parquet data to {}/sorted split by group", tempDirString);
@@ -140,6 +272,26 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
 
     }
 
+    private void writeUnsortedData(final Iterable<? extends Element> input, final ParquetStore store,
+                                   final Map<String, Map<Object, Integer>> groupToSplitPoints) throws OperationException {
+        final Iterator<? extends Element> inputIter = input.iterator();
+        new WriteUnsortedData(store, groupToSplitPoints).writeElements(inputIter);
+        if (inputIter instanceof CloseableIterator) {
+            ((CloseableIterator) inputIter).close();
+        }
+        if (input instanceof CloseableIterable) {
+            ((CloseableIterable) input).close();
+        }
+    }
+
+    private void deleteTempDir(final FileSystem fs, final String tempDirString) throws IOException {
+        final Path tempDir = new Path(tempDirString);
+        if (fs.exists(tempDir)) {
+            fs.delete(tempDir, true);
+            LOGGER.warn("Temp data directory '{}' has been deleted.", tempDirString);
+        }
+    }
+
     private void moveDataToDataDir(final ParquetStore store, final FileSystem fs, final String dataDirString, final String tempDataDirString, final GraphIndex newGraphIndex) throws StoreException, IOException {
         // Move data from temp to data
         final long snapshot = System.currentTimeMillis();
@@ -58,11 +58,28 @@ public class AggregateAndSortTempData {
     public AggregateAndSortTempData(final ParquetStore store, final SparkSession spark,
                                     final Map<String, Map<Object, Integer>> groupToSplitPoints,
                                     final ExecutorService pool) throws OperationException, SerialisationException {
+        this(store, spark, groupToSplitPoints, pool, true);
+    }
+
+    /**
+     * @param store                    the store
+     * @param spark                    the spark session
+     * @param groupToSplitPoints       the split points for each group
+     * @param pool                     the thread pool to run the tasks in
+     * @param aggregateWithCurrentData if false the data is aggregated and sorted on its own, e.g. to write a delta
+     *                                 snapshot, rather than with the data in the current snapshot
+     * @throws OperationException     if the tasks fail
+     * @throws SerialisationException if the data cannot be serialised
+     */
+    public AggregateAndSortTempData(final ParquetStore store, final SparkSession spark,
+                                    final Map<String, Map<Object, Integer>> groupToSplitPoints,
+                                    final ExecutorService pool,
+                                    final boolean aggregateWithCurrentData) throws OperationException, SerialisationException {
         final List<Callable<OperationException>> tasks = new ArrayList<>();
         final SchemaUtils schemaUtils = store.getSchemaUtils();
         final GraphIndex index = store.getGraphIndex();
         final String currentDataDir;
-        if (null != index) {
+        if (null != index && aggregateWithCurrentData) {
             currentDataDir = store.getDataDir()
                     + "/" + index.getSnapshotTimestamp();
         } else {
@@ -34,6 +34,7 @@ import uk.gov.gchq.gaffer.parquetstore.utils.SchemaUtils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -56,21 +57,27 @@ public final class CalculateSplitPointsFromIndex {
 
     public static Map<String, Map<Object, Integer>> apply(final GraphIndex index, final SchemaUtils schemaUtils,
                                                           final ParquetStoreProperties properties,
-                                                          final Iterable<? extends Element> data,
-                                                          final ExecutorService pool) throws SerialisationException, OperationException {
+                                                          final Iterable<? extends Element> data) throws SerialisationException {
         final Map<String, Map<Object, Integer>> groupToSplitPoints = calculateSplitPointsFromIndex(index, schemaUtils);
-        final List<Callable<Tuple2<String, Map<Object, Integer>>>> tasks = new ArrayList<>();
+        final Set<String> entityGroups = new HashSet<>();
         for (final String group : schemaUtils.getEntityGroups()) {
             if (!groupToSplitPoints.containsKey(group)) {
-                tasks.add(new CalculateSplitPointsFromIterable(properties.getSampleRate(), properties.getAddElementsOutputFilesPerGroup() - 1, data, group, true));
+                entityGroups.add(group);
             }
         }
+        final Set<String> edgeGroups = new HashSet<>();
         for (final String group : schemaUtils.getEdgeGroups()) {
             if (!groupToSplitPoints.containsKey(group)) {
-                tasks.add(new CalculateSplitPointsFromIterable(properties.getSampleRate(), properties.getAddElementsOutputFilesPerGroup() - 1, data, group, false));
+                edgeGroups.add(group);
             }
         }
-        invokeSplitPointCalculations(pool, tasks, groupToSplitPoints);
+        if (!entityGroups.isEmpty() || !edgeGroups.isEmpty()) {
+            groupToSplitPoints.putAll(new SplitPointsSampler(properties.getSampleRate(),
+                    properties.getAddElementsOutputFilesPerGroup() - 1, properties.getSplitPointsMaxSampleSize(),
+                    entityGroups, edgeGroups)
+                    .sample(data)
+                    .getSplitPoints());
+        }
         return groupToSplitPoints;
     }
 
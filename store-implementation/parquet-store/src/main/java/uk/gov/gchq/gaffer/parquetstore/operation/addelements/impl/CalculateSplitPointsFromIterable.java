@@ -18,22 +18,20 @@ package uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl;
 import scala.Tuple2;
 
 import uk.gov.gchq.gaffer.data.element.Element;
-import uk.gov.gchq.gaffer.data.element.IdentifierType;
-import uk.gov.gchq.gaffer.data.element.comparison.ComparableOrToStringComparator;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.concurrent.Callable;
 
 /**
- * Generates the split points from an {@link Iterable} of {@link Element}s by selecting a sample of the data, sorting that sample and
- * then pulling out the relevant objects to act as the split points
+ * Generates the split points for a single group from an {@link Iterable} of {@link Element}s by selecting a sample of
+ * the data, sorting that sample and then pulling out the relevant objects to act as the split points.
+ * <p>
+ * To calculate the split points for several groups use a {@link SplitPointsSampler}, which only iterates over the
+ * data once.
  */
 public class CalculateSplitPointsFromIterable implements Callable<Tuple2<String, Map<Object, Integer>>> {
 
-    private static final ComparableOrToStringComparator COMPARATOR = new ComparableOrToStringComparator();
     private final long sampleRate;
     private final int numOfSplits;
     private final Iterable<? extends Element> data;
@@ -49,38 +47,9 @@ public class CalculateSplitPointsFromIterable implements Callable<Tuple2<String,
     }
 
     public Tuple2<String, Map<Object, Integer>> call() {
-        final Iterator<? extends Element> dataIter = data.iterator();
-        final ArrayList<Object> sample = new ArrayList<>();
-        long counter = sampleRate;
-        while (dataIter.hasNext()) {
-            final Element element = dataIter.next();
-            if (group.equals(element.getGroup())) {
-                if (counter == sampleRate) {
-                    if (isEntity) {
-                        sample.add(element.getIdentifier(IdentifierType.VERTEX));
-                    } else {
-                        sample.add(element.getIdentifier(IdentifierType.SOURCE));
-                    }
-                    counter = 1;
-                } else {
-                    counter++;
-                }
-            }
-        }
-        if (sample.isEmpty()) {
-            return new Tuple2<>(group, new TreeMap<>(COMPARATOR));
-        } else {
-            sample.sort(COMPARATOR);
-            final int sampleSize = sample.size();
-            final int splitRate = (sampleSize / (numOfSplits + 1)) + 1;
-            final Map<Object, Integer> splitPoints = new TreeMap<>(COMPARATOR);
-            for (int i = 0; i < sampleSize; i += splitRate) {
-                splitPoints.put(sample.get(i), i / splitRate);
-            }
-            if (splitPoints.isEmpty()) {
-                splitPoints.put(sample.get(0), 0);
-            }
-            return new Tuple2<>(group, splitPoints);
-        }
+        final SplitPointsSampler sampler = new SplitPointsSampler(sampleRate, numOfSplits, Integer.MAX_VALUE,
+                isEntity ? Collections.singleton(group) : Collections.emptySet(),
+                isEntity ? Collections.emptySet() : Collections.singleton(group));
+        return new Tuple2<>(group, sampler.sample(data).getSplitPoints(group));
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017. Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.hadoop.ParquetReader;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.parquetstore.ParquetStore;
+import uk.gov.gchq.gaffer.parquetstore.index.ColumnIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.GraphIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.GroupIndex;
+import uk.gov.gchq.gaffer.parquetstore.io.reader.ParquetElementReader;
+import uk.gov.gchq.gaffer.parquetstore.utils.ParquetStoreConstants;
+import uk.gov.gchq.gaffer.parquetstore.utils.SchemaUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link CloseableIterable} of all the {@link Element}s in the delta snapshots of a {@link ParquetStore}. Each
+ * element is read once, from the files sorted by vertex or source, one file at a time.
+ */
+public class DeltaSnapshotElements implements CloseableIterable<Element> {
+    private final SchemaUtils schemaUtils;
+    private final List<Path> files = new ArrayList<>();
+    private final List<String> groups = new ArrayList<>();
+
+    public DeltaSnapshotElements(final ParquetStore store) {
+        this.schemaUtils = store.getSchemaUtils();
+        final GraphIndex snapshotIndex = store.getGraphIndex();
+        for (final GraphIndex deltaIndex : store.getDeltaIndices()) {
+            final String deltaDir = store.getDeltaDir(snapshotIndex, deltaIndex);
+            for (final String group : deltaIndex.groupsIndexed()) {
+                final String column = schemaUtils.getEntityGroups().contains(group)
+                        ? ParquetStoreConstants.VERTEX : ParquetStoreConstants.SOURCE;
+                final GroupIndex groupIndex = deltaIndex.getGroup(group);
+                final ColumnIndex columnIndex = groupIndex.getColumn(column);
+                if (null != columnIndex) {
+                    final String groupDir = ParquetStore.getGroupDirectory(group, column, deltaDir);
+                    columnIndex.getIterator().forEachRemaining(minValuesWithPath -> {
+                        files.add(new Path(groupDir + "/" + minValuesWithPath.getPath()));
+                        groups.add(group);
+                    });
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CloseableIterator<Element> iterator() {
+        return new DeltaSnapshotElementsIterator();
+    }
+
+    private class DeltaSnapshotElementsIterator implements CloseableIterator<Element> {
+        private int fileIndex;
+        private ParquetReader<Element> reader;
+        private Element next;
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (null == next) {
+                    if (null == reader) {
+                        if (fileIndex >= files.size()) {
+                            return false;
+                        }
+                        reader = openReader(fileIndex++);
+                    }
+                    next = reader.read();
+                    if (null == next) {
+                        reader.close();
+                        reader = null;
+                    }
+                }
+            } catch (final IOException e) {
+                throw new RuntimeException("Failed to read the delta snapshot file " + files.get(fileIndex - 1), e);
+            }
+            return true;
+        }
+
+        @Override
+        public Element next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Element element = next;
+            next = null;
+            return element;
+        }
+
+        @Override
+        public void close() {
+            if (null != reader) {
+                try {
+                    reader.close();
+                } catch (final IOException e) {
+                    throw new RuntimeException("Failed to close the delta snapshot reader", e);
+                }
+                reader = null;
+            }
+            fileIndex = files.size();
+        }
+
+        private ParquetReader<Element> openReader(final int index) throws IOException {
+            final String group = groups.get(index);
+            try {
+                return new ParquetElementReader.Builder<Element>(files.get(index))
+                        .isEntity(schemaUtils.getEntityGroups().contains(group))
+                        .usingConverter(schemaUtils.getConverter(group))
+                        .build();
+            } catch (final SerialisationException e) {
+                throw new IOException("Failed to create the converter for group " + group, e);
+            }
+        }
+    }
+}
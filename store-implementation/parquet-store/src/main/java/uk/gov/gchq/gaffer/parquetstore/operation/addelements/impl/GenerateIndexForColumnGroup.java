@@ -20,6 +20,14 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.util.bloom.BloomFilter;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.io.api.Binary;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SparkSession;
@@ -30,17 +38,28 @@ import scala.collection.mutable.Seq$;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.parquetstore.index.ColumnIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.FileSummary;
 import uk.gov.gchq.gaffer.parquetstore.index.MinValuesWithPath;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.koryphe.tuple.n.Tuple4;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.NoSuchElementException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 /**
- * Generates the index for a single group directory.
+ * Generates the index for a single group directory. For each file this records the first row's values and a
+ * {@link FileSummary} containing the min and max values of each row group, taken from the file's footer, and, if
+ * enabled, a {@link BloomFilter} of the values in the file. The Bloom filter is built on the executors, one per
+ * partition of the file, and the partial filters are merged on the driver.
  */
 public class GenerateIndexForColumnGroup implements Callable<Tuple4<String, String, ColumnIndex, OperationException>>, Serializable {
     private static final long serialVersionUID = 2287226248631201061L;
@@ -50,21 +69,32 @@ public class GenerateIndexForColumnGroup implements Callable<Tuple4<String, Stri
     private final String group;
     private final String column;
     private final SparkSession spark;
+    private final boolean bloomFilterEnabled;
+    private final double bloomFilterFalsePositiveRate;
 
     public GenerateIndexForColumnGroup(final String directoryPath, final String[] paths, final String group, final String column, final SparkSession spark) throws OperationException,
             SerialisationException, StoreException {
+        this(directoryPath, paths, group, column, spark, false, 0.0);
+    }
+
+    public GenerateIndexForColumnGroup(final String directoryPath, final String[] paths, final String group, final String column, final SparkSession spark,
+                                       final boolean bloomFilterEnabled, final double bloomFilterFalsePositiveRate) throws OperationException,
+            SerialisationException, StoreException {
         this.directoryPath = directoryPath;
         this.paths = paths;
         this.columnIndex = new ColumnIndex();
         this.group = group;
         this.column = column;
         this.spark = spark;
+        this.bloomFilterEnabled = bloomFilterEnabled;
+        this.bloomFilterFalsePositiveRate = bloomFilterFalsePositiveRate;
     }
 
     @Override
     public Tuple4<String, String, ColumnIndex, OperationException> call() {
         try {
-            final FileSystem fs = FileSystem.get(new Configuration());
+            final Configuration conf = new Configuration();
+            final FileSystem fs = FileSystem.get(conf);
             if (fs.exists(new Path(directoryPath))) {
                 final FileStatus[] files = fs.listStatus(new Path(directoryPath),
                         path1 -> path1.getName().endsWith(".parquet"));
@@ -75,13 +105,41 @@ public class GenerateIndexForColumnGroup implements Callable<Tuple4<String, Stri
                     for (int i = 1; i < numberOfColumns; i++) {
                         seqBuilder.$plus$eq(paths[i]);
                     }
+                    final ParquetMetadata footer = ParquetFileReader.readFooter(conf, file.getPath(), ParquetMetadataConverter.NO_FILTER);
+                    long numberOfRows = 0L;
+                    for (final BlockMetaData rowGroup : footer.getBlocks()) {
+                        numberOfRows += rowGroup.getRowCount();
+                    }
+                    if (0L == numberOfRows) {
+                        continue;
+                    }
                     final Dataset<Row> fileData = spark.read().parquet(file.getPath().toString()).select(firstColumn, seqBuilder.result());
-                    try {
-                        final Row minRow = fileData.head();
-                        columnIndex.add(generateGafferObjectsIndex(minRow, file.getPath().getName()));
-                    } catch (final NoSuchElementException ignored) {
-                        // ignore as dataframe was empty
+                    final List<Row> minRows = fileData.takeAsList(1);
+                    if (minRows.isEmpty()) {
+                        continue;
+                    }
+                    columnIndex.add(new MinValuesWithPath(getValues(minRows.get(0)), file.getPath().getName()));
+                    final BloomFilter bloomFilter;
+                    List<FileSummary.RowGroupRange> rowGroupRanges = getRowGroupRanges(footer, firstColumn);
+                    if (bloomFilterEnabled) {
+                        // Build a Bloom filter per partition on the executors and merge them, rather than
+                        // pulling every row of the file back to the driver
+                        final double falsePositiveRate = bloomFilterFalsePositiveRate;
+                        final long expectedNumberOfRows = numberOfRows;
+                        final PartitionSummary summary = fileData.javaRDD()
+                                .mapPartitions(rows -> Collections.singletonList(
+                                        PartitionSummary.summarise(rows, falsePositiveRate, expectedNumberOfRows)).iterator())
+                                .reduce(PartitionSummary::merge);
+                        bloomFilter = summary.getBloomFilter();
+                        if (rowGroupRanges.isEmpty() && null != summary.min) {
+                            // The footer has no statistics for the column so use the range of the whole file
+                            rowGroupRanges = Collections.singletonList(new FileSummary.RowGroupRange(summary.min, summary.max,
+                                    footer.getBlocks().get(0).getStartingPos(), numberOfRows));
+                        }
+                    } else {
+                        bloomFilter = null;
                     }
+                    columnIndex.addSummary(new FileSummary(file.getPath().getName(), bloomFilter, rowGroupRanges));
                 }
             }
         } catch (final IOException e) {
@@ -92,12 +150,106 @@ public class GenerateIndexForColumnGroup implements Callable<Tuple4<String, Stri
         return new Tuple4<>(group, column, columnIndex, null);
     }
 
-    private MinValuesWithPath generateGafferObjectsIndex(final Row minRow, final String path) throws StoreException {
-        final int numOfCols = minRow.length();
-        final Object[] min = new Object[numOfCols];
+    private static boolean isLessThan(final Object a, final Object b) {
+        final Integer comparison = FileSummary.RowGroupRange.compare(a, b);
+        return null != comparison && comparison < 0;
+    }
+
+    private static Object[] getValues(final Row row) {
+        final int numOfCols = row.length();
+        final Object[] values = new Object[numOfCols];
         for (int i = 0; i < numOfCols; i++) {
-            min[i] = minRow.get(i);
+            values[i] = row.get(i);
+        }
+        return values;
+    }
+
+    /**
+     * Gets the min and max values of the first column for each row group. If any row group does not have statistics
+     * for that column then an empty list is returned, so that the row group ranges are not used to prune the file.
+     *
+     * @param footer      the footer of the parquet file
+     * @param firstColumn the path of the first parquet column of the indexed gaffer column
+     * @return the min and max values of each row group
+     */
+    private static List<FileSummary.RowGroupRange> getRowGroupRanges(final ParquetMetadata footer, final String firstColumn) {
+        final List<FileSummary.RowGroupRange> rowGroupRanges = new ArrayList<>();
+        for (final BlockMetaData rowGroup : footer.getBlocks()) {
+            Statistics<?> statistics = null;
+            for (final ColumnChunkMetaData columnChunk : rowGroup.getColumns()) {
+                if (firstColumn.equals(columnChunk.getPath().toDotString())) {
+                    statistics = columnChunk.getStatistics();
+                    break;
+                }
+            }
+            if (null == statistics || statistics.isEmpty() || statistics.getNumNulls() > 0) {
+                return new ArrayList<>();
+            }
+            rowGroupRanges.add(new FileSummary.RowGroupRange(toIndexValue(statistics.genericGetMin()),
+                    toIndexValue(statistics.genericGetMax()), rowGroup.getStartingPos(), rowGroup.getRowCount()));
+        }
+        return rowGroupRanges;
+    }
+
+    private static Object toIndexValue(final Object statisticsValue) {
+        if (statisticsValue instanceof Binary) {
+            return ((Binary) statisticsValue).getBytes();
+        }
+        return statisticsValue;
+    }
+
+    /**
+     * The {@link BloomFilter} and the min and max values of the first column of the rows in one partition of a file.
+     * The Bloom filter is held in its serialised form as {@link BloomFilter} is not {@link Serializable}.
+     */
+    private static final class PartitionSummary implements Serializable {
+        private static final long serialVersionUID = -3410537452935066286L;
+        private final byte[] serialisedBloomFilter;
+        private final Object min;
+        private final Object max;
+
+        private PartitionSummary(final BloomFilter bloomFilter, final Object min, final Object max) throws IOException {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (final DataOutputStream out = new DataOutputStream(baos)) {
+                bloomFilter.write(out);
+            }
+            this.serialisedBloomFilter = baos.toByteArray();
+            this.min = min;
+            this.max = max;
+        }
+
+        private static PartitionSummary summarise(final Iterator<Row> rows, final double falsePositiveRate,
+                                                  final long expectedNumberOfRows) throws IOException {
+            final BloomFilter bloomFilter = FileSummary.createBloomFilter(falsePositiveRate, expectedNumberOfRows);
+            Object min = null;
+            Object max = null;
+            while (rows.hasNext()) {
+                final Object[] values = getValues(rows.next());
+                bloomFilter.add(FileSummary.getBloomFilterKey(values));
+                if (null == min || isLessThan(values[0], min)) {
+                    min = values[0];
+                }
+                if (null == max || isLessThan(max, values[0])) {
+                    max = values[0];
+                }
+            }
+            return new PartitionSummary(bloomFilter, min, max);
+        }
+
+        private static PartitionSummary merge(final PartitionSummary a, final PartitionSummary b) throws IOException {
+            final BloomFilter bloomFilter = a.getBloomFilter();
+            bloomFilter.or(b.getBloomFilter());
+            return new PartitionSummary(bloomFilter,
+                    null == a.min || (null != b.min && isLessThan(b.min, a.min)) ? b.min : a.min,
+                    null == a.max || (null != b.max && isLessThan(a.max, b.max)) ? b.max : a.max);
+        }
+
+        private BloomFilter getBloomFilter() throws IOException {
+            final BloomFilter bloomFilter = new BloomFilter();
+            try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(serialisedBloomFilter))) {
+                bloomFilter.readFields(in);
+            }
+            return bloomFilter;
         }
-        return new MinValuesWithPath(min, path);
     }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017. Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.IdentifierType;
+import uk.gov.gchq.gaffer.data.element.comparison.ComparableOrToStringComparator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Samples the identifiers used to split each group, i.e. the vertex of entities and the source of edges, from a
+ * single pass over the {@link Element}s and then calculates the split points for each group from its sample.
+ * <p>
+ * Every sampleRate-th element of each group is sampled, so the split points are the same as those calculated by
+ * reading the elements once per group. The sample held for each group is bounded by the maximum sample size: once
+ * it is reached, every other sampled identifier is dropped and the sample rate for that group is doubled.
+ */
+public class SplitPointsSampler {
+
+    private static final ComparableOrToStringComparator COMPARATOR = new ComparableOrToStringComparator();
+    private final long sampleRate;
+    private final int numOfSplits;
+    private final int maxSampleSize;
+    private final Map<String, GroupSample> samples = new HashMap<>();
+
+    public SplitPointsSampler(final long sampleRate, final int numOfSplits, final int maxSampleSize,
+                              final Set<String> entityGroups, final Set<String> edgeGroups) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("The sample rate must be at least 1");
+        }
+        if (maxSampleSize < 2) {
+            throw new IllegalArgumentException("The maximum sample size must be at least 2");
+        }
+        this.sampleRate = sampleRate;
+        this.numOfSplits = numOfSplits;
+        this.maxSampleSize = maxSampleSize;
+        for (final String group : entityGroups) {
+            samples.put(group, new GroupSample(IdentifierType.VERTEX));
+        }
+        for (final String group : edgeGroups) {
+            samples.put(group, new GroupSample(IdentifierType.SOURCE));
+        }
+    }
+
+    /**
+     * Samples all the elements in the {@link Iterable}, iterating over it once.
+     *
+     * @param data the elements to sample
+     * @return this sampler
+     */
+    public SplitPointsSampler sample(final Iterable<? extends Element> data) {
+        final Iterator<? extends Element> dataIter = data.iterator();
+        try {
+            while (dataIter.hasNext()) {
+                sample(dataIter.next());
+            }
+        } finally {
+            if (dataIter instanceof CloseableIterator) {
+                ((CloseableIterator) dataIter).close();
+            }
+        }
+        return this;
+    }
+
+    public void sample(final Element element) {
+        if (null != element) {
+            final GroupSample sample = samples.get(element.getGroup());
+            if (null != sample) {
+                sample.add(element);
+            }
+        }
+    }
+
+    /**
+     * @return the split points of each group that has been sampled at least once
+     */
+    public Map<String, Map<Object, Integer>> getSplitPoints() {
+        final Map<String, Map<Object, Integer>> groupToSplitPoints = new HashMap<>();
+        for (final String group : samples.keySet()) {
+            final Map<Object, Integer> splitPoints = getSplitPoints(group);
+            if (!splitPoints.isEmpty()) {
+                groupToSplitPoints.put(group, splitPoints);
+            }
+        }
+        return groupToSplitPoints;
+    }
+
+    /**
+     * @param group the group
+     * @return the split points for the group, which will be empty if no elements of the group were sampled
+     */
+    public Map<Object, Integer> getSplitPoints(final String group) {
+        final Map<Object, Integer> splitPoints = new TreeMap<>(COMPARATOR);
+        final GroupSample groupSample = samples.get(group);
+        if (null == groupSample || groupSample.sample.isEmpty()) {
+            return splitPoints;
+        }
+
+        final List<Object> sample = new ArrayList<>(groupSample.sample);
+        sample.sort(COMPARATOR);
+        final int sampleSize = sample.size();
+        final int splitRate = (sampleSize / (numOfSplits + 1)) + 1;
+        for (int i = 0; i < sampleSize; i += splitRate) {
+            splitPoints.put(sample.get(i), i / splitRate);
+        }
+        if (splitPoints.isEmpty()) {
+            splitPoints.put(sample.get(0), 0);
+        }
+        return splitPoints;
+    }
+
+    private final class GroupSample {
+        private final IdentifierType identifierType;
+        private final List<Object> sample = new ArrayList<>();
+        private long groupSampleRate = sampleRate;
+        private long count;
+
+        private GroupSample(final IdentifierType identifierType) {
+            this.identifierType = identifierType;
+        }
+
+        private void add(final Element element) {
+            if (count % groupSampleRate == 0) {
+                if (sample.size() >= maxSampleSize) {
+                    halve();
+                }
+                if (count % groupSampleRate == 0) {
+                    sample.add(element.getIdentifier(identifierType));
+                }
+            }
+            count++;
+        }
+
+        /**
+         * Keeps the identifiers sampled at multiples of twice the current sample rate, so the sample is the same as
+         * it would have been had the doubled rate been used from the start.
+         */
+        private void halve() {
+            int kept = 0;
+            for (int i = 0; i < sample.size(); i += 2) {
+                sample.set(kept++, sample.get(i));
+            }
+            sample.subList(kept, sample.size()).clear();
+            groupSampleRate *= 2;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2017 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.parquetstore.operation.getelements.impl;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewUtil;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.parquetstore.index.ColumnIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.GraphIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.GroupIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.MinValuesWithPath;
+import uk.gov.gchq.gaffer.parquetstore.utils.GafferGroupObjectConverter;
+import uk.gov.gchq.gaffer.parquetstore.utils.ParquetStoreConstants;
+import uk.gov.gchq.gaffer.parquetstore.utils.SchemaUtils;
+import uk.gov.gchq.gaffer.parquetstore.utils.SeedComparator;
+import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A {@code MergeAggregatingIterator} lazily merges the elements in a snapshot with the elements in its delta
+ * snapshots, which have not yet been aggregated together.
+ * <p>
+ * Within each group, the files of each snapshot are sorted by vertex, or by source or destination for edges, so the
+ * files of each snapshot are read in order and the snapshots are merged on that column. The elements with the same
+ * value in that column are ingest aggregated together, then the validation and the view's pre aggregation filters are
+ * applied to the aggregated elements. Only the elements for a single value are held in memory at a time.
+ * </p>
+ * <p>
+ * The Parquet filters for each file should only select identifiers or ingest group by properties, see
+ * {@link uk.gov.gchq.gaffer.parquetstore.utils.ParquetFilterUtils#setAggregatedPropertyFiltersPushedDown(boolean)},
+ * as any other filter would be applied to the partial rows before they were aggregated.
+ * </p>
+ */
+public class MergeAggregatingIterator implements CloseableIterator<Element> {
+    private static final SeedComparator COMPARATOR = new SeedComparator();
+
+    private final Iterator<SortedColumn> columns;
+    private final View view;
+    private final SchemaUtils schemaUtils;
+    private final boolean skipValidation;
+    private final PriorityQueue<Head> heads = new PriorityQueue<>((a, b) -> COMPARATOR.compare(a.sortValue, b.sortValue));
+    private final List<CloseableIterator<Element>> openIterators = new ArrayList<>();
+    private SortedColumn currentColumn;
+    private ElementFilter validator;
+    private ElementFilter preAggregationFilter;
+    private Iterator<Element> pending = Collections.emptyIterator();
+    private boolean closed;
+
+    /**
+     * @param snapshotDirToPathToFilter a map from each snapshot to the files to read from it and their Parquet filters,
+     *                                  where a path may also be the directory of a group
+     * @param snapshotDirToIndex        a map from each snapshot to its index
+     * @param pathsExcludingSelfLoops   the paths from which edges with the same source and destination are excluded
+     * @param view                      the view to apply
+     * @param schemaUtils               the schema utils of the store
+     * @param skipValidation            true if the validation should not be applied
+     * @param user                      the user, whose data auths are used to check the elements' visibilities
+     */
+    public MergeAggregatingIterator(final Map<String, Map<Path, FilterPredicate>> snapshotDirToPathToFilter,
+                                    final Map<String, GraphIndex> snapshotDirToIndex,
+                                    final Set<Path> pathsExcludingSelfLoops,
+                                    final View view,
+                                    final SchemaUtils schemaUtils,
+                                    final boolean skipValidation,
+                                    final User user) {
+        this.view = view;
+        this.schemaUtils = schemaUtils;
+        this.skipValidation = skipValidation;
+
+        final Map<String, SortedColumn> sortedColumns = new LinkedHashMap<>();
+        for (final Map.Entry<String, Map<Path, FilterPredicate>> snapshot : snapshotDirToPathToFilter.entrySet()) {
+            final GraphIndex index = snapshotDirToIndex.get(snapshot.getKey());
+            for (final Map.Entry<Path, FilterPredicate> entry : snapshot.getValue().entrySet()) {
+                final boolean isGroupDir = entry.getKey().getName().contains("=");
+                final Path groupDir = isGroupDir ? entry.getKey() : entry.getKey().getParent();
+                final String group = groupDir.getName().split("=")[1];
+                final String column = getSortColumn(group, groupDir);
+                final SortedColumn sortedColumn = sortedColumns.computeIfAbsent(group + "/" + column, k -> new SortedColumn(group, column));
+                final TreeMap<String, RetrieveElementsFromFile> files = sortedColumn.getFiles(snapshot.getKey());
+                for (final Path path : isGroupDir ? getIndexedPaths(index, group, column, groupDir) : Collections.singletonList(entry.getKey())) {
+                    files.put(path.getName(), new RetrieveElementsFromFile(path, entry.getValue(), schemaUtils.getGafferSchema(),
+                            null, false, skipValidation, view, user, pathsExcludingSelfLoops.contains(path)));
+                }
+            }
+        }
+        this.columns = sortedColumns.values().iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!pending.hasNext()) {
+            if (closed) {
+                return false;
+            }
+            if (heads.isEmpty() && !nextColumn()) {
+                close();
+                return false;
+            }
+            if (!heads.isEmpty()) {
+                pending = filter(aggregate(pollElementsWithSameSortValue())).iterator();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Element next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return pending.next();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            closeOpenIterators();
+            pending = Collections.emptyIterator();
+        }
+    }
+
+    private boolean nextColumn() {
+        closeOpenIterators();
+        while (columns.hasNext()) {
+            currentColumn = columns.next();
+            final ViewElementDefinition elementDef = view.getElement(currentColumn.group);
+            validator = skipValidation ? null : schemaUtils.getGafferSchema().getElement(currentColumn.group).getValidator(false);
+            preAggregationFilter = null == elementDef ? null : elementDef.getPreAggregationFilter();
+            for (final TreeMap<String, RetrieveElementsFromFile> files : currentColumn.snapshotToFiles.values()) {
+                final CloseableIterator<Element> iterator = new SnapshotIterator(files.values().iterator());
+                openIterators.add(iterator);
+                advance(iterator);
+            }
+            if (!heads.isEmpty()) {
+                return true;
+            }
+            closeOpenIterators();
+        }
+        return false;
+    }
+
+    private List<Element> pollElementsWithSameSortValue() {
+        final Head first = heads.poll();
+        final List<Element> elements = new ArrayList<>();
+        elements.add(first.element);
+        advanceWhileEqual(first.iterator, first.sortValue, elements);
+        while (!heads.isEmpty() && 0 == COMPARATOR.compare(heads.peek().sortValue, first.sortValue)) {
+            final Head head = heads.poll();
+            elements.add(head.element);
+            advanceWhileEqual(head.iterator, first.sortValue, elements);
+        }
+        return elements;
+    }
+
+    private Iterable<Element> aggregate(final List<Element> elements) {
+        if (1 == elements.size()) {
+            return elements;
+        }
+        return AggregatorUtil.ingestAggregate(elements, schemaUtils.getGafferSchema());
+    }
+
+    private List<Element> filter(final Iterable<Element> elements) {
+        final List<Element> filtered = new ArrayList<>();
+        for (final Element element : elements) {
+            if ((null == validator || validator.test(element))
+                    && (null == preAggregationFilter || preAggregationFilter.test(element))) {
+                ViewUtil.removeProperties(view, element);
+                filtered.add(element);
+            }
+        }
+        return filtered;
+    }
+
+    private void advance(final Iterator<Element> iterator) {
+        if (iterator.hasNext()) {
+            final Element element = iterator.next();
+            heads.add(new Head(element, getSortValue(element), iterator));
+        }
+    }
+
+    private void advanceWhileEqual(final Iterator<Element> iterator, final Object[] sortValue, final List<Element> elements) {
+        while (iterator.hasNext()) {
+            final Element element = iterator.next();
+            final Object[] elementSortValue = getSortValue(element);
+            if (0 != COMPARATOR.compare(elementSortValue, sortValue)) {
+                heads.add(new Head(element, elementSortValue, iterator));
+                return;
+            }
+            elements.add(element);
+        }
+    }
+
+    private Object[] getSortValue(final Element element) {
+        final Object value;
+        if (ParquetStoreConstants.VERTEX.equals(currentColumn.column)) {
+            value = ((Entity) element).getVertex();
+        } else if (ParquetStoreConstants.SOURCE.equals(currentColumn.column)) {
+            value = ((Edge) element).getSource();
+        } else {
+            value = ((Edge) element).getDestination();
+        }
+        try {
+            return currentColumn.converter.gafferObjectToParquetObjects(currentColumn.column, value);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to serialise " + value, e);
+        }
+    }
+
+    private void closeOpenIterators() {
+        for (final CloseableIterator<Element> iterator : openIterators) {
+            iterator.close();
+        }
+        openIterators.clear();
+        heads.clear();
+    }
+
+    private String getSortColumn(final String group, final Path groupDir) {
+        if (schemaUtils.getEntityGroups().contains(group)) {
+            return ParquetStoreConstants.VERTEX;
+        }
+        if (ParquetStoreConstants.GRAPH.equals(groupDir.getParent().getName())) {
+            return ParquetStoreConstants.SOURCE;
+        }
+        return ParquetStoreConstants.DESTINATION;
+    }
+
+    private static List<Path> getIndexedPaths(final GraphIndex index, final String group, final String column, final Path groupDir) {
+        final GroupIndex groupIndex = null == index ? null : index.getGroup(group);
+        final ColumnIndex columnIndex = null == groupIndex ? null : groupIndex.getColumn(column);
+        if (null == columnIndex) {
+            return Collections.emptyList();
+        }
+        final List<Path> paths = new ArrayList<>(columnIndex.size());
+        final Iterator<MinValuesWithPath> minValuesWithPaths = columnIndex.getIterator();
+        while (minValuesWithPaths.hasNext()) {
+            paths.add(new Path(groupDir, minValuesWithPaths.next().getPath()));
+        }
+        return paths;
+    }
+
+    /**
+     * The files of a single group and sort column, with the files from each snapshot ordered by name, which is the
+     * order of the values in that column.
+     */
+    private final class SortedColumn {
+        private final String group;
+        private final String column;
+        private final GafferGroupObjectConverter converter;
+        private final Map<String, TreeMap<String, RetrieveElementsFromFile>> snapshotToFiles = new LinkedHashMap<>();
+
+        private SortedColumn(final String group, final String column) {
+            this.group = group;
+            this.column = column;
+            try {
+                this.converter = schemaUtils.getConverter(group);
+            } catch (final SerialisationException e) {
+                throw new RuntimeException("Unable to get the converter for group " + group, e);
+            }
+        }
+
+        private TreeMap<String, RetrieveElementsFromFile> getFiles(final String snapshotDir) {
+            return snapshotToFiles.computeIfAbsent(snapshotDir, k -> new TreeMap<>());
+        }
+    }
+
+    /**
+     * Reads the files of a single snapshot one after another.
+     */
+    private static final class SnapshotIterator implements CloseableIterator<Element> {
+        private final Iterator<RetrieveElementsFromFile> files;
+        private CloseableIterator<Element> current;
+
+        private SnapshotIterator(final Iterator<RetrieveElementsFromFile> files) {
+            this.files = files;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (null == current || !current.hasNext()) {
+                if (null != current) {
+                    current.close();
+                    current = null;
+                }
+                if (!files.hasNext()) {
+                    return false;
+                }
+                current = files.next().readVisibleElements();
+            }
+            return true;
+        }
+
+        @Override
+        public Element next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        @Override
+        public void close() {
+            if (null != current) {
+                current.close();
+                current = null;
+            }
+        }
+    }
+
+    private static final class Head {
+        private final Element element;
+        private final Object[] sortValue;
+        private final Iterator<Element> iterator;
+
+        private Head(final Element element, final Object[] sortValue, final Iterator<Element> iterator) {
+            this.element = element;
+            this.sortValue = sortValue;
+            this.iterator = iterator;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.slf4j.LoggerFactory;
 
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterator;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.id.DirectedType;
 import uk.gov.gchq.gaffer.data.element.id.ElementId;
@@ -35,14 +36,20 @@ import uk.gov.gchq.gaffer.parquetstore.ParquetStore;
 import uk.gov.gchq.gaffer.parquetstore.ParquetStoreProperties;
 import uk.gov.gchq.gaffer.parquetstore.index.GraphIndex;
 import uk.gov.gchq.gaffer.parquetstore.utils.ParquetFilterUtils;
+import uk.gov.gchq.gaffer.parquetstore.utils.SchemaUtils;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -64,9 +71,10 @@ public class ParquetElementRetriever implements CloseableIterable<Element> {
     private final SeedMatching.SeedMatchingType seedMatchingType;
     private final Iterable<? extends ElementId> seeds;
     private final ParquetFilterUtils parquetFilterUtils;
-    private GraphIndex graphIndex;
+    private final Map<String, GraphIndex> snapshotDirToIndex;
     private final ParquetStoreProperties properties;
     private final Schema gafferSchema;
+    private final SchemaUtils schemaUtils;
     private final User user;
 
     public ParquetElementRetriever(final View view,
@@ -78,11 +86,12 @@ public class ParquetElementRetriever implements CloseableIterable<Element> {
                                    final User user) throws OperationException, StoreException {
         this.view = view;
         this.gafferSchema = store.getSchema();
+        this.schemaUtils = store.getSchemaUtils();
         this.directedType = directedType;
         this.includeIncomingOutgoingType = includeIncomingOutgoingType;
         this.seedMatchingType = seedMatchingType;
         this.seeds = seeds;
-        this.graphIndex = store.getGraphIndex();
+        this.snapshotDirToIndex = store.getSnapshotDirToIndex();
         this.parquetFilterUtils = new ParquetFilterUtils(store);
         this.properties = store.getProperties();
         this.user = user;
@@ -94,8 +103,33 @@ public class ParquetElementRetriever implements CloseableIterable<Element> {
 
     @Override
     public CloseableIterator<Element> iterator() {
+        if (snapshotDirToIndex.size() > 1 && properties.getAggregateOnIngest()) {
+            // Elements in the delta snapshots have not been aggregated with the elements in the current snapshot
+            return createMergeAggregatingIterator();
+        }
         return new ParquetIterator(view, directedType, includeIncomingOutgoingType,
-                seedMatchingType, seeds, parquetFilterUtils, graphIndex, properties, gafferSchema, user);
+                seedMatchingType, seeds, parquetFilterUtils, snapshotDirToIndex, properties, gafferSchema, user);
+    }
+
+    private CloseableIterator<Element> createMergeAggregatingIterator() {
+        final Map<String, Map<Path, FilterPredicate>> snapshotDirToPathToFilter = new LinkedHashMap<>();
+        final Set<Path> pathsExcludingSelfLoops = new HashSet<>();
+        parquetFilterUtils.setAggregatedPropertyFiltersPushedDown(false);
+        try {
+            for (final Map.Entry<String, GraphIndex> snapshot : snapshotDirToIndex.entrySet()) {
+                parquetFilterUtils.buildPathToFilterMap(view, directedType, includeIncomingOutgoingType, seedMatchingType, seeds, snapshot.getValue(), snapshot.getKey());
+                LOGGER.debug("pathToFilterMap for {}: {}", snapshot.getKey(), parquetFilterUtils.getPathToFilterMap());
+                snapshotDirToPathToFilter.put(snapshot.getKey(), new HashMap<>(parquetFilterUtils.getPathToFilterMap()));
+                pathsExcludingSelfLoops.addAll(parquetFilterUtils.getPathsExcludingSelfLoops());
+            }
+        } catch (final OperationException | SerialisationException e) {
+            LOGGER.error("Exception while creating the mapping of file paths to Parquet filters: {}", e.getMessage());
+            return new WrappedCloseableIterator<>(Collections.emptyIterator());
+        } finally {
+            parquetFilterUtils.setAggregatedPropertyFiltersPushedDown(true);
+        }
+        return new MergeAggregatingIterator(snapshotDirToPathToFilter, snapshotDirToIndex, pathsExcludingSelfLoops,
+                view, schemaUtils, properties.getSkipValidation(), user);
     }
 
     protected static class ParquetIterator implements CloseableIterator<Element> {
@@ -109,22 +143,27 @@ public class ParquetElementRetriever implements CloseableIterable<Element> {
                                   final SeedMatching.SeedMatchingType seedMatchingType,
                                   final Iterable<? extends ElementId> seeds,
                                   final ParquetFilterUtils parquetFilterUtils,
-                                  final GraphIndex graphIndex,
+                                  final Map<String, GraphIndex> snapshotDirToIndex,
                                   final ParquetStoreProperties properties,
                                   final Schema gafferSchema,
                                   final User user) {
             try {
-                if (null != graphIndex) {
-                    parquetFilterUtils.buildPathToFilterMap(view, directedType, includeIncomingOutgoingType, seedMatchingType, seeds, graphIndex);
-                    final Map<Path, FilterPredicate> pathToFilterMap = parquetFilterUtils.getPathToFilterMap();
-                    LOGGER.debug("pathToFilterMap: {}", pathToFilterMap);
-                    if (!pathToFilterMap.isEmpty()) {
-                        queue = new ConcurrentLinkedQueue<>();
+                if (!snapshotDirToIndex.isEmpty()) {
+                    queue = new ConcurrentLinkedQueue<>();
+                    final List<RetrieveElementsFromFile> tasks = new ArrayList<>();
+                    for (final Map.Entry<String, GraphIndex> snapshot : snapshotDirToIndex.entrySet()) {
+                        parquetFilterUtils.buildPathToFilterMap(view, directedType, includeIncomingOutgoingType, seedMatchingType, seeds, snapshot.getValue(), snapshot.getKey());
+                        final Map<Path, FilterPredicate> pathToFilterMap = parquetFilterUtils.getPathToFilterMap();
+                        final boolean needsValidatorsAndFiltersApplying = parquetFilterUtils.needsValidatorsAndFiltersApplying();
+                        final Set<Path> pathsExcludingSelfLoops = new HashSet<>(parquetFilterUtils.getPathsExcludingSelfLoops());
+                        LOGGER.debug("pathToFilterMap for {}: {}", snapshot.getKey(), pathToFilterMap);
+                        tasks.addAll(pathToFilterMap.entrySet().stream().map(entry -> new RetrieveElementsFromFile(entry.getKey(), entry.getValue(), gafferSchema, queue, needsValidatorsAndFiltersApplying, properties.getSkipValidation(), view, user, pathsExcludingSelfLoops.contains(entry.getKey()))).collect(Collectors.toList()));
+                    }
+                    if (!tasks.isEmpty()) {
                         executorServicePool = Executors.newFixedThreadPool(properties.getThreadsAvailable());
-                        final List<RetrieveElementsFromFile> tasks = new ArrayList<>(pathToFilterMap.size());
-                        tasks.addAll(pathToFilterMap.entrySet().stream().map(entry -> new RetrieveElementsFromFile(entry.getKey(), entry.getValue(), gafferSchema, queue, parquetFilterUtils.needsValidatorsAndFiltersApplying(), properties.getSkipValidation(), view, user)).collect(Collectors.toList()));
                         runningTasks = executorServicePool.invokeAll(tasks);
                     } else {
+                        queue = null;
                         LOGGER.debug(THERE_ARE_NO_RESULTS_FOR_THIS_QUERY);
                     }
                 } else {
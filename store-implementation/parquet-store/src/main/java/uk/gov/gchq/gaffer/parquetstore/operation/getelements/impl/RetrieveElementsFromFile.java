@@ -26,6 +26,9 @@ import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.Authorisations;
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.ElementVisibility;
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.VisibilityEvaluator;
 import uk.gov.gchq.gaffer.commonutil.elementvisibilityutil.exception.VisibilityParseException;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.commonutil.iterable.WrappedCloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
@@ -39,6 +42,8 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -63,11 +68,20 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
     private final Schema gafferSchema;
     private final Authorisations auths;
     private final String visibility;
+    private final boolean excludeSelfLoops;
 
     public RetrieveElementsFromFile(final Path filePath, final FilterPredicate filter, final Schema gafferSchema,
                                     final ConcurrentLinkedQueue<Element> queue, final boolean needsValidatorsAndFiltersApplying,
                                     final boolean skipValidation, final View view, final User user) {
+        this(filePath, filter, gafferSchema, queue, needsValidatorsAndFiltersApplying, skipValidation, view, user, false);
+    }
+
+    public RetrieveElementsFromFile(final Path filePath, final FilterPredicate filter, final Schema gafferSchema,
+                                    final ConcurrentLinkedQueue<Element> queue, final boolean needsValidatorsAndFiltersApplying,
+                                    final boolean skipValidation, final View view, final User user,
+                                    final boolean excludeSelfLoops) {
         this.filePath = filePath;
+        this.excludeSelfLoops = excludeSelfLoops;
         this.filter = filter;
         this.jsonGafferSchema = gafferSchema.toCompactJson();
         this.gafferSchema = gafferSchema;
@@ -102,43 +116,15 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
         if (null == elementFilter) {
             elementFilter = new ViewElementDefinition.Builder().json(elementDefinitionJson).build().getPreAggregationFilter();
         }
-        if (null == schemaUtils) {
-            schemaUtils = new SchemaUtils(Schema.fromJson(jsonGafferSchema));
-        }
         try {
             final ParquetReader<Element> fileReader = openParquetReader();
-            Element e = fileReader.read();
+            Element e = readVisibleElement(fileReader);
             while (null != e) {
-                if (!visibility.isEmpty()) {
-                    if (isVisible(e)) {
-                        if (needsValidatorsAndFiltersApplying) {
-                            final String group = e.getGroup();
-                            final ElementFilter validatorFilter = gafferSchema.getElement(group).getValidator(false);
-                            if (skipValidation || validatorFilter == null || validatorFilter.test(e)) {
-                                if (elementFilter == null || elementFilter.test(e)) {
-                                    ViewUtil.removeProperties(view, e);
-                                    queue.add(e);
-                                }
-                            }
-                        } else {
-                            ViewUtil.removeProperties(view, e);
-                            queue.add(e);
-                        }
-                    }
-                } else if (needsValidatorsAndFiltersApplying) {
-                    final String group = e.getGroup();
-                    final ElementFilter validatorFilter = gafferSchema.getElement(group).getValidator(false);
-                    if (skipValidation || validatorFilter == null || validatorFilter.test(e)) {
-                        if (elementFilter == null || elementFilter.test(e)) {
-                            ViewUtil.removeProperties(view, e);
-                            queue.add(e);
-                        }
-                    }
-                } else {
+                if (!needsValidatorsAndFiltersApplying || isValidAndMatchesFilter(e)) {
                     ViewUtil.removeProperties(view, e);
                     queue.add(e);
                 }
-                e = fileReader.read();
+                e = readVisibleElement(fileReader);
             }
             fileReader.close();
         } catch (final IOException ignore) {
@@ -147,7 +133,83 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
         return null;
     }
 
+    /**
+     * Lazily reads the elements in the file that are visible to the user. The validation and the view are not
+     * applied, so the elements can be aggregated with the elements from other files first.
+     *
+     * @return an iterator of the visible elements in the file, which is empty if the file does not exist
+     */
+    CloseableIterator<Element> readVisibleElements() {
+        final ParquetReader<Element> fileReader;
+        try {
+            fileReader = openParquetReader();
+        } catch (final IOException ignore) {
+            // ignore as this file does not exist
+            return new WrappedCloseableIterator<>(Collections.emptyIterator());
+        }
+
+        return new CloseableIterator<Element>() {
+            private Element next;
+            private boolean closed;
+
+            @Override
+            public boolean hasNext() {
+                if (null == next && !closed) {
+                    try {
+                        next = readVisibleElement(fileReader);
+                    } catch (final IOException | VisibilityParseException e) {
+                        close();
+                        throw new RuntimeException("Failed to read elements from file " + filePath, e);
+                    }
+                    if (null == next) {
+                        close();
+                    }
+                }
+                return null != next;
+            }
+
+            @Override
+            public Element next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Element element = next;
+                next = null;
+                return element;
+            }
+
+            @Override
+            public void close() {
+                if (!closed) {
+                    closed = true;
+                    try {
+                        fileReader.close();
+                    } catch (final IOException e) {
+                        LOGGER.warn("Failed to close the Parquet reader for file {}", filePath, e);
+                    }
+                }
+            }
+        };
+    }
+
+    private Element readVisibleElement(final ParquetReader<Element> fileReader) throws IOException, VisibilityParseException {
+        Element e = fileReader.read();
+        while (null != e && ((excludeSelfLoops && isSelfLoop(e)) || (!visibility.isEmpty() && !isVisible(e)))) {
+            e = fileReader.read();
+        }
+        return e;
+    }
+
+    private boolean isValidAndMatchesFilter(final Element e) {
+        final ElementFilter validatorFilter = gafferSchema.getElement(e.getGroup()).getValidator(false);
+        return (skipValidation || null == validatorFilter || validatorFilter.test(e))
+                && (null == elementFilter || elementFilter.test(e));
+    }
+
     private ParquetReader<Element> openParquetReader() throws IOException {
+        if (null == schemaUtils) {
+            schemaUtils = new SchemaUtils(Schema.fromJson(jsonGafferSchema));
+        }
         final boolean isEntity = schemaUtils.getEntityGroups().contains(group);
         final GafferGroupObjectConverter converter = schemaUtils.getConverter(group);
         LOGGER.debug("Opening a new Parquet reader for file: {}", filePath);
@@ -165,6 +227,10 @@ public class RetrieveElementsFromFile implements Callable<OperationException> {
         }
     }
 
+    private static boolean isSelfLoop(final Element e) {
+        return e instanceof Edge && ((Edge) e).getSource().equals(((Edge) e).getDestination());
+    }
+
     private Boolean isVisible(final Element e) throws VisibilityParseException {
         if (e.getProperty(visibility) != null) {
             final VisibilityEvaluator visibilityEvaluator = new VisibilityEvaluator(auths);
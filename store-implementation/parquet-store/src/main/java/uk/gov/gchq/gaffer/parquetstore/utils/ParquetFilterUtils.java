@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.data.element.IdentifierType;
 import uk.gov.gchq.gaffer.data.element.id.DirectedType;
 import uk.gov.gchq.gaffer.data.element.id.ElementId;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
@@ -34,10 +35,14 @@ import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.graph.SeededGraphFilters;
 import uk.gov.gchq.gaffer.parquetstore.ParquetStore;
+import uk.gov.gchq.gaffer.parquetstore.index.ColumnIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.FileSummary;
 import uk.gov.gchq.gaffer.parquetstore.index.GraphIndex;
 import uk.gov.gchq.gaffer.parquetstore.index.GroupIndex;
+import uk.gov.gchq.gaffer.parquetstore.index.IndexPruningMetrics;
 import uk.gov.gchq.gaffer.parquetstore.index.MinValuesWithPath;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
 import uk.gov.gchq.koryphe.impl.predicate.AgeOff;
 import uk.gov.gchq.koryphe.impl.predicate.And;
 import uk.gov.gchq.koryphe.impl.predicate.IsEqual;
@@ -85,6 +90,8 @@ public final class ParquetFilterUtils {
     private final String rootDir;
     private final SchemaUtils schemaUtils;
     private final boolean skipValidation;
+    private final int seedMergeJoinThreshold;
+    private final IndexPruningMetrics indexPruningMetrics;
     private String dataDir;
     private View view;
     private DirectedType directedType;
@@ -93,7 +100,9 @@ public final class ParquetFilterUtils {
     private Iterable<? extends ElementId> seeds;
     private GraphIndex graphIndex;
     private final Map<Path, FilterPredicate> pathToFilterMap;
+    private final Set<Path> pathsExcludingSelfLoops;
     private boolean needsValidatorsAndFiltersApplying;
+    private boolean aggregatedPropertyFiltersPushedDown = true;
 
     /**
      * The constructor which sets up this object so it is ready to convert the inputs for get elements operations and
@@ -105,7 +114,10 @@ public final class ParquetFilterUtils {
         this.rootDir = store.getDataDir();
         this.schemaUtils = store.getSchemaUtils();
         this.pathToFilterMap = new HashMap<>();
+        this.pathsExcludingSelfLoops = new HashSet<>();
         this.skipValidation = store.getProperties().getSkipValidation();
+        this.seedMergeJoinThreshold = store.getProperties().getSeedMergeJoinThreshold();
+        this.indexPruningMetrics = store.getIndexPruningMetrics();
         this.needsValidatorsAndFiltersApplying = false;
     }
 
@@ -113,10 +125,39 @@ public final class ParquetFilterUtils {
         return pathToFilterMap;
     }
 
+    /**
+     * When the seeds are merge joined with the files, the filters for the reversed edges can not exclude the edges
+     * whose source is the seed, as that requires comparing two columns, so the edges where the source is equal to the
+     * destination must be removed from the files returned by this method once they have been read.
+     *
+     * @return the paths from which any edges whose source is equal to their destination should be excluded
+     */
+    public Set<Path> getPathsExcludingSelfLoops() {
+        return pathsExcludingSelfLoops;
+    }
+
     public boolean needsValidatorsAndFiltersApplying() {
         return needsValidatorsAndFiltersApplying;
     }
 
+    public boolean isAggregatedPropertyFiltersPushedDown() {
+        return aggregatedPropertyFiltersPushedDown;
+    }
+
+    /**
+     * When the rows in the files still need to be aggregated with the rows in other files, as there are delta
+     * snapshots, a filter on a property that is aggregated at ingest would be applied to the partial rows rather than
+     * the aggregated row. This should be set to false in that case, so only the validation and view filters that
+     * select identifiers or ingest group by properties are converted into Parquet filters. The remaining filters must
+     * be applied once the rows have been aggregated.
+     *
+     * @param aggregatedPropertyFiltersPushedDown true if filters on aggregated properties should be converted into
+     *                                            Parquet filters
+     */
+    public void setAggregatedPropertyFiltersPushedDown(final boolean aggregatedPropertyFiltersPushedDown) {
+        this.aggregatedPropertyFiltersPushedDown = aggregatedPropertyFiltersPushedDown;
+    }
+
     /**
      * Takes in the various inputs to get elements operations and generates a mapping of which paths to apply which
      * Parquet filters.
@@ -138,8 +179,35 @@ public final class ParquetFilterUtils {
             final Iterable<? extends ElementId> seeds,
             final GraphIndex graphIndex)
             throws SerialisationException, OperationException {
+        buildPathToFilterMap(view, directedType, includeIncomingOutgoingType, seedMatchingType, seeds, graphIndex,
+                rootDir + "/" + graphIndex.getSnapshotTimestamp());
+    }
+
+    /**
+     * Takes in the various inputs to get elements operations and generates a mapping of which paths to apply which
+     * Parquet filters, where the data described by the {@link GraphIndex} is stored in the given directory.
+     *
+     * @param view                        the Gaffer {@link View} to be applied
+     * @param directedType                the {@link DirectedType} to be applied
+     * @param includeIncomingOutgoingType the {@link uk.gov.gchq.gaffer.operation.graph.SeededGraphFilters.IncludeIncomingOutgoingType} to be applied
+     * @param seedMatchingType            the {@link uk.gov.gchq.gaffer.operation.SeedMatching.SeedMatchingType} to be applied
+     * @param seeds                       the seeds to be applied
+     * @param graphIndex                  the {@link GraphIndex} to use
+     * @param dataDir                     the directory containing the data described by the graphIndex
+     * @throws SerialisationException If any of the Gaffer objects are unable to be serialised to Parquet objects
+     * @throws OperationException     If a serialiser is used which serialises objects to a type not supported
+     */
+    public void buildPathToFilterMap(
+            final View view,
+            final DirectedType directedType,
+            final SeededGraphFilters.IncludeIncomingOutgoingType includeIncomingOutgoingType,
+            final SeedMatching.SeedMatchingType seedMatchingType,
+            final Iterable<? extends ElementId> seeds,
+            final GraphIndex graphIndex,
+            final String dataDir)
+            throws SerialisationException, OperationException {
         // Setup global variables to build a new PathToFilter mapping
-        this.dataDir = rootDir + "/" + graphIndex.getSnapshotTimestamp();
+        this.dataDir = dataDir;
         this.view = view;
         this.directedType = directedType;
         this.includeIncomingOutgoingType = includeIncomingOutgoingType;
@@ -167,6 +235,7 @@ public final class ParquetFilterUtils {
             entityGroups = schemaUtils.getEntityGroups();
         }
         this.pathToFilterMap.clear();
+        this.pathsExcludingSelfLoops.clear();
         this.needsValidatorsAndFiltersApplying = false;
 
         if (null == seeds && (null == view || schemaUtils.getEmptyView().equals(view))) {
@@ -211,11 +280,19 @@ public final class ParquetFilterUtils {
                 final Pair<List<Object[]>, Map<Object[], Pair<Object[], DirectedType>>> prepSeedsResult = prepSeeds(identifier, group, isEntityGroup);
                 final List<Object[]> sortedSeeds = prepSeedsResult.getFirst();
                 final Map<Object[], Pair<Object[], DirectedType>> seed2Parts = prepSeedsResult.getSecond();
-                // Build graph path to filter
-                buildSeedFilterForIndex(sortedSeeds, identifier, group, isEntityGroup, seed2Parts);
-                if (!isEntityGroup) {
-                    // Build reverseEdges path to filter
-                    buildSeedFilterForIndex(sortedSeeds, ParquetStoreConstants.DESTINATION, group, false, seed2Parts);
+                if (useSeedMergeJoin(sortedSeeds, seed2Parts, identifier, group)) {
+                    LOGGER.debug("Merge joining {} seeds with the files for group {}", sortedSeeds.size(), group);
+                    buildMergeJoinSeedFilterForIndex(sortedSeeds, identifier, group, isEntityGroup);
+                    if (!isEntityGroup) {
+                        buildMergeJoinSeedFilterForIndex(sortedSeeds, ParquetStoreConstants.DESTINATION, group, false);
+                    }
+                } else {
+                    // Build graph path to filter
+                    buildSeedFilterForIndex(sortedSeeds, identifier, group, isEntityGroup, seed2Parts);
+                    if (!isEntityGroup) {
+                        // Build reverseEdges path to filter
+                        buildSeedFilterForIndex(sortedSeeds, ParquetStoreConstants.DESTINATION, group, false, seed2Parts);
+                    }
                 }
             }
         }
@@ -278,7 +355,8 @@ public final class ParquetFilterUtils {
     private void buildSeedFilterForIndex(final List<Object[]> sortedSeeds, final String indexedColumn, final String group,
                                          final boolean isEntityGroup, final Map<Object[], Pair<Object[], DirectedType>> seed2Parts)
             throws OperationException, SerialisationException {
-        final Map<Object[], Set<Path>> seedsToPaths = getIndexedPathsForSeeds(sortedSeeds, indexedColumn, group);
+        final Map<Object[], Set<Path>> seedsToPaths = pruneIndexedPathsForSeeds(
+                getIndexedPathsForSeeds(sortedSeeds, indexedColumn, group), indexedColumn, group);
         for (final Map.Entry<Object[], Set<Path>> entry : seedsToPaths.entrySet()) {
             final Set<Path> paths = entry.getValue();
             final Object[] currentSeed = entry.getKey();
@@ -288,6 +366,81 @@ public final class ParquetFilterUtils {
         }
     }
 
+    /**
+     * The seeds are merge joined with the files, rather than being converted to an or of equality filters, if they are
+     * all {@link EntitySeed}s, there are at least the configured threshold number of them and the vertex is stored in a
+     * single Parquet column of a supported type.
+     *
+     * @param sortedSeeds   the seeds converted to Parquet objects
+     * @param seed2Parts    the destinations and directed types of any {@link EdgeSeed}s
+     * @param indexedColumn the name of the column that the seeds relate to
+     * @param group         the Gaffer group name
+     * @return true if the seeds should be merge joined with the files
+     * @throws SerialisationException If the Parquet schema for the group can not be created
+     */
+    private boolean useSeedMergeJoin(final List<Object[]> sortedSeeds,
+                                     final Map<Object[], Pair<Object[], DirectedType>> seed2Parts,
+                                     final String indexedColumn,
+                                     final String group) throws SerialisationException {
+        if (sortedSeeds.size() < seedMergeJoinThreshold || !seed2Parts.isEmpty()) {
+            return false;
+        }
+        final String[] paths = schemaUtils.getPaths(group, indexedColumn);
+        return (null == paths || paths.length == 1) && SeedMergeJoinPredicate.isSupported(sortedSeeds.get(0)[0]);
+    }
+
+    /**
+     * This method adds to the pathToFilterMap a {@link SeedMergeJoinPredicate} for each path that may contain one of
+     * the seeds, along with the filters from {@link #addPathToSeedFilter} that do not depend on the seed.
+     *
+     * @param sortedSeeds   the {@link EntitySeed}s converted to Parquet objects and sorted using the {@link SeedComparator}
+     * @param indexedColumn the name of the indexed column to apply the seed filters to
+     * @param group         the name of the group to apply the seed filters to
+     * @param isEntityGroup whether the provided group is an Entity group
+     * @throws SerialisationException If any of the Gaffer objects are unable to be serialised to Parquet objects
+     */
+    private void buildMergeJoinSeedFilterForIndex(final List<Object[]> sortedSeeds, final String indexedColumn,
+                                                  final String group, final boolean isEntityGroup)
+            throws SerialisationException {
+        if (!isEntityGroup && seedMatchingType == SeedMatching.SeedMatchingType.EQUAL) {
+            return;
+        }
+        final Map<Object[], Set<Path>> seedsToPaths = pruneIndexedPathsForSeeds(
+                getIndexedPathsForSeeds(sortedSeeds, indexedColumn, group), indexedColumn, group);
+        final Map<Path, List<Object>> pathToSeeds = new HashMap<>();
+        for (final Object[] seed : sortedSeeds) {
+            final Set<Path> paths = seedsToPaths.get(seed);
+            if (null != paths) {
+                for (final Path path : paths) {
+                    pathToSeeds.computeIfAbsent(path, k -> new ArrayList<>()).add(seed[0]);
+                }
+            }
+        }
+        String[] columnPaths = schemaUtils.getPaths(group, indexedColumn);
+        if (null == columnPaths) {
+            columnPaths = new String[]{indexedColumn};
+        }
+        final boolean isReversedEdges = ParquetStoreConstants.DESTINATION.equals(indexedColumn);
+        for (final Map.Entry<Path, List<Object>> entry : pathToSeeds.entrySet()) {
+            final Path path = entry.getKey();
+            FilterPredicate filter = SeedMergeJoinPredicate.in(columnPaths[0], entry.getValue());
+            if (!isEntityGroup) {
+                if (includeIncomingOutgoingType == SeededGraphFilters.IncludeIncomingOutgoingType.INCOMING && !isReversedEdges) {
+                    // Source = vertex of seed and edge is not directed
+                    filter = andFilter(filter, addIsEqualFilter(ParquetStoreConstants.DIRECTED, new Object[]{false}, group, true).getFirst());
+                } else if (includeIncomingOutgoingType == SeededGraphFilters.IncludeIncomingOutgoingType.OUTGOING && isReversedEdges) {
+                    // Destination = vertex of seed and edge is not directed
+                    filter = andFilter(filter, addIsEqualFilter(ParquetStoreConstants.DIRECTED, new Object[]{false}, group, true).getFirst());
+                }
+                if (isReversedEdges) {
+                    // Source != vertex of seed, i.e. source != destination, as that row of data will be retrieved when querying the source indexed directory
+                    pathsExcludingSelfLoops.add(path);
+                }
+            }
+            pathToFilterMap.put(path, orFilter(filter, pathToFilterMap.get(path)));
+        }
+    }
+
     /**
      * This method adds the required filters to the pathToFiltersMap for a single path and seed.
      *
@@ -456,6 +609,49 @@ public final class ParquetFilterUtils {
         return seedsToPaths;
     }
 
+    /**
+     * Removes the paths that can not contain a seed, using the {@link FileSummary}s in the index. A path is removed if
+     * the seed is outside the min and max values of all of the file's row groups, or if the seed is not in the file's
+     * Bloom filter. This must only be used when the seeds are being matched for equality.
+     *
+     * @param seedsToPaths  the paths which may contain each seed, based on the min values of the files
+     * @param indexedColumn the name of the indexed column that the seeds relate to
+     * @param group         the Gaffer group name
+     * @return the seedsToPaths with the paths that can not contain each seed removed
+     */
+    private Map<Object[], Set<Path>> pruneIndexedPathsForSeeds(final Map<Object[], Set<Path>> seedsToPaths,
+                                                               final String indexedColumn, final String group) {
+        final GroupIndex groupIndex = graphIndex.getGroup(group);
+        final ColumnIndex columnIndex = null == groupIndex ? null : groupIndex.getColumn(indexedColumn);
+        if (null == columnIndex || !columnIndex.hasSummaries()) {
+            return seedsToPaths;
+        }
+        long checked = 0L;
+        long prunedByRowGroupRange = 0L;
+        long prunedByBloomFilter = 0L;
+        for (final Map.Entry<Object[], Set<Path>> entry : seedsToPaths.entrySet()) {
+            final Object[] seed = entry.getKey();
+            final Iterator<Path> paths = entry.getValue().iterator();
+            while (paths.hasNext()) {
+                final FileSummary fileSummary = columnIndex.getSummary(paths.next().getName());
+                if (null != fileSummary) {
+                    checked++;
+                    if (!fileSummary.isInRowGroupRange(seed)) {
+                        prunedByRowGroupRange++;
+                        paths.remove();
+                    } else if (!fileSummary.isInBloomFilter(seed)) {
+                        prunedByBloomFilter++;
+                        paths.remove();
+                    }
+                }
+            }
+        }
+        indexPruningMetrics.record(checked, prunedByRowGroupRange, prunedByBloomFilter);
+        LOGGER.debug("Pruned {} of {} files using the index for group {} and column {}: {}",
+                prunedByRowGroupRange + prunedByBloomFilter, checked, group, indexedColumn, indexPruningMetrics);
+        return seedsToPaths;
+    }
+
     private Set<Path> getIndexedPathsForSeeds(final Object[] seed, final String indexedColumn,
                                               final String group) {
         if (graphIndex.groupsIndexed().contains(group)) {
@@ -671,6 +867,9 @@ public final class ParquetFilterUtils {
         final List<TupleAdaptedPredicate<String, ?>> validationFunctions = schemaElementDefinition.getValidator(false).getComponents();
         if (null != validationFunctions) {
             for (final TupleAdaptedPredicate<String, ?> filterFunctionContext : validationFunctions) {
+                if (!canPushDown(group, filterFunctionContext.getSelection())) {
+                    continue;
+                }
                 final Pair<FilterPredicate, Set<Path>> filter = buildFilter(filterFunctionContext.getPredicate(), filterFunctionContext.getSelection(), group);
                 groupFilter = andFilter(groupFilter, filter, filterFunctionContext.getSelection().length > 1);
             }
@@ -694,6 +893,9 @@ public final class ParquetFilterUtils {
             List<TupleAdaptedPredicate<String, ?>> preAggFilterFunctions = groupView.getPreAggregationFilterFunctions();
             if (null != preAggFilterFunctions) {
                 for (final TupleAdaptedPredicate<String, ?> filterFunctionContext : preAggFilterFunctions) {
+                    if (!canPushDown(group, filterFunctionContext.getSelection())) {
+                        continue;
+                    }
                     final Pair<FilterPredicate, Set<Path>> filter = buildFilter(filterFunctionContext.getPredicate(), filterFunctionContext.getSelection(), group);
                     groupFilter = andFilter(groupFilter, filter, filterFunctionContext.getSelection().length > 1);
                 }
@@ -724,6 +926,21 @@ public final class ParquetFilterUtils {
         }
     }
 
+    private boolean canPushDown(final String group, final String[] selection) {
+        if (aggregatedPropertyFiltersPushedDown) {
+            return true;
+        }
+
+        final Set<String> groupBy = AggregatorUtil.getIngestGroupBy(group, schemaUtils.getGafferSchema());
+        for (final String column : selection) {
+            if (null == IdentifierType.fromName(column) && !groupBy.contains(column)) {
+                needsValidatorsAndFiltersApplying = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Builds the Parquet filters for a given Gaffer filter and the selection of which columns to apply the filter to.
      * This method handles the nested And, Or and Not's.
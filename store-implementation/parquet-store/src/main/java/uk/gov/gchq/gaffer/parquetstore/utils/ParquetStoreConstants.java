@@ -45,7 +45,9 @@ public final class ParquetStoreConstants {
     public static final String GRAPH = "graph";
     public static final String GROUP = "GROUP";
     public static final String SORTED = "sorted";
+    public static final String DELTAS = "deltas";
     public static final String INDEX = "_index";
+    public static final String INDEX_SUMMARIES = "_index_summaries";
     public static final String VERTEX = IdentifierType.VERTEX.name();
     public static final String SOURCE = IdentifierType.SOURCE.name();
     public static final String DESTINATION = IdentifierType.DESTINATION.name();
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017. Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.parquetstore.utils;
+
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Statistics;
+import org.apache.parquet.filter2.predicate.UserDefinedPredicate;
+import org.apache.parquet.io.api.Binary;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
+
+import static org.apache.parquet.filter2.predicate.FilterApi.binaryColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.doubleColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.floatColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.intColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.longColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.userDefined;
+
+/**
+ * A Parquet {@link UserDefinedPredicate} which keeps the rows whose value for a single column is one of a sorted set of
+ * seeds. It is used instead of an or of equality filters, one per seed, when there are a large number of seeds.
+ * <p>
+ * As the files are sorted by the column being filtered on, the rows are merge joined against the seeds by keeping a
+ * cursor into the seeds, so each row is checked in constant amortised time. Row groups that do not contain any of the
+ * seeds, based on the row group's minimum and maximum values, are skipped without being read.
+ *
+ * @param <T> the type of the Parquet column
+ */
+public class SeedMergeJoinPredicate<T extends Comparable<T>> extends UserDefinedPredicate<T> implements Serializable {
+    private static final long serialVersionUID = -2389454093412235411L;
+
+    private final T[] seeds;
+    private transient int position;
+
+    @SuppressWarnings("unchecked")
+    public SeedMergeJoinPredicate(final Collection<T> seeds) {
+        this.seeds = (T[]) new TreeSet<>(seeds).toArray(new Comparable[0]);
+    }
+
+    /**
+     * Builds a {@link FilterPredicate} which keeps the rows where the given column is equal to one of the seeds.
+     *
+     * @param columnPath     the path of the Parquet column
+     * @param parquetObjects the seeds, converted to the form in which they appear in the Parquet files
+     * @return the filter, or null if the seeds are not of a type that is supported
+     */
+    public static FilterPredicate in(final String columnPath, final Collection<?> parquetObjects) {
+        if (parquetObjects.isEmpty()) {
+            return null;
+        }
+        final Object first = parquetObjects.iterator().next();
+        if (first instanceof String || first instanceof byte[]) {
+            final TreeSet<Binary> binarySeeds = new TreeSet<>();
+            for (final Object seed : parquetObjects) {
+                if (seed instanceof String) {
+                    binarySeeds.add(Binary.fromString((String) seed));
+                } else {
+                    binarySeeds.add(Binary.fromConstantByteArray((byte[]) seed));
+                }
+            }
+            return userDefined(binaryColumn(columnPath), new SeedMergeJoinPredicate<>(binarySeeds));
+        } else if (first instanceof Long) {
+            return userDefined(longColumn(columnPath), new SeedMergeJoinPredicate<>(cast(parquetObjects, Long.class)));
+        } else if (first instanceof Integer) {
+            return userDefined(intColumn(columnPath), new SeedMergeJoinPredicate<>(cast(parquetObjects, Integer.class)));
+        } else if (first instanceof Double) {
+            return userDefined(doubleColumn(columnPath), new SeedMergeJoinPredicate<>(cast(parquetObjects, Double.class)));
+        } else if (first instanceof Float) {
+            return userDefined(floatColumn(columnPath), new SeedMergeJoinPredicate<>(cast(parquetObjects, Float.class)));
+        }
+        return null;
+    }
+
+    /**
+     * @param parquetObject a seed converted to the form in which it appears in the Parquet files
+     * @return true if a {@link SeedMergeJoinPredicate} can be built for seeds of the same type
+     */
+    public static boolean isSupported(final Object parquetObject) {
+        return parquetObject instanceof String || parquetObject instanceof byte[] || parquetObject instanceof Long
+                || parquetObject instanceof Integer || parquetObject instanceof Double || parquetObject instanceof Float;
+    }
+
+    private static <T> TreeSet<T> cast(final Collection<?> objects, final Class<T> clazz) {
+        final TreeSet<T> result = new TreeSet<>();
+        for (final Object object : objects) {
+            result.add(clazz.cast(object));
+        }
+        return result;
+    }
+
+    public int getNumberOfSeeds() {
+        return seeds.length;
+    }
+
+    @Override
+    public boolean keep(final T value) {
+        if (null == value) {
+            return false;
+        }
+        if (position > 0 && value.compareTo(seeds[position - 1]) <= 0) {
+            // The rows are not in order, e.g. a new row group has been started, so reposition the cursor
+            position = lowerBound(value);
+        }
+        while (position < seeds.length && seeds[position].compareTo(value) < 0) {
+            position++;
+        }
+        return position < seeds.length && seeds[position].compareTo(value) == 0;
+    }
+
+    @Override
+    public boolean canDrop(final Statistics<T> statistics) {
+        if (null == statistics) {
+            return false;
+        }
+        final int index = lowerBound(statistics.getMin());
+        return index == seeds.length || seeds[index].compareTo(statistics.getMax()) > 0;
+    }
+
+    @Override
+    public boolean inverseCanDrop(final Statistics<T> statistics) {
+        return false;
+    }
+
+    private int lowerBound(final T value) {
+        final int index = Arrays.binarySearch(seeds, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + seeds.length + " seeds)";
+    }
+}
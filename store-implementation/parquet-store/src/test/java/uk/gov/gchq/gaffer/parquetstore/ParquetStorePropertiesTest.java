@@ -26,6 +26,8 @@ import uk.gov.gchq.gaffer.sketches.serialisation.json.SketchesJsonModules;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class ParquetStorePropertiesTest {
     private ParquetStoreProperties props;
@@ -118,6 +120,23 @@ public class ParquetStorePropertiesTest {
         assertEquals(SketchesJsonModules.class.getName() + "," + TestCustomJsonModules1.class.getName() + "," + TestCustomJsonModules2.class.getName(), modules);
     }
 
+    @Test
+    public void seedMergeJoinThresholdTest() {
+        assertEquals(100, props.getSeedMergeJoinThreshold());
+        props.setSeedMergeJoinThreshold(5);
+        assertEquals(5, props.getSeedMergeJoinThreshold());
+    }
+
+    @Test
+    public void indexBloomFiltersTest() {
+        assertTrue(props.getIndexBloomFilters());
+        assertEquals(0.01, props.getIndexBloomFilterFalsePositiveRate(), 0);
+        props.setIndexBloomFilters(false);
+        props.setIndexBloomFilterFalsePositiveRate(0.05);
+        assertFalse(props.getIndexBloomFilters());
+        assertEquals(0.05, props.getIndexBloomFilterFalsePositiveRate(), 0);
+    }
+
     @Test
     public void shouldMergeParquetJsonModulesAndDeduplicate() {
         // Given
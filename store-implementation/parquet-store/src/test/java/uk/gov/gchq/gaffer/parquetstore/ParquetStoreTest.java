@@ -23,8 +23,11 @@ import uk.gov.gchq.gaffer.store.StoreTrait;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 public class ParquetStoreTest {
 
@@ -39,4 +42,18 @@ public class ParquetStoreTest {
         expectedTraits.add(StoreTrait.VISIBILITY);
         assertEquals(expectedTraits, store.getTraits());
     }
+
+    @Test
+    public void shouldNotRunCompactionsOnceClosed() throws InterruptedException {
+        // Given
+        final ParquetStore store = new ParquetStore();
+        final CountDownLatch compacted = new CountDownLatch(1);
+
+        // When
+        store.close();
+        store.submitCompaction(compacted::countDown);
+
+        // Then
+        assertFalse(compacted.await(100, TimeUnit.MILLISECONDS));
+    }
 }
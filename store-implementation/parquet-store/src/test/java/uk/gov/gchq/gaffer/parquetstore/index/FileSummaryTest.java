@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017. Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.parquetstore.index;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.util.bloom.BloomFilter;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import uk.gov.gchq.gaffer.store.StoreException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class FileSummaryTest {
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldPruneValuesNotInBloomFilter() {
+        final BloomFilter bloomFilter = FileSummary.createBloomFilter(0.01, 100);
+        for (long i = 0; i < 200; i += 2) {
+            bloomFilter.add(FileSummary.getBloomFilterKey(new Object[]{"type", i}));
+        }
+        final FileSummary fileSummary = new FileSummary("part-00000.gz.parquet", bloomFilter, Collections.emptyList());
+
+        int falsePositives = 0;
+        for (long i = 0; i < 200; i += 2) {
+            Assert.assertTrue(fileSummary.isInBloomFilter(new Object[]{"type", i}));
+            Assert.assertTrue(fileSummary.isInBloomFilter(new Object[]{"type", (int) i}));
+            if (fileSummary.isInBloomFilter(new Object[]{"type", i + 1})) {
+                falsePositives++;
+            }
+        }
+        Assert.assertTrue(falsePositives < 10);
+        Assert.assertTrue(fileSummary.isInRowGroupRange(new Object[]{"type", 1L}));
+    }
+
+    @Test
+    public void shouldPruneValuesOutsideRowGroupRanges() {
+        final FileSummary fileSummary = new FileSummary("part-00000.gz.parquet", null, Arrays.asList(
+                new FileSummary.RowGroupRange("b".getBytes(), "d".getBytes(), 4L, 10L),
+                new FileSummary.RowGroupRange("f".getBytes(), "h".getBytes(), 100L, 10L)));
+
+        Assert.assertFalse(fileSummary.isInRowGroupRange(new Object[]{"a"}));
+        Assert.assertTrue(fileSummary.isInRowGroupRange(new Object[]{"b"}));
+        Assert.assertTrue(fileSummary.isInRowGroupRange(new Object[]{"c"}));
+        Assert.assertFalse(fileSummary.isInRowGroupRange(new Object[]{"e"}));
+        Assert.assertTrue(fileSummary.isInRowGroupRange(new Object[]{"h"}));
+        Assert.assertFalse(fileSummary.isInRowGroupRange(new Object[]{"i"}));
+        Assert.assertTrue(fileSummary.isInBloomFilter(new Object[]{"i"}));
+    }
+
+    @Test
+    public void shouldWriteAndReadSummaries() throws IOException, StoreException {
+        final BloomFilter bloomFilter = FileSummary.createBloomFilter(0.01, 10);
+        bloomFilter.add(FileSummary.getBloomFilterKey(new Object[]{5L}));
+        final ColumnIndex columnIndex = new ColumnIndex();
+        columnIndex.addSummary(new FileSummary("part-00000.gz.parquet", bloomFilter, Collections.singletonList(
+                new FileSummary.RowGroupRange(1.0, 9.5, 4L, 10L))));
+        columnIndex.addSummary(new FileSummary("part-00001.gz.parquet", null, Collections.emptyList()));
+        final FileSystem fs = FileSystem.get(new Configuration());
+        final Path path = new Path(testFolder.getRoot().getAbsolutePath(), "_index_summaries");
+
+        columnIndex.writeSummaries(fs.create(path));
+        final ColumnIndex readColumnIndex = new ColumnIndex();
+        readColumnIndex.readSummaries(fs.open(path));
+
+        final FileSummary first = readColumnIndex.getSummary("part-00000.gz.parquet");
+        Assert.assertTrue(first.isInBloomFilter(new Object[]{5L}));
+        Assert.assertEquals(1, first.getRowGroups().size());
+        Assert.assertEquals(1.0, first.getRowGroups().get(0).getMin());
+        Assert.assertEquals(9.5, first.getRowGroups().get(0).getMax());
+        Assert.assertEquals(4L, first.getRowGroups().get(0).getStartingPos());
+        Assert.assertEquals(10L, first.getRowGroups().get(0).getRowCount());
+        final FileSummary second = readColumnIndex.getSummary("part-00001.gz.parquet");
+        Assert.assertNull(second.getBloomFilter());
+        Assert.assertTrue(second.getRowGroups().isEmpty());
+    }
+
+    @Test
+    public void shouldGetRowCountFromSummaries() throws StoreException {
+        final ColumnIndex columnIndex = new ColumnIndex();
+        columnIndex.add(new MinValuesWithPath(new Object[]{1L}, "part-00000.gz.parquet"));
+        columnIndex.add(new MinValuesWithPath(new Object[]{5L}, "part-00001.gz.parquet"));
+        columnIndex.addSummary(new FileSummary("part-00000.gz.parquet", null, Arrays.asList(
+                new FileSummary.RowGroupRange(1L, 3L, 4L, 10L),
+                new FileSummary.RowGroupRange(3L, 4L, 100L, 5L))));
+        Assert.assertNull(columnIndex.getRowCount());
+
+        columnIndex.addSummary(new FileSummary("part-00001.gz.parquet", null, Collections.singletonList(
+                new FileSummary.RowGroupRange(5L, 9L, 4L, 20L))));
+        Assert.assertEquals(35L, (long) columnIndex.getRowCount());
+    }
+}
@@ -17,6 +17,7 @@
 package uk.gov.gchq.gaffer.parquetstore.operation;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -33,32 +34,46 @@ import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.graph.GraphConfig;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.graph.SeededGraphFilters;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.parquetstore.ParquetStore;
 import uk.gov.gchq.gaffer.parquetstore.ParquetStoreProperties;
+import uk.gov.gchq.gaffer.parquetstore.index.GraphIndex;
+import uk.gov.gchq.gaffer.parquetstore.operation.addelements.handler.AddElementsHandler;
 import uk.gov.gchq.gaffer.parquetstore.testutils.DataGen;
 import uk.gov.gchq.gaffer.parquetstore.testutils.TestUtils;
 import uk.gov.gchq.gaffer.spark.operation.dataframe.GetDataFrameOfElements;
+import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.types.FreqMap;
 import uk.gov.gchq.gaffer.user.User;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class EdgeCasesTest {
     private static User USER = new User();
@@ -115,6 +130,276 @@ public class EdgeCasesTest {
         assertFalse(results.hasNext());
     }
 
+    @Test
+    public void addElementsIncrementallyAndCompactTest() throws StoreException, OperationException {
+        final Schema gafferSchema = TestUtils.gafferSchema("schemaUsingStringVertexType");
+        final ParquetStoreProperties parquetStoreProperties = getParquetStoreProperties();
+        parquetStoreProperties.setSampleRate(1);
+        parquetStoreProperties.setAddElementsOutputFilesPerGroup(1);
+        parquetStoreProperties.setAddElementsIncremental(true);
+        final ParquetStore store = new ParquetStore();
+        store.initialise("addElementsIncrementallyAndCompactTest", gafferSchema, parquetStoreProperties);
+        final Context context = new Context(USER);
+        final View view = new View.Builder()
+                .entity(TestGroups.ENTITY)
+                .build();
+        final FreqMap f2 = new FreqMap();
+        f2.upsert("A", 2L);
+        f2.upsert("B", 2L);
+        final ArrayList<Element> elements = new ArrayList<>(1);
+        elements.add(DataGen.getEntity(TestGroups.ENTITY, "vertex", (byte) 'a', 0.2, 3f, TestUtils.getTreeSet1(), 5L, (short) 6,
+                TestUtils.DATE, TestUtils.getFreqMap1(), 1, null));
+        final Entity expected = DataGen.getEntity(TestGroups.ENTITY, "vertex", (byte) 'a', 0.4, 6f, TestUtils.getTreeSet1(), 10L, (short) 12,
+                TestUtils.DATE, f2, 2, "");
+
+        // When
+        store.execute(new AddElements.Builder().input(elements).build(), context);
+        final GraphIndex snapshotIndex = store.getGraphIndex();
+        store.execute(new AddElements.Builder().input(elements).build(), context);
+
+        // Then
+        assertSame(snapshotIndex, store.getGraphIndex());
+        assertEquals(1, store.getDeltaIndices().size());
+        assertEquals(Collections.singletonList(expected),
+                Lists.newArrayList(store.execute(new GetAllElements.Builder().view(view).build(), context)));
+        assertEquals(Collections.singletonList(expected),
+                Lists.newArrayList(store.execute(new GetElements.Builder().input(new EntitySeed("vertex")).view(view).build(), context)));
+
+        // When
+        new AddElementsHandler().compact(store, TestUtils.spark);
+
+        // Then
+        assertNotSame(snapshotIndex, store.getGraphIndex());
+        assertTrue(store.getDeltaIndices().isEmpty());
+        assertEquals(Collections.singletonList(expected),
+                Lists.newArrayList(store.execute(new GetAllElements.Builder().view(view).build(), context)));
+    }
+
+    @Test
+    public void shouldKeepAddingElementsAfterAFailedBackgroundCompaction() throws StoreException, OperationException {
+        final Schema gafferSchema = TestUtils.gafferSchema("schemaUsingStringVertexType");
+        final ParquetStoreProperties parquetStoreProperties = getParquetStoreProperties();
+        parquetStoreProperties.setSampleRate(1);
+        parquetStoreProperties.setAddElementsOutputFilesPerGroup(1);
+        parquetStoreProperties.setAddElementsIncremental(true);
+        final ParquetStore store = new ParquetStore();
+        store.initialise("shouldKeepAddingElementsAfterAFailedBackgroundCompaction", gafferSchema, parquetStoreProperties);
+        final Context context = new Context(USER);
+        final AddElements addElements = new AddElements.Builder()
+                .input(getCountEntity("v1", 1))
+                .build();
+        store.execute(addElements, context);
+        final Exception failure = new IllegalStateException("Compaction failed");
+
+        // When
+        store.setCompactionFailure(failure);
+        store.execute(addElements, context);
+        store.close();
+
+        // Then
+        assertSame(failure, store.getCompactionFailure());
+        assertEquals(1, store.getDeltaIndices().size());
+        assertEquals(Collections.singletonList("v1=2"),
+                getVertexCounts(store.execute(new GetAllElements.Builder()
+                        .view(new View.Builder().entity(TestGroups.ENTITY).build())
+                        .build(), context)));
+    }
+
+    @Test
+    public void shouldRefuseToAddElementsOnceTheDeltaSnapshotHardLimitIsReached() throws StoreException, OperationException {
+        final Schema gafferSchema = TestUtils.gafferSchema("schemaUsingStringVertexType");
+        final ParquetStoreProperties parquetStoreProperties = getParquetStoreProperties();
+        parquetStoreProperties.setSampleRate(1);
+        parquetStoreProperties.setAddElementsOutputFilesPerGroup(1);
+        parquetStoreProperties.setAddElementsIncremental(true);
+        parquetStoreProperties.setCompactionMaxDeltasHardLimit(1);
+        final ParquetStore store = new ParquetStore();
+        store.initialise("shouldRefuseToAddElementsOnceTheDeltaSnapshotHardLimitIsReached", gafferSchema, parquetStoreProperties);
+        final Context context = new Context(USER);
+        final AddElements addElements = new AddElements.Builder()
+                .input(getCountEntity("v1", 1))
+                .build();
+        store.execute(addElements, context);
+        store.execute(addElements, context);
+        final Exception failure = new IllegalStateException("Compaction failed");
+        store.setCompactionFailure(failure);
+
+        // When
+        try {
+            store.execute(addElements, context);
+            fail("Exception expected");
+        } catch (final OperationException e) {
+            // Then
+            assertSame(failure, e.getCause());
+        }
+
+        // When
+        new AddElementsHandler().compact(store, TestUtils.spark);
+        store.execute(addElements, context);
+        store.close();
+
+        // Then
+        assertNull(store.getCompactionFailure());
+        assertEquals(Collections.singletonList("v1=3"),
+                getVertexCounts(store.execute(new GetAllElements.Builder()
+                        .view(new View.Builder().entity(TestGroups.ENTITY).build())
+                        .build(), context)));
+    }
+
+    @Test
+    public void shouldFilterOnAggregatedPropertiesAfterMergingDeltaSnapshots() throws StoreException, OperationException {
+        final Schema gafferSchema = TestUtils.gafferSchema("schemaUsingStringVertexType");
+        final ParquetStoreProperties parquetStoreProperties = getParquetStoreProperties();
+        parquetStoreProperties.setSampleRate(1);
+        parquetStoreProperties.setAddElementsOutputFilesPerGroup(2);
+        parquetStoreProperties.setAddElementsIncremental(true);
+        final ParquetStore store = new ParquetStore();
+        store.initialise("shouldFilterOnAggregatedPropertiesAfterMergingDeltaSnapshots", gafferSchema, parquetStoreProperties);
+        final Context context = new Context(USER);
+        final View view = new View.Builder()
+                .entity(TestGroups.ENTITY, new ViewElementDefinition.Builder()
+                        .preAggregationFilter(new ElementFilter.Builder()
+                                .select("count")
+                                .execute(new IsMoreThan(5))
+                                .build())
+                        .build())
+                .build();
+        final GetElements getElements = new GetElements.Builder()
+                .input(new EntitySeed("v1"), new EntitySeed("v2"), new EntitySeed("v3"), new EntitySeed("v4"))
+                .view(view)
+                .build();
+        final List<String> expected = Lists.newArrayList("v1=7", "v2=6", "v4=9");
+
+        // When
+        store.execute(new AddElements.Builder()
+                .input(getCountEntity("v1", 4), getCountEntity("v2", 6), getCountEntity("v3", 1))
+                .build(), context);
+        store.execute(new AddElements.Builder()
+                .input(getCountEntity("v1", 3), getCountEntity("v3", 1), getCountEntity("v4", 9))
+                .build(), context);
+
+        // Then
+        assertEquals(1, store.getDeltaIndices().size());
+        assertThat(getVertexCounts(store.execute(new GetAllElements.Builder().view(view).build(), context)),
+                containsInAnyOrder(expected.toArray()));
+        assertThat(getVertexCounts(store.execute(getElements, context)), containsInAnyOrder(expected.toArray()));
+
+        // When
+        new AddElementsHandler().compact(store, TestUtils.spark);
+
+        // Then
+        assertTrue(store.getDeltaIndices().isEmpty());
+        assertThat(getVertexCounts(store.execute(new GetAllElements.Builder().view(view).build(), context)),
+                containsInAnyOrder(expected.toArray()));
+        assertThat(getVertexCounts(store.execute(getElements, context)), containsInAnyOrder(expected.toArray()));
+    }
+
+    private static Entity getCountEntity(final String vertex, final int count) {
+        return DataGen.getEntity(TestGroups.ENTITY, vertex, null, null, null, null, null, null, TestUtils.DATE, null, count, "");
+    }
+
+    private static List<String> getVertexCounts(final Iterable<? extends Element> elements) {
+        final List<String> vertexCounts = new ArrayList<>();
+        for (final Element element : elements) {
+            vertexCounts.add(((Entity) element).getVertex() + "=" + element.getProperty("count"));
+        }
+        return vertexCounts;
+    }
+
+    @Test
+    public void shouldPruneFilesThatCannotContainTheSeedsUsingTheIndex() throws StoreException, OperationException {
+        final Schema gafferSchema = TestUtils.gafferSchema("schemaUsingStringVertexType");
+        final ParquetStoreProperties parquetStoreProperties = getParquetStoreProperties();
+        parquetStoreProperties.setSampleRate(1);
+        parquetStoreProperties.setAddElementsOutputFilesPerGroup(1);
+        final ParquetStore store = new ParquetStore();
+        store.initialise("shouldPruneFilesThatCannotContainTheSeedsUsingTheIndex", gafferSchema, parquetStoreProperties);
+        final Context context = new Context(USER);
+        final View view = new View.Builder()
+                .entity(TestGroups.ENTITY)
+                .build();
+        final List<Element> elements = new ArrayList<>();
+        for (int i = 10; i < 50; i += 2) {
+            elements.add(DataGen.getEntity(TestGroups.ENTITY, "v" + i, null, null, null, null, null, null, null, null, 1, ""));
+        }
+        store.execute(new AddElements.Builder().input(elements).build(), context);
+
+        // When
+        final List<Element> present = Lists.newArrayList(store.execute(new GetElements.Builder()
+                .input(new EntitySeed("v12")).view(view).build(), context));
+        final List<Element> absentWithinRange = Lists.newArrayList(store.execute(new GetElements.Builder()
+                .input(new EntitySeed("v11")).view(view).build(), context));
+        final List<Element> absentAfterRange = Lists.newArrayList(store.execute(new GetElements.Builder()
+                .input(new EntitySeed("v99")).view(view).build(), context));
+
+        // Then
+        assertEquals(Collections.singletonList(elements.get(1)), present);
+        assertTrue(absentWithinRange.isEmpty());
+        assertTrue(absentAfterRange.isEmpty());
+        assertEquals(3, store.getIndexPruningMetrics().getFilesChecked());
+        assertEquals(1, store.getIndexPruningMetrics().getFilesPrunedByBloomFilter());
+        assertEquals(1, store.getIndexPruningMetrics().getFilesPrunedByRowGroupRange());
+    }
+
+    @Test
+    public void shouldReturnSameElementsWhenSeedsAreMergeJoined() throws OperationException {
+        final Schema gafferSchema = TestUtils.gafferSchema("schemaUsingStringVertexType");
+        final List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            elements.add(DataGen.getEntity(TestGroups.ENTITY, "v" + (10 + i), null, null, null, null, null, null, null, null, 1, ""));
+            final Edge directed = new Edge(TestGroups.EDGE, "v" + (10 + i), "v" + (10 + (i + 1) % 20), true);
+            directed.putProperty("count", 1);
+            directed.putProperty(TestTypes.VISIBILITY, "");
+            elements.add(directed);
+            final Edge undirected = new Edge(TestGroups.EDGE, "v" + (10 + i), "v" + (10 + (i + 3) % 20), false);
+            undirected.putProperty("count", 1);
+            undirected.putProperty(TestTypes.VISIBILITY, "");
+            elements.add(undirected);
+        }
+        final Edge directedSelfLoop = new Edge(TestGroups.EDGE, "v15", "v15", true);
+        directedSelfLoop.putProperty("count", 1);
+        directedSelfLoop.putProperty(TestTypes.VISIBILITY, "");
+        elements.add(directedSelfLoop);
+        final Edge undirectedSelfLoop = new Edge(TestGroups.EDGE, "v17", "v17", false);
+        undirectedSelfLoop.putProperty("count", 1);
+        undirectedSelfLoop.putProperty(TestTypes.VISIBILITY, "");
+        elements.add(undirectedSelfLoop);
+        final List<EntitySeed> seeds = new ArrayList<>();
+        for (int i = 10; i < 20; i++) {
+            seeds.add(new EntitySeed("v" + i));
+        }
+
+        final Graph orFilterGraph = getSeedMergeJoinGraph("seedMergeJoinDisabled", gafferSchema, Integer.MAX_VALUE);
+        final Graph mergeJoinGraph = getSeedMergeJoinGraph("seedMergeJoinEnabled", gafferSchema, 1);
+        orFilterGraph.execute(new AddElements.Builder().input(elements).build(), USER);
+        mergeJoinGraph.execute(new AddElements.Builder().input(elements).build(), USER);
+
+        for (final SeededGraphFilters.IncludeIncomingOutgoingType inOutType : SeededGraphFilters.IncludeIncomingOutgoingType.values()) {
+            final GetElements getElements = new GetElements.Builder()
+                    .input(seeds)
+                    .inOutType(inOutType)
+                    .build();
+            final List<Element> expected = Lists.newArrayList(orFilterGraph.execute(getElements, USER));
+            final List<Element> results = Lists.newArrayList(mergeJoinGraph.execute(getElements, USER));
+            assertFalse(expected.isEmpty());
+            assertThat(results, containsInAnyOrder(expected.toArray()));
+        }
+    }
+
+    private static Graph getSeedMergeJoinGraph(final String graphId, final Schema gafferSchema, final int seedMergeJoinThreshold) {
+        final ParquetStoreProperties parquetStoreProperties = getParquetStoreProperties();
+        parquetStoreProperties.setSampleRate(1);
+        parquetStoreProperties.setAddElementsOutputFilesPerGroup(3);
+        parquetStoreProperties.setSeedMergeJoinThreshold(seedMergeJoinThreshold);
+        return new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId(graphId)
+                        .build())
+                .addSchemas(gafferSchema)
+                .storeProperties(parquetStoreProperties)
+                .build();
+    }
+
     @Test
     public void readElementsWithZeroElementFiles() throws IOException, OperationException, StoreException {
         final List<Element> elements = new ArrayList<>(2);
@@ -38,28 +38,24 @@ import uk.gov.gchq.gaffer.store.schema.Schema;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class CalculateSplitPointsFromIndexTest {
 
     private SchemaUtils schemaUtils;
     private Schema gafferSchema;
-    private ExecutorService pool;
 
     @Before
     public void setUp() throws StoreException {
         Logger.getRootLogger().setLevel(Level.WARN);
         gafferSchema = TestUtils.gafferSchema("schemaUsingLongVertexType");
         schemaUtils = new SchemaUtils(gafferSchema);
-        pool = Executors.newFixedThreadPool(1);
     }
 
     @Test
     public void calculateSplitsFromEmptyIndex() throws SerialisationException, OperationException {
         final Iterable<Element> emptyIterable = new ArrayList<>();
         final GraphIndex emptyIndex = new GraphIndex();
-        final Map<String, Map<Object, Integer>> splitPoints = CalculateSplitPointsFromIndex.apply(emptyIndex, schemaUtils, TestUtils.getParquetStoreProperties(), emptyIterable, pool);
+        final Map<String, Map<Object, Integer>> splitPoints = CalculateSplitPointsFromIndex.apply(emptyIndex, schemaUtils, TestUtils.getParquetStoreProperties(), emptyIterable);
         for (final String group : gafferSchema.getGroups()) {
             Assert.assertFalse(splitPoints.containsKey(group));
         }
@@ -75,7 +71,7 @@ public class CalculateSplitPointsFromIndexTest {
         entityGroupIndex.add(ParquetStoreConstants.VERTEX, vrtIndex);
         vrtIndex.add(new MinValuesWithPath(new Object[]{0L}, "part-00000.parquet"));
         vrtIndex.add(new MinValuesWithPath(new Object[]{6L}, "part-00001.parquet"));
-        final Map<String, Map<Object, Integer>> splitPoints = CalculateSplitPointsFromIndex.apply(index, schemaUtils, TestUtils.getParquetStoreProperties(), emptyIterable, pool);
+        final Map<String, Map<Object, Integer>> splitPoints = CalculateSplitPointsFromIndex.apply(index, schemaUtils, TestUtils.getParquetStoreProperties(), emptyIterable);
         final Map<Object, Integer> expected = new HashMap<>(2);
         expected.put(0L, 0);
         expected.put(6L, 1);
@@ -98,7 +94,7 @@ public class CalculateSplitPointsFromIndexTest {
         entityGroupIndex.add(ParquetStoreConstants.SOURCE, srcIndex);
         srcIndex.add(new MinValuesWithPath(new Object[]{0L}, "part-00000.parquet"));
         srcIndex.add(new MinValuesWithPath(new Object[]{6L}, "part-00001.parquet"));
-        final Map<String, Map<Object, Integer>> splitPoints = CalculateSplitPointsFromIndex.apply(index, schemaUtils, TestUtils.getParquetStoreProperties(), emptyIterable, pool);
+        final Map<String, Map<Object, Integer>> splitPoints = CalculateSplitPointsFromIndex.apply(index, schemaUtils, TestUtils.getParquetStoreProperties(), emptyIterable);
         final Map<Object, Integer> expected = new HashMap<>(2);
         expected.put(0L, 0);
         expected.put(6L, 1);
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017. Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.parquetstore.utils;
+
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.filter2.predicate.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class SeedMergeJoinPredicateTest {
+
+    @Test
+    public void shouldKeepOnlySeedsWhenValuesAreInOrder() {
+        final SeedMergeJoinPredicate<Long> predicate = new SeedMergeJoinPredicate<>(Arrays.asList(9L, 2L, 5L, 5L));
+
+        Assert.assertEquals(3, predicate.getNumberOfSeeds());
+        Assert.assertFalse(predicate.keep(1L));
+        Assert.assertTrue(predicate.keep(2L));
+        Assert.assertTrue(predicate.keep(2L));
+        Assert.assertFalse(predicate.keep(3L));
+        Assert.assertTrue(predicate.keep(5L));
+        Assert.assertFalse(predicate.keep(8L));
+        Assert.assertTrue(predicate.keep(9L));
+        Assert.assertFalse(predicate.keep(10L));
+        Assert.assertFalse(predicate.keep(null));
+    }
+
+    @Test
+    public void shouldKeepOnlySeedsWhenValuesAreOutOfOrder() {
+        final SeedMergeJoinPredicate<Long> predicate = new SeedMergeJoinPredicate<>(Arrays.asList(2L, 5L, 9L));
+
+        Assert.assertTrue(predicate.keep(9L));
+        Assert.assertFalse(predicate.keep(3L));
+        Assert.assertTrue(predicate.keep(2L));
+        Assert.assertFalse(predicate.keep(11L));
+        Assert.assertTrue(predicate.keep(5L));
+    }
+
+    @Test
+    public void shouldDropRowGroupsThatDoNotContainASeed() {
+        final SeedMergeJoinPredicate<Long> predicate = new SeedMergeJoinPredicate<>(Arrays.asList(2L, 5L, 9L));
+
+        Assert.assertTrue(predicate.canDrop(statistics(0L, 1L)));
+        Assert.assertTrue(predicate.canDrop(statistics(3L, 4L)));
+        Assert.assertTrue(predicate.canDrop(statistics(10L, 20L)));
+        Assert.assertFalse(predicate.canDrop(statistics(3L, 5L)));
+        Assert.assertFalse(predicate.canDrop(statistics(0L, 20L)));
+        Assert.assertFalse(predicate.canDrop(statistics(9L, 9L)));
+    }
+
+    @Test
+    public void shouldBuildFilterForSupportedTypes() {
+        final FilterPredicate stringFilter = SeedMergeJoinPredicate.in("vertex", Arrays.asList("b", "a"));
+        final FilterPredicate longFilter = SeedMergeJoinPredicate.in("vertex", Arrays.asList(1L, 2L));
+
+        Assert.assertTrue(stringFilter instanceof Operators.UserDefined);
+        Assert.assertTrue(longFilter instanceof Operators.UserDefined);
+        Assert.assertNull(SeedMergeJoinPredicate.in("vertex", Collections.emptyList()));
+        Assert.assertNull(SeedMergeJoinPredicate.in("vertex", Collections.singletonList((short) 1)));
+        Assert.assertFalse(SeedMergeJoinPredicate.isSupported(true));
+    }
+
+    private static Statistics<Long> statistics(final long min, final long max) {
+        return new Statistics<>(min, max);
+    }
+}
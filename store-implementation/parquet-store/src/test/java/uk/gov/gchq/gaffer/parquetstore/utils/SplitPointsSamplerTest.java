@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017. Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.parquetstore.utils;
+
+import com.google.common.collect.Sets;
+import org.junit.Assert;
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterator;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl.CalculateSplitPointsFromIterable;
+import uk.gov.gchq.gaffer.parquetstore.operation.addelements.impl.SplitPointsSampler;
+import uk.gov.gchq.gaffer.parquetstore.testutils.DataGen;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SplitPointsSamplerTest {
+
+    @Test
+    public void shouldCalculateSameSplitPointsAsPerGroupCalculationInASinglePass() {
+        final List<Element> data = getData(50);
+        final AtomicInteger iterations = new AtomicInteger();
+        final Iterable<Element> countingData = () -> {
+            iterations.incrementAndGet();
+            return data.iterator();
+        };
+
+        final Map<String, Map<Object, Integer>> splitPoints = new SplitPointsSampler(3, 4, Integer.MAX_VALUE,
+                Sets.newHashSet(TestGroups.ENTITY, TestGroups.ENTITY_2), Sets.newHashSet(TestGroups.EDGE, TestGroups.EDGE_2))
+                .sample(countingData)
+                .getSplitPoints();
+
+        Assert.assertEquals(1, iterations.get());
+        Assert.assertEquals(4, splitPoints.size());
+        Assert.assertEquals(new CalculateSplitPointsFromIterable(3, 4, data, TestGroups.ENTITY, true).call()._2, splitPoints.get(TestGroups.ENTITY));
+        Assert.assertEquals(new CalculateSplitPointsFromIterable(3, 4, data, TestGroups.ENTITY_2, true).call()._2, splitPoints.get(TestGroups.ENTITY_2));
+        Assert.assertEquals(new CalculateSplitPointsFromIterable(3, 4, data, TestGroups.EDGE, false).call()._2, splitPoints.get(TestGroups.EDGE));
+        Assert.assertEquals(new CalculateSplitPointsFromIterable(3, 4, data, TestGroups.EDGE_2, false).call()._2, splitPoints.get(TestGroups.EDGE_2));
+    }
+
+    @Test
+    public void shouldOnlyReturnSplitPointsForSampledGroups() {
+        final List<Element> data = getData(10);
+
+        final Map<String, Map<Object, Integer>> splitPoints = new SplitPointsSampler(2, 2, Integer.MAX_VALUE,
+                Sets.newHashSet(TestGroups.ENTITY, TestGroups.ENTITY_3), Sets.newHashSet())
+                .sample(data)
+                .getSplitPoints();
+
+        Assert.assertEquals(Sets.newHashSet(TestGroups.ENTITY), splitPoints.keySet());
+    }
+
+    @Test
+    public void shouldDoubleSampleRateWhenMaxSampleSizeIsReached() {
+        final List<Element> data = getData(100);
+
+        final Map<Object, Integer> boundedSplitPoints = new SplitPointsSampler(1, 4, 10,
+                Sets.newHashSet(TestGroups.ENTITY), Sets.newHashSet())
+                .sample(data)
+                .getSplitPoints(TestGroups.ENTITY);
+
+        // 100 elements sampled with a maximum sample size of 10 results in a sample rate of 16
+        final Map<Object, Integer> expected = new CalculateSplitPointsFromIterable(16, 4, data, TestGroups.ENTITY, true).call()._2;
+        Assert.assertEquals(expected, boundedSplitPoints);
+    }
+
+    @Test
+    public void shouldCloseIteratorAfterSampling() {
+        final List<Element> data = getData(10);
+        final AtomicInteger closed = new AtomicInteger();
+        final Iterable<Element> closeableData = () -> new CloseableIterator<Element>() {
+            private final Iterator<Element> iterator = data.iterator();
+
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Element next() {
+                return iterator.next();
+            }
+        };
+
+        new SplitPointsSampler(2, 2, Integer.MAX_VALUE, Sets.newHashSet(TestGroups.ENTITY), Sets.newHashSet())
+                .sample(closeableData);
+
+        Assert.assertEquals(1, closed.get());
+    }
+
+    private static List<Element> getData(final int size) {
+        final List<Element> data = new ArrayList<>();
+        for (long i = 0; i < size; i++) {
+            data.add(DataGen.getEntity(TestGroups.ENTITY, i, null, null, null, null, null, null, null, null, 1, null));
+            data.add(DataGen.getEntity(TestGroups.ENTITY_2, i + 5, null, null, null, null, null, null, null, null, 1, null));
+            data.add(DataGen.getEdge(TestGroups.EDGE, i, i + 2, true, null, null, null, null, null, null, null, null, 1, null));
+            data.add(DataGen.getEdge(TestGroups.EDGE_2, i + 5, i + 8, false, null, null, null, null, null, null, null, null, 1, null));
+        }
+        return data;
+    }
+}